@@ -0,0 +1,298 @@
+package calculator;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * <p> Title: BatchArithmetic Class. </p>
+ *
+ * <p> Description: Element-wise arithmetic over arrays of longs, for batch jobs that have their
+ * operands in columns rather than one pair at a time. Element n of the result is the operation
+ * applied to element n of each operand, with the same outcome as the unchecked CalculatorValue
+ * operation: the sums, differences, and products wrap around, the most negative long divided by
+ * minus one is itself, and a division by zero leaves the dividend as the result and marks its
+ * element with the DIVIDE_BY_ZERO error code.</p>
+ *
+ * <p> Each operation is a simple counted loop over arrays, with no calls and no branches that
+ * depend on the data, which is the form the HotSpot JIT compiler turns into SIMD instructions on
+ * its own: the additions, subtractions, and multiplications are done several elements at a time
+ * on processors that can. There is no vector instruction for dividing longs, so the division
+ * loop only avoids the branch for a zero divisor by dividing by one in its place. The operands
+ * may also be LongBuffers, e.g. views of direct ByteBuffers holding data outside of the heap,
+ * which are processed from their positions up to their limits.</p>
+ *
+ * <p> The result may be the same array as either operand, so a column can be updated in place.
+ * </p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.02	2026-10-17 Modular powers
+ * @version 1.01	2026-10-17 Division by a prepared divisor
+ * @version 1.00	2026-10-17 Initial element-wise arithmetic over arrays
+ *
+ */
+
+public final class BatchArithmetic {
+
+	/**********
+	 * There are no instances of this class.
+	 */
+	private BatchArithmetic() {
+	}
+
+
+	/**********************************************************************************************
+
+	Arrays
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method applies an operation to each pair of elements of two arrays.
+	 *
+	 * @param op		The operation
+	 * @param a			The left operands
+	 * @param b			The right operands
+	 * @param result	Where the results are placed
+	 * @param errors	Where the error code of each element is placed; it is only needed for
+	 * 					DIV, and may be null for the other operations, which never fail
+	 * @return the number of elements with an error
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public static int apply(Operation op, long[] a, long[] b, long[] result, byte[] errors) {
+		switch (op) {
+		case ADD:
+			add(a, b, result);
+			break;
+		case SUB:
+			sub(a, b, result);
+			break;
+		case MPY:
+			mpy(a, b, result);
+			break;
+		default:
+			return div(a, b, result, errors);
+		}
+		if (errors != null) {
+			checkLength(a, errors.length);
+			Arrays.fill(errors, (byte) ErrorCode.NONE);
+		}
+		return 0;
+	}
+
+	/**********
+	 * This method adds each pair of elements of two arrays.
+	 *
+	 * @param a			The left operands
+	 * @param b			The right operands
+	 * @param result	Where the sums are placed
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public static void add(long[] a, long[] b, long[] result) {
+		int length = checkLengths(a, b, result);
+		for (int ndx = 0; ndx < length; ndx++)
+			result[ndx] = a[ndx] + b[ndx];
+	}
+
+	/**********
+	 * This method subtracts each element of b from the same element of a.
+	 *
+	 * @param a			The left operands
+	 * @param b			The right operands
+	 * @param result	Where the differences are placed
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public static void sub(long[] a, long[] b, long[] result) {
+		int length = checkLengths(a, b, result);
+		for (int ndx = 0; ndx < length; ndx++)
+			result[ndx] = a[ndx] - b[ndx];
+	}
+
+	/**********
+	 * This method multiplies each pair of elements of two arrays.
+	 *
+	 * @param a			The left operands
+	 * @param b			The right operands
+	 * @param result	Where the products are placed
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public static void mpy(long[] a, long[] b, long[] result) {
+		int length = checkLengths(a, b, result);
+		for (int ndx = 0; ndx < length; ndx++)
+			result[ndx] = a[ndx] * b[ndx];
+	}
+
+	/**********
+	 * This method divides each element of a by the same element of b. Where the divisor is zero,
+	 * the result is the dividend and the error code is DIVIDE_BY_ZERO.
+	 *
+	 * @param a			The dividends
+	 * @param b			The divisors
+	 * @param result	Where the quotients are placed
+	 * @param errors	Where the error code of each element is placed
+	 * @return the number of elements whose divisor is zero
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public static int div(long[] a, long[] b, long[] result, byte[] errors) {
+		int length = checkLengths(a, b, result);
+		checkLength(a, errors.length);
+		int zeros = 0;
+		for (int ndx = 0; ndx < length; ndx++) {
+			long dividend = a[ndx];
+			long divisor = b[ndx];
+			int zero = divisor == 0 ? 1 : 0;
+			long quotient = dividend / (divisor | zero);			// Never divides by zero
+			result[ndx] = zero != 0 ? dividend : quotient;
+			errors[ndx] = (byte) (zero * ErrorCode.DIVIDE_BY_ZERO);
+			zeros += zero;
+		}
+		return zeros;
+	}
+
+
+	/**********
+	 * This method divides each element of a by the same divisor, which has been prepared so that
+	 * no hardware divide is needed. The outcome is that of div with a column of that divisor.
+	 *
+	 * @param a			The dividends
+	 * @param divisor	The prepared divisor
+	 * @param result	Where the quotients are placed
+	 * @param errors	Where the error code of each element is placed
+	 * @return the number of elements with an error, which is either zero or all of them
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public static int div(long[] a, FastDivisor divisor, long[] result, byte[] errors) {
+		return divisor.divide(a, result, errors);
+	}
+
+	/**********
+	 * This method raises each element of a to the power of the same element of b, modulo a
+	 * prepared modulus, by Montgomery multiplication. Where an exponent is negative and the base
+	 * has no inverse, the result is the base and the error code is DIVIDE_BY_ZERO.
+	 *
+	 * @param a			The bases
+	 * @param b			The exponents
+	 * @param modulus	The prepared modulus
+	 * @param result	Where the powers are placed
+	 * @param errors	Where the error code of each element is placed
+	 * @return the number of elements with an error
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public static int pow(long[] a, long[] b, Modulus modulus, long[] result, byte[] errors) {
+		return modulus.pow(a, b, result, errors);
+	}
+
+
+	/**********************************************************************************************
+
+	Buffers
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method applies an operation to each pair of elements of two buffers, from their
+	 * positions up to their limits. The positions of the buffers are not changed.
+	 *
+	 * @param op		The operation
+	 * @param a			The left operands
+	 * @param b			The right operands
+	 * @param result	Where the results are placed
+	 * @param errors	Where the error code of each element is placed, one byte each, from its
+	 * 					position; it may be null for operations other than DIV
+	 * @return the number of elements with an error
+	 * @throws IllegalArgumentException if the buffers do not all have the same number of elements
+	 * 					remaining
+	 */
+	public static int apply(Operation op, LongBuffer a, LongBuffer b, LongBuffer result,
+			ByteBuffer errors) {
+		int length = a.remaining();
+		if (b.remaining() != length || result.remaining() != length
+				|| (errors != null && errors.remaining() != length)
+				|| (errors == null && op == Operation.DIV))
+			throw new IllegalArgumentException("The buffers must all have " + length
+					+ " elements remaining");
+		int pa = a.position();
+		int pb = b.position();
+		int pr = result.position();
+		switch (op) {
+		case ADD:
+			add(a, pa, b, pb, result, pr, length);
+			break;
+		case SUB:
+			sub(a, pa, b, pb, result, pr, length);
+			break;
+		case MPY:
+			mpy(a, pa, b, pb, result, pr, length);
+			break;
+		default:
+			return div(a, pa, b, pb, result, pr, errors, errors.position(), length);
+		}
+		if (errors != null)
+			for (int ndx = errors.position(); ndx < errors.limit(); ndx++)
+				errors.put(ndx, (byte) ErrorCode.NONE);
+		return 0;
+	}
+
+	/**********
+	 * Private local methods that each do one operation over buffers, from the given indexes. Each
+	 * loop is a method of its own so the JIT compiler compiles it on its own, with the profile of
+	 * that loop alone.
+	 */
+	private static void add(LongBuffer a, int pa, LongBuffer b, int pb, LongBuffer result, int pr,
+			int length) {
+		for (int ndx = 0; ndx < length; ndx++)
+			result.put(pr + ndx, a.get(pa + ndx) + b.get(pb + ndx));
+	}
+
+	private static void sub(LongBuffer a, int pa, LongBuffer b, int pb, LongBuffer result, int pr,
+			int length) {
+		for (int ndx = 0; ndx < length; ndx++)
+			result.put(pr + ndx, a.get(pa + ndx) - b.get(pb + ndx));
+	}
+
+	private static void mpy(LongBuffer a, int pa, LongBuffer b, int pb, LongBuffer result, int pr,
+			int length) {
+		for (int ndx = 0; ndx < length; ndx++)
+			result.put(pr + ndx, a.get(pa + ndx) * b.get(pb + ndx));
+	}
+
+	private static int div(LongBuffer a, int pa, LongBuffer b, int pb, LongBuffer result, int pr,
+			ByteBuffer errors, int pe, int length) {
+		int zeros = 0;
+		for (int ndx = 0; ndx < length; ndx++) {
+			long dividend = a.get(pa + ndx);
+			long divisor = b.get(pb + ndx);
+			int zero = divisor == 0 ? 1 : 0;
+			long quotient = dividend / (divisor | zero);
+			result.put(pr + ndx, zero != 0 ? dividend : quotient);
+			errors.put(pe + ndx, (byte) (zero * ErrorCode.DIVIDE_BY_ZERO));
+			zeros += zero;
+		}
+		return zeros;
+	}
+
+
+	/**********************************************************************************************
+
+	Checks
+
+	**********************************************************************************************/
+
+	/**********
+	 * Private local method that checks that the operands and the result have the same length,
+	 * which also lets the JIT compiler drop the bounds checks from the loops.
+	 */
+	private static int checkLengths(long[] a, long[] b, long[] result) {
+		checkLength(a, b.length);
+		checkLength(a, result.length);
+		return a.length;
+	}
+
+	private static void checkLength(long[] a, int length) {
+		if (length != a.length)
+			throw new IllegalArgumentException("The arrays must all have " + a.length + " elements");
+	}
+}
@@ -0,0 +1,262 @@
+package calculator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p> Title: BatchCalculator Class. </p>
+ *
+ * <p> Description: A headless mainline for the calculator. It reads lines of the form
+ * "operand operator operand" from a file or from standard input, evaluates each of them with
+ * the BusinessLogic class (through a LineEvaluator), and writes one line of output (the result or an error message) for
+ * each line of input. No JavaFX stage is created, so the business logic can be used in batch
+ * jobs on machines without a display.</p>
+ *
+ * <p> The input and output are both handled through fixed size NIO buffers and a single reused
+ * line buffer, so the memory used stays flat no matter how large the input is, and the output
+ * is written as the input is read rather than when the input has been consumed. A line longer
+ * than the calculator server accepts (or, in big integer mode, longer than MAX_BIG_LINE) is not
+ * kept; the rest of it is discarded up to the next new line and it is answered with the same
+ * error the server sends.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.03	2026-10-17 Over-long lines discarded rather than buffered without bound
+ * @version 1.02	2026-10-17 Results formatted straight into the output buffer
+ * @version 1.01	2026-10-17 Line evaluation shared with the calculator server
+ * @version 1.00	2026-10-17 Initial headless streaming evaluator
+ *
+ */
+
+public class BatchCalculator {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The size of each of the NIO buffers used for input and output
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	// The longest line accepted in big integer mode, where operands may have millions of digits
+	static final int MAX_BIG_LINE = 16 * 1024 * 1024;
+
+	private final ReadableByteChannel in;						// Where the lines come from
+	private final WritableByteChannel out;						// Where the results go
+	private final ByteBuffer inBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private final ByteBuffer outBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private final StringBuilder line = new StringBuilder(256);	// The line being evaluated
+	private final int maxLine;									// The longest line accepted
+	private boolean overlong = false;							// The line has been cut short
+
+	/* This is the link to the business logic */
+	private final LineEvaluator evaluator;
+
+	// These are the tallies reported when the run is over
+	private long lineCount = 0;
+	private long errorCount = 0;
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor ties the evaluator to the channels it reads from and writes to. The channels
+	 * are not closed by the evaluator.
+	 *
+	 * @param in	The channel the lines of input are read from
+	 * @param out	The channel the lines of output are written to
+	 */
+	public BatchCalculator(ReadableByteChannel in, WritableByteChannel out) {
+		this(in, out, false, false);
+	}
+
+	/**********
+	 * This constructor also selects whether the operations are overflow checked, in which case a
+	 * result that does not fit in a long is written in full rather than wrapped around, and
+	 * whether the calculator is in big integer mode, in which case operands of any size are
+	 * accepted as well.
+	 *
+	 * @param in		The channel the lines of input are read from
+	 * @param out		The channel the lines of output are written to
+	 * @param checked	true for overflow checked operations
+	 * @param big		true for big integer mode
+	 */
+	public BatchCalculator(ReadableByteChannel in, WritableByteChannel out, boolean checked,
+			boolean big) {
+		this.in = in;
+		this.out = out;
+		this.evaluator = new LineEvaluator(checked, big);
+		this.maxLine = big ? MAX_BIG_LINE : CalculatorServer.MAX_LINE;
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the number of lines that have been evaluated so far.
+	 *
+	 * @return the number of lines evaluated
+	 */
+	public long getLineCount() {
+		return lineCount;
+	}
+
+	/**********
+	 * This getter fetches the number of lines that have produced an error message so far.
+	 *
+	 * @return the number of lines that did not produce a result
+	 */
+	public long getErrorCount() {
+		return errorCount;
+	}
+
+
+	/**********************************************************************************************
+
+	Evaluation
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method reads the input channel until it is exhausted, evaluating each line as soon as it
+	 * is complete and writing its output. The bytes are read as ISO-8859-1, so any ASCII input is
+	 * read as expected. Blank lines are copied to the output as blank lines so the output lines
+	 * always line up with the input lines.
+	 *
+	 * @throws IOException if either of the channels fails
+	 */
+	public void run() throws IOException {
+		while (in.read(inBuffer) >= 0) {						// Fill the input buffer and then
+			inBuffer.flip();									// take the lines out of it
+			while (inBuffer.hasRemaining()) {
+				char c = (char) (inBuffer.get() & 0xFF);
+				if (c == '\n')									// A new line ends the line, so
+					evaluateLine();								// evaluate it
+				else if (c != '\r') {							// Carriage returns are ignored
+					if (line.length() < maxLine)
+						line.append(c);
+					else										// and so is anything beyond the
+						overlong = true;						// longest line accepted
+				}
+			}
+			inBuffer.clear();
+		}
+		if (line.length() > 0)									// The last line need not end with
+			evaluateLine();										// a new line
+		flush();
+	}
+
+	/**********
+	 * Private local method that evaluates the line that is in the line buffer and writes the
+	 * result, or the error that kept it from being computed, to the output. The line buffer is
+	 * then emptied for the next line.
+	 */
+	private void evaluateLine() throws IOException {
+		if (overlong) {											// A line that was cut short is
+			line.setLength(0);									// not evaluated at all
+			overlong = false;
+			lineCount++;
+			errorCount++;
+			putLine(CalculatorServer.ERROR_LENGTH);
+			return;
+		}
+		int outcome = evaluator.evaluate(line);
+		if (outcome != LineEvaluator.BLANK)						// Blank lines are not counted
+			lineCount++;
+		if (outcome == LineEvaluator.ERROR)
+			errorCount++;
+		if (!evaluator.putOutput(outBuffer)) {					// If the buffer is too full, it is
+			flush();											// written out first, and output
+			if (!evaluator.putOutput(outBuffer))				// longer than the whole buffer is
+				putLine(evaluator.getOutput());					// placed in pieces
+		}
+		line.setLength(0);
+	}
+
+	/**********
+	 * Private local method that places the characters of s followed by a new line into the output
+	 * buffer, writing the buffer to the output channel whenever it fills.
+	 */
+	private void putLine(CharSequence s) throws IOException {
+		int length = s.length();
+		for (int ndx = 0; ndx < length; ndx++) {
+			if (!outBuffer.hasRemaining())
+				flush();
+			outBuffer.put((byte) s.charAt(ndx));
+		}
+		if (!outBuffer.hasRemaining())
+			flush();
+		outBuffer.put((byte) '\n');
+	}
+
+	/**********
+	 * Private local method that writes all of the output that has been buffered.
+	 */
+	private void flush() throws IOException {
+		outBuffer.flip();
+		while (outBuffer.hasRemaining())
+			out.write(outBuffer);
+		outBuffer.clear();
+	}
+
+
+	/**********************************************************************************************
+
+	The mainline
+
+	**********************************************************************************************/
+
+	/**********
+	 * This mainline evaluates the lines of a file, or of standard input when no file (or "-") is
+	 * given, and writes the results to a second file, or to standard output when there is no
+	 * second file. When the input is exhausted, the number of lines, the number of errors, and the
+	 * throughput are reported on standard error so they do not mix with the results. With the -c
+	 * option, the operations are overflow checked, and with the -b option, the calculator is in
+	 * big integer mode.
+	 *
+	 * @param args	[-c | -b] [input file [output file]]
+	 */
+	public static void main(String[] args) throws IOException {
+		boolean checked = args.length > 0 && args[0].equals("-c");
+		boolean big = args.length > 0 && args[0].equals("-b");
+		int first = checked || big ? 1 : 0;						// The first file argument
+		ReadableByteChannel in = args.length > first && !args[first].equals("-")
+				? FileChannel.open(Paths.get(args[first]), StandardOpenOption.READ)
+				: Channels.newChannel(System.in);
+		WritableByteChannel out = args.length > first + 1
+				? FileChannel.open(Paths.get(args[first + 1]), StandardOpenOption.WRITE,
+						StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)
+				: Channels.newChannel(System.out);
+
+		BatchCalculator theEvaluator = new BatchCalculator(in, out, checked, big);
+		long startTime = System.nanoTime();
+		try {
+			theEvaluator.run();
+		} finally {
+			in.close();
+			out.close();
+		}
+		long elapsed = Math.max(1, System.nanoTime() - startTime);
+
+		System.err.println("Evaluated " + theEvaluator.getLineCount() + " lines ("
+				+ theEvaluator.getErrorCount() + " errors) in " + elapsed / 1000000 + " ms, "
+				+ theEvaluator.getLineCount() * 1000000000L / elapsed + " lines per second");
+	}
+}
@@ -0,0 +1,1053 @@
+package calculator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p> Title: BenchmarkCalculator </p>
+ *
+ * <p> Description: A component of the Calculator application that measures the hot paths of the
+ * CalculatorValue and BusinessLogic classes. </p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17	Initial benchmark suite
+ *
+ */
+
+public class BenchmarkCalculator {
+
+	/**********
+	 * This class roots the execution of the benchmarks of the calculator.  Each benchmark is run
+	 * for a number of warm up rounds, so the JIT compiler has done its work, and then for a number
+	 * of measured rounds.  The average and the best time per operation of the measured rounds are
+	 * displayed to the console.
+	 *
+	 * The benchmarks are parameterized by the number of digits in the operands and there are
+	 * benchmarks for the inputs that take the error paths, so a regression in either can be seen.
+	 *
+	 * The application does not depend on a benchmark framework, so it can be run in the same way
+	 * as the test classes.  To keep the JIT compiler from removing the work being measured, every
+	 * benchmark folds its results into a checksum that is consumed after each round.
+	 */
+
+	/*********************************************************************************************/
+
+	/**********
+	 * A benchmark performs the operation being measured the given number of times and returns a
+	 * checksum of the results.
+	 */
+	interface Benchmark {
+		long run(int operations);
+	}
+
+	// These control how long each benchmark runs
+	private static int warmupRounds = 10;
+	private static int measuredRounds = 10;
+	private static int operationsPerRound = 200000;
+
+	// Only the benchmarks whose names contain this String are run
+	private static String filter = "";
+
+	// The number of different operands used by each benchmark (a power of two)
+	static final int OPERAND_COUNT = 1024;
+
+	// These are the operand sizes, in decimal digits, the benchmarks are run with
+	static final int[] OPERAND_DIGITS = {1, 9, 18};
+
+	// This is where the checksums end up so the work cannot be optimized away
+	static volatile long sink;
+
+	/*********************************************************************************************/
+
+	/**********
+	 * The measure method runs one benchmark and displays the average and best time per operation
+	 * of its measured rounds.
+	 *
+	 * @param name	The name of the benchmark
+	 * @param b		The benchmark
+	 */
+	static void measure(String name, Benchmark b) {
+		measure(name, b, operationsPerRound, warmupRounds, measuredRounds);
+	}
+
+	/**********
+	 * This version of the measure method is for the benchmarks whose operations are so slow that
+	 * they set their own number of operations and rounds.
+	 *
+	 * @param name		The name of the benchmark
+	 * @param b			The benchmark
+	 * @param operations	The number of operations in each round
+	 * @param warmups	The number of warm up rounds
+	 * @param rounds		The number of measured rounds
+	 */
+	static void measure(String name, Benchmark b, int operations, int warmups, int rounds) {
+		if (!name.contains(filter))
+			return;
+		for (int round = 0; round < warmups; round++)
+			sink += b.run(operations);
+		long total = 0;
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < rounds; round++) {
+			long startTime = System.nanoTime();
+			sink += b.run(operations);
+			long elapsed = System.nanoTime() - startTime;
+			total += elapsed;
+			if (elapsed < best) best = elapsed;
+		}
+		double average = (double) total / rounds / operations;
+		System.out.println(String.format("%-48s %12.2f ns/op %12.2f ns/op (best)", name, average,
+				(double) best / operations));
+	}
+
+	/**********
+	 * The randomDigits method returns a String of exactly the given number of decimal digits, the
+	 * first of which is never zero, with a minus sign in front of about half of them.
+	 */
+	static String randomDigits(Random r, int digits) {
+		StringBuilder s = new StringBuilder(digits + 1);
+		if (r.nextBoolean()) s.append('-');
+		s.append((char) ('1' + r.nextInt(9)));
+		for (int ndx = 1; ndx < digits; ndx++)
+			s.append((char) ('0' + r.nextInt(10)));
+		return s.toString();
+	}
+
+	/**********
+	 * The operands method returns OPERAND_COUNT random operands of the given number of digits.
+	 */
+	static String[] operands(Random r, int digits) {
+		String[] s = new String[OPERAND_COUNT];
+		for (int ndx = 0; ndx < OPERAND_COUNT; ndx++)
+			s[ndx] = randomDigits(r, digits);
+		return s;
+	}
+
+	/**********
+	 * The values method converts operand Strings into CalculatorValues.
+	 */
+	static CalculatorValue[] values(String[] s) {
+		CalculatorValue[] v = new CalculatorValue[s.length];
+		for (int ndx = 0; ndx < s.length; ndx++)
+			v[ndx] = new CalculatorValue(s[ndx]);
+		return v;
+	}
+
+	/*********************************************************************************************/
+
+	/**********
+	 * The parsing benchmarks measure the conversion of Strings into CalculatorValues, both with the
+	 * String constructor and by reusing a single value with the parse method.
+	 */
+	static void parsingBenchmarks(Random r) {
+		for (int digits : OPERAND_DIGITS) {
+			final String[] s = operands(r, digits);
+			measure("CalculatorValue(String) digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += new CalculatorValue(s[ndx & (OPERAND_COUNT - 1)]).measuredValue;
+				return checksum;
+			});
+			final CalculatorValue v = new CalculatorValue();
+			measure("CalculatorValue.parse digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					String t = s[ndx & (OPERAND_COUNT - 1)];
+					v.parse(t, 0, t.length());
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+		}
+
+		// These inputs take each of the error paths of the parser
+		String[][] errors = {{"empty", ""}, {"invalid", "12345678a"}, {"excess", "1234 5678"},
+				{"overflow", "92233720368547758070"}};
+		for (String[] e : errors) {
+			final String t = e[1];
+			measure("CalculatorValue(String) error=" + e[0], (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += new CalculatorValue(t).errorCode;
+				return checksum;
+			});
+		}
+	}
+
+	/**********
+	 * The computation benchmarks measure the add, sub, mpy, and div methods of CalculatorValue,
+	 * including a divisor of zero for the error path of div.
+	 */
+	static void computationBenchmarks(Random r) {
+		for (int digits : OPERAND_DIGITS) {
+			final CalculatorValue[] left = values(operands(r, digits));
+			final CalculatorValue[] right = values(operands(r, (digits + 1) / 2));
+			final CalculatorValue v = new CalculatorValue();
+			measure("CalculatorValue.add digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(left[ndx & (OPERAND_COUNT - 1)]);
+					v.add(right[ndx & (OPERAND_COUNT - 1)]);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+			measure("CalculatorValue.sub digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(left[ndx & (OPERAND_COUNT - 1)]);
+					v.sub(right[ndx & (OPERAND_COUNT - 1)]);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+			measure("CalculatorValue.mpy digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(left[ndx & (OPERAND_COUNT - 1)]);
+					v.mpy(right[ndx & (OPERAND_COUNT - 1)]);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+			measure("CalculatorValue.div digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(left[ndx & (OPERAND_COUNT - 1)]);
+					v.div(right[ndx & (OPERAND_COUNT - 1)]);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+		}
+
+		// The checked computation methods, first with operands whose results fit in a long and
+		// then with operands whose products do not
+		for (int digits : OPERAND_DIGITS) {
+			final CalculatorValue[] left = values(operands(r, digits));
+			final CalculatorValue[] right = values(operands(r, (digits + 1) / 2));
+			final CalculatorValue v = new CalculatorValue();
+			measure("CalculatorValue.checkedAdd digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(left[ndx & (OPERAND_COUNT - 1)]);
+					v.checkedAdd(right[ndx & (OPERAND_COUNT - 1)]);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+			measure("CalculatorValue.checkedMpy digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(left[ndx & (OPERAND_COUNT - 1)]);
+					v.checkedMpy(right[ndx & (OPERAND_COUNT - 1)]);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+		}
+		final CalculatorValue[] large = values(operands(r, 18));
+		final CalculatorValue promoted = new CalculatorValue();
+		measure("CalculatorValue.checkedMpy promoted digits=18x18", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				promoted.setValue(large[ndx & (OPERAND_COUNT - 1)]);
+				promoted.checkedMpy(large[(ndx + 1) & (OPERAND_COUNT - 1)]);
+				checksum += promoted.measuredValue;
+			}
+			return checksum;
+		});
+
+		final CalculatorValue zero = new CalculatorValue(0);
+		final CalculatorValue v = new CalculatorValue();
+		measure("CalculatorValue.div error=divideByZero", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				v.setValue(ndx);
+				v.div(zero);
+				checksum += v.errorCode;
+			}
+			return checksum;
+		});
+	}
+
+	/**********
+	 * The business logic benchmarks measure the four operations of the BusinessLogic class,
+	 * including the creation of their String results, and the two debugToString methods, as well
+	 * as the cost of recording an operation in the CalculatorMetrics.
+	 */
+	static void businessLogicBenchmarks(Random r) {
+		for (int digits : OPERAND_DIGITS) {
+			final BusinessLogic perform = new BusinessLogic();
+			perform.setOperand1(randomDigits(r, digits));
+			perform.setOperand2(randomDigits(r, (digits + 1) / 2));
+			measure("BusinessLogic.addition digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += perform.addition().length();
+				return checksum;
+			});
+			measure("BusinessLogic.subtraction digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += perform.subtraction().length();
+				return checksum;
+			});
+			measure("BusinessLogic.multiplication digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += perform.multiplication().length();
+				return checksum;
+			});
+			measure("BusinessLogic.division digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += perform.division().length();
+				return checksum;
+			});
+			for (final Operation op : Operation.values())
+				measure("BusinessLogic.compute " + op + " digits=" + digits, (n) -> {
+					long checksum = 0;
+					for (int ndx = 0; ndx < n; ndx++)
+						checksum += perform.compute(op);
+					return checksum;
+				});
+			measure("BusinessLogic.debugToString digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += perform.debugToString().length();
+				return checksum;
+			});
+			final CalculatorValue v = new CalculatorValue(randomDigits(r, digits));
+			measure("CalculatorValue.debugToString digits=" + digits, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += v.debugToString().length();
+				return checksum;
+			});
+		}
+		final BusinessLogic metered = new BusinessLogic();
+		metered.setOperand1("12345");
+		metered.setOperand2("678");
+		for (final boolean on : new boolean[] {false, true})
+			measure("BusinessLogic.compute ADD metrics=" + (on ? "on" : "off"), (n) -> {
+				CalculatorMetrics.enable(on);
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += metered.compute(Operation.ADD);
+				CalculatorMetrics.enable(false);
+				return checksum;
+			});
+		final BusinessLogic perform = new BusinessLogic();
+		perform.setOperand1("12345");
+		perform.setOperand2("0");
+		measure("BusinessLogic.division error=divideByZero", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += perform.division().length() + perform.getResultErrorCode();
+			return checksum;
+		});
+	}
+
+	/**********
+	 * The expression benchmarks evaluate one formula over many sets of values: by walking the
+	 * Expression tree, through the lambdas of the CompiledExpression, both with and without the
+	 * CalculatorValue that holds the result, and through an ExpressionCache lookup, which is what a
+	 * caller that only keeps the text of the formula pays.  Compiling the formula is measured too.
+	 */
+	static void expressionBenchmarks(Random r) {
+		final String text = "(a + 3) * b - a / (c - 7) + 2 * 5";
+		final long[][] values = new long[OPERAND_COUNT][];
+		for (int ndx = 0; ndx < OPERAND_COUNT; ndx++)
+			values[ndx] = new long[] {r.nextInt(1000000), r.nextInt(1000000), 8 + r.nextInt(1000)};
+		final Expression tree = Expression.compile(text);
+		final CompiledExpression compiled = new CompiledExpression(tree);
+		final ExpressionCache cache = new ExpressionCache(64, false);
+		measure("Expression.compile", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += Expression.compile(text).getVariableCount();
+			return checksum;
+		});
+		measure("Expression.evaluate", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += tree.evaluate(values[ndx & (OPERAND_COUNT - 1)]).measuredValue;
+			return checksum;
+		});
+		measure("CompiledExpression.evaluate", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += compiled.evaluate(values[ndx & (OPERAND_COUNT - 1)]).measuredValue;
+			return checksum;
+		});
+		measure("CompiledExpression.applyAsLong", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += compiled.applyAsLong(values[ndx & (OPERAND_COUNT - 1)]);
+			return checksum;
+		});
+		measure("ExpressionCache.evaluate", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += cache.evaluate(text, values[ndx & (OPERAND_COUNT - 1)]).measuredValue;
+			return checksum;
+		});
+	}
+
+	/**********
+	 * The big integer benchmarks show how the big integer mode scales from operands of 10^2 to
+	 * 10^6 digits: the conversion of the digits (with the BigInteger String constructor for
+	 * comparison, up to 10^5 digits, as it is quadratic), multiplication of two operands of the
+	 * same size (also through a BusinessLogic with a result cache, where all but the first
+	 * operation are cache hits), division of a product by one of them, and the conversion of the
+	 * product back into a String.  The number of operations and rounds shrinks as the operands grow.
+	 */
+	static void bigIntegerBenchmarks(Random r) {
+		if (!"BigInteger digits=".startsWith(filter) && !filter.startsWith("BigInteger"))
+			return;												// The operands are expensive to
+		for (int digits = 100; digits <= 1000000; digits *= 10) {	// build, so only when needed
+			final String s = randomDigits(r, digits);
+			final CalculatorValue left = new CalculatorValue();
+			left.parseUnbounded(s, 0, s.length());
+			final CalculatorValue right = new CalculatorValue();
+			right.parseUnbounded(randomDigits(r, digits), 0, digits);
+			final CalculatorValue product = new CalculatorValue(left);
+			product.checkedMpy(right);
+			final CalculatorValue v = new CalculatorValue();
+			int operations = Math.max(1, 100000 / digits);
+			int warmups = digits >= 100000 ? 1 : warmupRounds;
+			int rounds = digits >= 100000 ? 3 : measuredRounds;
+
+			measure("BigInteger digits=" + digits + " parseUnbounded", (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.parseUnbounded(s, 0, s.length());
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			}, operations, warmups, rounds);
+			if (digits <= 100000)
+				measure("BigInteger digits=" + digits + " new BigInteger(String)", (n) -> {
+					long checksum = 0;
+					for (int ndx = 0; ndx < n; ndx++)
+						checksum += new java.math.BigInteger(s).longValue();
+					return checksum;
+				}, operations, warmups, rounds);
+			measure("BigInteger digits=" + digits + " checkedMpy", (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(left);
+					v.checkedMpy(right);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			}, operations, warmups, rounds);
+			final BusinessLogic cached = new BusinessLogic();		// Only the first operation
+			cached.setBigIntegerMode(true);							// misses
+			cached.setResultCache(new ResultCache<>(16));
+			cached.setOperand1(s);
+			cached.setOperand2(right.toString());
+			measure("BigInteger digits=" + digits + " compute MPY cached", (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += cached.compute(Operation.MPY);
+				return checksum;
+			}, operations, warmups, rounds);
+			measure("BigInteger digits=" + digits + " checkedDiv", (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(product);
+					v.checkedDiv(right);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			}, operations, warmups, rounds);
+			measure("BigInteger digits=" + digits + " toString", (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += product.toString().length();
+				return checksum;
+			}, operations, warmups, rounds);
+		}
+	}
+
+	/**********
+	 * The scaling benchmarks measure the throughput of a single Evaluator shared by an increasing
+	 * number of threads, up to the number of processors.  Since the evaluator is stateless, the
+	 * throughput should grow with the number of threads.
+	 */
+	static void scalingBenchmarks(Random r) {
+		if (!"Evaluator.evaluate shared by threads".contains(filter))
+			return;
+		final Evaluator evaluator = new Evaluator();
+		final String[] left = operands(r, 9);
+		final String[] right = operands(r, 5);
+		final Operation[] operations = Operation.values();
+		final Benchmark b = (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += evaluator.evaluate(operations[ndx & 3], left[ndx & (OPERAND_COUNT - 1)],
+						right[ndx & (OPERAND_COUNT - 1)]).getValue();
+			return checksum;
+		};
+		measure("Evaluator.evaluate threads=1", b);				// Also warms the code up
+
+		int processors = Runtime.getRuntime().availableProcessors();
+		double singleThread = 0;
+		for (int threads = 1;; threads = Math.min(threads * 2, processors)) {
+			Thread[] workers = new Thread[threads];
+			for (int ndx = 0; ndx < threads; ndx++)
+				workers[ndx] = new Thread(() -> {
+					for (int round = 0; round < measuredRounds; round++)
+						sink += b.run(operationsPerRound);
+				});
+			long startTime = System.nanoTime();
+			for (Thread t : workers)
+				t.start();
+			for (Thread t : workers)
+				try {
+					t.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			long elapsed = System.nanoTime() - startTime;
+			double perSecond = (double) threads * measuredRounds * operationsPerRound * 1e9 / elapsed;
+			if (threads == 1) singleThread = perSecond;
+			System.out.println(String.format("%-48s %12.0f ops/s %12.2fx speedup",
+					"Evaluator.evaluate shared by threads=" + threads, perSecond, perSecond / singleThread));
+			if (threads == processors)
+				break;
+		}
+	}
+
+	/*********************************************************************************************/
+
+	/**********
+	 * The bulk benchmarks reduce a large array of values with the BulkOperations class, next to a
+	 * plain loop over the same array, so the speedup with the number of processors can be seen.
+	 * The time is per value reduced.
+	 */
+	static void bulkBenchmarks(Random r) {
+		final int count = 1 << 22;
+		final long[] longs = new long[count];
+		for (int ndx = 0; ndx < count; ndx++)
+			longs[ndx] = r.nextLong() >> r.nextInt(64);
+		final CalculatorValue[] values = new CalculatorValue[count / 4];
+		for (int ndx = 0; ndx < values.length; ndx++)
+			values[ndx] = new CalculatorValue(longs[ndx]);
+		System.out.println("\n" + ForkJoinPool.getCommonPoolParallelism() + " worker threads in the common pool");
+		measure("long[] sum loop count=" + count, (n) -> {
+			long sum = 0;
+			for (long v : longs)
+				sum += v;
+			return sum;
+		}, count, 5, 10);
+		measure("BulkOperations.sum long[] count=" + count, (n) ->
+				BulkOperations.sum(longs, false).measuredValue, count, 5, 10);
+		measure("BulkOperations.sum long[] checked count=" + count, (n) ->
+				BulkOperations.sum(longs, true).measuredValue, count, 5, 10);
+		measure("BulkOperations.max long[] count=" + count, (n) ->
+				BulkOperations.max(longs).measuredValue, count, 5, 10);
+		measure("BulkOperations.product long[] count=" + count, (n) ->
+				BulkOperations.product(longs, false).measuredValue, count, 5, 10);
+		measure("BulkOperations.sum CalculatorValue[] checked count=" + values.length, (n) ->
+				BulkOperations.sum(values, true).measuredValue, values.length, 5, 10);
+		measure("BulkOperations.summing parallel stream count=" + values.length, (n) ->
+				Arrays.stream(values).parallel().collect(BulkOperations.summing(true)).measuredValue,
+				values.length, 5, 10);
+	}
+
+	/**********
+	 * The batch benchmarks apply each operation element by element to two columns of longs with
+	 * the BatchArithmetic class, on arrays and on buffers outside of the heap, next to the same
+	 * work done one pair at a time through a BusinessLogic. The time is per element.
+	 */
+	static void batchBenchmarks(Random r) {
+		final int count = 1 << 20;
+		final long[] a = new long[count];
+		final long[] b = new long[count];
+		for (int ndx = 0; ndx < count; ndx++) {
+			a[ndx] = r.nextLong() >> r.nextInt(64);
+			b[ndx] = r.nextInt(100) == 0 ? 0 : r.nextLong() >> (32 + r.nextInt(32));	// Some zeros
+		}
+		final long[] result = new long[count];
+		final byte[] errors = new byte[count];
+		ByteBuffer direct = ByteBuffer.allocateDirect(3 * 8 * count).order(ByteOrder.nativeOrder());
+		direct.asLongBuffer().put(a).put(b);
+		final LongBuffer offHeapA = slice(direct, 0, count);
+		final LongBuffer offHeapB = slice(direct, 1, count);
+		final LongBuffer offHeapResult = slice(direct, 2, count);
+		final ByteBuffer offHeapErrors = ByteBuffer.allocateDirect(count);
+		final BusinessLogic perform = new BusinessLogic();
+		final CalculatorValue left = new CalculatorValue();
+		final CalculatorValue right = new CalculatorValue();
+		for (final Operation op : Operation.values()) {
+			measure("BatchArithmetic " + op + " long[] count=" + count, (n) ->
+					BatchArithmetic.apply(op, a, b, result, errors) + result[n - 1], count, 5, 10);
+			measure("BatchArithmetic " + op + " LongBuffer count=" + count, (n) ->
+					BatchArithmetic.apply(op, offHeapA, offHeapB, offHeapResult, offHeapErrors)
+					+ offHeapResult.get(n - 1), count, 5, 10);
+			measure("BusinessLogic.compute " + op + " loop count=" + count, (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					left.setValue(a[ndx]);
+					right.setValue(b[ndx]);
+					perform.setOperand1(left);
+					perform.setOperand2(right);
+					checksum += perform.compute(op) + perform.getResultErrorCode();
+				}
+				return checksum;
+			}, count, 5, 10);
+		}
+	}
+
+	/**********
+	 * The divisor benchmarks divide a column of longs by one divisor, with a hardware divide for
+	 * each element and with a FastDivisor prepared for it, for divisors that take each of the
+	 * paths of the FastDivisor.
+	 */
+	static void divisorBenchmarks(Random r) {
+		final int count = 1 << 20;
+		final long[] a = new long[count];
+		for (int ndx = 0; ndx < count; ndx++)
+			a[ndx] = r.nextLong() >> r.nextInt(64);
+		final long[] result = new long[count];
+		final byte[] errors = new byte[count];
+		for (final long d : new long[] {7, -1000000007, 1L << 20}) {
+			final long[] column = new long[count];
+			Arrays.fill(column, d);
+			measure("BatchArithmetic DIV column divisor=" + d, (n) ->
+					BatchArithmetic.div(a, column, result, errors) + result[n - 1], count, 5, 10);
+			final FastDivisor divisor = new FastDivisor(d);
+			measure("BatchArithmetic DIV FastDivisor divisor=" + d, (n) ->
+					BatchArithmetic.div(a, divisor, result, errors) + result[n - 1], count, 5, 10);
+			measure("FastDivisor.divide(CalculatorValue) divisor=" + d, (n) -> {
+				CalculatorValue v = new CalculatorValue();
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(a[ndx]);
+					divisor.divide(v);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			}, count, 5, 10);
+		}
+	}
+
+	/**********
+	 * The radix benchmarks parse and format 64 bit hex IDs and their decimal forms, with the
+	 * CalculatorValue methods into a reused array and with the Long methods that create a String
+	 * each time, along with the other radixes the user interface offers.
+	 */
+	static void radixBenchmarks(Random r) {
+		final String[] hex = new String[OPERAND_COUNT];
+		final String[] decimal = new String[OPERAND_COUNT];
+		final long[] ids = new long[OPERAND_COUNT];
+		for (int ndx = 0; ndx < OPERAND_COUNT; ndx++) {
+			ids[ndx] = r.nextLong() >>> 1;						// IDs that fit in a long
+			hex[ndx] = Long.toHexString(ids[ndx]);
+			decimal[ndx] = Long.toString(ids[ndx]);
+		}
+		final CalculatorValue v = new CalculatorValue();
+		final char[] buffer = new char[CalculatorValue.MAX_CHARS];
+		measure("CalculatorValue.parse radix=16 id", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				String t = hex[ndx & (OPERAND_COUNT - 1)];
+				v.parse(t, 0, t.length(), 16);
+				checksum += v.measuredValue;
+			}
+			return checksum;
+		});
+		measure("Long.parseLong radix=16 id", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += Long.parseLong(hex[ndx & (OPERAND_COUNT - 1)], 16);
+			return checksum;
+		});
+		measure("hex to decimal and back id", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				String t = Long.toString(Long.parseLong(hex[ndx & (OPERAND_COUNT - 1)], 16));
+				v.parse(t, 0, t.length());
+				checksum += v.measuredValue;
+			}
+			return checksum;
+		});
+		for (int radix : new int[] {16, 10, 8, 2, 36}) {
+			measure("CalculatorValue.format radix=" + radix + " id", (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(ids[ndx & (OPERAND_COUNT - 1)]);
+					checksum += v.format(buffer, 0, radix) + buffer[0];
+				}
+				return checksum;
+			});
+			measure("Long.toString radix=" + radix + " id", (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++)
+					checksum += Long.toString(ids[ndx & (OPERAND_COUNT - 1)], radix).length();
+				return checksum;
+			});
+		}
+		measure("CalculatorValue.parse radix=10 id", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				String t = decimal[ndx & (OPERAND_COUNT - 1)];
+				v.parse(t, 0, t.length());
+				checksum += v.measuredValue;
+			}
+			return checksum;
+		});
+	}
+
+	/**********
+	 * The output benchmarks format results the way the batch calculator and the calculator server
+	 * write them, through a String each time and straight into reused buffers, and the debug text
+	 * of the business logic both ways.
+	 */
+	static void outputBenchmarks(Random r) {
+		final CalculatorValue[] values = values(operands(r, 18));
+		final StringBuilder builder = new StringBuilder(64);
+		final ByteBuffer bytes = ByteBuffer.allocateDirect(64);
+		measure("CalculatorValue.toString into ByteBuffer", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				String t = values[ndx & (OPERAND_COUNT - 1)].toString();
+				bytes.clear();
+				for (int c = 0; c < t.length(); c++)
+					bytes.put((byte) t.charAt(c));
+				checksum += bytes.position();
+			}
+			return checksum;
+		});
+		measure("CalculatorValue.appendTo StringBuilder", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				builder.setLength(0);
+				checksum += values[ndx & (OPERAND_COUNT - 1)].appendTo(builder).length();
+			}
+			return checksum;
+		});
+		measure("CalculatorValue.appendTo ByteBuffer", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				bytes.clear();
+				checksum += values[ndx & (OPERAND_COUNT - 1)].appendTo(bytes, 10).position();
+			}
+			return checksum;
+		});
+		final BusinessLogic perform = new BusinessLogic();
+		perform.setOperand1("123456789012");
+		perform.setOperand2("-42");
+		perform.compute(Operation.MPY);
+		final StringBuilder debug = new StringBuilder(512);
+		measure("BusinessLogic.debugToString", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += perform.debugToString().length();
+			return checksum;
+		}, 1 << 16, 5, 10);
+		measure("BusinessLogic.debugTo", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				debug.setLength(0);
+				checksum += perform.debugTo(debug).length();
+			}
+			return checksum;
+		}, 1 << 16, 5, 10);
+	}
+
+	/**********
+	 * The rational benchmarks find greatest common divisors with the binary algorithm and with
+	 * Euclid's remainders, add and multiply fractions of longs with RationalValue and with
+	 * BigInteger numerators and denominators, and sum a million fractions in parallel.
+	 */
+	static void rationalBenchmarks(Random r) {
+		final long[] numerators = new long[OPERAND_COUNT];
+		final long[] denominators = new long[OPERAND_COUNT];
+		final RationalValue[] fractions = new RationalValue[OPERAND_COUNT];
+		for (int ndx = 0; ndx < OPERAND_COUNT; ndx++) {
+			numerators[ndx] = (r.nextLong() >> 40) * (1 + r.nextInt(12));	// Many with a factor
+			denominators[ndx] = (r.nextLong() >>> 41) * (1 + r.nextInt(12)) + 1;	// in common
+			fractions[ndx] = new RationalValue(numerators[ndx], denominators[ndx]);
+		}
+		measure("RationalValue.gcd binary", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += RationalValue.gcd(numerators[ndx & (OPERAND_COUNT - 1)],
+						denominators[(ndx >> 10) & (OPERAND_COUNT - 1)]);
+			return checksum;
+		});
+		measure("Euclid gcd by remainders", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				long a = Math.abs(numerators[ndx & (OPERAND_COUNT - 1)]);
+				long b = denominators[(ndx >> 10) & (OPERAND_COUNT - 1)];
+				while (b != 0) {
+					long t = a % b;
+					a = b;
+					b = t;
+				}
+				checksum += a;
+			}
+			return checksum;
+		});
+		final RationalValue v = new RationalValue();
+		for (Operation op : new Operation[] {Operation.ADD, Operation.MPY}) {
+			measure("RationalValue." + op.name().toLowerCase(), (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setValue(fractions[ndx & (OPERAND_COUNT - 1)]);
+					v.apply(op, fractions[(ndx >> 10) & (OPERAND_COUNT - 1)], false);
+					checksum += v.measuredValue + v.denominator.measuredValue;
+				}
+				return checksum;
+			});
+			measure("BigInteger fraction " + op.name().toLowerCase(), (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					RationalValue a = fractions[ndx & (OPERAND_COUNT - 1)];
+					RationalValue b = fractions[(ndx >> 10) & (OPERAND_COUNT - 1)];
+					java.math.BigInteger p = a.getNumerator();
+					java.math.BigInteger q = a.getDenominator();
+					java.math.BigInteger s = b.getNumerator();
+					java.math.BigInteger t = b.getDenominator();
+					java.math.BigInteger num = op == Operation.ADD ? p.multiply(t).add(s.multiply(q))
+							: p.multiply(s);
+					java.math.BigInteger den = q.multiply(t);
+					java.math.BigInteger g = num.gcd(den);
+					checksum += num.divide(g).longValue() + den.divide(g).longValue();
+				}
+				return checksum;
+			});
+		}
+		final RationalValue[] telescoping = new RationalValue[1 << 20];
+		for (int k = 1; k <= telescoping.length; k++)
+			telescoping[k - 1] = new RationalValue(1, (long) k * (k + 1));
+		measure("BulkOperations.sum fractions x " + telescoping.length, (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += BulkOperations.sum(telescoping).measuredValue;
+			return checksum;
+		}, 1, 5, 10);
+	}
+
+	/**********
+	 * The fixed point benchmarks parse, format, add, multiply, and divide decimals with two places
+	 * with FixedPointValue and with BigDecimal, rounding half even to two places as the fixed
+	 * point mode does, and multiply decimals with nine places, whose products do not fit in a
+	 * long.
+	 */
+	static void fixedPointBenchmarks(Random r) {
+		final String[] texts = new String[OPERAND_COUNT];
+		final FixedPointValue[] decimals = new FixedPointValue[OPERAND_COUNT];
+		final FixedPointValue[] wide = new FixedPointValue[OPERAND_COUNT];
+		final java.math.BigDecimal[] bigDecimals = new java.math.BigDecimal[OPERAND_COUNT];
+		for (int ndx = 0; ndx < OPERAND_COUNT; ndx++) {
+			long unscaled = (r.nextLong() >> (34 + r.nextInt(20))) | 1;	// Never zero, and the
+																			// products fit
+			decimals[ndx] = new FixedPointValue();
+			decimals[ndx].setUnscaledValue(unscaled);
+			texts[ndx] = decimals[ndx].toString();
+			bigDecimals[ndx] = java.math.BigDecimal.valueOf(unscaled, 2);
+			wide[ndx] = new FixedPointValue(9, java.math.RoundingMode.HALF_EVEN);
+			wide[ndx].setUnscaledValue(r.nextLong() >> 30);
+		}
+		final FixedPointValue v = new FixedPointValue();
+		measure("FixedPointValue.parse", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				String s = texts[ndx & (OPERAND_COUNT - 1)];
+				v.parse(s, 0, s.length());
+				checksum += v.measuredValue;
+			}
+			return checksum;
+		});
+		measure("BigDecimal parse", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += new java.math.BigDecimal(texts[ndx & (OPERAND_COUNT - 1)])
+						.setScale(2, java.math.RoundingMode.HALF_EVEN).unscaledValue().longValue();
+			return checksum;
+		});
+		final StringBuilder out = new StringBuilder();
+		measure("FixedPointValue.appendTo", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				out.setLength(0);
+				checksum += decimals[ndx & (OPERAND_COUNT - 1)].appendTo(out).length();
+			}
+			return checksum;
+		});
+		measure("BigDecimal toPlainString", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				out.setLength(0);
+				checksum += out.append(bigDecimals[ndx & (OPERAND_COUNT - 1)].toPlainString()).length();
+			}
+			return checksum;
+		});
+		for (Operation op : Operation.values()) {
+			measure("FixedPointValue." + op.name().toLowerCase(), (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					v.setUnscaledValue(decimals[ndx & (OPERAND_COUNT - 1)].measuredValue);
+					v.apply(op, decimals[(ndx >> 10) & (OPERAND_COUNT - 1)], false);
+					checksum += v.measuredValue;
+				}
+				return checksum;
+			});
+			measure("BigDecimal " + op.name().toLowerCase(), (n) -> {
+				long checksum = 0;
+				for (int ndx = 0; ndx < n; ndx++) {
+					java.math.BigDecimal a = bigDecimals[ndx & (OPERAND_COUNT - 1)];
+					java.math.BigDecimal b = bigDecimals[(ndx >> 10) & (OPERAND_COUNT - 1)];
+					java.math.BigDecimal c;
+					switch (op) {
+					case ADD:
+						c = a.add(b);
+						break;
+					case SUB:
+						c = a.subtract(b);
+						break;
+					case MPY:
+						c = a.multiply(b).setScale(2, java.math.RoundingMode.HALF_EVEN);
+						break;
+					default:
+						c = a.divide(b, 2, java.math.RoundingMode.HALF_EVEN);
+					}
+					checksum += c.unscaledValue().longValue();
+				}
+				return checksum;
+			});
+		}
+		final FixedPointValue w = new FixedPointValue(9, java.math.RoundingMode.HALF_EVEN);
+		measure("FixedPointValue.mpy 9 places", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++) {
+				w.setUnscaledValue(wide[ndx & (OPERAND_COUNT - 1)].measuredValue);
+				w.mpy(wide[(ndx >> 10) & (OPERAND_COUNT - 1)]);
+				checksum += w.measuredValue + w.getErrorCode();
+			}
+			return checksum;
+		});
+	}
+
+	/**********
+	 * The modular benchmarks multiply residues and raise them to 62 bit powers modulo a 62 bit
+	 * prime, by Montgomery multiplication and with BigInteger, whose 128 bit products are
+	 * reduced by division, and raise a batch of a million residues to powers.
+	 */
+	static void modularBenchmarks(Random r) {
+		final long prime = 4611686018427387847L;						// The largest prime below
+		final Modulus modulus = new Modulus(prime);						// 2^62
+		final java.math.BigInteger bigPrime = java.math.BigInteger.valueOf(prime);
+		final long[] residues = new long[OPERAND_COUNT];
+		final long[] exponents = new long[OPERAND_COUNT];
+		final java.math.BigInteger[] bigResidues = new java.math.BigInteger[OPERAND_COUNT];
+		final java.math.BigInteger[] bigExponents = new java.math.BigInteger[OPERAND_COUNT];
+		for (int ndx = 0; ndx < OPERAND_COUNT; ndx++) {
+			residues[ndx] = Math.floorMod(r.nextLong(), prime);
+			exponents[ndx] = r.nextLong() >>> 2;
+			bigResidues[ndx] = java.math.BigInteger.valueOf(residues[ndx]);
+			bigExponents[ndx] = java.math.BigInteger.valueOf(exponents[ndx]);
+		}
+		measure("Modulus.multiply", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += modulus.multiply(residues[ndx & (OPERAND_COUNT - 1)],
+						residues[(ndx >> 10) & (OPERAND_COUNT - 1)]);
+			return checksum;
+		});
+		measure("BigInteger multiply mod", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += bigResidues[ndx & (OPERAND_COUNT - 1)]
+						.multiply(bigResidues[(ndx >> 10) & (OPERAND_COUNT - 1)]).mod(bigPrime).longValue();
+			return checksum;
+		});
+		measure("Modulus.pow", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += modulus.pow(residues[ndx & (OPERAND_COUNT - 1)],
+						exponents[(ndx >> 10) & (OPERAND_COUNT - 1)]);
+			return checksum;
+		}, 1 << 14, 5, 10);
+		measure("BigInteger modPow", (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += bigResidues[ndx & (OPERAND_COUNT - 1)]
+						.modPow(bigExponents[(ndx >> 10) & (OPERAND_COUNT - 1)], bigPrime).longValue();
+			return checksum;
+		}, 1 << 14, 5, 10);
+		final long[] bases = new long[1 << 20];
+		final long[] powers = new long[bases.length];
+		final long[] results = new long[bases.length];
+		final byte[] errors = new byte[bases.length];
+		for (int ndx = 0; ndx < bases.length; ndx++) {
+			bases[ndx] = r.nextLong();
+			powers[ndx] = r.nextLong() >>> 2;
+		}
+		measure("BatchArithmetic.pow x " + bases.length, (n) -> {
+			long checksum = 0;
+			for (int ndx = 0; ndx < n; ndx++)
+				checksum += BatchArithmetic.pow(bases, powers, modulus, results, errors) + results[ndx];
+			return checksum;
+		}, 1, 3, 5);
+	}
+
+	/**********
+	 * The slice method returns the count longs of a buffer that start at the given multiple of
+	 * count.
+	 */
+	static LongBuffer slice(ByteBuffer b, int index, int count) {
+		ByteBuffer s = b.duplicate().order(b.order());
+		s.position(index * 8 * count).limit((index + 1) * 8 * count);
+		return s.slice().order(b.order()).asLongBuffer();
+	}
+
+	/**********
+	 * This main method roots the execution of the benchmarks.  All of the parameters are optional.
+	 *
+	 * @param args	[filter [warm up rounds [measured rounds [operations per round]]]], where only
+	 * 				the benchmarks whose names contain the filter are run
+	 */
+	public static void main(String[] args) {
+		if (args.length > 0) filter = args[0];
+		if (args.length > 1) warmupRounds = Integer.parseInt(args[1]);
+		if (args.length > 2) measuredRounds = Integer.parseInt(args[2]);
+		if (args.length > 3) operationsPerRound = Integer.parseInt(args[3]);
+
+		// Display the header message to the console
+		System.out.println("Benchmark Calculator\n");
+		System.out.println(warmupRounds + " warm up rounds and " + measuredRounds + " measured rounds of "
+				+ operationsPerRound + " operations each\n");
+
+		Random r = new Random(20190208);						// A fixed seed, so every run uses
+		parsingBenchmarks(r);									// the same operands
+		computationBenchmarks(r);
+		businessLogicBenchmarks(r);
+		expressionBenchmarks(r);
+		bigIntegerBenchmarks(r);
+		scalingBenchmarks(r);
+		bulkBenchmarks(r);
+		batchBenchmarks(r);
+		divisorBenchmarks(r);
+		radixBenchmarks(r);
+		outputBenchmarks(r);
+		rationalBenchmarks(r);
+		fixedPointBenchmarks(r);
+		modularBenchmarks(r);
+
+		System.out.println("\nChecksum: " + sink);
+	}
+}
@@ -0,0 +1,579 @@
+package calculator;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+
+/**
+ * <p> Title: BulkOperations Class. </p>
+ *
+ * <p> Description: Reductions over large collections of values: the sum, the product, the
+ * smallest and largest value, and the number of values that carry an error. Arrays are reduced
+ * in parallel with fork-join tasks on the common pool, and streams with the collectors at the
+ * end of this class, which a parallel stream uses in the same way.</p>
+ *
+ * <p> The reductions follow the CalculatorValue operations. Without overflow checking, a sum or
+ * a product wraps around exactly as add and mpy do. With it, the result is exact, as with
+ * checkedAdd and checkedMpy, and is promoted to a big integer when it does not fit in a long. A
+ * value that carries an error is left out of every reduction but the count of errors, and the
+ * smallest or largest of no values is an UNDEFINED_OPERAND error.</p>
+ *
+ * <p> Each task works through one chunk of CHUNK values on its own. The sums are kept in 128
+ * bits, which cannot overflow within a chunk, or in any number of chunks of fewer than 2^63
+ * values, so a chunk needs no overflow test at all and knows at its end whether its sum fits in
+ * a long. The products are checked value by value, and a chunk only turns to big integers from
+ * the value at which its product stops fitting. The chunks are split in the same places however
+ * many threads there are, and every reduction is either exact or wraps around modulo 2^64, so
+ * the result does not depend on the order of the work: it is the same on one processor as on
+ * many, and the same as that of the operations applied one value at a time.</p>
+ *
+ * <p> Arrays of fractions (RationalValues) have a sum and a product of their own, which are
+ * always exact. The reductions of calculator values above see only the numerators of fractions.
+ * </p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 Exact sums and products of fractions
+ * @version 1.00	2026-10-17 Initial fork-join reductions
+ *
+ */
+
+public final class BulkOperations {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The number of values one task reduces on its own: enough for the cost of a task to be lost
+	// in the work, and few enough that a million values keep dozens of processors busy
+	static final int CHUNK = 1 << 14;
+
+	// The low 64 bits of a big integer
+	private static final BigInteger LOW_64_BITS = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+	/**********
+	 * There are no instances of this class.
+	 */
+	private BulkOperations() {
+	}
+
+
+	/**********************************************************************************************
+
+	Arrays of longs
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method computes the sum of an array of longs.
+	 *
+	 * @param values	The values
+	 * @param checked	true for an exact sum, false for one that wraps around
+	 * @return the sum, which is zero if there are no values
+	 */
+	public static CalculatorValue sum(long[] values, boolean checked) {
+		return reduce(values.length, (from, to) -> {
+			Sum s = new Sum(checked);
+			if (checked)
+				for (int ndx = from; ndx < to; ndx++)
+					s.add(values[ndx]);
+			else {
+				long wrapped = 0;							// Only the low half is needed
+				for (int ndx = from; ndx < to; ndx++)
+					wrapped += values[ndx];
+				s.add(wrapped);
+			}
+			return s;
+		}, Sum::combine).value();
+	}
+
+	/**********
+	 * This method computes the product of an array of longs.
+	 *
+	 * @param values	The values
+	 * @param checked	true for an exact product, false for one that wraps around
+	 * @return the product, which is one if there are no values
+	 */
+	public static CalculatorValue product(long[] values, boolean checked) {
+		return reduce(values.length, (from, to) -> {
+			Product p = new Product(checked);
+			for (int ndx = from; ndx < to; ndx++)
+				p.multiply(values[ndx]);
+			return p;
+		}, Product::combine).value();
+	}
+
+	/**********
+	 * This method finds the smallest of an array of longs.
+	 *
+	 * @param values	The values
+	 * @return the smallest value, or an UNDEFINED_OPERAND error if there are no values
+	 */
+	public static CalculatorValue min(long[] values) {
+		return extremes(values).min();
+	}
+
+	/**********
+	 * This method finds the largest of an array of longs.
+	 *
+	 * @param values	The values
+	 * @return the largest value, or an UNDEFINED_OPERAND error if there are no values
+	 */
+	public static CalculatorValue max(long[] values) {
+		return extremes(values).max();
+	}
+
+	/**********
+	 * Private local method that finds the smallest and the largest of an array of longs. Both
+	 * are found in one pass, which costs no more than finding one of them, as the pass is limited
+	 * by the speed at which the values are read from memory.
+	 */
+	private static Extremes extremes(long[] values) {
+		return reduce(values.length, (from, to) -> {
+			Extremes e = new Extremes();
+			if (from < to) {
+				long low = values[from];
+				long high = low;
+				for (int ndx = from + 1; ndx < to; ndx++) {
+					low = Math.min(low, values[ndx]);
+					high = Math.max(high, values[ndx]);
+				}
+				e.min = new CalculatorValue(low);
+				e.max = new CalculatorValue(high);
+			}
+			return e;
+		}, Extremes::combine);
+	}
+
+
+	/**********************************************************************************************
+
+	Arrays of calculator values
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method computes the sum of an array of calculator values, leaving out those that carry
+	 * an error.
+	 *
+	 * @param values	The values
+	 * @param checked	true for an exact sum, false for one that wraps around
+	 * @return the sum, which is zero if there are no values
+	 */
+	public static CalculatorValue sum(CalculatorValue[] values, boolean checked) {
+		return reduce(values.length, (from, to) -> {
+			Sum s = new Sum(checked);
+			for (int ndx = from; ndx < to; ndx++)
+				s.add(values[ndx]);
+			return s;
+		}, Sum::combine).value();
+	}
+
+	/**********
+	 * This method computes the product of an array of calculator values, leaving out those that
+	 * carry an error.
+	 *
+	 * @param values	The values
+	 * @param checked	true for an exact product, false for one that wraps around
+	 * @return the product, which is one if there are no values
+	 */
+	public static CalculatorValue product(CalculatorValue[] values, boolean checked) {
+		return reduce(values.length, (from, to) -> {
+			Product p = new Product(checked);
+			for (int ndx = from; ndx < to; ndx++)
+				p.multiply(values[ndx]);
+			return p;
+		}, Product::combine).value();
+	}
+
+	/**********
+	 * This method finds the smallest of an array of calculator values, leaving out those that
+	 * carry an error.
+	 *
+	 * @param values	The values
+	 * @return a copy of the smallest value, or an UNDEFINED_OPERAND error if there are no values
+	 */
+	public static CalculatorValue min(CalculatorValue[] values) {
+		return extremes(values).min();
+	}
+
+	/**********
+	 * This method finds the largest of an array of calculator values, leaving out those that
+	 * carry an error.
+	 *
+	 * @param values	The values
+	 * @return a copy of the largest value, or an UNDEFINED_OPERAND error if there are no values
+	 */
+	public static CalculatorValue max(CalculatorValue[] values) {
+		return extremes(values).max();
+	}
+
+	/**********
+	 * This method counts the calculator values that carry an error.
+	 *
+	 * @param values	The values
+	 * @return the number of values with an error code other than NONE
+	 */
+	public static long countErrors(CalculatorValue[] values) {
+		return reduce(values.length, (from, to) -> {
+			long errors = 0;
+			for (int ndx = from; ndx < to; ndx++)
+				if (values[ndx].errorCode != ErrorCode.NONE)
+					errors++;
+			return errors;
+		}, Long::sum);
+	}
+
+	/**********
+	 * Private local method that finds the smallest and the largest of an array of calculator
+	 * values in one pass.
+	 */
+	private static Extremes extremes(CalculatorValue[] values) {
+		return reduce(values.length, (from, to) -> {
+			Extremes e = new Extremes();
+			for (int ndx = from; ndx < to; ndx++)
+				e.add(values[ndx]);
+			return e;
+		}, Extremes::combine);
+	}
+
+
+	/**********************************************************************************************
+
+	Arrays of fractions
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method computes the exact sum of an array of fractions, leaving out those that carry an
+	 * error. Each chunk adds its fractions one at a time into a fraction of its own, which stays
+	 * in longs for as long as the sum fits in them, and the chunks are then added together.
+	 *
+	 * @param values	The values
+	 * @return the sum, in lowest terms, which is zero if there are no values
+	 */
+	public static RationalValue sum(RationalValue[] values) {
+		return reduce(values.length, (from, to) -> {
+			RationalValue s = new RationalValue();
+			for (int ndx = from; ndx < to; ndx++)
+				if (values[ndx].errorCode == ErrorCode.NONE)
+					s.add(values[ndx]);
+			return s;
+		}, (a, b) -> {
+			a.add(b);
+			return a;
+		});
+	}
+
+	/**********
+	 * This method computes the exact product of an array of fractions, leaving out those that
+	 * carry an error.
+	 *
+	 * @param values	The values
+	 * @return the product, in lowest terms, which is one if there are no values
+	 */
+	public static RationalValue product(RationalValue[] values) {
+		return reduce(values.length, (from, to) -> {
+			RationalValue p = new RationalValue(1);
+			for (int ndx = from; ndx < to; ndx++)
+				if (values[ndx].errorCode == ErrorCode.NONE)
+					p.mpy(values[ndx]);
+			return p;
+		}, (a, b) -> {
+			a.mpy(b);
+			return a;
+		});
+	}
+
+
+	/**********************************************************************************************
+
+	Streams
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method returns a collector that sums a stream of calculator values as the sum method
+	 * above sums an array of them.
+	 *
+	 * @param checked	true for an exact sum, false for one that wraps around
+	 * @return the collector
+	 */
+	public static Collector<CalculatorValue, ?, CalculatorValue> summing(boolean checked) {
+		return Collector.of(() -> new Sum(checked), Sum::add, Sum::combine, Sum::value,
+				Collector.Characteristics.UNORDERED);
+	}
+
+	/**********
+	 * This method returns a collector that multiplies a stream of calculator values as the
+	 * product method above multiplies an array of them.
+	 *
+	 * @param checked	true for an exact product, false for one that wraps around
+	 * @return the collector
+	 */
+	public static Collector<CalculatorValue, ?, CalculatorValue> multiplying(boolean checked) {
+		return Collector.of(() -> new Product(checked), Product::multiply, Product::combine,
+				Product::value, Collector.Characteristics.UNORDERED);
+	}
+
+	/**********
+	 * This method returns a collector that finds the smallest of a stream of calculator values.
+	 *
+	 * @return the collector
+	 */
+	public static Collector<CalculatorValue, ?, CalculatorValue> minimum() {
+		return Collector.of(Extremes::new, Extremes::add, Extremes::combine, Extremes::min,
+				Collector.Characteristics.UNORDERED);
+	}
+
+	/**********
+	 * This method returns a collector that finds the largest of a stream of calculator values.
+	 *
+	 * @return the collector
+	 */
+	public static Collector<CalculatorValue, ?, CalculatorValue> maximum() {
+		return Collector.of(Extremes::new, Extremes::add, Extremes::combine, Extremes::max,
+				Collector.Characteristics.UNORDERED);
+	}
+
+	/**********
+	 * This method returns a collector that counts the calculator values of a stream that carry
+	 * an error.
+	 *
+	 * @return the collector
+	 */
+	public static Collector<CalculatorValue, ?, Long> countingErrors() {
+		return Collector.of(() -> new long[1], (count, v) -> {
+			if (v.errorCode != ErrorCode.NONE)
+				count[0]++;
+		}, (a, b) -> {
+			a[0] += b[0];
+			return a;
+		}, (count) -> count[0], Collector.Characteristics.UNORDERED);
+	}
+
+
+	/**********************************************************************************************
+
+	The fork-join tasks
+
+	**********************************************************************************************/
+
+	/**********
+	 * A leaf reduces the values from one index up to, but not including, another. Each reduction
+	 * has its own leaf, with its own loop, so the JIT compiler can compile each loop for the one
+	 * kind of value and accumulator it sees.
+	 */
+	interface Leaf<A> {
+		A reduce(int from, int to);
+	}
+
+	/**********
+	 * Private local method that reduces the indexes from zero up to length. A length of at most
+	 * one chunk is reduced by the calling thread, as it is not worth handing to the pool.
+	 */
+	private static <A> A reduce(int length, Leaf<A> leaf, BinaryOperator<A> combine) {
+		if (length <= CHUNK)
+			return leaf.reduce(0, length);
+		return ForkJoinPool.commonPool().invoke(new Chunks<>(leaf, combine, 0, length));
+	}
+
+	/**********
+	 * The task that reduces a range of indexes. A range of more than one chunk is split at the
+	 * chunk boundary nearest its middle, so the chunks and the order in which their results are
+	 * combined depend on nothing but the length. The left half is forked and the right half is
+	 * done by the thread that split the range.
+	 */
+	private static final class Chunks<A> extends RecursiveTask<A> {
+		private static final long serialVersionUID = 1L;
+		private final transient Leaf<A> leaf;
+		private final transient BinaryOperator<A> combine;
+		private final int from;
+		private final int to;
+
+		Chunks(Leaf<A> leaf, BinaryOperator<A> combine, int from, int to) {
+			this.leaf = leaf;
+			this.combine = combine;
+			this.from = from;
+			this.to = to;
+		}
+
+		protected A compute() {
+			if (to - from <= CHUNK)
+				return leaf.reduce(from, to);
+			int chunks = (to - from - 1) / CHUNK + 1;
+			int middle = from + chunks / 2 * CHUNK;
+			Chunks<A> left = new Chunks<>(leaf, combine, from, middle);
+			left.fork();
+			A right = new Chunks<>(leaf, combine, middle, to).compute();
+			return combine.apply(left.join(), right);
+		}
+	}
+
+
+	/**********************************************************************************************
+
+	The accumulators
+
+	**********************************************************************************************/
+
+	/**********
+	 * The sum of part of the values. The values that fit in a long are added into a 128 bit two's
+	 * complement sum, whose low half is also the sum that wraps around. The values that do not
+	 * fit in a long, which only matter when the sum is checked, are added into a big integer.
+	 */
+	private static final class Sum {
+		private final boolean checked;
+		private long low = 0;
+		private long high = 0;
+		private BigInteger big = null;
+
+		Sum(boolean checked) {
+			this.checked = checked;
+		}
+
+		void add(long v) {
+			long s = low + v;
+			high += (v >> 63) + (((low & v) | ((low | v) & ~s)) >>> 63);	// The sign and the
+			low = s;														// carry out of low
+		}
+
+		void add(CalculatorValue v) {
+			if (v.errorCode != ErrorCode.NONE)
+				return;
+			if (!checked || v.bigValue == null)
+				add(v.measuredValue);					// The low 64 bits, when not checked
+			else
+				big = big == null ? v.bigValue : big.add(v.bigValue);
+		}
+
+		Sum combine(Sum other) {
+			long s = low + other.low;
+			high += other.high + (Long.compareUnsigned(s, low) < 0 ? 1 : 0);
+			low = s;
+			if (other.big != null)
+				big = big == null ? other.big : big.add(other.big);
+			return this;
+		}
+
+		CalculatorValue value() {
+			if (!checked || (big == null && high == low >> 63))
+				return new CalculatorValue(low);
+			BigInteger total = BigInteger.valueOf(high).shiftLeft(64)
+					.add(BigInteger.valueOf(low).and(LOW_64_BITS));
+			CalculatorValue v = new CalculatorValue();
+			v.setValue(big == null ? total : total.add(big));
+			return v;
+		}
+	}
+
+	/**********
+	 * The product of part of the values. The product is kept in a long for as long as it fits.
+	 * When it is checked and it stops fitting, the long is multiplied into a big integer and the
+	 * long starts over, so big integer arithmetic is only done once per 64 bits of product.
+	 */
+	private static final class Product {
+		private final boolean checked;
+		private long value = 1;
+		private BigInteger big = null;
+
+		Product(boolean checked) {
+			this.checked = checked;
+		}
+
+		void multiply(long v) {
+			long r = value * v;
+			if (!checked || Math.multiplyHigh(value, v) == r >> 63)
+				value = r;
+			else {
+				big = big == null ? BigInteger.valueOf(value) : big.multiply(BigInteger.valueOf(value));
+				value = v;
+			}
+		}
+
+		void multiply(CalculatorValue v) {
+			if (v.errorCode != ErrorCode.NONE)
+				return;
+			if (!checked || v.bigValue == null)
+				multiply(v.measuredValue);
+			else
+				big = big == null ? v.bigValue : big.multiply(v.bigValue);
+		}
+
+		Product combine(Product other) {
+			multiply(other.value);
+			if (other.big != null)
+				big = big == null ? other.big : big.multiply(other.big);
+			return this;
+		}
+
+		CalculatorValue value() {
+			CalculatorValue v = new CalculatorValue(value);
+			if (big != null)
+				v.setValue(big.multiply(BigInteger.valueOf(value)));
+			return v;
+		}
+	}
+
+	/**********
+	 * The smallest and the largest of part of the values, or nulls if there are none.
+	 */
+	private static final class Extremes {
+		private CalculatorValue min = null;
+		private CalculatorValue max = null;
+
+		void add(CalculatorValue v) {
+			if (v.errorCode != ErrorCode.NONE)
+				return;
+			if (min == null || compare(v, min) < 0)
+				min = v;
+			if (max == null || compare(v, max) > 0)
+				max = v;
+		}
+
+		Extremes combine(Extremes other) {
+			if (other.min != null) {
+				add(other.min);
+				add(other.max);
+			}
+			return this;
+		}
+
+		CalculatorValue min() {
+			return copyOf(min);
+		}
+
+		CalculatorValue max() {
+			return copyOf(max);
+		}
+
+		private static CalculatorValue copyOf(CalculatorValue v) {
+			if (v != null)
+				return new CalculatorValue(v);
+			CalculatorValue none = new CalculatorValue();
+			none.setErrorCode(ErrorCode.UNDEFINED_OPERAND);
+			return none;
+		}
+	}
+
+	/**********
+	 * This method compares two calculator values, without creating a big integer unless one of
+	 * them is one.
+	 *
+	 * @param a	The first value
+	 * @param b	The second value
+	 * @return a negative number, zero, or a positive number as a is less than, equal to, or
+	 *         greater than b
+	 */
+	static int compare(CalculatorValue a, CalculatorValue b) {
+		if (a.bigValue == null && b.bigValue == null)
+			return Long.compare(a.measuredValue, b.measuredValue);
+		return a.getBigValue().compareTo(b.getBigValue());
+	}
+}
@@ -1,6 +1,12 @@
 
 package calculator;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 /**
  * <p>
  * Title: BusinessLogic Class.
@@ -27,6 +33,22 @@ package calculator;
  * @author Lynn Robert Carter
  * @author Swapnika Vakacharla
  * 
+ * @version 4.17 2026-10-17 Unsigned operands and results in the radixes other than 10
+ * @version 4.16 2026-10-17 Error messages that are not standard kept beside the codes
+ * @version 4.15 2026-10-17 Exponents that are not reduced modulo the modulus
+ * @version 4.14 2026-10-17 Modular mode, with powers and inverses
+ * @version 4.13 2026-10-17 Fixed point mode
+ * @version 4.12 2026-10-17 Rational mode
+ * @version 4.11 2026-10-17 Formatting into caller-supplied buffers
+ * @version 4.10 2026-10-17 Operands and results in any radix from 2 to 36
+ * @version 4.09 2026-10-17 Flight Recorder event for each operation
+ * @version 4.08 2026-10-17 Operation times recorded in the metrics
+ * @version 4.07 2026-10-17 Optional history log
+ * @version 4.06 2026-10-17 Operands converted apart from being set
+ * @version 4.05 2026-10-17 Optional result cache
+ * @version 4.04 2026-10-17 Big integer mode
+ * @version 4.03 2026-10-17 Overflow-checked mode
+ * @version 4.02 2026-10-17 Error codes in place of error message Strings
  * @version 4.01 2019-02-08 Enhancements to the documentation
  * @version 4.00 2014-10-18 The JavaFX-based GUI implementation of a long
  *          integer calculator
@@ -45,11 +67,48 @@ public class BusinessLogic {
 	private CalculatorValue operand1 = new CalculatorValue(0);
 	private CalculatorValue operand2 = new CalculatorValue(0);
 	private CalculatorValue result = new CalculatorValue(0);
-	private String operand1ErrorMessage = "";
-	private boolean operand1Defined = false;
-	private String operand2ErrorMessage = "";
+	private int operand1Error = ErrorCode.NONE;		// The errors are kept as ErrorCodes and
+	private boolean operand1Defined = false;		// only turned into messages when a message
+	private int operand2Error = ErrorCode.NONE;		// is asked for
 	private boolean operand2Defined = false;
-	private String resultErrorMessage = "";
+	private int resultError = ErrorCode.NONE;
+	private String operand1Message = null;			// The message of an OTHER error, if the
+	private String operand2Message = null;			// setter was given one
+	private String resultMessage = null;
+
+	// When this is true, the operations use the checked computation methods, which promote a
+	// result that does not fit in a long to an arbitrary precision value rather than wrapping
+	private boolean overflowChecked = false;
+
+	// When this is true, operands too large for a long are accepted as arbitrary precision values
+	// and the operations are always overflow checked
+	private boolean bigIntegerMode = false;
+
+	// The radix the operands are entered in and the results are returned in
+	private int radix = 10;
+
+	// When this is true, integers in a radix other than 10 are unsigned 64 bit values, and the
+	// digits that hold them in the result are kept in this array
+	private boolean unsigned = false;
+	private final char[] digits = new char[CalculatorValue.MAX_CHARS];
+
+	// The kind of numbers the operands and results are, which selects their class
+	private NumberMode mode = NumberMode.INTEGER;
+
+	// The number of decimal places of the fixed point mode, and how results with more are rounded
+	private int scale = FixedPointValue.DEFAULT_SCALE;
+	private RoundingMode rounding = FixedPointValue.DEFAULT_ROUNDING;
+
+	// The modulus of the modular mode, prepared for Montgomery multiplication
+	private Modulus modulus = new Modulus(ModularValue.DEFAULT_MODULUS);
+
+	// When this is not null, the results of the operations are looked up in, and added to, this
+	// cache, which may be shared with other instances
+	private ResultCache<OperationKey, CalculatorValue> resultCache = null;
+
+	// When this is not null, every operation performed is recorded in this log, which may be
+	// shared with other instances
+	private HistoryLog historyLog = null;
 
 	/**********************************************************************************************
 	 * 
@@ -74,8 +133,8 @@ public class BusinessLogic {
 	/**********
 	 * This public setter takes an input String, checks to see if there is a
 	 * non-empty input string. If so, it uses it to create a new CalculatorValue and
-	 * places it into operand1, any associated error message is placed into
-	 * operand1ErrorMessage, and sets the defined flag accordingly.
+	 * places it into operand1, any associated error code is placed into
+	 * operand1Error, and sets the defined flag accordingly.
 	 * 
 	 * @param value
 	 * @return True if the set did not generate an error; False if there was invalid
@@ -84,13 +143,13 @@ public class BusinessLogic {
 	public boolean setOperand1(String value) {
 		operand1Defined = false; // Assume the operand will not be defined
 		if (value.length() <= 0) { // See if the input is empty. If so no error
-			operand1ErrorMessage = ""; // message, but the operand is not defined.
+			operand1Error = ErrorCode.NONE; // code, but the operand is not defined.
 			return true; // Return saying there was no error.
 		}
-		operand1 = new CalculatorValue(value); // If there was input text, try to convert it
-		operand1ErrorMessage = operand1.getErrorMessage(); // into a CalculatorValue and see if it
-		if (operand1ErrorMessage.length() > 0) // worked. If there is a non-empty error
-			return false; // message, signal there was a problem.
+		operand1 = newOperand(value); // If there was input text, try to convert it
+		operand1Error = operand1.getErrorCode(); // into a CalculatorValue and see if it
+		if (operand1Error != ErrorCode.NONE) // worked. If there is an error code,
+			return false; // signal there was a problem.
 		operand1Defined = true; // Otherwise, set the defined flag and
 		return true; // signal that the set worked
 	}
@@ -98,8 +157,8 @@ public class BusinessLogic {
 	/**********
 	 * This public setter takes an input String, checks to see if there is a
 	 * non-empty input string. If so, it uses it to create a new CalculatorValue and
-	 * places it into operand2, any associated error message is placed into
-	 * operand2ErrorMessage, and sets the defined flag accordingly.
+	 * places it into operand2, any associated error code is placed into
+	 * operand2Error, and sets the defined flag accordingly.
 	 * 
 	 * The logic of this method is the same as that for operand1 above.
 	 * 
@@ -110,12 +169,126 @@ public class BusinessLogic {
 	public boolean setOperand2(String value) { // The logic of this method is exactly the
 		operand2Defined = false; // same as that for operand1, above.
 		if (value.length() <= 0) {
-			operand2ErrorMessage = "";
+			operand2Error = ErrorCode.NONE;
+			return true;
+		}
+		operand2 = newOperand(value);
+		operand2Error = operand2.getErrorCode();
+		if (operand2Error != ErrorCode.NONE)
+			return false;
+		operand2Defined = true;
+		return true;
+	}
+
+	/**********
+	 * This public setter works like setOperand1(String) above, but it takes the
+	 * operand from length characters of s, starting at position start, and parses
+	 * them into the existing operand1. Callers that read operands out of a larger
+	 * buffer (e.g. the batch calculator) use this method so that no String or
+	 * CalculatorValue has to be created for each operand.
+	 * 
+	 * @param s      The characters holding the operand
+	 * @param start  The position of the first character of the operand
+	 * @param length The number of characters in the operand
+	 * @return True if the set did not generate an error; False if there was invalid
+	 *         input
+	 */
+	public boolean setOperand1(CharSequence s, int start, int length) {
+		operand1Defined = false;
+		if (length <= 0) {
+			operand1Error = ErrorCode.NONE;
+			return true;
+		}
+		if (!parseOperand(operand1, s, start, length)) {
+			operand1Error = operand1.getErrorCode();
+			return false;
+		}
+		operand1Error = ErrorCode.NONE;
+		operand1Defined = true;
+		return true;
+	}
+
+	/**********
+	 * This public setter is the operand2 version of setOperand1(CharSequence, int,
+	 * int) above.
+	 * 
+	 * @param s      The characters holding the operand
+	 * @param start  The position of the first character of the operand
+	 * @param length The number of characters in the operand
+	 * @return True if the set did not generate an error; False if there was invalid
+	 *         input
+	 */
+	public boolean setOperand2(CharSequence s, int start, int length) {
+		operand2Defined = false;
+		if (length <= 0) {
+			operand2Error = ErrorCode.NONE;
+			return true;
+		}
+		if (!parseOperand(operand2, s, start, length)) {
+			operand2Error = operand2.getErrorCode();
+			return false;
+		}
+		operand2Error = ErrorCode.NONE;
+		operand2Defined = true;
+		return true;
+	}
+
+	/**********
+	 * This public method converts an input String into an operand exactly as
+	 * setOperand1(String) would, but leaves the business logic unchanged. It only
+	 * reads the modes and the radix, so a long operand can be converted on another
+	 * thread than the one using the business logic, and then installed on that
+	 * thread with setOperand1(CalculatorValue) or setOperand2(CalculatorValue).
+	 * 
+	 * @param value The input String
+	 * @return the operand, which may carry an error code, or null if the input is
+	 *         empty
+	 */
+	public CalculatorValue convertOperand(String value) {
+		return value.length() <= 0 ? null : newOperand(value);
+	}
+
+	/**********
+	 * This public setter installs an operand that has already been converted by
+	 * convertOperand. It has the same outcome as setOperand1(String) on the String
+	 * that was converted: null is an empty input, which is not defined but has no
+	 * error, and an operand that carries an error code is not defined.
+	 * 
+	 * @param value The converted operand, or null
+	 * @return True if the set did not generate an error; False if there was invalid
+	 *         input
+	 */
+	public boolean setOperand1(CalculatorValue value) {
+		operand1Defined = false;
+		if (value == null) {
+			operand1Error = ErrorCode.NONE;
+			return true;
+		}
+		operand1 = value.copy();				// A copy, as the caller still has the value
+		operand1Error = operand1.getErrorCode();
+		if (operand1Error != ErrorCode.NONE)
+			return false;
+		operand1Defined = true;
+		return true;
+	}
+
+	/**********
+	 * This public setter is the operand2 version of setOperand1(CalculatorValue)
+	 * above.
+	 * 
+	 * @param value The converted operand, or null
+	 * @return True if the set did not generate an error; False if there was invalid
+	 *         input
+	 */
+	public boolean setOperand2(CalculatorValue value) {
+		operand2Defined = false;
+		if (value == null) {
+			operand2Error = ErrorCode.NONE;
 			return true;
 		}
-		operand2 = new CalculatorValue(value);
-		operand2ErrorMessage = operand2.getErrorMessage();
-		if (operand2ErrorMessage.length() > 0)
+		operand2 = value.copy();
+		operand2Error = operand2.getErrorCode();
+		if (operand2Error != ErrorCode.NONE)
 			return false;
 		operand2Defined = true;
 		return true;
@@ -124,8 +297,8 @@ public class BusinessLogic {
 	/**********
 	 * This public setter takes an input String, checks to see if there is a
 	 * non-empty input string. If so, it uses it to create a new CalculatorValue and
-	 * places it into result and any associated error message is placed into
-	 * resultErrorMessage.
+	 * places it into result and any associated error code is placed into
+	 * resultError.
 	 * 
 	 * The logic of this method is similar to that for operand1 above. (There is no
 	 * defined flag.)
@@ -136,12 +309,12 @@ public class BusinessLogic {
 	 */
 	public boolean setResult(String value) { // The logic of this method is similar to
 		if (value.length() <= 0) { // that for operand1, above.
-			operand2ErrorMessage = "";
+			operand2Error = ErrorCode.NONE;
 			return true;
 		}
-		result = new CalculatorValue(value);
-		resultErrorMessage = operand2.getErrorMessage();
-		if (operand2ErrorMessage.length() > 0)
+		result = newOperand(value);
+		resultError = operand2.getErrorCode();
+		if (operand2Error != ErrorCode.NONE)
 			return false;
 		return true;
 	}
@@ -149,11 +322,11 @@ public class BusinessLogic {
 	/**********
 	 * This public setter sets the String explaining the current error in operand1.
 	 * 
-	 * @return This method returns nothing, but the operand1ErrorMessage has been
-	 *         set
+	 * @return This method returns nothing, but the operand1Error has been set
 	 */
 	public void setOperand1ErrorMessage(String m) {
-		operand1ErrorMessage = m;
+		operand1Error = ErrorCode.code(m);
+		operand1Message = operand1Error == ErrorCode.OTHER ? m : null;
 		return;
 	}
 
@@ -164,18 +337,27 @@ public class BusinessLogic {
 	 * @return an error message or an empty String if there was no error
 	 */
 	public String getOperand1ErrorMessage() {
-		return operand1ErrorMessage;
+		return ErrorCode.message(operand1Error, operand1Message);
+	}
+
+	/**********
+	 * This public getter fetches the ErrorCode of the current error in operand1.
+	 * 
+	 * @return an error code or ErrorCode.NONE if there was no error
+	 */
+	public int getOperand1ErrorCode() {
+		return operand1Error;
 	}
 
 	/**********
 	 * This public setter sets the String explaining the current error into
 	 * operand2.
 	 * 
-	 * @return This method returns nothing, but the operand2ErrorMessage has been
-	 *         set
+	 * @return This method returns nothing, but the operand2Error has been set
 	 */
 	public void setOperand2ErrorMessage(String m) {
-		operand2ErrorMessage = m;
+		operand2Error = ErrorCode.code(m);
+		operand2Message = operand2Error == ErrorCode.OTHER ? m : null;
 		return;
 	}
 
@@ -186,17 +368,27 @@ public class BusinessLogic {
 	 * @return an error message or an empty String if there was no error
 	 */
 	public String getOperand2ErrorMessage() {
-		return operand2ErrorMessage;
+		return ErrorCode.message(operand2Error, operand2Message);
+	}
+
+	/**********
+	 * This public getter fetches the ErrorCode of the current error in operand2.
+	 * 
+	 * @return an error code or ErrorCode.NONE if there was no error
+	 */
+	public int getOperand2ErrorCode() {
+		return operand2Error;
 	}
 
 	/**********
 	 * This public setter sets the String explaining the current error in the
 	 * result.
 	 * 
-	 * @return This method returns nothing, but the resultErrorMessage has been set
+	 * @return This method returns nothing, but the resultError has been set
 	 */
 	public void setResultErrorMessage(String m) {
-		resultErrorMessage = m;
+		resultError = ErrorCode.code(m);
+		resultMessage = resultError == ErrorCode.OTHER ? m : null;
 		return;
 	}
 
@@ -207,7 +399,16 @@ public class BusinessLogic {
 	 * @return and error message or an empty String if there was no error
 	 */
 	public String getResultErrorMessage() {
-		return resultErrorMessage;
+		return ErrorCode.message(resultError, resultMessage);
+	}
+
+	/**********
+	 * This public getter fetches the ErrorCode of the current error in the result.
+	 * 
+	 * @return an error code or ErrorCode.NONE if there was no error
+	 */
+	public int getResultErrorCode() {
+		return resultError;
 	}
 
 	/**********
@@ -234,6 +435,251 @@ public class BusinessLogic {
 		return operand2Defined;
 	}
 
+	/**********
+	 * This public setter selects between the checked and the unchecked (wrap around)
+	 * computation methods for the operations.
+	 * 
+	 * @param checked true for the overflow checked computation methods
+	 */
+	public void setOverflowChecked(boolean checked) {
+		overflowChecked = checked;
+	}
+
+	/**********
+	 * This public getter fetches whether the operations are overflow checked.
+	 * 
+	 * @return true if the checked computation methods are used, else false
+	 */
+	public boolean getOverflowChecked() {
+		return overflowChecked;
+	}
+
+	/**********
+	 * This public setter turns the big integer mode on or off. In big integer mode,
+	 * operands of any number of digits are accepted and the operations are overflow
+	 * checked, so the results are exact no matter how large they are. The
+	 * multiplication and division of large values are done by the BigInteger class,
+	 * which switches from the schoolbook algorithms to Karatsuba and Toom-Cook 3
+	 * multiplication and to Burnikel-Ziegler division as the values grow.
+	 * 
+	 * @param on true for big integer mode
+	 */
+	public void setBigIntegerMode(boolean on) {
+		bigIntegerMode = on;
+	}
+
+	/**********
+	 * This public getter fetches whether the calculator is in big integer mode.
+	 * 
+	 * @return true if operands of any size are accepted, else false
+	 */
+	public boolean getBigIntegerMode() {
+		return bigIntegerMode;
+	}
+
+	/**********
+	 * This public setter selects the radix, from 2 to 36, that the operands are
+	 * converted from and the results are returned in. The digits after 9 are the
+	 * letters, which are accepted in upper or lower case and returned in lower case.
+	 * Operands that have already been set keep their values.
+	 * 
+	 * @param radix	The radix, 10 unless it is set
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public void setRadix(int radix) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+			throw new IllegalArgumentException("The radix must be from " + Character.MIN_RADIX
+					+ " to " + Character.MAX_RADIX + ", not " + radix);
+		this.radix = radix;
+	}
+
+	/**********
+	 * This public getter fetches the radix of the operands and the results.
+	 * 
+	 * @return the radix
+	 */
+	public int getRadix() {
+		return radix;
+	}
+
+	/**********
+	 * This public setter selects whether integers in a radix other than 10 are unsigned, as
+	 * Long.parseUnsignedLong and Long.toUnsignedString take them, so a 64 bit ID such as
+	 * ffffffffffffffff is entered and returned as it is, without big integer mode. It only
+	 * changes how the operands are converted and the results are formatted; the operations are
+	 * those of signed longs, which for addition, subtraction, and multiplication give the same
+	 * bits. It has no effect in decimal, in big integer mode, or in a number mode other than
+	 * INTEGER.
+	 * 
+	 * @param unsigned	true for unsigned integers, false unless it is set
+	 */
+	public void setUnsigned(boolean unsigned) {
+		this.unsigned = unsigned;
+	}
+
+	/**********
+	 * This public getter fetches whether integers in a radix other than 10 are unsigned.
+	 * 
+	 * @return true if they are unsigned
+	 */
+	public boolean getUnsigned() {
+		return unsigned;
+	}
+
+	/**********
+	 * This public setter selects the kind of numbers the calculator computes with. In rational
+	 * mode, the operands may be fractions, entered as the numerator and the denominator separated
+	 * by a slash (e.g. "22/7"), and every operation is exact, so the division of two integers is
+	 * a fraction rather than a truncated quotient. In fixed point mode, the operands are decimals
+	 * with the number of places set by setScale, which are always entered and returned in
+	 * decimal, and a result that does not fit sets the OVERFLOW error. In modular mode, the
+	 * operands are integers of any size, reduced modulo the modulus set by setModulus, every
+	 * result is a residue, and the power and inverse operations can be used as well. Changing
+	 * the mode clears the operands and the result, as the values of one mode are not those of
+	 * another. The result cache is only used in integer mode. The history log records the mode of
+	 * each operation, with the scale of decimals, the denominators of fractions, and the modulus
+	 * of residues.
+	 * 
+	 * @param mode	The number mode, INTEGER unless it is set
+	 */
+	public void setMode(NumberMode mode) {
+		if (mode == this.mode)
+			return;
+		this.mode = mode;
+		operand1 = newValue();
+		operand2 = newValue();
+		result = newValue();
+		operand1Defined = false;
+		operand2Defined = false;
+		operand1Error = ErrorCode.NONE;
+		operand2Error = ErrorCode.NONE;
+		resultError = ErrorCode.NONE;
+	}
+
+	/**********
+	 * This public getter fetches the kind of numbers the calculator computes with.
+	 * 
+	 * @return the number mode
+	 */
+	public NumberMode getMode() {
+		return mode;
+	}
+
+	/**********
+	 * This public setter selects the number of decimal places, from 0 to 18, of the fixed point
+	 * mode. Operands that have already been set keep their values, and are rounded to the new
+	 * scale when they are used.
+	 * 
+	 * @param scale	The number of places, 2 unless it is set
+	 * @throws IllegalArgumentException if the scale is not from 0 to 18
+	 */
+	public void setScale(int scale) {
+		this.scale = FixedPointValue.checkScale(scale);
+	}
+
+	/**********
+	 * This public getter fetches the number of decimal places of the fixed point mode.
+	 * 
+	 * @return the scale
+	 */
+	public int getScale() {
+		return scale;
+	}
+
+	/**********
+	 * This public setter selects how the results of the fixed point mode are rounded when they
+	 * have more places than the scale.
+	 * 
+	 * @param rounding	The rounding mode, HALF_EVEN unless it is set
+	 * @throws IllegalArgumentException if the rounding mode is UNNECESSARY
+	 */
+	public void setRoundingMode(RoundingMode rounding) {
+		this.rounding = FixedPointValue.checkRounding(rounding);
+	}
+
+	/**********
+	 * This public getter fetches how the results of the fixed point mode are rounded.
+	 * 
+	 * @return the rounding mode
+	 */
+	public RoundingMode getRoundingMode() {
+		return rounding;
+	}
+
+	/**********
+	 * This public setter selects the modulus of the modular mode, which is prepared once here for
+	 * all of the operations. Operands that have already been set keep the integers they were
+	 * entered as, which are reduced modulo the new modulus when they are used.
+	 * 
+	 * @param modulus	The modulus, 2^61 - 1 unless it is set
+	 * @throws IllegalArgumentException if the modulus is less than 2
+	 */
+	public void setModulus(long modulus) {
+		this.modulus = new Modulus(modulus);
+	}
+
+	/**********
+	 * This public getter fetches the modulus of the modular mode.
+	 * 
+	 * @return the modulus
+	 */
+	public long getModulus() {
+		return modulus.getModulus();
+	}
+
+	/**********
+	 * This public setter places a cache in front of the operations, or removes it when the cache
+	 * is null. The same cache may be shared by any number of instances, in any number of threads,
+	 * since the values in it are never changed. A cache pays off when the same operations on the
+	 * same operands come up again and again, and most of all in big integer mode, where a single
+	 * operation can take far longer than the lookup.
+	 * 
+	 * @param cache	The cache of results, or null for none
+	 */
+	public void setResultCache(ResultCache<OperationKey, CalculatorValue> cache) {
+		resultCache = cache;
+	}
+
+	/**********
+	 * This public getter fetches the cache in front of the operations.
+	 * 
+	 * @return the cache of results, or null if there is none
+	 */
+	public ResultCache<OperationKey, CalculatorValue> getResultCache() {
+		return resultCache;
+	}
+
+	/**********
+	 * This public setter starts recording every operation performed, with its operands, result,
+	 * and error code, in a history log, or stops recording when the log is null. The log is not
+	 * closed by the business logic.
+	 * 
+	 * @param log	The history log, or null for none
+	 */
+	public void setHistoryLog(HistoryLog log) {
+		historyLog = log;
+	}
+
+	/**********
+	 * This public getter fetches the history log the operations are recorded in.
+	 * 
+	 * @return the history log, or null if there is none
+	 */
+	public HistoryLog getHistoryLog() {
+		return historyLog;
+	}
+
+	/**********
+	 * This public getter fetches whether the result fits in a long integer, which is
+	 * always the case unless the operations are overflow checked, the calculator is
+	 * in big integer mode, or the result is a fraction.
+	 * 
+	 * @return true if the result fits in a long, else false
+	 */
+	public boolean getResultFitsInLong() {
+		return result.isLong();
+	}
+
 	/**********************************************************************************************
 	 * 
 	 * The toString() Method
@@ -247,7 +693,52 @@ public class BusinessLogic {
 	 * BusinessLogic and the UserInterface classes.
 	 */
 	public String toString() {
-		return result.toString();
+		return format(result);
+	}
+
+	/**********
+	 * This method appends the result, formatted as toString formats it, to a StringBuilder. When
+	 * the result fits in a long, no String is created.
+	 * 
+	 * @param out	Where the result is appended
+	 * @return the StringBuilder
+	 */
+	public StringBuilder appendTo(StringBuilder out) {
+		if (unsignedFormat())
+			return out.append(digits, 0, result.formatUnsigned(digits, 0, radix));
+		return result.appendTo(out, radix);
+	}
+
+	/**********
+	 * This method places the result, formatted as toString formats it, into a ByteBuffer as one
+	 * ASCII byte for each character, from its position, which is then moved past them.
+	 * 
+	 * @param out	Where the result is placed
+	 * @return the ByteBuffer
+	 * @throws java.nio.BufferOverflowException if the result does not fit, in which case nothing
+	 * 					is placed
+	 */
+	public ByteBuffer appendTo(ByteBuffer out) {
+		if (unsignedFormat()) {
+			int length = result.formatUnsigned(digits, 0, radix);
+			if (out.remaining() < length)
+				throw new BufferOverflowException();
+			for (int ndx = 0; ndx < length; ndx++)
+				out.put((byte) digits[ndx]);
+			return out;
+		}
+		return result.appendTo(out, radix);
+	}
+
+	/**********
+	 * This public getter fetches the number of characters the result is formatted into, or for a
+	 * result that does not fit in a long, the most there can be.
+	 * 
+	 * @return the number of characters
+	 */
+	public int getResultLength() {
+		return unsignedFormat() ? result.formattedUnsignedLength(radix)
+				: result.formattedLength(radix);
 	}
 
 	/**********
@@ -257,17 +748,28 @@ public class BusinessLogic {
 	 * @return a String representation of the class
 	 */
 	public String debugToString() {
-		String r = "\n******************\n*\n* Business Logic\n*\n******************\n";
-		r += "operand1 = " + operand1.toString() + "\n";
-		r += "     operand1ErrorMessage = " + operand1ErrorMessage + "\n";
-		r += "     operand1Defined = " + operand1Defined + "\n";
-		r += "operand2 = " + operand2.toString() + "\n";
-		r += "     operand2ErrorMessage = " + operand2ErrorMessage + "\n";
-		r += "     operand2Defined = " + operand2Defined + "\n";
-		r += "result = " + result.toString() + "\n";
-		r += "     resultErrorMessage = " + resultErrorMessage + "\n";
-		r += "*******************\n\n";
-		return r;
+		return debugTo(new StringBuilder(320)).toString();
+	}
+
+	/**********
+	 * This method appends the same text as debugToString to a StringBuilder. The values that fit
+	 * in a long are formatted straight into it and the messages are constants, so a caller that
+	 * reuses the StringBuilder creates no objects at all.
+	 * 
+	 * @param out	Where the text is appended
+	 * @return the StringBuilder
+	 */
+	public StringBuilder debugTo(StringBuilder out) {
+		out.append("\n******************\n*\n* Business Logic\n*\n******************\n");
+		operand1.appendTo(out.append("operand1 = ")).append('\n');
+		out.append("     operand1ErrorMessage = ").append(getOperand1ErrorMessage()).append('\n');
+		out.append("     operand1Defined = ").append(operand1Defined).append('\n');
+		operand2.appendTo(out.append("operand2 = ")).append('\n');
+		out.append("     operand2ErrorMessage = ").append(getOperand2ErrorMessage()).append('\n');
+		out.append("     operand2Defined = ").append(operand2Defined).append('\n');
+		result.appendTo(out.append("result = ")).append('\n');
+		out.append("     resultErrorMessage = ").append(getResultErrorMessage()).append('\n');
+		return out.append("*******************\n\n");
 	}
 
 	/**********************************************************************************************
@@ -293,10 +795,10 @@ public class BusinessLogic {
 	 * @return a String representation of the result
 	 */
 	public String addition() {
-		result = new CalculatorValue(operand1);
-		result.add(operand2);
-		resultErrorMessage = result.getErrorMessage();
-		return result.toString();
+		result = newValue();
+		perform(Operation.ADD, result);
+		resultError = result.getErrorCode();
+		return resultError == ErrorCode.NONE ? format(result) : "";
 	}
 
 	/**********
@@ -316,11 +818,11 @@ public class BusinessLogic {
 	 * @return a String representation of the result
 	 */
 	public String subtraction() {
-		result = new CalculatorValue(operand1);
-		result.sub(operand2);
-		resultErrorMessage = result.getErrorMessage();
+		result = newValue();
+		perform(Operation.SUB, result);
+		resultError = result.getErrorCode();
 
-		return result.toString();
+		return resultError == ErrorCode.NONE ? format(result) : "";
 	}
 
 	/**********
@@ -340,11 +842,11 @@ public class BusinessLogic {
 	 * @return a String representation of the result
 	 */
 	public String multiplication() {
-		result = new CalculatorValue(operand1);
-		result.mpy(operand2);
-		resultErrorMessage = result.getErrorMessage();
+		result = newValue();
+		perform(Operation.MPY, result);
+		resultError = result.getErrorCode();
 
-		return result.toString();
+		return resultError == ErrorCode.NONE ? format(result) : "";
 	}
 
 	/**********
@@ -364,13 +866,193 @@ public class BusinessLogic {
 	 * @return a String representation of the result
 	 */
 	public String division() {
-		result = new CalculatorValue(operand1);
-		result.div(operand2);
-		if (operand2.measuredValue == 0) {
-			resultErrorMessage = result.getErrorMessage();
+		result = newValue();
+		perform(Operation.DIV, result);
+		resultError = result.getErrorCode();
+		return resultError == ErrorCode.NONE ? format(result) : "";
+	}
+
+	/**********
+	 * This public method raises operand1 to the power of operand2, modulo the modulus, keeping
+	 * the value in Montgomery form for all of the squares and products. The exponent is operand2
+	 * as it was entered, not its residue, so it may be negative or larger than the modulus. A
+	 * negative power of an operand that has no inverse is a DIVIDE_BY_ZERO error. Only the
+	 * modular mode has this operation; in the others the result is an INVALID_VALUE error.
+	 * 
+	 * This method assumes the operands are defined and valid, as the four above do. As the
+	 * Operation codes only cover the four above, this operation and inverse are not recorded in
+	 * the history log, the CalculatorMetrics, or the OperationEvents.
+	 * 
+	 * @return a String representation of the result
+	 */
+	public String power() {
+		result = newValue();
+		if (mode != NumberMode.MODULAR) {
+			resultError = ErrorCode.INVALID_VALUE;
+			return "";
+		}
+		ModularValue r = (ModularValue) result;
+		r.setValue(operand1);
+		r.pow(operand2);
+		resultError = r.getErrorCode();
+		return resultError == ErrorCode.NONE ? format(r) : "";
+	}
+
+	/**********
+	 * This public method computes the inverse of operand1 modulo the modulus, which is a
+	 * DIVIDE_BY_ZERO error when the operand and the modulus have a common factor. Only the
+	 * modular mode has this operation; in the others the result is an INVALID_VALUE error. Like
+	 * power, it is not recorded in the history log, the metrics, or the events.
+	 * 
+	 * @return a String representation of the result
+	 */
+	public String inverse() {
+		result = newValue();
+		if (mode != NumberMode.MODULAR) {
+			resultError = ErrorCode.INVALID_VALUE;
 			return "";
 		}
+		ModularValue r = (ModularValue) result;
+		r.setValue(operand1);
+		r.inverse();
+		resultError = r.getErrorCode();
+		return resultError == ErrorCode.NONE ? format(r) : "";
+	}
+
+	/**********
+	 * This public method performs the operation selected by the op code on the two operands and
+	 * returns the result as a long. Unlike the four methods above, it neither creates a copy of
+	 * operand1 nor converts the result into a String. The result is computed into the existing
+	 * result value, so a caller that needs to display it can still use toString, and only those
+	 * callers pay for the formatting.
+	 * 
+	 * The outcome of the operation is left as an ErrorCode that can be fetched with
+	 * getResultErrorCode. When it is not ErrorCode.NONE, the returned value is zero.
+	 * 
+	 * When the operations are overflow checked and the result does not fit in a long,
+	 * the returned value is its low 64 bits and getResultFitsInLong returns false, so
+	 * a caller that cares must use toString for the full value. In rational mode, the
+	 * returned value is the numerator, and getResultFitsInLong is also false for a
+	 * fraction; in fixed point mode, it is the value scaled by 10^scale, and in modular mode,
+	 * the residue.
+	 * 
+	 * @param op	The operation to perform
+	 * @return the value of the result, or zero if the operation could not be performed
+	 */
+	public long compute(Operation op) {
+		if (!operand1Defined || !operand2Defined) {				// Both operands must be defined
+			resultError = ErrorCode.UNDEFINED_OPERAND;
+			return 0;
+		}
+		perform(op, result);
+		resultError = result.getErrorCode();
+		if (resultError != ErrorCode.NONE)
+			return 0;
+		return result.measuredValue;
+	}
+
+	/**********
+	 * Private local method that applies an operation to the operands, leaving the result in the
+	 * value given. When there is a cache, the result is taken from it, or computed and added to
+	 * it. Operands that carry an error are never looked up, as the error is part of the result.
+	 * When the CalculatorMetrics are enabled, the time the operation takes is recorded, leaving
+	 * out the time it takes to append it to the history log, and so is an OperationEvent when
+	 * Flight Recorder is recording them.
+	 */
+	private void perform(Operation op, CalculatorValue into) {
+		OperationEvent event = new OperationEvent();
+		event.begin();
+		boolean timed = CalculatorMetrics.enabled();
+		long began = timed ? System.nanoTime() : 0;
+		boolean checked = overflowChecked || bigIntegerMode;
+		if (resultCache == null || operand1.getErrorCode() != ErrorCode.NONE
+				|| operand2.getErrorCode() != ErrorCode.NONE || !operand1.cacheable()
+				|| !operand2.cacheable()) {
+			into.setValue(operand1);
+			into.apply(op, operand2, checked);
+		}
+		else
+			into.setValue(resultCache.get(new OperationKey(op, operand1, operand2, checked), (key) -> {
+				CalculatorValue v = new CalculatorValue(operand1);	// The cached value is a copy
+				v.apply(op, operand2, checked);						// of its own, which no one
+				return v;											// changes
+			}));
+		if (timed)
+			CalculatorMetrics.of(op).record(System.nanoTime() - began, into.getErrorCode());
+		event.end();
+		if (event.shouldCommit()) {									// Only filled in if kept
+			event.operation = op.name();
+			event.operand1Bits = operand1.bitLength();
+			event.operand2Bits = operand2.bitLength();
+			event.resultBits = into.bitLength();
+			event.checked = checked;
+			event.cached = resultCache != null;
+			event.errorCode = into.getErrorCode();
+			event.commit();
+		}
+		if (historyLog != null)
+			try {
+				historyLog.append(op, operand1, operand2, into);
+			} catch (IOException e) {								// The disk is full, which
+				throw new UncheckedIOException(e);					// no caller can deal with
+			}
+	}
+
+	/**********
+	 * Private local method that creates a value of the number mode, with the scale and
+	 * rounding mode of the calculator for a fixed point value, and its modulus for a modular one.
+	 */
+	private CalculatorValue newValue() {
+		if (mode == NumberMode.FIXED_POINT)
+			return new FixedPointValue(scale, rounding);
+		if (mode == NumberMode.MODULAR)
+			return new ModularValue(modulus);
+		return mode.newValue();
+	}
+
+	/**********
+	 * Private local method that creates a new operand of the number mode from a String,
+	 * accepting values of any size in big integer mode.
+	 */
+	private CalculatorValue newOperand(String value) {
+		CalculatorValue v = newValue();
+		parseOperand(v, value, 0, value.length());
+		return v;
+	}
+
+	/**********
+	 * Private local method that parses an operand in place, accepting values of any size
+	 * in big integer mode.
+	 */
+	private boolean parseOperand(CalculatorValue v, CharSequence s, int start, int length) {
+		if (bigIntegerMode)
+			return v.parseUnbounded(s, start, length, radix);
+		return unsignedIntegers() ? v.parseUnsigned(s, start, length, radix)
+				: v.parse(s, start, length, radix);
+	}
+
+	/**********
+	 * Private local method that formats a value in the radix of the calculator.
+	 */
+	private String format(CalculatorValue v) {
+		if (radix == 10)
+			return v.toString();
+		return unsignedIntegers() ? v.toUnsignedString(radix) : v.toString(radix);
+	}
+
+	/**********
+	 * Private local method that determines whether the integers are unsigned, which is only
+	 * when they are asked to be, in a radix other than 10, and not in big integer mode.
+	 */
+	private boolean unsignedIntegers() {
+		return unsigned && radix != 10 && !bigIntegerMode && mode == NumberMode.INTEGER;
+	}
 
-		return result.toString();
+	/**********
+	 * Private local method that determines whether the result is formatted differently because
+	 * the integers are unsigned, i.e. its top bit is set.
+	 */
+	private boolean unsignedFormat() {
+		return unsignedIntegers() && result.isLong() && result.measuredValue < 0;
 	}
 }
@@ -16,6 +16,7 @@ import javafx.stage.Stage;
  * @author Lynn Robert Carter
  * @author Swapnika Vakacharla
  * 
+ * @version 4.02	2026-10-17 Metrics registered with JMX
  * @version 4.01	2019-02-08 Minor documentation updates.
  * @version 4.00	2017-10-16 The mainline of a JavaFX-based GUI implementation of a long integer calculator
  * 
@@ -45,6 +46,8 @@ public class Calculator extends Application {
 		Pane theRoot = new Pane();								// Create a pane within the window
 		
 		theGUI = new UserInterface(theRoot);					// Create the Graphical User Interface
+
+		CalculatorMetrics.register();							// Let JMX clients watch the work
 		
 		Scene theScene = new Scene(theRoot, WINDOW_WIDTH, WINDOW_HEIGHT);	// Create the scene
 		
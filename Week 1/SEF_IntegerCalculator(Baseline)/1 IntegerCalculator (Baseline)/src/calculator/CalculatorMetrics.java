@@ -0,0 +1,192 @@
+package calculator;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * <p> Title: CalculatorMetrics Class. </p>
+ *
+ * <p> Description: The metrics of the work done by the calculator in this process: one
+ * LatencyMetrics for the parsing of operands and one for each operation of the business logic.
+ * The register method exports them as MXBeans, under the names "calculator:type=Latency,name=X",
+ * where X is PARSE or the name of an Operation, along with this class itself, under the name
+ * "calculator:type=Metrics", whose Enabled attribute turns the recording on and off.</p>
+ *
+ * <p> The recording is off unless the system property calculator.metrics is true, and until
+ * someone turns it on. While it is off, the code being measured pays for reading one volatile
+ * boolean, which on the usual processors is an ordinary load from a line that is never written,
+ * and nothing else: the clock is not read and no counter is touched. Once it is on, each piece
+ * of work pays for reading the clock twice and a few uncontended LongAdder increments.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial latency metrics
+ *
+ */
+
+public final class CalculatorMetrics implements CalculatorMetricsMXBean {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The name the control is registered under, and the prefix of the names of the metrics
+	static final String DOMAIN = "calculator";
+
+	// The metrics of the parsing of operands
+	public static final LatencyMetrics PARSE = new LatencyMetrics("PARSE");
+
+	// The metrics of the operations, indexed by their ordinals
+	private static final LatencyMetrics[] OPERATIONS = new LatencyMetrics[Operation.values().length];
+	static {
+		for (Operation op : Operation.values())
+			OPERATIONS[op.ordinal()] = new LatencyMetrics(op.name());
+	}
+
+	private static volatile boolean enabled = Boolean.getBoolean("calculator.metrics");
+
+	private static final CalculatorMetrics CONTROL = new CalculatorMetrics();
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * The only instance is the control registered with JMX.
+	 */
+	private CalculatorMetrics() {
+	}
+
+
+	/**********************************************************************************************
+
+	Recording
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method tells the code being measured whether to measure it.
+	 *
+	 * @return whether the work of the calculator is being recorded
+	 */
+	public static boolean enabled() {
+		return enabled;
+	}
+
+	/**********
+	 * This method turns the recording on or off. The counters keep what was recorded before.
+	 *
+	 * @param on	true to start recording, false to stop
+	 */
+	public static void enable(boolean on) {
+		enabled = on;
+	}
+
+	/**********
+	 * This getter fetches the metrics of an operation.
+	 *
+	 * @param op	The operation
+	 * @return its metrics
+	 */
+	public static LatencyMetrics of(Operation op) {
+		return OPERATIONS[op.ordinal()];
+	}
+
+	/**********
+	 * This method sets the counters of all of the metrics back to zero.
+	 */
+	public static void resetAll() {
+		PARSE.reset();
+		for (LatencyMetrics m : OPERATIONS)
+			m.reset();
+	}
+
+	// The MXBean view of the methods above
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean on) {
+		enabled = on;
+	}
+
+	public void reset() {
+		resetAll();
+	}
+
+
+	/**********************************************************************************************
+
+	JMX
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method exports the metrics and the control to the platform MBean server, where any JMX
+	 * client can read them. Registering does not turn the recording on. Registering again does
+	 * nothing.
+	 *
+	 * @throws IllegalStateException if the MBean server refuses them
+	 */
+	public static synchronized void register() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			register(server, new ObjectName(DOMAIN + ":type=Metrics"), CONTROL);
+			register(server, nameOf(PARSE), PARSE);
+			for (LatencyMetrics m : OPERATIONS)
+				register(server, nameOf(m), m);
+		} catch (JMException e) {
+			throw new IllegalStateException("The calculator metrics cannot be registered", e);
+		}
+	}
+
+	/**********
+	 * This method removes the metrics and the control from the platform MBean server. The
+	 * recording is not turned off.
+	 */
+	public static synchronized void unregister() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			unregister(server, new ObjectName(DOMAIN + ":type=Metrics"));
+			unregister(server, nameOf(PARSE));
+			for (LatencyMetrics m : OPERATIONS)
+				unregister(server, nameOf(m));
+		} catch (JMException e) {
+			throw new IllegalStateException("The calculator metrics cannot be unregistered", e);
+		}
+	}
+
+	/**********
+	 * This method fetches the name a metrics is registered under.
+	 *
+	 * @param m	The metrics
+	 * @return its name
+	 * @throws JMException if the name of the metrics is not valid in an ObjectName
+	 */
+	public static ObjectName nameOf(LatencyMetrics m) throws JMException {
+		return new ObjectName(DOMAIN + ":type=Latency,name=" + m.getName());
+	}
+
+	/**********
+	 * Private local methods that register and unregister one MXBean if that has not been done.
+	 */
+	private static void register(MBeanServer server, ObjectName name, Object bean)
+			throws JMException {
+		if (!server.isRegistered(name))
+			server.registerMBean(bean, name);
+	}
+
+	private static void unregister(MBeanServer server, ObjectName name) throws JMException {
+		if (server.isRegistered(name))
+			server.unregisterMBean(name);
+	}
+}
@@ -0,0 +1,33 @@
+package calculator;
+
+/**
+ * <p> Title: CalculatorMetricsMXBean Interface. </p>
+ *
+ * <p> Description: The management interface that turns the recording of the calculator metrics
+ * on and off through JMX.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial latency metrics
+ *
+ */
+
+public interface CalculatorMetricsMXBean {
+
+	/**********
+	 * @return whether the work of the calculator is being recorded
+	 */
+	boolean isEnabled();
+
+	/**********
+	 * @param on	true to start recording the work of the calculator, false to stop
+	 */
+	void setEnabled(boolean on);
+
+	/**********
+	 * This operation sets the counters of all of the metrics back to zero.
+	 */
+	void reset();
+}
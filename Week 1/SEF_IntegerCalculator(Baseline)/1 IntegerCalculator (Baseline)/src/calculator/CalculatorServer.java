@@ -0,0 +1,457 @@
+package calculator;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+/**
+ * <p> Title: CalculatorServer Class. </p>
+ *
+ * <p> Description: A local calculator service. Clients connect over TCP and send lines of the
+ * form "operand operator operand", and the server answers each line with one line holding the
+ * result or an error message, exactly as the batch calculator would write them. The connection
+ * stays open for as many lines as the client wants to send.</p>
+ *
+ * <p> All of the connections are served by a single thread with a NIO selector. A connection
+ * that is waiting for its next line costs no thread at all, just a small object with the part of
+ * a line read so far, so the number of connections is limited by the number of file descriptors
+ * rather than by the number of threads. Each line takes well under a microsecond to evaluate, so
+ * one thread is enough to keep up with the network. The limit on the number of connections is
+ * configurable; a client that connects beyond it is sent an error line and disconnected.</p>
+ *
+ * <p> A client that sends faster than it reads its answers is not read from until it has read
+ * the answers it already has, so a slow client cannot make the server buffer without limit.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.02	2026-10-17 Answers formatted straight into the output buffer
+ * @version 1.01	2026-10-17 Metrics registered with JMX
+ * @version 1.00	2026-10-17 Initial selector based line protocol server
+ *
+ */
+
+public class CalculatorServer implements Runnable {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The port the server listens on when no port is given
+	public static final int DEFAULT_PORT = 7717;
+
+	// The number of connections allowed at once when no limit is given
+	public static final int DEFAULT_MAX_CONNECTIONS = 10000;
+
+	// The longest line a client may send; anything longer is answered with ERROR_LENGTH
+	static final int MAX_LINE = 8192;
+
+	// This is the message sent for a line that is longer than MAX_LINE
+	static final String ERROR_LENGTH = "***Error*** Line too long";
+
+	// This is the message sent, just before closing, to a client beyond the connection limit
+	static final String ERROR_BUSY = "***Error*** Too many connections";
+
+	// The size of the buffers shared by all of the connections
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final ServerSocketChannel listener;
+	private final Selector selector;
+	private final int maxConnections;
+	private final LineEvaluator evaluator;					// Only used by the selector thread
+	private final ByteBuffer inBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private final ByteBuffer outBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+	private volatile boolean stopping = false;				// Set by close
+
+	// These are the tallies, which are only changed by the selector thread
+	private volatile int connections = 0;
+	private volatile long accepted = 0;
+	private volatile long rejected = 0;
+	private volatile long lineCount = 0;
+	private volatile int peakConnections = 0;
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor opens the server on the loopback address, so only clients on the same
+	 * machine can connect. The server does not answer anyone until run is called.
+	 *
+	 * @param port				The port to listen on, or zero for any free port
+	 * @param maxConnections	The most connections to be served at once
+	 * @param checked			true for overflow checked operations
+	 * @param big				true for big integer mode
+	 * @throws IOException if the port cannot be opened
+	 */
+	public CalculatorServer(int port, int maxConnections, boolean checked, boolean big)
+			throws IOException {
+		if (maxConnections < 1)
+			throw new IllegalArgumentException("The connection limit must be at least one");
+		this.maxConnections = maxConnections;
+		this.evaluator = new LineEvaluator(checked, big);
+		selector = Selector.open();
+		listener = ServerSocketChannel.open();
+		listener.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+		listener.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+		listener.configureBlocking(false);
+		listener.register(selector, SelectionKey.OP_ACCEPT);
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the port the server is listening on, which is useful when it was opened
+	 * on any free port.
+	 *
+	 * @return the port
+	 * @throws IOException if the server has been closed
+	 */
+	public int getPort() throws IOException {
+		return ((InetSocketAddress) listener.getLocalAddress()).getPort();
+	}
+
+	/**********
+	 * This getter fetches the number of connections open now.
+	 *
+	 * @return the number of connections
+	 */
+	public int getConnections() {
+		return connections;
+	}
+
+	/**********
+	 * This getter fetches the most connections that have been open at once.
+	 *
+	 * @return the peak number of connections
+	 */
+	public int getPeakConnections() {
+		return peakConnections;
+	}
+
+	/**********
+	 * This getter fetches the number of connections that have been accepted and served.
+	 *
+	 * @return the number of connections accepted
+	 */
+	public long getAccepted() {
+		return accepted;
+	}
+
+	/**********
+	 * This getter fetches the number of connections turned away because of the limit.
+	 *
+	 * @return the number of connections rejected
+	 */
+	public long getRejected() {
+		return rejected;
+	}
+
+	/**********
+	 * This getter fetches the number of lines that have been answered.
+	 *
+	 * @return the number of lines
+	 */
+	public long getLineCount() {
+		return lineCount;
+	}
+
+
+	/**********************************************************************************************
+
+	Serving
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method serves the clients until the server is closed. It is meant to be the whole of
+	 * the work of one thread.
+	 */
+	public void run() {
+		try {
+			while (!stopping) {
+				selector.select();
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					try {
+						if (key.isAcceptable())
+							accept();
+						else {
+							if (key.isWritable())
+								write(key);
+							if (key.isValid() && key.isReadable())
+								read(key);
+						}
+					} catch (IOException e) {					// A failed connection is simply
+						if (key.channel() != listener)			// dropped, while a failed accept,
+							close(key);							// e.g. for want of file
+					}											// descriptors, is tried again
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		} finally {
+			shutdown();
+		}
+	}
+
+	/**********
+	 * This method stops the server. It may be called from any thread. The open connections are
+	 * closed by the serving thread as it stops.
+	 */
+	public void close() {
+		stopping = true;
+		selector.wakeup();
+	}
+
+	/**********
+	 * Private local method that accepts all of the connections that are waiting.
+	 */
+	private void accept() throws IOException {
+		SocketChannel channel;
+		while ((channel = listener.accept()) != null) {
+			if (connections >= maxConnections) {				// Say why and hang up
+				rejected++;
+				outBuffer.clear();
+				for (int ndx = 0; ndx < ERROR_BUSY.length(); ndx++)
+					outBuffer.put((byte) ERROR_BUSY.charAt(ndx));
+				outBuffer.put((byte) '\n').flip();
+				try {
+					channel.write(outBuffer);					// A best effort, as the client is
+				} finally {										// not waited for
+					channel.close();
+				}
+				continue;
+			}
+			channel.configureBlocking(false);
+			channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+			channel.register(selector, SelectionKey.OP_READ, new Connection());
+			accepted++;
+			connections++;
+			if (connections > peakConnections)
+				peakConnections = connections;
+		}
+	}
+
+	/**********
+	 * Private local method that reads what a client has sent, answers each complete line, and
+	 * sends the answers.
+	 */
+	private void read(SelectionKey key) throws IOException {
+		SocketChannel channel = (SocketChannel) key.channel();
+		Connection c = (Connection) key.attachment();
+		inBuffer.clear();
+		if (channel.read(inBuffer) < 0) {						// The client has hung up
+			close(key);
+			return;
+		}
+		inBuffer.flip();
+		outBuffer.clear();
+		while (inBuffer.hasRemaining()) {
+			char ch = (char) (inBuffer.get() & 0xFF);
+			if (ch == '\n')
+				answer(c);
+			else if (ch != '\r') {								// Carriage returns are ignored
+				if (c.line.length() < MAX_LINE)
+					c.line.append(ch);
+				else
+					c.overlong = true;
+			}
+		}
+		send(key, channel);
+	}
+
+	/**********
+	 * Private local method that evaluates a complete line and places the answer in the output
+	 * buffer, moving the buffer to the pending output of the connection whenever it fills.
+	 */
+	private void answer(Connection c) {
+		boolean overlong = c.overlong;
+		if (!overlong)
+			evaluator.evaluate(c.line);
+		c.line.setLength(0);
+		c.overlong = false;
+		lineCount++;
+		if (!overlong) {										// The answer is placed straight
+			if (evaluator.putOutput(outBuffer))					// into the buffer when there is
+				return;											// room for it, and there is once
+			if (outBuffer.position() > 0) {						// the buffer has been moved to
+				overflow(c);									// the pending output, unless it
+				if (evaluator.putOutput(outBuffer))				// is longer than the buffer
+					return;
+			}
+		}
+		CharSequence output = overlong ? ERROR_LENGTH : evaluator.getOutput();
+		int length = output.length();
+		for (int ndx = 0; ndx < length; ndx++) {
+			if (!outBuffer.hasRemaining())
+				overflow(c);
+			outBuffer.put((byte) output.charAt(ndx));
+		}
+		if (!outBuffer.hasRemaining())
+			overflow(c);
+		outBuffer.put((byte) '\n');
+	}
+
+	/**********
+	 * Private local method that moves a full output buffer into the pending output of the
+	 * connection, so the shared buffer can be filled again.
+	 */
+	private void overflow(Connection c) {
+		outBuffer.flip();
+		c.hold(outBuffer);
+		outBuffer.clear();
+	}
+
+	/**********
+	 * Private local method that sends the answers in the output buffer. Whatever the client is not
+	 * ready to take is kept with the connection, and the connection is then only watched for
+	 * writing, so nothing more is read from it until it has taken everything.
+	 */
+	private void send(SelectionKey key, SocketChannel channel) throws IOException {
+		Connection c = (Connection) key.attachment();
+		outBuffer.flip();
+		if (c.pending == null || c.pending.position() == 0)
+			channel.write(outBuffer);
+		if (outBuffer.hasRemaining())
+			c.hold(outBuffer);
+		if (c.pending != null)
+			write(key);
+	}
+
+	/**********
+	 * Private local method that sends what a client was not ready to take before, and watches the
+	 * connection for reading again once it has all been sent.
+	 */
+	private void write(SelectionKey key) throws IOException {
+		Connection c = (Connection) key.attachment();
+		c.pending.flip();
+		((SocketChannel) key.channel()).write(c.pending);
+		c.pending.compact();
+		if (c.pending.position() == 0) {
+			c.pending = null;									// Nothing is kept for an idle
+			key.interestOps(SelectionKey.OP_READ);				// connection
+		}
+		else
+			key.interestOps(SelectionKey.OP_WRITE);
+	}
+
+	/**********
+	 * Private local method that closes one connection.
+	 */
+	private void close(SelectionKey key) {
+		if (!key.isValid())										// It has already been closed
+			return;
+		key.cancel();
+		try {
+			key.channel().close();
+		} catch (IOException e) {
+			// It is closed as far as the server is concerned
+		}
+		connections--;
+	}
+
+	/**********
+	 * Private local method that closes the listener and every connection when the server stops.
+	 */
+	private void shutdown() {
+		try {
+			listener.close();
+		} catch (IOException e) {
+			// Nothing more can be done
+		}
+		for (SelectionKey key : selector.keys())
+			if (key.attachment() instanceof Connection)
+				close(key);
+		try {
+			selector.close();
+		} catch (IOException e) {
+			// Nothing more can be done
+		}
+	}
+
+
+	/**********************************************************************************************
+
+	The connections
+
+	**********************************************************************************************/
+
+	/**********
+	 * The state of one connection: the part of a line read so far and any answers the client has
+	 * not yet been able to take.
+	 */
+	private static final class Connection {
+		final StringBuilder line = new StringBuilder(32);
+		boolean overlong = false;							// true if the line is being dropped
+		ByteBuffer pending = null;							// Only there when it is needed
+
+		/**********
+		 * This method appends the remaining bytes of b to the pending output, growing it as needed.
+		 */
+		void hold(ByteBuffer b) {
+			if (pending == null)
+				pending = ByteBuffer.allocate(Math.max(1024, b.remaining()));
+			else if (pending.remaining() < b.remaining()) {
+				ByteBuffer larger = ByteBuffer.allocate(
+						Math.max(2 * pending.capacity(), pending.position() + b.remaining()));
+				pending.flip();
+				larger.put(pending);
+				pending = larger;
+			}
+			pending.put(b);
+		}
+	}
+
+
+	/**********************************************************************************************
+
+	The mainline
+
+	**********************************************************************************************/
+
+	/**********
+	 * This mainline runs the server until the process is stopped. With the -c option, the
+	 * operations are overflow checked, and with the -b option, the calculator is in big integer
+	 * mode. Each connection uses a file descriptor, so the limit on open files (ulimit -n) must be
+	 * above the connection limit. The CalculatorMetrics are registered with JMX, so the server can
+	 * be watched with a JMX client, which can turn the recording of the metrics on.
+	 *
+	 * @param args	[-c | -b] [port [connection limit]]
+	 */
+	public static void main(String[] args) throws IOException {
+		boolean checked = args.length > 0 && args[0].equals("-c");
+		boolean big = args.length > 0 && args[0].equals("-b");
+		int first = checked || big ? 1 : 0;						// The first number argument
+		int port = args.length > first ? Integer.parseInt(args[first]) : DEFAULT_PORT;
+		int limit = args.length > first + 1 ? Integer.parseInt(args[first + 1])
+				: DEFAULT_MAX_CONNECTIONS;
+
+		CalculatorMetrics.register();
+		CalculatorServer server = new CalculatorServer(port, limit, checked, big);
+		System.err.println("Calculator server listening on port " + server.getPort() + " for up to "
+				+ limit + " connections");
+		server.run();
+	}
+}
@@ -1,6 +1,11 @@
 package calculator;
 
-import java.util.Scanner;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 
 /**
  * <p>
@@ -19,6 +24,17 @@ import java.util.Scanner;
  * @author Lynn Robert Carter
  * @author Swapnika Vakacharla
  * 
+ * @version 4.12 2026-10-17 Unsigned parsing and formatting of 64 bit values
+ * @version 4.11 2026-10-17 Error messages that are not standard kept by the value
+ * @version 4.10 2026-10-17 Copies of the same class, for the rational values
+ * @version 4.09 2026-10-17 Formatting into caller-supplied buffers
+ * @version 4.08 2026-10-17 Parsing and formatting in any radix from 2 to 36
+ * @version 4.07 2026-10-17 Flight Recorder event for parsing
+ * @version 4.06 2026-10-17 Parsing times recorded in the metrics
+ * @version 4.05 2026-10-17 Unbounded parsing for the big integer mode
+ * @version 4.04 2026-10-17 Overflow-checked arithmetic with BigInteger promotion
+ * @version 4.03 2026-10-17 Error codes in place of error message Strings
+ * @version 4.02 2026-10-17 Scanner-free operand parser
  * @version 4.01 2019-02-08 Minor documentation update
  * @version 4.00 2017-10-18 Long integer implementation of the CalculatorValue
  *          class
@@ -34,7 +50,70 @@ public class CalculatorValue {
 
 	// These are the major values that define a calculator value
 	long measuredValue = 0;
-	String errorMessage = "";
+	int errorCode = ErrorCode.NONE; // The message is only looked up when it is needed
+	String errorMessage = null; // The message of an OTHER error, if it was given one
+
+	// The checked computation methods promote a value that no longer fits in a long to a
+	// BigInteger. It is null whenever the value fits, so those values never allocate. When it is
+	// not null, measuredValue still holds its low 64 bits, which is exactly the value the
+	// unchecked computation methods would have produced.
+	BigInteger bigValue = null;
+
+	// The largest number of characters a value that fits in a long is formatted into, which is
+	// the minus sign and the 64 binary digits of the most negative long
+	public static final int MAX_CHARS = 65;
+
+	// The value of each ASCII character as a digit, in upper or lower case, or 36 (which is not a
+	// digit in any radix) for a character that is not a digit at all, so one comparison with the
+	// radix rejects both
+	private static final byte[] DIGIT_VALUES = new byte[128];
+
+	// The character for each digit value, in lower case as Long.toString produces them
+	private static final char[] DIGIT_CHARS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+	// For each radix that is a power of two, the number of bits in a digit (zero for the others),
+	// and for each of the others a divisor prepared to take a digit off without a hardware divide
+	private static final int[] RADIX_SHIFTS = new int[Character.MAX_RADIX + 1];
+	private static final FastDivisor[] RADIX_DIVISORS = new FastDivisor[Character.MAX_RADIX + 1];
+
+	// For each radix, its powers up to the largest that fits in a long, used to count the digits
+	// of a value before they are formatted from right to left
+	private static final long[][] RADIX_POWERS = new long[Character.MAX_RADIX + 1][];
+
+	// For each radix, the most negative and the most positive long divided by it, the limits the
+	// parser checks against before it multiplies, so no parse needs a hardware divide
+	private static final long[] NEGATIVE_LIMITS = new long[Character.MAX_RADIX + 1];
+	private static final long[] POSITIVE_LIMITS = new long[Character.MAX_RADIX + 1];
+
+	// For each radix, the largest unsigned long divided by it, the limit the unsigned parser
+	// checks against before it multiplies
+	private static final long[] UNSIGNED_LIMITS = new long[Character.MAX_RADIX + 1];
+
+	static {
+		Arrays.fill(DIGIT_VALUES, (byte) Character.MAX_RADIX);
+		for (int digit = 0; digit < Character.MAX_RADIX; digit++) {
+			char c = DIGIT_CHARS[digit];
+			DIGIT_VALUES[c] = (byte) digit;
+			DIGIT_VALUES[Character.toUpperCase(c)] = (byte) digit;
+		}
+		for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+			if ((radix & (radix - 1)) == 0)
+				RADIX_SHIFTS[radix] = Integer.numberOfTrailingZeros(radix);
+			else
+				RADIX_DIVISORS[radix] = new FastDivisor(radix);
+			int count = 1;
+			for (long power = radix; power <= Long.MAX_VALUE / radix; power *= radix)
+				count++;
+			long[] powers = new long[count + 1];
+			powers[0] = 1;
+			for (int ndx = 1; ndx <= count; ndx++)
+				powers[ndx] = powers[ndx - 1] * radix;
+			RADIX_POWERS[radix] = powers;
+			NEGATIVE_LIMITS[radix] = Long.MIN_VALUE / radix;
+			POSITIVE_LIMITS[radix] = -Long.MAX_VALUE / radix;
+			UNSIGNED_LIMITS[radix] = Long.divideUnsigned(-1, radix);
+		}
+	}
 
 	/**********************************************************************************************
 	 * 
@@ -62,7 +141,9 @@ public class CalculatorValue {
 	 */
 	public CalculatorValue(CalculatorValue v) {
 		measuredValue = v.measuredValue;
+		errorCode = v.errorCode;
 		errorMessage = v.errorMessage;
+		bigValue = v.bigValue;
 	}
 
 	/*****
@@ -72,44 +153,343 @@ public class CalculatorValue {
 	 * the string of an error message.
 	 */
 	public CalculatorValue(String s) {
+		parse(s, 0, s.length());
+	}
+
+	/*****
+	 * This constructor creates a calculator value from a string of digits in the
+	 * given radix, the same way as the constructor above does for decimal.
+	 */
+	public CalculatorValue(String s, int radix) {
+		parse(s, 0, s.length(), radix);
+	}
+
+	/**********************************************************************************************
+	 * 
+	 * The parser
+	 * 
+	 **********************************************************************************************/
+
+	/*****
+	 * This method sets this calculator value from length characters of s, starting
+	 * at position start. It accepts exactly what the original Scanner-based
+	 * constructor accepted (an optional sign, optional white space, a second
+	 * optional sign, the digits, and optional trailing white space) and produces
+	 * the same "Input is empty", "Invalid value", and "Excess data" outcomes, but it
+	 * works directly on the characters, so no substring, Scanner, or regular
+	 * expression is created. Only the ASCII digits are recognized and, unlike the
+	 * Scanner, locale group separators (e.g. "1,234") are treated as invalid.
+	 * 
+	 * Since the calculator value is reused, a caller that parses many operands can
+	 * keep one instance and call this method over and over without any allocation.
+	 * 
+	 * @param s      The characters holding the value
+	 * @param start  The position of the first character of the value
+	 * @param length The number of characters in the value
+	 * @return True if the value was converted; False if there was an error (the
+	 *         error code describes it and the value is zero)
+	 */
+	public boolean parse(CharSequence s, int start, int length) {
+		return parse(s, start, length, 10, false, false);
+	}
+
+	/*****
+	 * This method is the parse method above for digits in any radix from 2 to 36.
+	 * The digits after 9 are the letters, in upper or lower case, as with
+	 * Long.parseLong, and the value must fit in a long, so e.g. a 64 bit hex ID
+	 * with its top bit set is written with a minus sign rather than as 16 digits,
+	 * unless it is parsed by parseUnsigned. Each digit is decoded with one table lookup, however large the radix.
+	 * 
+	 * @param s      The characters holding the value
+	 * @param start  The position of the first character of the value
+	 * @param length The number of characters in the value
+	 * @param radix  The radix of the digits
+	 * @return True if the value was converted; False if there was an error (the
+	 *         error code describes it and the value is zero)
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public boolean parse(CharSequence s, int start, int length, int radix) {
+		return parse(s, start, length, checkRadix(radix), false, false);
+	}
+
+	/*****
+	 * This method parses an unsigned 64 bit value in any radix from 2 to 36, as
+	 * Long.parseUnsignedLong does, so e.g. the hex ID ffffffffffffffff is the long
+	 * -1 rather than an invalid value. It accepts the same input as the parse method
+	 * above, except that a minus sign is INVALID_VALUE, and so is a value of more
+	 * than 64 bits. The operations still treat the value as a signed long; only the
+	 * conversion is unsigned, and toUnsignedString turns it back into the same
+	 * digits.
+	 * 
+	 * @param s      The characters holding the value
+	 * @param start  The position of the first character of the value
+	 * @param length The number of characters in the value
+	 * @param radix  The radix of the digits
+	 * @return True if the value was converted; False if there was an error (the
+	 *         error code describes it and the value is zero)
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public boolean parseUnsigned(CharSequence s, int start, int length, int radix) {
+		return parse(s, start, length, checkRadix(radix), false, true);
+	}
+
+	/*****
+	 * This method is the big integer mode version of the parse method above. It
+	 * accepts the same input, but a value that is too large for a long is not an
+	 * error. Instead it is converted into an arbitrary precision value, which is
+	 * done in sub-quadratic time by the DecimalDigits class, so operands with
+	 * millions of digits can be entered. Values that fit in a long are converted
+	 * exactly as the parse method converts them, without any allocation.
+	 * 
+	 * @param s      The characters holding the value
+	 * @param start  The position of the first character of the value
+	 * @param length The number of characters in the value
+	 * @return True if the value was converted; False if there was an error (the
+	 *         error code describes it and the value is zero)
+	 */
+	public boolean parseUnbounded(CharSequence s, int start, int length) {
+		return parse(s, start, length, 10, true, false);
+	}
+
+	/*****
+	 * This method is the parseUnbounded method above for digits in any radix from 2
+	 * to 36. Values too large for a long are only converted in sub-quadratic time
+	 * when they are decimal; in the other radixes they are converted by BigInteger.
+	 * 
+	 * @param s      The characters holding the value
+	 * @param start  The position of the first character of the value
+	 * @param length The number of characters in the value
+	 * @param radix  The radix of the digits
+	 * @return True if the value was converted; False if there was an error (the
+	 *         error code describes it and the value is zero)
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public boolean parseUnbounded(CharSequence s, int start, int length, int radix) {
+		return parse(s, start, length, checkRadix(radix), true, false);
+	}
+
+	/*****
+	 * Private local method that does the work of all of the parse methods above,
+	 * recording how long it takes when the CalculatorMetrics are enabled, and in a
+	 * ParseEvent when Flight Recorder is recording them. While the event is
+	 * disabled, its methods do nothing and the JIT compiler removes it entirely.
+	 */
+	private boolean parse(CharSequence s, int start, int length, int radix, boolean unbounded,
+			boolean unsigned) {
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		boolean converted;
+		if (!CalculatorMetrics.enabled())
+			converted = unsigned ? convertUnsigned(s, start, length, radix)
+					: convert(s, start, length, radix, unbounded);
+		else {
+			long began = System.nanoTime();
+			converted = unsigned ? convertUnsigned(s, start, length, radix)
+					: convert(s, start, length, radix, unbounded);
+			CalculatorMetrics.PARSE.record(System.nanoTime() - began, errorCode);
+		}
+		event.end();
+		if (event.shouldCommit()) { // Only fill it in if it is kept
+			event.length = length;
+			event.radix = radix;
+			event.unbounded = unbounded;
+			event.bits = bitLength();
+			event.errorCode = errorCode;
+			event.commit();
+		}
+		return converted;
+	}
+
+	/*****
+	 * Private local method that converts the characters into this value.
+	 */
+	private boolean convert(CharSequence s, int start, int length, int radix, boolean unbounded) {
 		measuredValue = 0;
-		if (s.length() == 0) { // If there is nothing there,
-			errorMessage = "***Error*** Input is empty"; // signal an error
-			return;
+		bigValue = null;
+		if (length <= 0) { // If there is nothing there,
+			errorCode = ErrorCode.INPUT_EMPTY; // signal an error
+			return false;
 		}
-		// If the first character is a plus sign, ignore it.
-		int start = 0; // Start at character position zero
-		boolean negative = false; // Assume the value is not negative
-		if (s.charAt(start) == '+') // See if the first character is '+'
-			start++; // If so, skip it and ignore it
+		int ndx = start; // Start at the first character
+		int end = start + length;
 
-		// If the first character is a minus sign, skip over it, but remember it
-		else if (s.charAt(start) == '-') { // See if the first character is '-'
-			start++; // if so, skip it
-			negative = true; // but do not ignore it
+		// If the first character is a plus sign, ignore it. If it is a minus sign,
+		// skip over it, but remember it
+		boolean negative = false;
+		char c = s.charAt(ndx);
+		if (c == '+')
+			ndx++;
+		else if (c == '-') {
+			ndx++;
+			negative = true;
 		}
 
-		// See if the user-entered string can be converted into an integer value
-		Scanner tempScanner = new Scanner(s.substring(start));// Create scanner for the digits
-		if (!tempScanner.hasNextLong()) { // See if the next token is a valid
-			errorMessage = "***Error*** Invalid value"; // integer value. If not, signal
-			tempScanner.close(); // return a zero
-			return;
+		// The Scanner skipped white space in front of the value, so we do too, and the
+		// value then runs up to the next white space character
+		while (ndx < end && Character.isWhitespace(s.charAt(ndx)))
+			ndx++;
+
+		// The Scanner also accepted a sign as part of the value itself
+		boolean tokenNegative = false;
+		if (ndx < end) {
+			c = s.charAt(ndx);
+			if (c == '+')
+				ndx++;
+			else if (c == '-') {
+				ndx++;
+				tokenNegative = true;
+			}
+		}
+		if (ndx == end || Character.isWhitespace(s.charAt(ndx))) { // There must be at
+			errorCode = ErrorCode.INVALID_VALUE; // least one digit
+			return false;
 		}
 
-		// Convert the user-entered string to a integer value and see if something else
-		// is following it
-		measuredValue = tempScanner.nextLong(); // Convert the value and check to see
-		if (tempScanner.hasNext()) { // that there is nothing else is
-			errorMessage = "***Error*** Excess data"; // following the value. If so, it
-			tempScanner.close(); // is an error. Therefore we must
-			measuredValue = 0; // return a zero value.
-			return;
+		// Accumulate the value as a negative number, as that side of the range is one
+		// larger, and check for overflow before every step so an out of range value is
+		// rejected the same way the Scanner rejected it (or, if the value may be
+		// unbounded, converted as an arbitrary precision value instead). The value
+		// ends at the first character that is not a digit, which must be white space,
+		// so each character is only looked at once.
+		long limit = tokenNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multiplyLimit = tokenNegative ? NEGATIVE_LIMITS[radix] : POSITIVE_LIMITS[radix];
+		long value = 0;
+		int digitStart = ndx;
+		for (; ndx < end; ndx++) {
+			c = s.charAt(ndx);
+			int digit = digitValue(c);
+			if (digit >= radix) {
+				if (Character.isWhitespace(c))
+					break;
+				errorCode = ErrorCode.INVALID_VALUE;
+				return false;
+			}
+			if (value < multiplyLimit || value * radix < limit + digit) {
+				if (unbounded)
+					return parseBig(s, digitStart, end, radix, negative != tokenNegative);
+				errorCode = ErrorCode.INVALID_VALUE;
+				return false;
+			}
+			value = value * radix - digit;
+		}
+
+		// Only white space may follow the value
+		for (; ndx < end; ndx++)
+			if (!Character.isWhitespace(s.charAt(ndx))) {
+				errorCode = ErrorCode.EXCESS_DATA;
+				return false;
+			}
+
+		if (!tokenNegative) // Return the proper value based on the
+			value = -value; // state of the two sign flags
+		measuredValue = negative ? -value : value;
+		errorCode = ErrorCode.NONE;
+		return true;
+	}
+
+	/*****
+	 * Private local method that converts the characters into this value as an
+	 * unsigned 64 bit value: the input of the convert method above, with plus signs
+	 * only. The value is accumulated as an
+	 * unsigned long, which is checked against the limit before every multiply and
+	 * for a carry after every add.
+	 */
+	private boolean convertUnsigned(CharSequence s, int start, int length, int radix) {
+		measuredValue = 0;
+		bigValue = null;
+		if (length <= 0) {
+			errorCode = ErrorCode.INPUT_EMPTY;
+			return false;
+		}
+		int ndx = start;
+		int end = start + length;
+		if (s.charAt(ndx) == '+')
+			ndx++;
+		while (ndx < end && Character.isWhitespace(s.charAt(ndx)))
+			ndx++;
+		if (ndx < end && s.charAt(ndx) == '+')
+			ndx++;
+		if (ndx == end || Character.isWhitespace(s.charAt(ndx))) { // There must be at
+			errorCode = ErrorCode.INVALID_VALUE; // least one digit
+			return false;
+		}
+		long multiplyLimit = UNSIGNED_LIMITS[radix];
+		long value = 0;
+		for (; ndx < end; ndx++) {
+			char c = s.charAt(ndx);
+			int digit = digitValue(c);
+			if (digit >= radix) {
+				if (Character.isWhitespace(c))
+					break;
+				errorCode = ErrorCode.INVALID_VALUE; // Which is also what a
+				return false; // minus sign is
+			}
+			if (Long.compareUnsigned(value, multiplyLimit) > 0) {
+				errorCode = ErrorCode.INVALID_VALUE;
+				return false;
+			}
+			long product = value * radix;
+			value = product + digit;
+			if (Long.compareUnsigned(value, product) < 0) {
+				errorCode = ErrorCode.INVALID_VALUE;
+				return false;
+			}
+		}
+		for (; ndx < end; ndx++)
+			if (!Character.isWhitespace(s.charAt(ndx))) {
+				errorCode = ErrorCode.EXCESS_DATA;
+				return false;
+			}
+		measuredValue = value;
+		errorCode = ErrorCode.NONE;
+		return true;
+	}
+
+	/*****
+	 * Private local method that finishes the conversion of a value that is too
+	 * large for a long. The digits start at digitStart and run up to the next white
+	 * space character, and the value ends at end.
+	 */
+	private boolean parseBig(CharSequence s, int digitStart, int end, int radix, boolean negative) {
+		int tokenEnd = digitStart;
+		for (; tokenEnd < end; tokenEnd++) { // All of the rest must be digits
+			char c = s.charAt(tokenEnd);
+			if (digitValue(c) >= radix) {
+				if (Character.isWhitespace(c))
+					break;
+				errorCode = ErrorCode.INVALID_VALUE;
+				return false;
+			}
 		}
-		tempScanner.close();
-		errorMessage = "";
-		if (negative) // Return the proper value based
-			measuredValue = -measuredValue; // on the state of the flag that
+		for (int ndx = tokenEnd; ndx < end; ndx++) // Only white space may follow them
+			if (!Character.isWhitespace(s.charAt(ndx))) {
+				errorCode = ErrorCode.EXCESS_DATA;
+				return false;
+			}
+		BigInteger v = radix == 10 ? DecimalDigits.toBigInteger(s, digitStart, tokenEnd)
+				: new BigInteger(s.subSequence(digitStart, tokenEnd).toString(), radix);
+		setValue(negative ? v.negate() : v);
+		errorCode = ErrorCode.NONE;
+		return true;
+	}
+
+	/*****
+	 * Private local method that looks up the value of a character as a digit, which
+	 * is 36 when it is not a digit in any radix.
+	 */
+	private static int digitValue(char c) {
+		return c < 128 ? DIGIT_VALUES[c] : Character.MAX_RADIX;
+	}
+
+	/*****
+	 * Private local method that checks that a radix is one the values can be parsed
+	 * and formatted in.
+	 */
+	private static int checkRadix(int radix) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+			throw new IllegalArgumentException("The radix must be from " + Character.MIN_RADIX
+					+ " to " + Character.MAX_RADIX + ", not " + radix);
+		return radix;
 	}
 
 	/**********************************************************************************************
@@ -124,7 +504,14 @@ public class CalculatorValue {
 	 * Get the error message
 	 */
 	public String getErrorMessage() {
-		return errorMessage;
+		return ErrorCode.message(errorCode, errorMessage);
+	}
+
+	/*****
+	 * Get the error code (ErrorCode.NONE if there is no error)
+	 */
+	public int getErrorCode() {
+		return errorCode;
 	}
 
 	/*****
@@ -132,13 +519,24 @@ public class CalculatorValue {
 	 */
 	public void setValue(long v) {
 		measuredValue = v;
+		bigValue = null;
 	}
 
 	/*****
-	 * Set the current value of a calculator error message to a specific string
+	 * Set the current value of a calculator error message to a specific string. A
+	 * message that is not a standard one is the error OTHER, and is kept with it
 	 */
 	public void setErrorMessage(String m) {
-		errorMessage = m;
+		errorCode = ErrorCode.code(m);
+		errorMessage = errorCode == ErrorCode.OTHER ? m : null;
+	}
+
+	/*****
+	 * Set the current value of a calculator error code to a specific code
+	 */
+	public void setErrorCode(int c) {
+		errorCode = c;
+		errorMessage = null;
 	}
 
 	/*****
@@ -146,7 +544,65 @@ public class CalculatorValue {
 	 */
 	public void setValue(CalculatorValue v) {
 		measuredValue = v.measuredValue;
+		errorCode = v.errorCode;
 		errorMessage = v.errorMessage;
+		bigValue = v.bigValue;
+	}
+
+	/*****
+	 * Set the current value of a calculator value to an arbitrary precision
+	 * integer, which is only kept as a BigInteger if it does not fit in a long
+	 */
+	public void setValue(BigInteger v) {
+		measuredValue = v.longValue(); // The low 64 bits
+		bigValue = v.bitLength() < 64 ? null : v;
+	}
+
+	/*****
+	 * Get the current value as an arbitrary precision integer
+	 */
+	public BigInteger getBigValue() {
+		return bigValue != null ? bigValue : BigInteger.valueOf(measuredValue);
+	}
+
+	/*****
+	 * Determine whether the current value fits in a long integer
+	 */
+	public boolean isLong() {
+		return bigValue == null;
+	}
+
+	/*****
+	 * Determine the number of bits in the current value, not counting the sign, in
+	 * the same way as BigInteger.bitLength
+	 */
+	int bitLength() {
+		if (bigValue != null)
+			return bigValue.bitLength();
+		return 64 - Long.numberOfLeadingZeros(measuredValue < 0 ? ~measuredValue : measuredValue);
+	}
+
+	/*****
+	 * Determine whether the current value is zero
+	 */
+	public boolean isZero() {
+		return bigValue == null && measuredValue == 0;
+	}
+
+	/*****
+	 * Determine whether the result of an operation on this value may be kept in a
+	 * result cache, whose keys hold integer values
+	 */
+	boolean cacheable() {
+		return true;
+	}
+
+	/*****
+	 * Create a duplicate of this value of the same class, so a caller that only
+	 * knows it has a calculator value can copy a fraction as well as an integer
+	 */
+	CalculatorValue copy() {
+		return new CalculatorValue(this);
 	}
 
 	/**********************************************************************************************
@@ -162,7 +618,359 @@ public class CalculatorValue {
 	 * updated
 	 */
 	public String toString() {
-		return measuredValue + "";
+		if (bigValue != null)
+			return bigValue.toString();
+		return Long.toString(measuredValue);
+	}
+
+	/*****
+	 * This toString method formats the value in any radix from 2 to 36, with lower
+	 * case letters for the digits after 9, as Long.toString does.
+	 * 
+	 * @param radix The radix of the digits
+	 * @return the digits of the value, after a minus sign if it is negative
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public String toString(int radix) {
+		if (bigValue != null)
+			return bigValue.toString(checkRadix(radix));
+		char[] buffer = new char[MAX_CHARS];
+		return new String(buffer, 0, format(buffer, 0, radix));
+	}
+
+	/*****
+	 * This toString method formats the value as an unsigned 64 bit value in any
+	 * radix from 2 to 36, as Long.toUnsignedString does, so a value parsed by
+	 * parseUnsigned gets back the digits it was parsed from. An arbitrary precision
+	 * value is formatted as toString(radix) formats it.
+	 * 
+	 * @param radix The radix of the digits
+	 * @return the digits of the value
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public String toUnsignedString(int radix) {
+		if (bigValue != null)
+			return bigValue.toString(checkRadix(radix));
+		char[] buffer = new char[MAX_CHARS];
+		return new String(buffer, 0, formatUnsigned(buffer, 0, radix));
+	}
+
+	/*****
+	 * This method formats the value as toUnsignedString does into a character
+	 * array, in the same way as the format method below. A value that is negative
+	 * as a long is formatted as its quotient by the radix, which is positive,
+	 * followed by its last digit.
+	 * 
+	 * @param buffer The array the characters are placed in
+	 * @param offset The position of the first character
+	 * @param radix  The radix of the digits
+	 * @return the number of characters placed in the array
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 * @throws ArrayIndexOutOfBoundsException if the characters do not fit
+	 */
+	public int formatUnsigned(char[] buffer, int offset, int radix) {
+		if (bigValue != null || measuredValue >= 0)
+			return format(buffer, offset, radix);
+		checkRadix(radix);
+		long q = Long.divideUnsigned(measuredValue, radix);
+		int length = format(q, radix, buffer, offset);
+		buffer[offset + length] = DIGIT_CHARS[(int) (measuredValue - q * radix)];
+		return length + 1;
+	}
+
+	/*****
+	 * This method formats the value in any radix from 2 to 36 into a character
+	 * array, so a caller that formats many values can reuse one array and not
+	 * allocate anything. A value that fits in a long needs at most MAX_CHARS
+	 * characters; only an arbitrary precision value is formatted into a String of
+	 * its own first, and it may need more.
+	 * 
+	 * @param buffer The array the characters are placed in
+	 * @param offset The position of the first character
+	 * @param radix  The radix of the digits
+	 * @return the number of characters placed in the array
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 * @throws ArrayIndexOutOfBoundsException if the characters do not fit
+	 */
+	public int format(char[] buffer, int offset, int radix) {
+		checkRadix(radix);
+		if (bigValue != null) {
+			String digits = bigValue.toString(radix);
+			digits.getChars(0, digits.length(), buffer, offset);
+			return digits.length();
+		}
+		return format(measuredValue, radix, buffer, offset);
+	}
+
+	/*****
+	 * This method appends the value, formatted in any radix from 2 to 36, to any
+	 * Appendable (e.g. a StringBuilder or a Writer), one character at a time.
+	 * 
+	 * @param out   Where the characters are appended
+	 * @param radix The radix of the digits
+	 * @throws IOException if the Appendable throws one
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public void appendTo(Appendable out, int radix) throws IOException {
+		if (out instanceof StringBuilder) {
+			appendTo((StringBuilder) out, radix);
+			return;
+		}
+		if (bigValue != null) {
+			out.append(bigValue.toString(checkRadix(radix)));
+			return;
+		}
+		char[] buffer = new char[MAX_CHARS];
+		int length = format(buffer, 0, radix);
+		for (int ndx = 0; ndx < length; ndx++)
+			out.append(buffer[ndx]);
+	}
+
+	/*****
+	 * This method appends the value in decimal to a StringBuilder. A value that
+	 * fits in a long is written straight into the StringBuilder, without creating
+	 * a String; an arbitrary precision value has to be formatted by BigInteger,
+	 * which creates one.
+	 * 
+	 * @param out Where the characters are appended
+	 * @return the StringBuilder
+	 */
+	public StringBuilder appendTo(StringBuilder out) {
+		if (bigValue != null)
+			return out.append(bigValue.toString());
+		return out.append(measuredValue);
+	}
+
+	/*****
+	 * This method appends the value in any radix from 2 to 36 to a StringBuilder,
+	 * in the same way as the method above. The StringBuilder is lengthened by the
+	 * number of characters needed and the digits are placed into it from right to
+	 * left.
+	 * 
+	 * @param out   Where the characters are appended
+	 * @param radix The radix of the digits
+	 * @return the StringBuilder
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public StringBuilder appendTo(StringBuilder out, int radix) {
+		checkRadix(radix);
+		if (bigValue != null)
+			return out.append(bigValue.toString(radix));
+		if (radix == 10)
+			return out.append(measuredValue);
+		int start = out.length();
+		int ndx = start + formattedLength(measuredValue, radix);
+		out.setLength(ndx);
+		long n = measuredValue < 0 ? measuredValue : -measuredValue;
+		do {
+			long q = quotient(n, radix);
+			out.setCharAt(--ndx, DIGIT_CHARS[(int) (q * radix - n)]);
+			n = q;
+		} while (n != 0);
+		if (measuredValue < 0)
+			out.setCharAt(start, '-');
+		return out;
+	}
+
+	/*****
+	 * This method places the value in any radix from 2 to 36 into a CharBuffer,
+	 * from its position, which is then moved past the characters.
+	 * 
+	 * @param out   Where the characters are placed
+	 * @param radix The radix of the digits
+	 * @return the CharBuffer
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 * @throws BufferOverflowException if the characters do not fit, in which case
+	 *         nothing is placed
+	 */
+	public CharBuffer appendTo(CharBuffer out, int radix) {
+		checkRadix(radix);
+		if (bigValue != null)
+			return out.put(bigValue.toString(radix));
+		int length = formattedLength(measuredValue, radix);
+		if (out.remaining() < length)
+			throw new BufferOverflowException();
+		int start = out.position();
+		if (out.hasArray())
+			format(measuredValue, radix, out.array(), out.arrayOffset() + start);
+		else {
+			int ndx = start + length;
+			long n = measuredValue < 0 ? measuredValue : -measuredValue;
+			do {
+				long q = quotient(n, radix);
+				out.put(--ndx, DIGIT_CHARS[(int) (q * radix - n)]);
+				n = q;
+			} while (n != 0);
+			if (measuredValue < 0)
+				out.put(start, '-');
+		}
+		out.position(start + length);
+		return out;
+	}
+
+	/*****
+	 * This method places the value in any radix from 2 to 36 into a ByteBuffer, as
+	 * one ASCII byte for each character, from its position, which is then moved past
+	 * the characters. This is how the batch calculator and the calculator server
+	 * write their results, straight into their output buffers.
+	 * 
+	 * @param out   Where the characters are placed
+	 * @param radix The radix of the digits
+	 * @return the ByteBuffer
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 * @throws BufferOverflowException if the characters do not fit, in which case
+	 *         nothing is placed
+	 */
+	public ByteBuffer appendTo(ByteBuffer out, int radix) {
+		checkRadix(radix);
+		if (bigValue != null) {
+			String digits = bigValue.toString(radix);
+			int length = digits.length();
+			if (out.remaining() < length)
+				throw new BufferOverflowException();
+			for (int ndx = 0; ndx < length; ndx++)
+				out.put((byte) digits.charAt(ndx));
+			return out;
+		}
+		int length = formattedLength(measuredValue, radix);
+		if (out.remaining() < length)
+			throw new BufferOverflowException();
+		int start = out.position();
+		int ndx = start + length;
+		long n = measuredValue < 0 ? measuredValue : -measuredValue;
+		do {
+			long q = quotient(n, radix);
+			out.put(--ndx, (byte) DIGIT_CHARS[(int) (q * radix - n)]);
+			n = q;
+		} while (n != 0);
+		if (measuredValue < 0)
+			out.put(start, (byte) '-');
+		out.position(start + length);
+		return out;
+	}
+
+	/*****
+	 * This method fetches the number of characters the value is formatted into in
+	 * a radix from 2 to 36, so a caller can make sure there is room for them first.
+	 * The digits of an arbitrary precision value are not known without formatting
+	 * it, so for one of those it is the most there can be.
+	 * 
+	 * @param radix The radix of the digits
+	 * @return the number of characters, or an upper bound for an arbitrary
+	 *         precision value
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public int formattedLength(int radix) {
+		checkRadix(radix);
+		if (bigValue != null) {
+			int bits = bigValue.bitLength();							// Each digit holds at
+			int bitsPerDigit = 31 - Integer.numberOfLeadingZeros(radix);	// least this many bits
+			return bits / bitsPerDigit + 2;
+		}
+		return formattedLength(measuredValue, radix);
+	}
+
+	/*****
+	 * This method fetches the number of characters the value is formatted into by
+	 * formatUnsigned, in the same way as the method above.
+	 * 
+	 * @param radix The radix of the digits
+	 * @return the number of characters, or an upper bound for an arbitrary
+	 *         precision value
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public int formattedUnsignedLength(int radix) {
+		if (bigValue != null || measuredValue >= 0)
+			return formattedLength(radix);
+		checkRadix(radix);
+		return formattedLength(Long.divideUnsigned(measuredValue, radix), radix) + 1;
+	}
+
+	/*****
+	 * Package local method that formats a long in a radix that has been checked.
+	 * The digits are counted first, so they can be placed from right to left
+	 * straight into the array. A radix that is a power of two takes each digit off
+	 * with a mask and a shift, and any other with a multiplication, as the divisor
+	 * is prepared (for decimal, by the JIT compiler). The value is made negative
+	 * rather than positive, as the most negative long has no positive counterpart.
+	 */
+	static int format(long value, int radix, char[] buffer, int offset) {
+		long n = value < 0 ? value : -value;
+		int length = formattedLength(value, radix);
+		int ndx = offset + length;
+		int shift = RADIX_SHIFTS[radix];
+		if (shift != 0) {
+			long u = -n;												// Unsigned, so the most
+			long mask = radix - 1;										// negative long is 2^63
+			do {
+				buffer[--ndx] = DIGIT_CHARS[(int) (u & mask)];
+				u >>>= shift;
+			} while (u != 0);
+		}
+		else if (radix == 10) {
+			// The JIT compiler turns a division by a constant into a multiplication itself, and
+			// once the rest of the value fits in an int, int arithmetic is cheaper still
+			while (n < Integer.MIN_VALUE) {
+				long q = n / 10;
+				buffer[--ndx] = (char) ('0' + (q * 10 - n));
+				n = q;
+			}
+			int m = (int) n;
+			do {
+				int q = m / 10;
+				buffer[--ndx] = (char) ('0' + (q * 10 - m));
+				m = q;
+			} while (m != 0);
+		}
+		else {
+			FastDivisor divisor = RADIX_DIVISORS[radix];
+			do {
+				long q = divisor.quotient(n);
+				buffer[--ndx] = DIGIT_CHARS[(int) (q * radix - n)];
+				n = q;
+			} while (n != 0);
+		}
+		if (value < 0)
+			buffer[--ndx] = '-';
+		return length;
+	}
+
+	/*****
+	 * Private local method that takes one digit off a value that is zero or
+	 * negative, in the same way as the format method above, for the targets other
+	 * than an array.
+	 */
+	private static long quotient(long n, int radix) {
+		int shift = RADIX_SHIFTS[radix];
+		if (shift != 0)
+			return -(-n >>> shift);
+		if (radix == 10)
+			return n / 10;
+		return RADIX_DIVISORS[radix].quotient(n);
+	}
+
+	/*****
+	 * Private local method that counts the characters a long is formatted into.
+	 */
+	private static int formattedLength(long value, int radix) {
+		return digitCount(value < 0 ? value : -value, radix) + (value < 0 ? 1 : 0);
+	}
+
+	/*****
+	 * Private local method that counts the digits of a value that is zero or
+	 * negative.
+	 */
+	private static int digitCount(long n, int radix) {
+		int shift = RADIX_SHIFTS[radix];
+		if (shift != 0) {
+			int bits = 64 - Long.numberOfLeadingZeros(-n);
+			return bits == 0 ? 1 : (bits + shift - 1) / shift;
+		}
+		long[] powers = RADIX_POWERS[radix];
+		int count = 1;
+		while (count < powers.length && n <= -powers[count])
+			count++;
+		return count;
 	}
 
 	/*****
@@ -172,7 +980,20 @@ public class CalculatorValue {
 	 * updated
 	 */
 	public String debugToString() {
-		return "measuredValue = " + measuredValue + "\nerrorMessage = " + errorMessage + "\n";
+		return debugTo(new StringBuilder(64)).toString();
+	}
+
+	/*****
+	 * This debug method appends the same text as debugToString to a StringBuilder,
+	 * without creating any Strings along the way for a value that fits in a long.
+	 * 
+	 * @param out Where the text is appended
+	 * @return the StringBuilder
+	 */
+	public StringBuilder debugTo(StringBuilder out) {
+		out.append("measuredValue = ");
+		appendTo(out);
+		return out.append("\nerrorMessage = ").append(getErrorMessage()).append('\n');
 	}
 
 	/**********************************************************************************************
@@ -193,7 +1014,8 @@ public class CalculatorValue {
 	 */
 	public void add(CalculatorValue v) {
 		measuredValue += v.measuredValue;
-		errorMessage = "";
+		bigValue = null;
+		errorCode = ErrorCode.NONE;
 	}
 
 	/**********************************************************************************************
@@ -208,7 +1030,8 @@ public class CalculatorValue {
 	 */
 	public void sub(CalculatorValue v) {
 		measuredValue -= v.measuredValue;
-		errorMessage = "";
+		bigValue = null;
+		errorCode = ErrorCode.NONE;
 	}
 
 	/**********************************************************************************************
@@ -223,7 +1046,8 @@ public class CalculatorValue {
 	 */
 	public void mpy(CalculatorValue v) {
 		measuredValue *= v.measuredValue;
-		errorMessage = "";
+		bigValue = null;
+		errorCode = ErrorCode.NONE;
 	}
 
 	/**********************************************************************************************
@@ -238,10 +1062,126 @@ public class CalculatorValue {
 	 */
 	public void div(CalculatorValue v) {
 		if (v.measuredValue == 0) {
-			errorMessage = "Invalid Input";
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
 		} else {
 			measuredValue /= v.measuredValue;
-			errorMessage = "";
+			bigValue = null;
+			errorCode = ErrorCode.NONE;
+		}
+	}
+
+	/**********************************************************************************************
+	 * 
+	 * The checked computation methods
+	 * 
+	 **********************************************************************************************/
+
+	/**********************************************************************************************
+	 * The following methods are the checked versions of the computation methods
+	 * above. Rather than silently wrapping around when a result does not fit in a
+	 * long, they promote the result to a BigInteger, and a result that fits in a
+	 * long again is demoted back to one. As long as both operands and the result
+	 * fit in a long, the work is done with long arithmetic and the overflow test
+	 * alone, so the common case does not allocate anything.
+	 * 
+	 * The addition overflows only when both operands have the same sign and the
+	 * sign of the result differs from it.
+	 */
+	public void checkedAdd(CalculatorValue v) {
+		errorCode = ErrorCode.NONE;
+		if (bigValue == null && v.bigValue == null) {
+			long r = measuredValue + v.measuredValue;
+			if (((measuredValue ^ r) & (v.measuredValue ^ r)) >= 0) {
+				measuredValue = r;
+				return;
+			}
+		}
+		setValue(getBigValue().add(v.getBigValue()));
+	}
+
+	/**********************************************************************************************
+	 * The subtraction overflows only when the operands have different signs and the
+	 * sign of the result differs from that of the left operand.
+	 */
+	public void checkedSub(CalculatorValue v) {
+		errorCode = ErrorCode.NONE;
+		if (bigValue == null && v.bigValue == null) {
+			long r = measuredValue - v.measuredValue;
+			if (((measuredValue ^ v.measuredValue) & (measuredValue ^ r)) >= 0) {
+				measuredValue = r;
+				return;
+			}
+		}
+		setValue(getBigValue().subtract(v.getBigValue()));
+	}
+
+	/**********************************************************************************************
+	 * The multiplication fits in a long only when the high 64 bits of the full 128
+	 * bit product are nothing but copies of the sign bit of the low 64 bits.
+	 */
+	public void checkedMpy(CalculatorValue v) {
+		errorCode = ErrorCode.NONE;
+		if (bigValue == null && v.bigValue == null) {
+			long r = measuredValue * v.measuredValue;
+			if (Math.multiplyHigh(measuredValue, v.measuredValue) == (r >> 63)) {
+				measuredValue = r;
+				return;
+			}
+		}
+		setValue(getBigValue().multiply(v.getBigValue()));
+	}
+
+	/**********************************************************************************************
+	 * The division of two longs overflows only for the most negative long divided
+	 * by minus one. As with div, a divisor of zero leaves the value alone and sets
+	 * the error code.
+	 */
+	public void checkedDiv(CalculatorValue v) {
+		if (v.isZero()) {
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			return;
+		}
+		errorCode = ErrorCode.NONE;
+		if (bigValue == null && v.bigValue == null
+				&& (measuredValue != Long.MIN_VALUE || v.measuredValue != -1)) {
+			measuredValue /= v.measuredValue;
+			return;
+		}
+		setValue(getBigValue().divide(v.getBigValue()));
+	}
+
+	/**********************************************************************************************
+	 * This method applies one of the operations to this value and v, using the
+	 * checked computation methods when checked is true and the unchecked ones
+	 * otherwise, so that the classes that select the operation at run time share a
+	 * single place where the operations are dispatched.
+	 */
+	public void apply(Operation op, CalculatorValue v, boolean checked) {
+		switch (op) {
+		case ADD:
+			if (checked)
+				checkedAdd(v);
+			else
+				add(v);
+			break;
+		case SUB:
+			if (checked)
+				checkedSub(v);
+			else
+				sub(v);
+			break;
+		case MPY:
+			if (checked)
+				checkedMpy(v);
+			else
+				mpy(v);
+			break;
+		case DIV:
+			if (checked)
+				checkedDiv(v);
+			else
+				div(v);
+			break;
 		}
 	}
 }
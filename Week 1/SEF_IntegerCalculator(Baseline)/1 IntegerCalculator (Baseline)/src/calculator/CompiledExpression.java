@@ -0,0 +1,251 @@
+package calculator;
+
+/**
+ * <p> Title: CompiledExpression Class. </p>
+ *
+ * <p> Description: An expression translated from its tree into nested lambdas that compute
+ * directly on long values. Each node of the tree becomes one small lambda that calls the lambdas
+ * of its operands, so evaluating the expression is a chain of direct calls with no switch on the
+ * kind of node and no CalculatorValue objects, which the JIT compiler can inline into a single
+ * piece of straight line code. The common shapes, e.g. a variable combined with a constant, are
+ * given lambdas of their own so the constant is folded into the code.</p>
+ *
+ * <p> The lambdas give exactly the results of the Expression they were made from. A division by
+ * zero, or an overflow when the expression is overflow checked, throws an ArithmeticException out
+ * of the lambdas. The evaluate method catches it and evaluates the Expression tree instead, which
+ * produces the error code or the promoted result just as the business logic would. So the fast
+ * path is the only path used as long as the results fit in a long.</p>
+ *
+ * <p> The lambdas call each other as deeply as the tree is deep, so a tree deeper than MAX_DEPTH,
+ * e.g. that of a chain of hundreds of additions, is not translated. It is evaluated as a tree,
+ * which walks long chains without recursion.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 Deep trees left to the Expression
+ * @version 1.00	2026-10-17 Initial lambda compilation of expressions
+ *
+ */
+
+public final class CompiledExpression {
+
+	/**********
+	 * The form each node of the tree is translated into.
+	 */
+	interface Formula {
+		long apply(long[] values);
+	}
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The deepest tree that is translated into lambdas
+	static final int MAX_DEPTH = 200;
+
+	private final Expression expression;					// The tree the lambdas were made from
+	private final Formula formula;							// null if they could not be made
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor translates a compiled expression. An expression that has an error, that
+	 * has a constant too large for a long, or that is deeper than MAX_DEPTH has no lambdas and is
+	 * always evaluated as a tree.
+	 *
+	 * @param expression	The compiled expression
+	 */
+	public CompiledExpression(Expression expression) {
+		this.expression = expression;
+		this.formula = expression.getErrorCode() == ErrorCode.NONE
+				&& expression.getRoot().depth <= MAX_DEPTH
+				? translate(expression.getRoot(), expression.getOverflowChecked()) : null;
+	}
+
+	/**********
+	 * This method compiles the text of an expression and translates it.
+	 *
+	 * @param text				The text of the expression
+	 * @param overflowChecked	true if the operations are to be overflow checked
+	 * @return the translated expression
+	 */
+	public static CompiledExpression compile(String text, boolean overflowChecked) {
+		return new CompiledExpression(Expression.compile(text, overflowChecked));
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the expression the lambdas were made from.
+	 *
+	 * @return the compiled expression
+	 */
+	public Expression getExpression() {
+		return expression;
+	}
+
+	/**********
+	 * This getter fetches whether the expression has been translated into lambdas. When it has
+	 * not, the applyAsLong method may not be used.
+	 *
+	 * @return true if the expression has been translated
+	 */
+	public boolean isTranslated() {
+		return formula != null;
+	}
+
+
+	/**********************************************************************************************
+
+	Evaluation
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method evaluates the expression on long values with no allocation and no error codes.
+	 * It is meant for loops that evaluate one formula over many sets of values, and that handle a
+	 * failure by calling evaluate for the values that failed.
+	 *
+	 * @param values	The values of the variables, in the order in which they first appear
+	 * @return the result
+	 * @throws ArithmeticException if a divisor is zero, or if the expression is overflow checked and
+	 * 			a result does not fit in a long
+	 * @throws IllegalStateException if the expression has not been translated
+	 * @throws IllegalArgumentException if the number of values is not the number of variables
+	 */
+	public long applyAsLong(long... values) {
+		if (formula == null)
+			throw new IllegalStateException(expression.toString());
+		if (values.length != expression.getVariableCount())
+			throw new IllegalArgumentException("Expected " + expression.getVariableCount()
+					+ " values, not " + values.length);
+		return formula.apply(values);
+	}
+
+	/**********
+	 * This method evaluates the expression on long values, giving exactly the result the Expression
+	 * itself would give.
+	 *
+	 * @param values	The values of the variables, in the order in which they first appear
+	 * @return a new value holding the result
+	 */
+	public CalculatorValue evaluate(long... values) {
+		if (formula != null && values.length == expression.getVariableCount())
+			try {
+				return new CalculatorValue(formula.apply(values));
+			} catch (ArithmeticException e) {
+				// Let the tree work out the error code or the promoted result
+			}
+		return expression.evaluate(values);
+	}
+
+	/**********
+	 * This is the default toString method.
+	 */
+	public String toString() {
+		return expression.toString();
+	}
+
+
+	/**********************************************************************************************
+
+	The translation
+
+	**********************************************************************************************/
+
+	/**********
+	 * Private local method that translates a node and, recursively, its operands. It returns null
+	 * if some part of the node cannot be computed on long values.
+	 */
+	private static Formula translate(Expression.Node node, boolean checked) {
+		if (node instanceof Expression.Constant) {
+			CalculatorValue v = ((Expression.Constant) node).value;
+			if (!v.isLong())
+				return null;
+			long c = v.measuredValue;
+			return values -> c;
+		}
+		if (node instanceof Expression.Variable) {
+			int ndx = ((Expression.Variable) node).index;
+			return values -> values[ndx];
+		}
+		if (node instanceof Expression.Negate) {
+			Formula operand = translate(((Expression.Negate) node).operand, checked);
+			if (operand == null)
+				return null;
+			return checked ? values -> Math.negateExact(operand.apply(values))
+					: values -> -operand.apply(values);
+		}
+		Expression.Binary b = (Expression.Binary) node;
+		if (b.right instanceof Expression.Constant && ((Expression.Constant) b.right).value.isLong()) {
+			Formula left = translate(b.left, checked);				// The constant is built into
+			if (left == null)										// the lambda
+				return null;
+			return withConstant(b.op, left, ((Expression.Constant) b.right).value.measuredValue,
+					checked);
+		}
+		Formula left = translate(b.left, checked);
+		Formula right = translate(b.right, checked);
+		if (left == null || right == null)
+			return null;
+		switch (b.op) {
+		case ADD:
+			return checked ? values -> Math.addExact(left.apply(values), right.apply(values))
+					: values -> left.apply(values) + right.apply(values);
+		case SUB:
+			return checked ? values -> Math.subtractExact(left.apply(values), right.apply(values))
+					: values -> left.apply(values) - right.apply(values);
+		case MPY:
+			return checked ? values -> Math.multiplyExact(left.apply(values), right.apply(values))
+					: values -> left.apply(values) * right.apply(values);
+		default:
+			return checked ? values -> divideExact(left.apply(values), right.apply(values))
+					: values -> left.apply(values) / right.apply(values);
+		}
+	}
+
+	/**********
+	 * Private local method that translates an operation whose right operand is a constant.
+	 */
+	private static Formula withConstant(Operation op, Formula left, long c, boolean checked) {
+		switch (op) {
+		case ADD:
+			return checked ? values -> Math.addExact(left.apply(values), c)
+					: values -> left.apply(values) + c;
+		case SUB:
+			return checked ? values -> Math.subtractExact(left.apply(values), c)
+					: values -> left.apply(values) - c;
+		case MPY:
+			return checked ? values -> Math.multiplyExact(left.apply(values), c)
+					: values -> left.apply(values) * c;
+		default:
+			if (c == 0 || (checked && c == -1))						// Leave these to the general
+				return values -> divideExact(left.apply(values), c);// form of the division
+			return values -> left.apply(values) / c;
+		}
+	}
+
+	/**********
+	 * Private local method that divides and throws an ArithmeticException in the one case in which
+	 * the quotient does not fit in a long.
+	 */
+	private static long divideExact(long a, long b) {
+		if (a == Long.MIN_VALUE && b == -1)
+			throw new ArithmeticException("long overflow");
+		return a / b;
+	}
+}
@@ -0,0 +1,98 @@
+package calculator;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * <p> Title: DecimalDigits Class. </p>
+ *
+ * <p> Description: The conversion of long strings of decimal digits into arbitrary precision
+ * integers for the big integer mode of the calculator. The BigInteger String constructor takes
+ * time proportional to the square of the number of digits, which dominates everything else once
+ * operands have hundreds of thousands of digits. This class splits the digits in two, converts
+ * the halves recursively, and combines them with one multiplication by a power of ten. Since the
+ * BigInteger multiplication switches to the Karatsuba and Toom-Cook 3 algorithms as the numbers
+ * grow, the conversion as a whole is sub-quadratic.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial divide and conquer decimal conversion
+ *
+ */
+
+final class DecimalDigits {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// Runs of digits up to this length are converted directly by the BigInteger constructor
+	static final int LEAF_DIGITS = 512;
+
+	// The powers of ten used to combine the halves: POWERS[j] is 10 to the (LEAF_DIGITS << j).
+	// The array only grows, and is replaced rather than changed, so it can be read without locking.
+	private static volatile BigInteger[] powers = {BigInteger.TEN.pow(LEAF_DIGITS)};
+
+	/**********
+	 * There are no instances of this class.
+	 */
+	private DecimalDigits() {
+	}
+
+	/**********************************************************************************************
+
+	The conversion
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method converts the decimal digits of s from position start up to, but not including,
+	 * position end into a non-negative integer. The caller must have checked that all of the
+	 * characters are the digits '0' through '9' and that there is at least one of them.
+	 *
+	 * @param s		The characters holding the digits
+	 * @param start	The position of the first digit
+	 * @param end	The position just past the last digit
+	 * @return the value of the digits
+	 */
+	static BigInteger toBigInteger(CharSequence s, int start, int end) {
+		int length = end - start;
+		if (length <= LEAF_DIGITS)
+			return new BigInteger(s.subSequence(start, end).toString());
+
+		// Split off the largest block of LEAF_DIGITS times a power of two digits that leaves at
+		// least one digit for the high half, so the halves are never more than two to one
+		int j = 0;
+		while ((LEAF_DIGITS << (j + 1)) < length)
+			j++;
+		int split = end - (LEAF_DIGITS << j);
+		BigInteger high = toBigInteger(s, start, split);
+		BigInteger low = toBigInteger(s, split, end);
+		return high.multiply(power(j)).add(low);
+	}
+
+	/**********
+	 * Private local method that fetches 10 to the (LEAF_DIGITS << j), computing any of the powers
+	 * that are not yet known by squaring the largest one that is.
+	 */
+	private static BigInteger power(int j) {
+		BigInteger[] p = powers;
+		if (j < p.length)
+			return p[j];
+		synchronized (DecimalDigits.class) {
+			p = powers;
+			if (j >= p.length) {
+				int known = p.length;
+				p = Arrays.copyOf(p, j + 1);
+				for (int ndx = known; ndx <= j; ndx++)
+					p[ndx] = p[ndx - 1].multiply(p[ndx - 1]);
+				powers = p;
+			}
+			return p[j];
+		}
+	}
+}
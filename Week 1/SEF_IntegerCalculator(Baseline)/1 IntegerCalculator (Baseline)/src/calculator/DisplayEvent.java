@@ -0,0 +1,49 @@
+package calculator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p> Title: DisplayEvent Class. </p>
+ *
+ * <p> Description: The Flight Recorder event for the update of the result field and the result
+ * labels of the user interface, on the JavaFX application thread. A long one shows up next to
+ * the garbage collections and compilations that held up the thread. It is disabled by default.
+ * </p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial Flight Recorder events
+ *
+ */
+
+@Name("calculator.Display")
+@Label("Display Result")
+@Category("Calculator")
+@Description("The update of the result field and its labels in the user interface")
+@Enabled(false)
+@StackTrace(false)
+final class DisplayEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Preview")
+	@Description("Whether the result is a live preview rather than a button press")
+	boolean preview;
+
+	@Label("Characters")
+	@Description("The number of characters in the result displayed")
+	int length;
+
+	@Label("Error Code")
+	@Description("The error code displayed in place of a result, zero if there is none")
+	int errorCode;
+}
@@ -0,0 +1,141 @@
+package calculator;
+
+/**
+ * <p> Title: ErrorCode Class. </p>
+ *
+ * <p> Description: The error codes of the calculator. Calculator values and the business logic
+ * keep an int error code rather than an error message String, so checking for an error is a
+ * single comparison with NONE and each value only needs room for an int. The messages are looked
+ * up with the message method only when they are to be displayed, e.g. by the user interface.</p>
+ *
+ * <p> The setErrorMessage methods of the other classes still accept any String. A message that
+ * is not one of the standard ones has the code OTHER, and the class that was given it keeps the
+ * String itself next to the code, so it can be displayed again. The codes are the same in every
+ * run, so they may be kept beyond the process, e.g. in the history log.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.03	2026-10-17 Messages that are not standard kept by their owners, not in a table
+ * @version 1.02	2026-10-17 The OTHER code, and a bounded table of the codes of the process
+ * @version 1.01	2026-10-17 Names of the codes, for reporting
+ * @version 1.00	2026-10-17 Initial error code model
+ *
+ */
+
+public final class ErrorCode {
+
+	/**********************************************************************************************
+
+	The standard error codes
+
+	**********************************************************************************************/
+
+	public static final int NONE = 0;							// There is no error
+	public static final int INPUT_EMPTY = 1;					// There was no input to convert
+	public static final int INVALID_VALUE = 2;					// The input is not a valid value
+	public static final int EXCESS_DATA = 3;					// Something follows a valid value
+	public static final int DIVIDE_BY_ZERO = 4;					// The divisor is zero
+	public static final int OVERFLOW = 5;						// The result does not fit
+	public static final int UNDEFINED_OPERAND = 6;				// An operand has not been given
+	public static final int SYNTAX_ERROR = 7;					// An expression is not well formed
+	public static final int OTHER = 8;							// Any error but the ones above
+
+	// The messages of the standard codes, indexed by the code
+	private static final String[] STANDARD_MESSAGES = {
+			"",
+			"***Error*** Input is empty",
+			"***Error*** Invalid value",
+			"***Error*** Excess data",
+			"Invalid Input",
+			"***Error*** Overflow",
+			"No value found",
+			"***Error*** Invalid expression",
+			"***Error*** Other error"
+	};
+
+	// The names of the standard codes, indexed by the code, used where the codes are reported
+	// rather than displayed (e.g. by the metrics)
+	private static final String[] STANDARD_NAMES = {
+			"NONE", "INPUT_EMPTY", "INVALID_VALUE", "EXCESS_DATA", "DIVIDE_BY_ZERO", "OVERFLOW",
+			"UNDEFINED_OPERAND", "SYNTAX_ERROR", "OTHER"
+	};
+
+	// The number of standard codes; any code at or above this one is not a code at all
+	static final int STANDARD_CODES = STANDARD_NAMES.length;
+
+	/**********
+	 * There are no instances of this class.
+	 */
+	private ErrorCode() {
+	}
+
+	/**********************************************************************************************
+
+	Mapping codes to messages and messages to codes
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method fetches the message to be displayed for an error code.
+	 *
+	 * @param code	The error code
+	 * @return the message, which is an empty String for NONE or a code that is not standard
+	 */
+	public static String message(int code) {
+		return code >= 0 && code < STANDARD_CODES ? STANDARD_MESSAGES[code] : "";
+	}
+
+	/**********
+	 * This method fetches the name of an error code, which is the name of its constant for a
+	 * standard code, and "ERROR_" followed by the code for any other int.
+	 *
+	 * @param code	The error code
+	 * @return the name of the code
+	 */
+	public static String name(int code) {
+		return code >= 0 && code < STANDARD_CODES ? STANDARD_NAMES[code] : "ERROR_" + code;
+	}
+
+	/**********
+	 * This method fetches the error code for a message. The empty String is NONE, the message of a
+	 * standard code is that code, and any other message is OTHER, whose owner keeps the message.
+	 *
+	 * @param message	The error message
+	 * @return the error code for the message
+	 */
+	public static int code(String message) {
+		if (message.length() == 0)
+			return NONE;
+		for (int code = 1; code < STANDARD_CODES; code++)
+			if (STANDARD_MESSAGES[code].equals(message))
+				return code;
+		return OTHER;
+	}
+
+	/**********
+	 * This method fetches the message to be displayed for an error code and the message its owner
+	 * was given, which is that message for OTHER, when there is one, and the standard one for any
+	 * other code.
+	 *
+	 * @param code		The error code
+	 * @param message	The message the owner was given, or null
+	 * @return the message
+	 */
+	public static String message(int code, String message) {
+		return code == OTHER && message != null ? message : message(code);
+	}
+
+	/**********
+	 * This method fetches the standard code for an error code, which is the code itself for a
+	 * standard code, and OTHER for any other int. It is the code to keep where a code outlives
+	 * the process, or to count by.
+	 *
+	 * @param code	The error code
+	 * @return the standard code
+	 */
+	public static int standard(int code) {
+		return code >= 0 && code < STANDARD_CODES ? code : OTHER;
+	}
+}
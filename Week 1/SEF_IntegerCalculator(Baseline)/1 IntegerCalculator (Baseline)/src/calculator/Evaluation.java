@@ -0,0 +1,235 @@
+package calculator;
+
+import java.math.BigInteger;
+
+/**
+ * <p> Title: Evaluation Class. </p>
+ * 
+ * <p> Description: The immutable outcome of evaluating one binary operation with the Evaluator
+ * class. It holds the same information the BusinessLogic class leaves in its attributes after
+ * an operation (the operand error messages, whether the operands are defined, the result, and
+ * the result error message), but since it can never change, it can be handed from one thread to
+ * another without any locking. The errors are kept as ErrorCodes, which are only turned into
+ * messages when a message is asked for.</p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.02	2026-10-17 Results that are fractions
+ * @version 1.01	2026-10-17 The result in any radix from 2 to 36
+ * @version 1.00	2026-10-17 Initial immutable evaluation result
+ * 
+ */
+
+public final class Evaluation {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	private final Operation operation;
+	private final int operand1Error;
+	private final boolean operand1Defined;
+	private final int operand2Error;
+	private final boolean operand2Defined;
+	private final CalculatorValue value;			// null when there is no result; it is
+													// never changed once it is here
+	private final String result;
+	private final int resultError;
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor is used by the Evaluator class, which is the only class that creates
+	 * evaluations.
+	 */
+	Evaluation(Operation operation, int operand1Error, boolean operand1Defined, int operand2Error,
+			boolean operand2Defined, CalculatorValue value, String result, int resultError) {
+		this.operation = operation;
+		this.operand1Error = operand1Error;
+		this.operand1Defined = operand1Defined;
+		this.operand2Error = operand2Error;
+		this.operand2Defined = operand2Defined;
+		this.value = value;
+		this.result = result;
+		this.resultError = resultError;
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the operation that was evaluated.
+	 * 
+	 * @return the operation
+	 */
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**********
+	 * This getter fetches the String explaining the error in operand1, if there is one, otherwise
+	 * an empty String.
+	 * 
+	 * @return an error message or an empty String if there was no error
+	 */
+	public String getOperand1ErrorMessage() {
+		return ErrorCode.message(operand1Error);
+	}
+
+	/**********
+	 * This getter fetches the ErrorCode of the error in operand1.
+	 * 
+	 * @return an error code or ErrorCode.NONE if there was no error
+	 */
+	public int getOperand1ErrorCode() {
+		return operand1Error;
+	}
+
+	/**********
+	 * This getter fetches whether operand1 was defined and had no error.
+	 * 
+	 * @return true if the operand is defined and has no error, else false
+	 */
+	public boolean getOperand1Defined() {
+		return operand1Defined;
+	}
+
+	/**********
+	 * This getter fetches the String explaining the error in operand2, if there is one, otherwise
+	 * an empty String.
+	 * 
+	 * @return an error message or an empty String if there was no error
+	 */
+	public String getOperand2ErrorMessage() {
+		return ErrorCode.message(operand2Error);
+	}
+
+	/**********
+	 * This getter fetches the ErrorCode of the error in operand2.
+	 * 
+	 * @return an error code or ErrorCode.NONE if there was no error
+	 */
+	public int getOperand2ErrorCode() {
+		return operand2Error;
+	}
+
+	/**********
+	 * This getter fetches whether operand2 was defined and had no error.
+	 * 
+	 * @return true if the operand is defined and has no error, else false
+	 */
+	public boolean getOperand2Defined() {
+		return operand2Defined;
+	}
+
+	/**********
+	 * This getter fetches the String explaining why the operation could not produce a result, if
+	 * there is one, otherwise an empty String.
+	 * 
+	 * @return an error message or an empty String if there was no error
+	 */
+	public String getResultErrorMessage() {
+		return ErrorCode.message(resultError);
+	}
+
+	/**********
+	 * This getter fetches the ErrorCode of the error that kept the operation from producing a
+	 * result.
+	 * 
+	 * @return an error code or ErrorCode.NONE if there was no error
+	 */
+	public int getResultErrorCode() {
+		return resultError;
+	}
+
+	/**********
+	 * This getter reports whether the evaluation produced a result. It does not when either of the
+	 * operands is not defined or when the operation itself failed (e.g. division by zero).
+	 * 
+	 * @return true if there is a result
+	 */
+	public boolean hasResult() {
+		return result.length() > 0;
+	}
+
+	/**********
+	 * This getter fetches the value of the result. It is zero when there is no result, the low 64
+	 * bits of the result when an overflow checked result does not fit in a long, and the
+	 * numerator when the result is a fraction.
+	 * 
+	 * @return the value of the result
+	 */
+	public long getValue() {
+		return value != null ? value.measuredValue : 0;
+	}
+
+	/**********
+	 * This getter fetches whether the value of the result fits in a long, which is always the case
+	 * unless the evaluator is overflow checked or the result is a fraction.
+	 * 
+	 * @return true if getValue returns the whole result
+	 */
+	public boolean fitsInLong() {
+		return value == null || value.isLong();
+	}
+
+	/**********
+	 * This getter fetches the value of the result as an arbitrary precision integer, or the
+	 * numerator when the result is a fraction.
+	 * 
+	 * @return the value of the result
+	 */
+	public BigInteger getBigValue() {
+		return value != null ? value.getBigValue() : BigInteger.ZERO;
+	}
+
+	/**********
+	 * This getter fetches the result as a String, the way the BusinessLogic operations return it.
+	 * 
+	 * @return the result, or an empty String if there is no result
+	 */
+	public String getResult() {
+		return result;
+	}
+
+	/**********
+	 * This getter fetches the result formatted in any radix from 2 to 36, the way the
+	 * BusinessLogic operations return it once its radix is set.
+	 * 
+	 * @param radix	The radix of the digits
+	 * @return the result, or an empty String if there is no result
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public String getResult(int radix) {
+		if (radix == 10 || !hasResult())
+			return result;
+		return value.toString(radix);
+	}
+
+
+	/**********************************************************************************************
+
+	The toString() Method
+
+	**********************************************************************************************/
+
+	/**********
+	 * This toString method returns the result, the same way the BusinessLogic toString does.
+	 */
+	public String toString() {
+		return result;
+	}
+}
@@ -0,0 +1,137 @@
+package calculator;
+
+/**
+ * <p> Title: Evaluator Class. </p>
+ * 
+ * <p> Description: A stateless version of the business logic of the calculator. The
+ * BusinessLogic class keeps its operands, its result, and their error messages in attributes,
+ * so an instance can only be used by one thread at a time. This class takes the operation and
+ * both of its operands as parameters and returns everything it computes as an immutable
+ * Evaluation, so it has no attributes that change and a single instance can be used by any
+ * number of threads at the same time without locking.</p>
+ * 
+ * <p> The error semantics are those of the BusinessLogic class: an empty operand has no error
+ * but is not defined, an operand with invalid input has the error message produced by the
+ * CalculatorValue class, and a result is computed only when both operands are defined.</p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.03	2026-10-17 Results that overflow
+ * @version 1.02	2026-10-17 Operands that are fractions
+ * @version 1.01	2026-10-17 Optional result cache
+ * @version 1.00	2026-10-17 Initial thread-safe stateless evaluation API
+ * 
+ */
+
+public final class Evaluator {
+
+	// When this is true, the checked computation methods are used, so a result that does not fit
+	// in a long is promoted rather than wrapped. It is fixed when the evaluator is created.
+	private final boolean overflowChecked;
+
+	// When this is not null, the evaluations of defined operands are looked up in, and added to,
+	// this cache. The cache is thread-safe and the evaluations are immutable, so the evaluator
+	// still needs no locking of its own.
+	private final ResultCache<OperationKey, Evaluation> resultCache;
+
+	/**********
+	 * There is nothing to initialize, as the evaluator has no state. The operations wrap around
+	 * on overflow, as they do in the BusinessLogic class by default.
+	 */
+	public Evaluator() {
+		this(false);
+	}
+
+	/**********
+	 * This constructor creates an evaluator whose operations are overflow checked when checked is
+	 * true.
+	 * 
+	 * @param checked	true for the overflow checked computation methods
+	 */
+	public Evaluator(boolean checked) {
+		this(checked, null);
+	}
+
+	/**********
+	 * This constructor also places a cache in front of the operations. The same cache may be
+	 * shared by several evaluators, as long as they are all checked or all unchecked.
+	 * 
+	 * @param checked	true for the overflow checked computation methods
+	 * @param cache		The cache of evaluations, or null for none
+	 */
+	public Evaluator(boolean checked, ResultCache<OperationKey, Evaluation> cache) {
+		overflowChecked = checked;
+		resultCache = cache;
+	}
+
+	/**********
+	 * This method converts both operands from Strings and, if they are both defined, applies the
+	 * operation to them.
+	 * 
+	 * @param op		The operation to perform
+	 * @param operand1	The text of the first operand
+	 * @param operand2	The text of the second operand
+	 * @return the evaluation
+	 */
+	public Evaluation evaluate(Operation op, String operand1, String operand2) {
+		CalculatorValue left = new CalculatorValue();
+		CalculatorValue right = new CalculatorValue();
+		boolean operand1Defined = operand1.length() > 0 && left.parse(operand1, 0, operand1.length());
+		boolean operand2Defined = operand2.length() > 0 && right.parse(operand2, 0, operand2.length());
+		int operand1Error = operand1.length() > 0 ? left.errorCode : ErrorCode.NONE;
+		int operand2Error = operand2.length() > 0 ? right.errorCode : ErrorCode.NONE;
+		if (!operand1Defined || !operand2Defined)
+			return new Evaluation(op, operand1Error, operand1Defined, operand2Error, operand2Defined,
+					null, "", ErrorCode.NONE);
+		return compute(op, left, right);
+	}
+
+	/**********
+	 * This method applies the operation to two operands that are already calculator values. The
+	 * operands are not changed. An operand that carries an error code is not defined. The
+	 * operands may be fractions (RationalValues), in which case the result is exact and is not
+	 * cached.
+	 * 
+	 * @param op		The operation to perform
+	 * @param operand1	The first operand
+	 * @param operand2	The second operand
+	 * @return the evaluation
+	 */
+	public Evaluation evaluate(Operation op, CalculatorValue operand1, CalculatorValue operand2) {
+		int operand1Error = operand1.errorCode;
+		int operand2Error = operand2.errorCode;
+		boolean operand1Defined = operand1Error == ErrorCode.NONE;
+		boolean operand2Defined = operand2Error == ErrorCode.NONE;
+		if (!operand1Defined || !operand2Defined)
+			return new Evaluation(op, operand1Error, operand1Defined, operand2Error, operand2Defined,
+					null, "", ErrorCode.NONE);
+		return compute(op, operand1.copy(), operand2);
+	}
+
+	/**********
+	 * Private local method that fetches the evaluation of two defined operands from the cache, if
+	 * there is one, or computes it. The left operand may be replaced by the result.
+	 */
+	private Evaluation compute(Operation op, CalculatorValue left, CalculatorValue right) {
+		if (resultCache == null || !left.cacheable() || !right.cacheable())
+			return apply(op, left, right);
+		return resultCache.get(new OperationKey(op, left, right, overflowChecked),
+				(key) -> apply(op, left, right));
+	}
+
+	/**********
+	 * Private local method that applies the operation to two defined operands using the
+	 * CalculatorValue computation methods. The left operand is replaced by the result.
+	 */
+	private Evaluation apply(Operation op, CalculatorValue left, CalculatorValue right) {
+		left.apply(op, right, overflowChecked);
+		if (left.errorCode != ErrorCode.NONE)					// There is no result when the
+			return new Evaluation(op, ErrorCode.NONE, true, ErrorCode.NONE, true, null, "",
+					left.errorCode);							// divisor is zero or the result
+																// overflows, just the code
+		return new Evaluation(op, ErrorCode.NONE, true, ErrorCode.NONE, true, left, left.toString(),
+				left.errorCode);
+	}
+}
@@ -0,0 +1,417 @@
+package calculator;
+
+import java.util.List;
+
+/**
+ * <p> Title: Expression Class. </p>
+ *
+ * <p> Description: A compiled infix expression, such as "(a + 2) * b - 7 / c". The text is parsed
+ * once, by the ExpressionParser class, into a tree of nodes in which every part that does not
+ * depend on a variable has already been computed (constant folding). The tree is then evaluated
+ * as often as needed, for different values of the variables, without parsing the text again.</p>
+ *
+ * <p> The evaluation is done with the CalculatorValue arithmetic, so an expression gives the same
+ * results and the same errors as the business logic would give for the same operations one at a
+ * time. An expression is compiled either with or without overflow checking; the constants are
+ * folded the same way, so folding never changes a result.</p>
+ *
+ * <p> An Expression is immutable once it is compiled, so one instance may be evaluated by any
+ * number of threads at the same time.</p>
+ *
+ * <p> A long chain of operations of the same precedence, e.g. "1 + x + x + ... + x", makes a
+ * tree that is as deep as the chain is long, all down the left operands. The tree is walked
+ * down those in a loop rather than by recursion, so the length of a chain is only limited by
+ * memory; the parser limits how deeply the parentheses may be nested.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 Long chains of operations walked without recursion
+ * @version 1.00	2026-10-17 Initial expression compilation and evaluation
+ *
+ */
+
+public final class Expression {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	private final String text;							// The text the expression came from
+	private final Node root;							// The tree, or null if it has an error
+	private final String[] variables;					// The variable names, in order of appearance
+	private final boolean overflowChecked;				// true if the operations are checked
+	private final int errorCode;						// Why the text could not be compiled
+	private final int errorPosition;					// Where in the text the error was found
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor is used by the parser once the text has been compiled, or has failed to be.
+	 */
+	Expression(String text, Node root, List<String> variables, boolean overflowChecked,
+			int errorCode, int errorPosition) {
+		this.text = text;
+		this.root = root;
+		this.variables = variables.toArray(new String[variables.size()]);
+		this.overflowChecked = overflowChecked;
+		this.errorCode = errorCode;
+		this.errorPosition = errorPosition;
+	}
+
+	/**********
+	 * This method compiles the text of an expression with unchecked operations, whose results wrap
+	 * around as the operations on long values do.
+	 *
+	 * @param text	The text of the expression
+	 * @return the compiled expression, whose error code is not NONE if the text is not valid
+	 */
+	public static Expression compile(String text) {
+		return compile(text, false);
+	}
+
+	/**********
+	 * This method compiles the text of an expression. The expression is made up of integer
+	 * literals, variable names (a letter followed by letters, digits, and underscores), the binary
+	 * operators +, -, *, and /, unary + and -, and parentheses. The * and / operators take
+	 * precedence over + and -, and operators of the same precedence are applied from left to
+	 * right.
+	 *
+	 * @param text				The text of the expression
+	 * @param overflowChecked	true if the operations are to be overflow checked, in which case
+	 * 							literals and results of any size are allowed
+	 * @return the compiled expression, whose error code is not NONE if the text is not valid
+	 */
+	public static Expression compile(String text, boolean overflowChecked) {
+		return new ExpressionParser(text, overflowChecked).parse();
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the text the expression was compiled from.
+	 *
+	 * @return the text of the expression
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**********
+	 * This getter fetches the error code that says why the text could not be compiled, which is
+	 * NONE when it was.
+	 *
+	 * @return the error code
+	 */
+	public int getErrorCode() {
+		return errorCode;
+	}
+
+	/**********
+	 * This getter fetches the message for the compilation error code.
+	 *
+	 * @return the error message, which is empty when the text was compiled
+	 */
+	public String getErrorMessage() {
+		return ErrorCode.message(errorCode);
+	}
+
+	/**********
+	 * This getter fetches the position in the text at which the compilation error was found.
+	 *
+	 * @return the position of the error, or -1 when the text was compiled
+	 */
+	public int getErrorPosition() {
+		return errorPosition;
+	}
+
+	/**********
+	 * This getter fetches whether the operations of the expression are overflow checked.
+	 *
+	 * @return true if the operations are overflow checked
+	 */
+	public boolean getOverflowChecked() {
+		return overflowChecked;
+	}
+
+	/**********
+	 * This getter fetches the number of distinct variables in the expression, which is the number
+	 * of values the evaluate method expects.
+	 *
+	 * @return the number of variables
+	 */
+	public int getVariableCount() {
+		return variables.length;
+	}
+
+	/**********
+	 * This getter fetches the name of one of the variables. The variables are numbered in the order
+	 * in which they first appear in the text, starting with zero.
+	 *
+	 * @param ndx	The number of the variable
+	 * @return the name of the variable
+	 */
+	public String getVariableName(int ndx) {
+		return variables[ndx];
+	}
+
+	/**********
+	 * This getter fetches whether the expression has been folded down to a single constant, in
+	 * which case every evaluation gives the same result.
+	 *
+	 * @return true if the expression is a constant
+	 */
+	public boolean isConstant() {
+		return root instanceof Constant;
+	}
+
+	/**********
+	 * This getter fetches the tree of the compiled expression, for the classes that translate it
+	 * into some other form.
+	 */
+	Node getRoot() {
+		return root;
+	}
+
+
+	/**********************************************************************************************
+
+	Evaluation
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method evaluates the expression. The values are given to the variables in the order in
+	 * which the variables first appear in the text. The result holds an error code if the
+	 * expression was not compiled, if the wrong number of values is given, if one of the values has
+	 * an error, or if an operation fails, e.g. by dividing by zero.
+	 *
+	 * @param values	The values of the variables
+	 * @return a new value holding the result
+	 */
+	public CalculatorValue evaluate(CalculatorValue... values) {
+		if (root == null)
+			return failure(errorCode);
+		if (values.length != variables.length)
+			return failure(ErrorCode.UNDEFINED_OPERAND);
+		return root.evaluate(values, overflowChecked);
+	}
+
+	/**********
+	 * This method evaluates an expression that has no variables.
+	 *
+	 * @return a new value holding the result
+	 */
+	public CalculatorValue evaluate() {
+		return evaluate(new CalculatorValue[0]);
+	}
+
+	/**********
+	 * This method evaluates the expression with long values for the variables.
+	 *
+	 * @param values	The values of the variables
+	 * @return a new value holding the result
+	 */
+	public CalculatorValue evaluate(long... values) {
+		CalculatorValue[] v = new CalculatorValue[values.length];
+		for (int ndx = 0; ndx < values.length; ndx++)
+			v[ndx] = new CalculatorValue(values[ndx]);
+		return evaluate(v);
+	}
+
+	/**********
+	 * Private local method that returns a new value that holds nothing but an error code.
+	 */
+	private static CalculatorValue failure(int code) {
+		CalculatorValue v = new CalculatorValue(0);
+		v.setErrorCode(code);
+		return v;
+	}
+
+	/**********
+	 * This is the default toString method. It shows the compiled tree fully parenthesized, so the
+	 * effect of the precedence rules and of the constant folding can be seen.
+	 */
+	public String toString() {
+		if (root == null)
+			return getErrorMessage() + " at position " + errorPosition;
+		StringBuilder s = new StringBuilder();
+		root.appendTo(s);
+		return s.toString();
+	}
+
+
+	/**********************************************************************************************
+
+	The nodes of the tree
+
+	**********************************************************************************************/
+
+	/**********
+	 * A node of the tree. Evaluating a node always creates a new value, so nodes can be shared by
+	 * any number of evaluations.
+	 */
+	abstract static class Node {
+		final int depth;								// The number of levels, this one included
+
+		Node(int depth) {
+			this.depth = depth;
+		}
+
+		/**********
+		 * This method computes the value of the node for the given values of the variables.
+		 */
+		abstract CalculatorValue evaluate(CalculatorValue[] values, boolean checked);
+
+		/**********
+		 * This method appends the node, fully parenthesized, to s.
+		 */
+		abstract void appendTo(StringBuilder s);
+	}
+
+	/**********
+	 * A literal, or the result of folding an operation whose operands are all constants.
+	 */
+	static final class Constant extends Node {
+		final CalculatorValue value;					// Never changed once the node is built
+
+		Constant(CalculatorValue value) {
+			super(1);
+			this.value = value;
+		}
+
+		CalculatorValue evaluate(CalculatorValue[] values, boolean checked) {
+			return new CalculatorValue(value);
+		}
+
+		void appendTo(StringBuilder s) {
+			s.append(value.toString());
+		}
+	}
+
+	/**********
+	 * A reference to one of the variables.
+	 */
+	static final class Variable extends Node {
+		final int index;								// The number of the variable
+		final String name;
+
+		Variable(int index, String name) {
+			super(1);
+			this.index = index;
+			this.name = name;
+		}
+
+		CalculatorValue evaluate(CalculatorValue[] values, boolean checked) {
+			return new CalculatorValue(values[index]);
+		}
+
+		void appendTo(StringBuilder s) {
+			s.append(name);
+		}
+	}
+
+	/**********
+	 * A unary minus, which is computed as zero minus the operand so it overflows the same way a
+	 * subtraction does.
+	 */
+	static final class Negate extends Node {
+		final Node operand;
+
+		Negate(Node operand) {
+			super(operand.depth + 1);
+			this.operand = operand;
+		}
+
+		CalculatorValue evaluate(CalculatorValue[] values, boolean checked) {
+			CalculatorValue v = operand.evaluate(values, checked);
+			if (v.getErrorCode() != ErrorCode.NONE)
+				return v;
+			CalculatorValue r = new CalculatorValue(0);
+			r.apply(Operation.SUB, v, checked);
+			return r;
+		}
+
+		void appendTo(StringBuilder s) {
+			s.append("(-");
+			operand.appendTo(s);
+			s.append(')');
+		}
+	}
+
+	/**********
+	 * One of the binary operations. An error in the left operand is reported before an error in
+	 * the right one, as the business logic does for operand1 and operand2. The left operands of a
+	 * chain of operations are walked in a loop, from the bottom of the chain up, so only the right
+	 * operands, which are as deep as the parentheses are nested, are evaluated by recursion.
+	 */
+	static final class Binary extends Node {
+		final Operation op;
+		final Node left;
+		final Node right;
+
+		Binary(Operation op, Node left, Node right) {
+			super(Math.max(left.depth, right.depth) + 1);
+			this.op = op;
+			this.left = left;
+			this.right = right;
+		}
+
+		CalculatorValue evaluate(CalculatorValue[] values, boolean checked) {
+			Binary[] chain = chain();
+			CalculatorValue l = chain[0].left.evaluate(values, checked);
+			if (l.getErrorCode() != ErrorCode.NONE)
+				return l;
+			for (Binary b : chain) {
+				CalculatorValue r = b.right.evaluate(values, checked);
+				if (r.getErrorCode() != ErrorCode.NONE)
+					return r;
+				l.apply(b.op, r, checked);						// l is new, so it can be changed
+			}
+			return l;
+		}
+
+		void appendTo(StringBuilder s) {
+			Binary[] chain = chain();
+			for (int ndx = 0; ndx < chain.length; ndx++)
+				s.append('(');
+			chain[0].left.appendTo(s);
+			for (Binary b : chain) {
+				s.append(' ').append(b.op.getSymbol()).append(' ');
+				b.right.appendTo(s);
+				s.append(')');
+			}
+		}
+
+		/**********
+		 * This method lists this node and the binary operations below it down the left operands,
+		 * from the bottom of the chain up to this one.
+		 */
+		Binary[] chain() {
+			int length = 1;
+			for (Node n = left; n instanceof Binary; n = ((Binary) n).left)
+				length++;
+			Binary[] chain = new Binary[length];
+			Binary b = this;
+			for (int ndx = length - 1; ndx > 0; ndx--) {
+				chain[ndx] = b;
+				b = (Binary) b.left;
+			}
+			chain[0] = b;
+			return chain;
+		}
+	}
+}
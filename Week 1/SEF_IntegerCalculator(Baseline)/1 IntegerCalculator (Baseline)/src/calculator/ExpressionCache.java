@@ -0,0 +1,142 @@
+package calculator;
+
+/**
+ * <p> Title: ExpressionCache Class. </p>
+ *
+ * <p> Description: A bounded cache of translated expressions, keyed by the text of the expression.
+ * A workload that evaluates the same few formulas with many different values parses and
+ * translates each formula once, and then only looks it up. When the cache is full, the formula
+ * that has gone the longest without being looked up is dropped, so a stream of formulas that are
+ * used only once cannot push out the ones that are used all the time for long.</p>
+ *
+ * <p> The expressions are kept in a ResultCache, so one cache may be shared by any number of
+ * threads without them contending for a single lock. The translated expressions themselves are
+ * immutable and are evaluated outside of any lock.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 Kept in a striped ResultCache
+ * @version 1.00	2026-10-17 Initial least recently used expression cache
+ *
+ */
+
+public final class ExpressionCache {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// Each segment of the cache is given room for at least this many expressions, so a small cache
+	// is a single segment and drops exactly the least recently used expression
+	private static final int SEGMENT_SIZE = 16;
+
+	private final boolean overflowChecked;					// How the expressions are compiled
+	private final ResultCache<String, CompiledExpression> cache;
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor creates an empty cache.
+	 *
+	 * @param capacity			The most expressions to be kept at once
+	 * @param overflowChecked	true if the expressions are to be compiled with overflow checking
+	 */
+	public ExpressionCache(int capacity, boolean overflowChecked) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("The capacity must be at least one");
+		this.overflowChecked = overflowChecked;
+		this.cache = new ResultCache<>(capacity, Math.max(1, Math.min(capacity / SEGMENT_SIZE,
+				4 * Runtime.getRuntime().availableProcessors())));
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method fetches the translated form of an expression, compiling and translating it if it
+	 * is not already in the cache. Text that does not compile is cached as well, so the same bad
+	 * text is not parsed again either.
+	 *
+	 * @param text	The text of the expression
+	 * @return the translated expression
+	 */
+	public CompiledExpression get(String text) {
+		return cache.get(text, (t) -> CompiledExpression.compile(t, overflowChecked));
+	}
+
+	/**********
+	 * This method compiles, or finds, an expression and evaluates it.
+	 *
+	 * @param text		The text of the expression
+	 * @param values	The values of the variables, in the order in which they first appear
+	 * @return a new value holding the result
+	 */
+	public CalculatorValue evaluate(String text, long... values) {
+		return get(text).evaluate(values);
+	}
+
+	/**********
+	 * This getter fetches the number of expressions in the cache.
+	 *
+	 * @return the number of expressions
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**********
+	 * This getter fetches the most expressions the cache keeps at once.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return cache.getCapacity();
+	}
+
+	/**********
+	 * This getter fetches the number of lookups that found the expression in the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return cache.getHits();
+	}
+
+	/**********
+	 * This getter fetches the number of lookups that had to compile the expression.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return cache.getMisses();
+	}
+
+	/**********
+	 * This getter fetches the number of expressions dropped to make room for others.
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictions() {
+		return cache.getEvictions();
+	}
+
+	/**********
+	 * This method drops every expression from the cache.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+}
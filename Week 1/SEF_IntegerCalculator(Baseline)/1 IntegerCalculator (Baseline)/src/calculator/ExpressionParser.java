@@ -0,0 +1,304 @@
+package calculator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p> Title: ExpressionParser Class. </p>
+ *
+ * <p> Description: The compiler for the Expression class. It is a recursive descent parser that
+ * reads the text once, from left to right, building the tree as it goes. Each node is folded as
+ * soon as it is built: an operation whose operands are all constants is computed on the spot and
+ * replaced by a constant, so by the time the text has been read, the only operations left in the
+ * tree are the ones that depend on a variable.</p>
+ *
+ * <p> The grammar, with the usual precedence and left to right grouping, is:</p>
+ * <pre>
+ *	expression	= term { ( "+" | "-" ) term }
+ *	term		= factor { ( "*" | "/" ) factor }
+ *	factor		= ( "+" | "-" ) factor | literal | variable | "(" expression ")"
+ * </pre>
+ *
+ * <p> Each level of parentheses takes a few levels of recursion, so the parentheses may only be
+ * nested MAX_NESTING deep; deeper nesting is a syntax error at the parenthesis that goes too
+ * deep, rather than a StackOverflowError. A run of signs is read in a loop, and a chain of
+ * operations of the same precedence is built in a loop, so neither has a limit.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 Limited nesting of parentheses, and runs of signs read in a loop
+ * @version 1.00	2026-10-17 Initial one pass parser with constant folding
+ *
+ */
+
+final class ExpressionParser {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// How deeply the parentheses may be nested
+	static final int MAX_NESTING = 500;
+
+	private final String text;							// The text being compiled
+	private final int length;
+	private final boolean overflowChecked;				// How the constants are folded
+	private final List<String> variables = new ArrayList<>();	// The names seen so far
+	private int ndx = 0;								// The position of the next character
+	private int nesting = 0;							// The parentheses now open
+	private int errorCode = ErrorCode.NONE;				// The first error found, if any
+	private int errorPosition = -1;
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor sets up the parser for one piece of text. A parser is used only once.
+	 */
+	ExpressionParser(String text, boolean overflowChecked) {
+		this.text = text;
+		this.length = text.length();
+		this.overflowChecked = overflowChecked;
+	}
+
+
+	/**********************************************************************************************
+
+	The parser
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method compiles the text. Parsing stops at the first error, and the expression that is
+	 * returned then has no tree, just the error code and the position at which it was found.
+	 *
+	 * @return the compiled expression
+	 */
+	Expression parse() {
+		skipSpace();
+		if (ndx == length)
+			return failure(ErrorCode.INPUT_EMPTY);
+		Expression.Node root = expression();
+		if (root != null && ndx < length)					// The whole text must be used up
+			error(ErrorCode.EXCESS_DATA);
+		if (errorCode != ErrorCode.NONE)
+			return failure(errorCode);
+		return new Expression(text, root, variables, overflowChecked, ErrorCode.NONE, -1);
+	}
+
+	/**********
+	 * Private local method that parses a sum or difference of terms.
+	 */
+	private Expression.Node expression() {
+		Expression.Node left = term();
+		while (left != null && ndx < length) {
+			Operation op = Operation.fromSymbol(text.charAt(ndx));
+			if (op != Operation.ADD && op != Operation.SUB)
+				break;
+			advance();
+			Expression.Node right = term();
+			if (right == null)
+				return null;
+			left = binary(op, left, right);
+		}
+		return left;
+	}
+
+	/**********
+	 * Private local method that parses a product or quotient of factors. Only the * symbol is
+	 * taken as multiplication, since an x could just as well be the start of a variable name.
+	 */
+	private Expression.Node term() {
+		Expression.Node left = factor();
+		while (left != null && ndx < length) {
+			char c = text.charAt(ndx);
+			Operation op = c == '*' || c == '/' ? Operation.fromSymbol(c) : null;
+			if (op == null)
+				break;
+			advance();
+			Expression.Node right = factor();
+			if (right == null)
+				return null;
+			left = binary(op, left, right);
+		}
+		return left;
+	}
+
+	/**********
+	 * Private local method that parses a signed factor, a literal, a variable, or an expression in
+	 * parentheses. The signs in front of a factor are read in a loop. A unary plus changes
+	 * nothing, and two minus signs cancel, as the negation of a negation is the value itself with
+	 * or without overflow checking, so at most one negation is left.
+	 */
+	private Expression.Node factor() {
+		if (ndx == length)
+			return error(ErrorCode.INPUT_EMPTY);
+		char c = text.charAt(ndx);
+		if (c == '+' || c == '-') {
+			boolean negative = false;
+			while (ndx < length && (text.charAt(ndx) == '+' || text.charAt(ndx) == '-')) {
+				negative ^= text.charAt(ndx) == '-';
+				advance();
+			}
+			Expression.Node operand = factor();
+			return operand == null || !negative ? operand : negate(operand);
+		}
+		if (c == '(') {
+			if (nesting == MAX_NESTING)					// Point at the parenthesis that
+				return error(ErrorCode.SYNTAX_ERROR);	// goes too deep
+			int open = ndx;
+			nesting++;
+			advance();
+			Expression.Node inside = expression();
+			if (inside == null)
+				return null;
+			if (ndx == length || text.charAt(ndx) != ')') {
+				ndx = open;								// Point at the unmatched parenthesis
+				return error(ErrorCode.SYNTAX_ERROR);
+			}
+			nesting--;
+			advance();
+			return inside;
+		}
+		if (c >= '0' && c <= '9')
+			return literal();
+		if (Character.isLetter(c))
+			return variable();
+		return error(ErrorCode.SYNTAX_ERROR);
+	}
+
+	/**********
+	 * Private local method that parses an integer literal with the CalculatorValue parser, so the
+	 * literals of an expression obey the same limits as the operands of the calculator.
+	 */
+	private Expression.Node literal() {
+		int start = ndx;
+		while (ndx < length && text.charAt(ndx) >= '0' && text.charAt(ndx) <= '9')
+			ndx++;
+		if (ndx < length && isNamePart(text.charAt(ndx)))	// e.g. 2a is neither a literal nor a
+			return error(ErrorCode.SYNTAX_ERROR);			// name
+		CalculatorValue v = new CalculatorValue();
+		boolean valid = overflowChecked ? v.parseUnbounded(text, start, ndx - start)
+				: v.parse(text, start, ndx - start);
+		if (!valid) {
+			ndx = start;
+			return error(v.getErrorCode());
+		}
+		skipSpace();
+		return new Expression.Constant(v);
+	}
+
+	/**********
+	 * Private local method that parses a variable name. Each distinct name is given the next
+	 * number the first time it is seen.
+	 */
+	private Expression.Node variable() {
+		int start = ndx;
+		while (ndx < length && isNamePart(text.charAt(ndx)))
+			ndx++;
+		String name = text.substring(start, ndx);
+		int index = variables.indexOf(name);
+		if (index < 0) {
+			index = variables.size();
+			variables.add(name);
+		}
+		skipSpace();
+		return new Expression.Variable(index, name);
+	}
+
+
+	/**********************************************************************************************
+
+	Constant folding
+
+	**********************************************************************************************/
+
+	/**********
+	 * Private local method that builds a binary operation node, or the constant it comes to when
+	 * both operands are constants. An operation that fails, e.g. a division by zero, is not folded,
+	 * so the error is reported each time the expression is evaluated, just as it would be for the
+	 * same operation on variables.
+	 */
+	private Expression.Node binary(Operation op, Expression.Node left, Expression.Node right) {
+		Expression.Node node = new Expression.Binary(op, left, right);
+		return left instanceof Expression.Constant && right instanceof Expression.Constant
+				? fold(node) : node;
+	}
+
+	/**********
+	 * Private local method that builds a unary minus node, or the constant it comes to.
+	 */
+	private Expression.Node negate(Expression.Node operand) {
+		Expression.Node node = new Expression.Negate(operand);
+		return operand instanceof Expression.Constant ? fold(node) : node;
+	}
+
+	/**********
+	 * Private local method that evaluates a node whose operands are constants.
+	 */
+	private Expression.Node fold(Expression.Node node) {
+		CalculatorValue v = node.evaluate(null, overflowChecked);	// There are no variables to
+		return v.getErrorCode() == ErrorCode.NONE					// look up
+				? new Expression.Constant(v) : node;
+	}
+
+
+	/**********************************************************************************************
+
+	Private local methods
+
+	**********************************************************************************************/
+
+	/**********
+	 * Private local method that steps over an operator or parenthesis and the white space after it.
+	 */
+	private void advance() {
+		ndx++;
+		skipSpace();
+	}
+
+	/**********
+	 * Private local method that steps over white space.
+	 */
+	private void skipSpace() {
+		while (ndx < length && Character.isWhitespace(text.charAt(ndx)))
+			ndx++;
+	}
+
+	/**********
+	 * Private local method that says whether c may be part of a variable name after the first
+	 * letter.
+	 */
+	private static boolean isNamePart(char c) {
+		return Character.isLetterOrDigit(c) || c == '_';
+	}
+
+	/**********
+	 * Private local method that records the first error and where it was found. It returns null so
+	 * the parsing methods can report an error and stop in a single statement.
+	 */
+	private Expression.Node error(int code) {
+		if (errorCode == ErrorCode.NONE) {
+			errorCode = code;
+			errorPosition = ndx;
+		}
+		return null;
+	}
+
+	/**********
+	 * Private local method that builds the expression returned when the text has an error.
+	 */
+	private Expression failure(int code) {
+		if (errorCode == ErrorCode.NONE)
+			errorPosition = ndx;
+		return new Expression(text, null, variables, overflowChecked, code, errorPosition);
+	}
+}
@@ -0,0 +1,225 @@
+package calculator;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * <p> Title: FastDivisor Class. </p>
+ *
+ * <p> Description: A divisor prepared for dividing many values by it. A hardware divide of two
+ * longs takes tens of cycles, while a multiplication takes a few, so the divisor works out once a
+ * magic number and a shift such that the quotient of any long is the high half of its 128 bit
+ * product with the magic number, corrected and shifted (the method of Granlund and Montgomery, in
+ * the form used by the libdivide library). A divisor whose magnitude is a power of two needs only
+ * the shift.</p>
+ *
+ * <p> The quotients are those of the Java division operator, and so of CalculatorValue.div: they
+ * are rounded toward zero, and the most negative long divided by minus one is itself. A divisor
+ * of zero can be prepared too, and dividing by it has the same outcome as div has: the value is
+ * left alone and carries the DIVIDE_BY_ZERO error code.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial precomputed divisor
+ *
+ */
+
+public final class FastDivisor {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	private final long divisor;
+	private final long magic;				// Zero when the magnitude of the divisor is a power of
+	private final int shift;				// two (or the divisor is zero)
+	private final boolean add;				// Whether the dividend is added to the high half
+	private final long sign;				// -1 for a negative divisor, 0 for a positive one
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor prepares a divisor.
+	 *
+	 * @param divisor	The divisor, which may be zero
+	 */
+	public FastDivisor(long divisor) {
+		this.divisor = divisor;
+		sign = divisor >> 63;
+		long abs = (divisor ^ sign) - sign;								// Unsigned, so the most
+		int log2 = 63 - Long.numberOfLeadingZeros(abs);					// negative long is 2^63
+		if (divisor == 0) {
+			magic = 0;
+			shift = 0;
+			add = false;
+		}
+		else if ((abs & (abs - 1)) == 0) {								// A power of two
+			magic = 0;
+			shift = log2;
+			add = false;
+		}
+		else {
+			// The smallest magic number that works has 64 + log2 bits of precision. When it fits
+			// in 63 bits it is used as it is; otherwise it is doubled past 64 bits, and the
+			// dividend is added back to make up for the bit that does not fit
+			BigInteger unsignedAbs = new BigInteger(Long.toUnsignedString(abs));
+			BigInteger[] qr = BigInteger.ONE.shiftLeft(63 + log2).divideAndRemainder(unsignedAbs);
+			long m = qr[0].longValue();
+			long remainder = qr[1].longValue();
+			if (Long.compareUnsigned(abs - remainder, 1L << log2) < 0) {
+				shift = log2 - 1;
+				add = false;
+			}
+			else {
+				m += m;
+				long twice = remainder + remainder;
+				if (Long.compareUnsigned(twice, abs) >= 0 || Long.compareUnsigned(twice, remainder) < 0)
+					m++;
+				shift = log2;
+				add = true;
+			}
+			m++;
+			magic = divisor < 0 ? -m : m;
+		}
+	}
+
+
+	/**********************************************************************************************
+
+	Division
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method divides a long by the divisor.
+	 *
+	 * @param dividend	The dividend
+	 * @return the quotient, rounded toward zero
+	 * @throws ArithmeticException if the divisor is zero
+	 */
+	public long divide(long dividend) {
+		if (divisor == 0)
+			throw new ArithmeticException("/ by zero");
+		return quotient(dividend);
+	}
+
+	/**********
+	 * This method divides a calculator value by the divisor in place, with the same outcome as
+	 * its div method given a value equal to the divisor.
+	 *
+	 * @param v	The dividend, which is replaced by the quotient
+	 */
+	public void divide(CalculatorValue v) {
+		if (divisor == 0) {
+			v.errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			return;
+		}
+		v.measuredValue = quotient(v.measuredValue);
+		v.bigValue = null;
+		v.errorCode = ErrorCode.NONE;
+	}
+
+	/**********
+	 * This method is the heart of the division, for a divisor that is not zero. The high half of
+	 * the product of a negative divisor's magic number and the dividend is rounded down rather
+	 * than toward zero, so one is added to a negative quotient.
+	 */
+	long quotient(long dividend) {
+		if (magic == 0) {
+			long q = (dividend + ((dividend >> 63) & ((1L << shift) - 1))) >> shift;
+			return (q ^ sign) - sign;
+		}
+		long q = Math.multiplyHigh(magic, dividend);
+		if (add)
+			q += (dividend ^ sign) - sign;
+		q >>= shift;
+		return q + (q >>> 63);
+	}
+
+	/**********
+	 * This method divides each element of an array by the divisor. When the divisor is zero, each
+	 * result is its dividend and each error code is DIVIDE_BY_ZERO, as with BatchArithmetic.div.
+	 *
+	 * @param a			The dividends
+	 * @param result	Where the quotients are placed, which may be the dividends
+	 * @param errors	Where the error code of each element is placed
+	 * @return the number of elements with an error, which is either zero or all of them
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public int divide(long[] a, long[] result, byte[] errors) {
+		int length = a.length;
+		if (result.length != length || errors.length != length)
+			throw new IllegalArgumentException("The arrays must all have " + length + " elements");
+		if (divisor == 0) {
+			System.arraycopy(a, 0, result, 0, length);
+			Arrays.fill(errors, (byte) ErrorCode.DIVIDE_BY_ZERO);
+			return length;
+		}
+		Arrays.fill(errors, (byte) ErrorCode.NONE);
+		if (magic == 0) {												// Each loop has no
+			long mask = (1L << shift) - 1;								// branches inside
+			for (int ndx = 0; ndx < length; ndx++) {
+				long n = a[ndx];
+				long q = (n + ((n >> 63) & mask)) >> shift;
+				result[ndx] = (q ^ sign) - sign;
+			}
+		}
+		else if (add)
+			for (int ndx = 0; ndx < length; ndx++) {
+				long n = a[ndx];
+				long q = (Math.multiplyHigh(magic, n) + ((n ^ sign) - sign)) >> shift;
+				result[ndx] = q + (q >>> 63);
+			}
+		else
+			for (int ndx = 0; ndx < length; ndx++) {
+				long q = Math.multiplyHigh(magic, a[ndx]) >> shift;
+				result[ndx] = q + (q >>> 63);
+			}
+		return 0;
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the divisor.
+	 *
+	 * @return the divisor
+	 */
+	public long getDivisor() {
+		return divisor;
+	}
+
+	/**********
+	 * This getter fetches whether the divisor is zero.
+	 *
+	 * @return true if the divisor is zero
+	 */
+	public boolean isZero() {
+		return divisor == 0;
+	}
+
+	/**********
+	 * This is the default toString method, which shows how the division is done.
+	 */
+	public String toString() {
+		if (divisor == 0)
+			return "/ 0";
+		if (magic == 0)
+			return "/ " + divisor + " = " + (divisor < 0 ? "-" : "") + ">> " + shift;
+		return "/ " + divisor + " = mulhi " + magic + (add ? " + n" : "") + " >> " + shift;
+	}
+}
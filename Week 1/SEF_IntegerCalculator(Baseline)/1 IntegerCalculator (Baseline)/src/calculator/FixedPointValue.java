@@ -0,0 +1,736 @@
+package calculator;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * <p> Title: FixedPointValue Class. </p>
+ *
+ * <p> Description: A decimal value with a fixed number of places after the decimal point, for the
+ * fixed point mode of the calculator. The value is kept as a long scaled by 10^scale, the
+ * measuredValue inherited from CalculatorValue, so 12.34 with a scale of 2 is the long 1234, and
+ * an operation needs no more than a few long operations and allocates nothing, where BigDecimal
+ * creates a new object (and often a BigInteger) for every result. The scale is from 0 to 18,
+ * the most places a long can hold, and is fixed when the value is created, along with the
+ * rounding mode used whenever a result has more places than that.</p>
+ *
+ * <p> The values are parsed from and formatted to plain decimal Strings, e.g. "-0.05", directly
+ * on the characters, always with all of the places of the scale. Input with more places than the
+ * scale is rounded. There is no exponent and no radix: the places are decimal places, so the
+ * radix of the formatting methods is ignored.</p>
+ *
+ * <p> Every operation is overflow checked, whether or not the checked computation methods are
+ * used. The 128 bit product of a multiplication is found with Math.multiplyHigh; when it fits
+ * in a long it is rescaled with a prepared divisor, and otherwise the operands are split at the
+ * decimal point so the parts of the product fit. A result that does not fit in the scaled long
+ * leaves the value alone and sets the OVERFLOW error code, as a division by zero sets
+ * DIVIDE_BY_ZERO. Only a product or quotient whose parts still do not fit, which takes a scale
+ * of more than 9, is worked out with BigInteger.</p>
+ *
+ * <p> getBigValue and the measuredValue seen by the classes that only know about integers are
+ * those of the scaled long.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial fixed point decimal values
+ *
+ */
+
+public class FixedPointValue extends CalculatorValue {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The most places after the decimal point, as 10^18 is the largest power of ten in a long
+	public static final int MAX_SCALE = 18;
+
+	// The scale and rounding mode of a value created without them
+	public static final int DEFAULT_SCALE = 2;
+	public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_EVEN;
+
+	// The powers of ten, and for each scale a divisor prepared to remove that many places without
+	// a hardware divide
+	private static final long[] POWERS = new long[MAX_SCALE + 1];
+	private static final FastDivisor[] DIVISORS = new FastDivisor[MAX_SCALE + 1];
+
+	static {
+		POWERS[0] = 1;
+		for (int scale = 1; scale <= MAX_SCALE; scale++) {
+			POWERS[scale] = POWERS[scale - 1] * 10;
+			DIVISORS[scale] = new FastDivisor(POWERS[scale]);
+		}
+	}
+
+	// The number of places after the decimal point and how results with more are rounded
+	private final int scale;
+	private final RoundingMode rounding;
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This is the default constructor, for the value zero with the default scale and rounding.
+	 */
+	public FixedPointValue() {
+		this(DEFAULT_SCALE, DEFAULT_ROUNDING);
+	}
+
+	/**********
+	 * This constructor creates the value zero with a scale and a rounding mode.
+	 *
+	 * @param scale		The number of places after the decimal point, from 0 to 18
+	 * @param rounding	How results with more places are rounded
+	 * @throws IllegalArgumentException if the scale is out of range or the rounding mode is
+	 * 					UNNECESSARY, which would leave an inexact result with no value at all
+	 */
+	public FixedPointValue(int scale, RoundingMode rounding) {
+		this.scale = checkScale(scale);
+		this.rounding = checkRounding(rounding);
+	}
+
+	/**********
+	 * This constructor creates a value from a decimal String, leaving an error code in it when the
+	 * String is not a valid value.
+	 *
+	 * @param s			The String
+	 * @param scale		The number of places after the decimal point, from 0 to 18
+	 * @param rounding	How values with more places are rounded
+	 * @throws IllegalArgumentException if the scale or the rounding mode cannot be used
+	 */
+	public FixedPointValue(String s, int scale, RoundingMode rounding) {
+		this(scale, rounding);
+		parseDecimal(s, 0, s.length());
+	}
+
+	/**********
+	 * This copy constructor creates a duplicate of a fixed point value, with its scale and
+	 * rounding mode.
+	 *
+	 * @param v	The value copied
+	 */
+	public FixedPointValue(FixedPointValue v) {
+		super(v);
+		scale = v.scale;
+		rounding = v.rounding;
+	}
+
+
+	/**********************************************************************************************
+
+	The parser
+
+	**********************************************************************************************/
+
+	/**********
+	 * The parsing methods of CalculatorValue all accept a decimal value, with the same signs and
+	 * white space as an integer and an optional decimal point, in any radix as long as it is ten.
+	 * A value that does not fit in the scaled long is INVALID_VALUE, as it is for an integer.
+	 */
+	@Override
+	public boolean parse(CharSequence s, int start, int length) {
+		return parseDecimal(s, start, length);
+	}
+
+	@Override
+	public boolean parse(CharSequence s, int start, int length, int radix) {
+		return parseDecimal(s, start, length);
+	}
+
+	@Override
+	public boolean parseUnbounded(CharSequence s, int start, int length) {
+		return parseDecimal(s, start, length);
+	}
+
+	@Override
+	public boolean parseUnbounded(CharSequence s, int start, int length, int radix) {
+		return parseDecimal(s, start, length);
+	}
+
+	/**********
+	 * Private local method that converts the characters into this value in one pass. The digits
+	 * are accumulated into the scaled long up to the last place of the scale, and of the places
+	 * after that only the first is kept, along with whether any of the others is not zero, which
+	 * is all the rounding needs to know.
+	 */
+	private boolean parseDecimal(CharSequence s, int start, int length) {
+		measuredValue = 0;
+		bigValue = null;
+		if (length <= 0) {
+			errorCode = ErrorCode.INPUT_EMPTY;
+			return false;
+		}
+		int ndx = start;
+		int end = start + length;
+
+		// The signs and the white space between them are those of an integer
+		boolean negative = false;
+		char c = s.charAt(ndx);
+		if (c == '+')
+			ndx++;
+		else if (c == '-') {
+			ndx++;
+			negative = true;
+		}
+		while (ndx < end && Character.isWhitespace(s.charAt(ndx)))
+			ndx++;
+		if (ndx < end) {
+			c = s.charAt(ndx);
+			if (c == '+')
+				ndx++;
+			else if (c == '-') {
+				ndx++;
+				negative = !negative;
+			}
+		}
+
+		long value = 0;
+		int digits = 0;
+		int places = -1;									// Not yet at the decimal point
+		int firstDropped = 0;								// The first place past the scale
+		boolean sticky = false;								// Whether any later place is not 0
+		for (; ndx < end; ndx++) {
+			c = s.charAt(ndx);
+			if (c == '.' && places < 0) {
+				places = 0;
+				continue;
+			}
+			int digit = c - '0';
+			if (digit < 0 || digit > 9) {
+				if (Character.isWhitespace(c))
+					break;
+				errorCode = ErrorCode.INVALID_VALUE;
+				return false;
+			}
+			digits++;
+			if (places >= scale) {
+				if (places++ == scale)
+					firstDropped = digit;
+				else
+					sticky |= digit != 0;
+				continue;
+			}
+			if (places >= 0)
+				places++;
+			if (value < Long.MIN_VALUE / 10 || (value == Long.MIN_VALUE / 10 && digit > 8)) {
+				errorCode = ErrorCode.INVALID_VALUE;		// A constant divisor, so there is
+				return false;								// no divide
+			}
+			value = value * 10 - digit;						// Negative, as for an integer
+		}
+		if (digits == 0) {									// There must be at least one digit
+			errorCode = ErrorCode.INVALID_VALUE;
+			return false;
+		}
+		for (; ndx < end; ndx++)							// Only white space may follow
+			if (!Character.isWhitespace(s.charAt(ndx))) {
+				errorCode = ErrorCode.EXCESS_DATA;
+				return false;
+			}
+
+		// Fill in the places that were not given, and round away those past the scale. The
+		// fraction dropped is (2 firstDropped + sticky) / 20, which rounds the same way.
+		try {
+			if (places < scale)
+				value = Math.multiplyExact(value, POWERS[scale - Math.max(places, 0)]);
+			if (!negative)
+				value = Math.negateExact(value);
+			if (places > scale)
+				value = round(value, (2 * firstDropped + (sticky ? 1 : 0)) * (negative ? -1 : 1), 20,
+						negative);
+		} catch (ArithmeticException e) {
+			errorCode = ErrorCode.INVALID_VALUE;
+			return false;
+		}
+		measuredValue = value;
+		errorCode = ErrorCode.NONE;
+		return true;
+	}
+
+
+	/**********************************************************************************************
+
+	Getters and Setters
+
+	**********************************************************************************************/
+
+	/**********
+	 * The setters of CalculatorValue set the value to an integer, or to another value at the
+	 * scale of this one, rounding it if it has more places. A value that does not fit leaves
+	 * this one alone and sets the OVERFLOW error code.
+	 */
+	@Override
+	public void setValue(long v) {
+		try {
+			measuredValue = Math.multiplyExact(v, POWERS[scale]);
+			errorCode = ErrorCode.NONE;
+		} catch (ArithmeticException e) {
+			errorCode = ErrorCode.OVERFLOW;
+		}
+	}
+
+	@Override
+	public void setValue(BigInteger v) {
+		if (v.bitLength() < 64)
+			setValue(v.longValue());
+		else
+			errorCode = ErrorCode.OVERFLOW;
+	}
+
+	@Override
+	public void setValue(CalculatorValue v) {
+		try {
+			measuredValue = aligned(v);
+			bigValue = null;
+			errorCode = v.errorCode;
+			errorMessage = v.errorMessage;
+		} catch (ArithmeticException e) {
+			errorCode = ErrorCode.OVERFLOW;
+		}
+	}
+
+	/**********
+	 * This getter fetches the value scaled by 10^scale, e.g. 1234 for 12.34 with a scale of 2.
+	 *
+	 * @return the scaled value
+	 */
+	public long getUnscaledValue() {
+		return measuredValue;
+	}
+
+	/**********
+	 * This setter sets the value from a value already scaled by 10^scale.
+	 *
+	 * @param unscaled	The scaled value
+	 */
+	public void setUnscaledValue(long unscaled) {
+		measuredValue = unscaled;
+		bigValue = null;
+		errorCode = ErrorCode.NONE;
+	}
+
+	/**********
+	 * This getter fetches the number of places after the decimal point.
+	 *
+	 * @return the scale
+	 */
+	public int getScale() {
+		return scale;
+	}
+
+	/**********
+	 * This getter fetches how results with more places than the scale are rounded.
+	 *
+	 * @return the rounding mode
+	 */
+	public RoundingMode getRoundingMode() {
+		return rounding;
+	}
+
+	/**********
+	 * A fixed point value is only a long integer when it has no places.
+	 */
+	@Override
+	public boolean isLong() {
+		return scale == 0;
+	}
+
+	/**********
+	 * The operation keys of the result caches have no scale or rounding mode, so a fixed point
+	 * value is never cached.
+	 */
+	@Override
+	boolean cacheable() {
+		return false;
+	}
+
+	@Override
+	FixedPointValue copy() {
+		return new FixedPointValue(this);
+	}
+
+
+	/**********************************************************************************************
+
+	Formatting
+
+	**********************************************************************************************/
+
+	/**********
+	 * The formatting methods of CalculatorValue format the value in decimal, with all of the
+	 * places of the scale and at least one digit before the decimal point. The radix is ignored.
+	 */
+	@Override
+	public String toString() {
+		char[] buffer = new char[formattedLength(measuredValue, scale)];
+		return new String(buffer, 0, formatDecimal(measuredValue, scale, buffer, 0));
+	}
+
+	@Override
+	public String toString(int radix) {
+		return toString();
+	}
+
+	@Override
+	public int format(char[] buffer, int offset, int radix) {
+		return formatDecimal(measuredValue, scale, buffer, offset);
+	}
+
+	@Override
+	public void appendTo(Appendable out, int radix) throws IOException {
+		if (out instanceof StringBuilder)
+			appendTo((StringBuilder) out);
+		else
+			out.append(toString());
+	}
+
+	/**********
+	 * The whole part and the places are appended as two longs, which StringBuilder formats
+	 * without creating a String, with the zeros in front of the places in between.
+	 */
+	@Override
+	public StringBuilder appendTo(StringBuilder out) {
+		if (scale == 0)
+			return out.append(measuredValue);
+		long whole = DIVISORS[scale].quotient(measuredValue);
+		long places = Math.abs(measuredValue - whole * POWERS[scale]);
+		if (measuredValue < 0 && whole == 0)
+			out.append('-');
+		out.append(whole).append('.');
+		for (int digits = digitCount(places); digits < scale; digits++)
+			out.append('0');
+		return out.append(places);
+	}
+
+	@Override
+	public StringBuilder appendTo(StringBuilder out, int radix) {
+		return appendTo(out);
+	}
+
+	@Override
+	public CharBuffer appendTo(CharBuffer out, int radix) {
+		int length = formattedLength(measuredValue, scale);
+		if (out.remaining() < length)
+			throw new BufferOverflowException();
+		if (!out.hasArray())
+			return out.put(toString());
+		formatDecimal(measuredValue, scale, out.array(), out.arrayOffset() + out.position());
+		out.position(out.position() + length);
+		return out;
+	}
+
+	@Override
+	public ByteBuffer appendTo(ByteBuffer out, int radix) {
+		int length = formattedLength(measuredValue, scale);
+		if (out.remaining() < length)
+			throw new BufferOverflowException();
+		int start = out.position();
+		int ndx = start + length;
+		long n = measuredValue < 0 ? measuredValue : -measuredValue;
+		for (int place = 0; place < scale; place++) {
+			long q = n / 10;
+			out.put(--ndx, (byte) ('0' + (q * 10 - n)));
+			n = q;
+		}
+		if (scale > 0)
+			out.put(--ndx, (byte) '.');
+		do {
+			long q = n / 10;
+			out.put(--ndx, (byte) ('0' + (q * 10 - n)));
+			n = q;
+		} while (n != 0);
+		if (measuredValue < 0)
+			out.put(start, (byte) '-');
+		out.position(start + length);
+		return out;
+	}
+
+	@Override
+	public int formattedLength(int radix) {
+		return formattedLength(measuredValue, scale);
+	}
+
+	/**********
+	 * Private local method that formats a scaled long into a character array from right to left,
+	 * as CalculatorValue formats a long, with the decimal point placed after the places. The
+	 * value is made negative rather than positive, as the most negative long has no positive
+	 * counterpart.
+	 */
+	private static int formatDecimal(long unscaled, int scale, char[] buffer, int offset) {
+		int length = formattedLength(unscaled, scale);
+		int ndx = offset + length;
+		long n = unscaled < 0 ? unscaled : -unscaled;
+		for (int place = 0; place < scale; place++) {
+			long q = n / 10;
+			buffer[--ndx] = (char) ('0' + (q * 10 - n));
+			n = q;
+		}
+		if (scale > 0)
+			buffer[--ndx] = '.';
+		do {
+			long q = n / 10;
+			buffer[--ndx] = (char) ('0' + (q * 10 - n));
+			n = q;
+		} while (n != 0);
+		if (unscaled < 0)
+			buffer[offset] = '-';
+		return length;
+	}
+
+	/**********
+	 * Private local method that counts the characters a scaled long is formatted into.
+	 */
+	private static int formattedLength(long unscaled, int scale) {
+		int digits = Math.max(digitCount(unscaled), scale + 1);
+		return digits + (scale > 0 ? 1 : 0) + (unscaled < 0 ? 1 : 0);
+	}
+
+	/**********
+	 * Private local method that counts the decimal digits of a long, not counting the sign.
+	 */
+	private static int digitCount(long value) {
+		long n = value < 0 ? value : -value;
+		int count = 1;
+		while (count <= MAX_SCALE && n <= -POWERS[count])
+			count++;
+		return count;
+	}
+
+
+	/**********
+	 * Package local methods that check that a scale and a rounding mode can be used, for the
+	 * constructor and for the BusinessLogic setters.
+	 */
+	static int checkScale(int scale) {
+		if (scale < 0 || scale > MAX_SCALE)
+			throw new IllegalArgumentException("The scale must be from 0 to " + MAX_SCALE + ", not "
+					+ scale);
+		return scale;
+	}
+
+	static RoundingMode checkRounding(RoundingMode rounding) {
+		if (rounding == RoundingMode.UNNECESSARY)
+			throw new IllegalArgumentException("The rounding mode cannot be UNNECESSARY");
+		return rounding;
+	}
+
+
+	/**********************************************************************************************
+
+	The computation methods
+
+	**********************************************************************************************/
+
+	/**********
+	 * The computation methods of CalculatorValue are overflow checked for fixed point values, so
+	 * the checked and the unchecked methods are the same. The operand v may be a fixed point
+	 * value of any scale, which is brought to the scale of this one first, or an integer.
+	 */
+	@Override
+	public void add(CalculatorValue v) {
+		try {
+			measuredValue = Math.addExact(measuredValue, aligned(v));
+			errorCode = ErrorCode.NONE;
+		} catch (ArithmeticException e) {
+			errorCode = ErrorCode.OVERFLOW;
+		}
+	}
+
+	@Override
+	public void sub(CalculatorValue v) {
+		try {
+			measuredValue = Math.subtractExact(measuredValue, aligned(v));
+			errorCode = ErrorCode.NONE;
+		} catch (ArithmeticException e) {
+			errorCode = ErrorCode.OVERFLOW;
+		}
+	}
+
+	@Override
+	public void mpy(CalculatorValue v) {
+		try {
+			measuredValue = multiply(measuredValue, aligned(v));
+			errorCode = ErrorCode.NONE;
+		} catch (ArithmeticException e) {
+			errorCode = ErrorCode.OVERFLOW;
+		}
+	}
+
+	@Override
+	public void div(CalculatorValue v) {
+		try {
+			long divisor = aligned(v);
+			if (divisor == 0) {
+				errorCode = ErrorCode.DIVIDE_BY_ZERO;
+				return;
+			}
+			measuredValue = divide(measuredValue, divisor);
+			errorCode = ErrorCode.NONE;
+		} catch (ArithmeticException e) {
+			errorCode = ErrorCode.OVERFLOW;
+		}
+	}
+
+	@Override
+	public void checkedAdd(CalculatorValue v) {
+		add(v);
+	}
+
+	@Override
+	public void checkedSub(CalculatorValue v) {
+		sub(v);
+	}
+
+	@Override
+	public void checkedMpy(CalculatorValue v) {
+		mpy(v);
+	}
+
+	@Override
+	public void checkedDiv(CalculatorValue v) {
+		div(v);
+	}
+
+	/**********
+	 * Private local method that multiplies two scaled longs and rounds the product back to the
+	 * scale. When the 128 bit product fits in a long, it is divided by 10^scale with the
+	 * prepared divisor. Otherwise, with a = aq 10^scale + ar and b the same, the product divided
+	 * by 10^scale is aq bq 10^scale + aq br + ar bq + ar br / 10^scale. All four terms have the
+	 * sign of the product, so none can overflow unless the result does, and only the last has
+	 * places to round.
+	 *
+	 * @throws ArithmeticException if the result does not fit in a long
+	 */
+	private long multiply(long a, long b) {
+		long low = a * b;
+		long high = Math.multiplyHigh(a, b);
+		if (scale == 0) {
+			if (high != (low >> 63))
+				throw new ArithmeticException("long overflow");
+			return low;
+		}
+		long power = POWERS[scale];
+		FastDivisor divisor = DIVISORS[scale];
+		if (high == (low >> 63)) {
+			long q = divisor.quotient(low);
+			return round(q, low - q * power, power, low < 0);
+		}
+		long aq = divisor.quotient(a);
+		long ar = a - aq * power;
+		long bq = divisor.quotient(b);
+		long br = b - bq * power;
+		long places = ar * br;
+		if (Math.multiplyHigh(ar, br) == (places >> 63)) {
+			long pq = divisor.quotient(places);
+			long q = Math.addExact(Math.addExact(Math.multiplyExact(Math.multiplyExact(aq, bq), power),
+					Math.multiplyExact(aq, br)), Math.addExact(Math.multiplyExact(ar, bq), pq));
+			return round(q, places - pq * power, power, (a ^ b) < 0);
+		}
+		BigInteger[] qr = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b))
+				.divideAndRemainder(BigInteger.valueOf(power));
+		return round(qr[0].longValueExact(), qr[1].longValue(), power, (a ^ b) < 0);
+	}
+
+	/**********
+	 * Private local method that divides two scaled longs, giving the quotient at the scale:
+	 * a 10^scale / b, rounded. When a 10^scale does not fit in a long, with a = aq b + ar, it is
+	 * aq 10^scale + ar 10^scale / b, whose terms again have the same sign.
+	 *
+	 * @throws ArithmeticException if the result does not fit in a long
+	 */
+	private long divide(long a, long b) {
+		long power = POWERS[scale];
+		if (b == -1)
+			return Math.negateExact(Math.multiplyExact(a, power));
+		long low = a * power;
+		if (Math.multiplyHigh(a, power) == (low >> 63)) {
+			long q = low / b;
+			return round(q, low - q * b, b, (a ^ b) < 0);
+		}
+		long aq = a / b;
+		long ar = a - aq * b;
+		long places = ar * power;
+		if (Math.multiplyHigh(ar, power) == (places >> 63)) {
+			long pq = places / b;
+			return round(Math.addExact(Math.multiplyExact(aq, power), pq), places - pq * b, b,
+					(a ^ b) < 0);
+		}
+		BigInteger[] qr = BigInteger.valueOf(a).multiply(BigInteger.valueOf(power))
+				.divideAndRemainder(BigInteger.valueOf(b));
+		return round(qr[0].longValueExact(), qr[1].longValue(), b, (a ^ b) < 0);
+	}
+
+	/**********
+	 * Private local method that rounds a quotient that was truncated toward zero, given the
+	 * remainder and the divisor, by the rounding mode of the value. The halfway cases compare the
+	 * remainder with what is left of the divisor, which cannot overflow as doubling it could.
+	 *
+	 * @param q			The quotient, truncated toward zero
+	 * @param remainder	The remainder, of either sign
+	 * @param divisor	The divisor, of either sign
+	 * @param negative	Whether the exact quotient is negative
+	 * @throws ArithmeticException if the rounded quotient does not fit in a long
+	 */
+	private long round(long q, long remainder, long divisor, boolean negative) {
+		if (remainder == 0)
+			return q;
+		boolean away;
+		switch (rounding) {
+		case UP:
+			away = true;
+			break;
+		case DOWN:
+			away = false;
+			break;
+		case CEILING:
+			away = !negative;
+			break;
+		case FLOOR:
+			away = negative;
+			break;
+		default:
+			long r = Math.abs(remainder);
+			int half = Long.compareUnsigned(r, Math.abs(divisor) - r);	// |divisor| may be 2^63
+			if (rounding == RoundingMode.HALF_UP)
+				away = half >= 0;
+			else if (rounding == RoundingMode.HALF_DOWN)
+				away = half > 0;
+			else
+				away = half > 0 || (half == 0 && (q & 1) != 0);
+		}
+		if (!away)
+			return q;
+		return negative ? Math.subtractExact(q, 1) : Math.addExact(q, 1);
+	}
+
+	/**********
+	 * Private local method that fetches the value of v as a long at the scale of this value. An
+	 * integer has a scale of zero.
+	 *
+	 * @throws ArithmeticException if it does not fit in a long
+	 */
+	private long aligned(CalculatorValue v) {
+		if (v.bigValue != null)
+			throw new ArithmeticException("long overflow");
+		int from = v instanceof FixedPointValue ? ((FixedPointValue) v).scale : 0;
+		if (from == scale)
+			return v.measuredValue;
+		if (from < scale)
+			return Math.multiplyExact(v.measuredValue, POWERS[scale - from]);
+		long power = POWERS[from - scale];
+		long q = DIVISORS[from - scale].quotient(v.measuredValue);
+		return round(q, v.measuredValue - q * power, power, v.measuredValue < 0);
+	}
+}
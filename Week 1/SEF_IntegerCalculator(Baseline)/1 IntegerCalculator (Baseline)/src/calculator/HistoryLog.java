@@ -0,0 +1,479 @@
+package calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p> Title: HistoryLog Class. </p>
+ *
+ * <p> Description: An append-only record of the operations performed by the calculator, kept in
+ * a file. Each operation is one fixed size record holding when it was performed, the operation,
+ * both operands, the result, and the error code. The records are written and read through a
+ * memory-mapped view of the file, so appending a record is a few stores into memory, with no
+ * system call and no object created, and reading the log back at startup costs no more than
+ * touching its pages. Since every record has the same size, any record can be read by its index
+ * without reading the ones before it.</p>
+ *
+ * <p> The file starts with a header of HEADER_SIZE bytes: the magic number, the format version,
+ * the record size, and the number of records. The count is updated after each record has been
+ * written, so a log that was not closed properly still ends with the last complete record. The
+ * records follow, each RECORD_SIZE bytes:</p>
+ * <pre>
+ *	 0	long	the time of the operation, in milliseconds since 1970
+ *	 8	long	the first operand
+ *	16	long	the second operand
+ *	24	long	the result
+ *	32	byte	the operation (its ordinal)
+ *	33	byte	the TRUNCATED_ flags
+ *	34	byte	the number mode of the result (its ordinal)
+ *	35	byte	the scale of the values, in fixed point mode, and 0 otherwise
+ *	36	int		the error code of the result, as a standard code
+ *	40	long	the denominator of the first operand
+ *	48	long	the denominator of the second operand
+ *	56	long	the denominator of the result
+ * </pre>
+ * <p> The values are recorded as the longs they are kept in, so a fixed point value is its
+ * scaled long, which the scale in the record turns back into a decimal. A fraction is its
+ * numerator and its denominator, and a modular value is its residue, with the modulus in place of
+ * the denominator; any other value has the denominator 1. A value whose numerator or denominator
+ * does not fit in a long, in big integer, overflow checked, or rational mode, is recorded as
+ * their low 64 bits with its TRUNCATED_ flag set, so the records can stay fixed size. An error
+ * is recorded as its standard code, without the message an OTHER error may have been given. The
+ * file is extended in steps that double its room, so it is usually longer than the records in it.</p>
+ *
+ * <p> The methods are synchronized, so one log may be shared by several BusinessLogic instances in
+ * different threads. As a mapped view is limited to 2GB, a log holds at most MAX_RECORDS records.
+ * </p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.03	2026-10-17 The denominators of fractions and the moduli of residues recorded
+ * @version 1.02	2026-10-17 The number mode and scale of the values recorded
+ * @version 1.01	2026-10-17 Only standard error codes recorded
+ * @version 1.00	2026-10-17 Initial memory-mapped operation history
+ *
+ */
+
+public final class HistoryLog implements Closeable {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The layout of the file
+	static final int MAGIC = 0x43414C48;							// "CALH"
+	static final short VERSION = 3;
+	static final int HEADER_SIZE = 16;
+	static final int RECORD_SIZE = 64;
+	static final long MAX_RECORDS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+	// The flags that mark a value recorded as only its low 64 bits
+	public static final int TRUNCATED_OPERAND1 = 1;
+	public static final int TRUNCATED_OPERAND2 = 2;
+	public static final int TRUNCATED_RESULT = 4;
+
+	// The number of records the mapped view has room for when a new log is created
+	private static final int INITIAL_CAPACITY = 4096;
+
+	// The positions of the fields in the header and in a record
+	private static final int COUNT = 8;
+	private static final int TIME = 0;
+	private static final int OPERAND1 = 8;
+	private static final int OPERAND2 = 16;
+	private static final int RESULT = 24;
+	private static final int OPERATION = 32;
+	private static final int FLAGS = 33;
+	private static final int MODE = 34;
+	private static final int SCALE = 35;
+	private static final int ERROR = 36;
+	private static final int DENOMINATOR1 = 40;
+	private static final int DENOMINATOR2 = 48;
+	private static final int RESULT_DENOMINATOR = 56;
+
+	private static final Operation[] OPERATIONS = Operation.values();
+	private static final NumberMode[] MODES = NumberMode.values();
+
+	private final FileChannel channel;
+	private MappedByteBuffer map;									// Remapped when it grows
+	private long capacity;											// The records the map holds
+	private long count;												// The records written
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor is used by open once the file is ready.
+	 */
+	private HistoryLog(FileChannel channel, long count) throws IOException {
+		this.channel = channel;
+		this.count = count;
+		mapFor(Math.max(count, INITIAL_CAPACITY));
+	}
+
+	/**********
+	 * This method opens a log, creating it if the file does not exist, and appending to the
+	 * records it already has if it does.
+	 *
+	 * @param file	The file the log is kept in
+	 * @return the log
+	 * @throws IOException if the file cannot be opened or is not a history log
+	 */
+	public static HistoryLog open(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			long size = channel.size();
+			if (size == 0)
+				return new HistoryLog(channel, 0);
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					Math.min(size, HEADER_SIZE));
+			header.order(ByteOrder.LITTLE_ENDIAN);
+			if (size < HEADER_SIZE || header.getInt(0) != MAGIC || header.getShort(4) != VERSION
+					|| header.getShort(6) != RECORD_SIZE)
+				throw new IOException(file + " is not a history log");
+			long count = header.getLong(COUNT);
+			if (count < 0 || count > MAX_RECORDS || HEADER_SIZE + count * RECORD_SIZE > size)
+				throw new IOException(file + " is damaged: it is too short for its records");
+			return new HistoryLog(channel, count);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+
+	/**********************************************************************************************
+
+	Writing
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method appends a record of one operation.
+	 *
+	 * @param op		The operation
+	 * @param operand1	The first operand
+	 * @param operand2	The second operand
+	 * @param result	The result, whose error code is recorded as well
+	 * @throws IOException if the file cannot be grown
+	 * @throws IllegalStateException if the log already holds MAX_RECORDS records
+	 */
+	public synchronized void append(Operation op, CalculatorValue operand1, CalculatorValue operand2,
+			CalculatorValue result) throws IOException {
+		if (count == capacity)
+			grow();
+		int at = (int) (HEADER_SIZE + count * RECORD_SIZE);
+		map.putLong(at + TIME, System.currentTimeMillis());
+		map.putLong(at + OPERAND1, operand1.measuredValue);		// The low 64 bits of each value
+		map.putLong(at + OPERAND2, operand2.measuredValue);
+		map.putLong(at + RESULT, result.measuredValue);
+		map.put(at + OPERATION, (byte) op.ordinal());
+		map.putLong(at + DENOMINATOR1, denominator(operand1));
+		map.putLong(at + DENOMINATOR2, denominator(operand2));
+		map.putLong(at + RESULT_DENOMINATOR, denominator(result));
+		map.put(at + FLAGS, (byte) ((truncated(operand1) ? TRUNCATED_OPERAND1 : 0)
+				| (truncated(operand2) ? TRUNCATED_OPERAND2 : 0)
+				| (truncated(result) ? TRUNCATED_RESULT : 0)));
+		map.put(at + MODE, (byte) mode(result).ordinal());
+		map.put(at + SCALE, (byte) (result instanceof FixedPointValue
+				? ((FixedPointValue) result).getScale() : 0));
+		map.putInt(at + ERROR, ErrorCode.standard(result.getErrorCode()));
+		map.putLong(COUNT, ++count);								// Only now is the record in
+	}
+
+	/**********
+	 * Private local method that fetches the low 64 bits of the denominator of a fraction, the
+	 * modulus of a modular value, or 1 for any other value.
+	 */
+	private static long denominator(CalculatorValue v) {
+		if (v instanceof RationalValue)
+			return ((RationalValue) v).denominator.measuredValue;
+		if (v instanceof ModularValue)
+			return ((ModularValue) v).getModulus().getModulus();
+		return 1;
+	}
+
+	/**********
+	 * Private local method that determines whether a value is more than the longs it is recorded
+	 * as, i.e. its numerator or its denominator does not fit in a long.
+	 */
+	private static boolean truncated(CalculatorValue v) {
+		return v.bigValue != null
+				|| v instanceof RationalValue && ((RationalValue) v).denominator.bigValue != null;
+	}
+
+	/**********
+	 * Private local method that finds the number mode a value belongs to, from its class.
+	 */
+	private static NumberMode mode(CalculatorValue v) {
+		if (v instanceof RationalValue)
+			return NumberMode.RATIONAL;
+		if (v instanceof FixedPointValue)
+			return NumberMode.FIXED_POINT;
+		if (v instanceof ModularValue)
+			return NumberMode.MODULAR;
+		return NumberMode.INTEGER;
+	}
+
+	/**********
+	 * This method writes the records appended so far out to the disk, so they survive a crash of
+	 * the machine and not just of the process.
+	 */
+	public synchronized void force() {
+		map.force();
+	}
+
+	/**********
+	 * This method closes the log. The records are in the file whether or not force was called, as
+	 * the operating system writes the mapped pages out on its own.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	public synchronized void close() throws IOException {
+		channel.close();
+	}
+
+	/**********
+	 * Private local method that doubles the room in the mapped view.
+	 */
+	private void grow() throws IOException {
+		if (capacity >= MAX_RECORDS)
+			throw new IllegalStateException("The history log is full");
+		mapFor(Math.min(2 * capacity, MAX_RECORDS));
+	}
+
+	/**********
+	 * Private local method that maps the header and room for the given number of records, which
+	 * extends the file when it is not already that long.
+	 */
+	private void mapFor(long records) throws IOException {
+		map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + records * RECORD_SIZE);
+		map.order(ByteOrder.LITTLE_ENDIAN);
+		capacity = records;
+		if (count == 0 && map.getInt(0) != MAGIC) {				// A new file needs a header
+			map.putInt(0, MAGIC);
+			map.putShort(4, VERSION);
+			map.putShort(6, (short) RECORD_SIZE);
+			map.putLong(COUNT, 0);
+		}
+	}
+
+
+	/**********************************************************************************************
+
+	Reading
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the number of records in the log.
+	 *
+	 * @return the number of records
+	 */
+	public synchronized long size() {
+		return count;
+	}
+
+	/**********
+	 * This method reads one record.
+	 *
+	 * @param index	The number of the record, starting with zero for the oldest
+	 * @return the record
+	 * @throws IndexOutOfBoundsException if there is no such record
+	 */
+	public synchronized Entry get(long index) {
+		if (index < 0 || index >= count)
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+		int at = (int) (HEADER_SIZE + index * RECORD_SIZE);
+		return new Entry(index, map.getLong(at + TIME), OPERATIONS[map.get(at + OPERATION)],
+				MODES[map.get(at + MODE)], map.get(at + SCALE), map.getLong(at + OPERAND1),
+				map.getLong(at + DENOMINATOR1), map.getLong(at + OPERAND2),
+				map.getLong(at + DENOMINATOR2), map.getLong(at + RESULT),
+				map.getLong(at + RESULT_DENOMINATOR), map.getInt(at + ERROR), map.get(at + FLAGS));
+	}
+
+	/**********
+	 * A visitor is given the fields of each record as it is replayed, so replaying creates no
+	 * objects for the records. The values are the longs they were kept in, so a fixed point value
+	 * is its scaled long, and each has the denominator it was recorded with, which is the modulus
+	 * of a modular value and 1 for a value that is neither a fraction nor a residue.
+	 */
+	public interface Visitor {
+		void visit(long index, long time, Operation op, NumberMode mode, int scale, long operand1,
+				long denominator1, long operand2, long denominator2, long result,
+				long resultDenominator, int errorCode, int flags);
+	}
+
+	/**********
+	 * This method replays the records from the given index to the end of the log, oldest first.
+	 * The log is locked while it is replayed, so the visitor must not append to it.
+	 *
+	 * @param from		The number of the first record to replay
+	 * @param visitor	What is done with each record
+	 */
+	public synchronized void replay(long from, Visitor visitor) {
+		for (long index = Math.max(0, from); index < count; index++) {
+			int at = (int) (HEADER_SIZE + index * RECORD_SIZE);
+			visitor.visit(index, map.getLong(at + TIME), OPERATIONS[map.get(at + OPERATION)],
+					MODES[map.get(at + MODE)], map.get(at + SCALE), map.getLong(at + OPERAND1),
+					map.getLong(at + DENOMINATOR1), map.getLong(at + OPERAND2),
+					map.getLong(at + DENOMINATOR2), map.getLong(at + RESULT),
+					map.getLong(at + RESULT_DENOMINATOR), map.getInt(at + ERROR),
+					map.get(at + FLAGS));
+		}
+	}
+
+
+	/**********************************************************************************************
+
+	The records
+
+	**********************************************************************************************/
+
+	/**********
+	 * One record of the log.
+	 */
+	public static final class Entry {
+		private final long index;
+		private final long time;
+		private final Operation op;
+		private final NumberMode mode;
+		private final int scale;
+		private final long operand1;
+		private final long denominator1;
+		private final long operand2;
+		private final long denominator2;
+		private final long result;
+		private final long resultDenominator;
+		private final int errorCode;
+		private final int flags;
+
+		Entry(long index, long time, Operation op, NumberMode mode, int scale, long operand1,
+				long denominator1, long operand2, long denominator2, long result,
+				long resultDenominator, int errorCode, int flags) {
+			this.index = index;
+			this.time = time;
+			this.op = op;
+			this.mode = mode;
+			this.scale = scale;
+			this.operand1 = operand1;
+			this.denominator1 = denominator1;
+			this.operand2 = operand2;
+			this.denominator2 = denominator2;
+			this.result = result;
+			this.resultDenominator = resultDenominator;
+			this.errorCode = errorCode;
+			this.flags = flags;
+		}
+
+		public long getIndex() {
+			return index;
+		}
+
+		public long getTime() {
+			return time;
+		}
+
+		public Operation getOperation() {
+			return op;
+		}
+
+		public NumberMode getMode() {
+			return mode;
+		}
+
+		/**********
+		 * This getter fetches the number of places after the decimal point of the values, which is
+		 * zero unless they are fixed point values.
+		 *
+		 * @return the scale
+		 */
+		public int getScale() {
+			return scale;
+		}
+
+		public long getOperand1() {
+			return operand1;
+		}
+
+		/**********
+		 * The denominator getters fetch the denominator of a fraction, the modulus of a modular
+		 * value, or 1 for any other value.
+		 */
+		public long getDenominator1() {
+			return denominator1;
+		}
+
+		public long getOperand2() {
+			return operand2;
+		}
+
+		public long getDenominator2() {
+			return denominator2;
+		}
+
+		public long getResult() {
+			return result;
+		}
+
+		public long getResultDenominator() {
+			return resultDenominator;
+		}
+
+		public int getErrorCode() {
+			return errorCode;
+		}
+
+		/**********
+		 * This getter fetches the TRUNCATED_ flags of the values recorded as their low 64 bits.
+		 *
+		 * @return the flags
+		 */
+		public int getFlags() {
+			return flags;
+		}
+
+		/**********
+		 * This is the default toString method. It shows the operation the way it was entered, with
+		 * a fixed point value as a decimal, a fraction as its numerator and denominator separated
+		 * by a slash, a truncated value marked by a trailing "...", and the result or its error
+		 * message. A modular operation ends with the modulus of its result.
+		 */
+		public String toString() {
+			return format(operand1, denominator1, TRUNCATED_OPERAND1) + " " + op.getSymbol() + " "
+					+ format(operand2, denominator2, TRUNCATED_OPERAND2) + " = "
+					+ (errorCode != ErrorCode.NONE ? ErrorCode.message(errorCode)
+							: format(result, resultDenominator, TRUNCATED_RESULT))
+					+ (mode == NumberMode.MODULAR ? " (mod " + resultDenominator + ")" : "");
+		}
+
+		/**********
+		 * Private local method that formats one of the values, given its denominator and its
+		 * TRUNCATED_ flag.
+		 */
+		private String format(long value, long denominator, int truncated) {
+			String s;
+			if (mode == NumberMode.FIXED_POINT)
+				s = BigDecimal.valueOf(value, scale).toPlainString();
+			else if (mode == NumberMode.RATIONAL && (denominator != 1 || (flags & truncated) != 0))
+				s = value + "/" + denominator;
+			else
+				s = Long.toString(value);
+			return (flags & truncated) != 0 ? s + "..." : s;
+		}
+	}
+}
@@ -0,0 +1,228 @@
+package calculator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p> Title: LatencyMetrics Class. </p>
+ *
+ * <p> Description: The counts, errors, and times of one kind of work done by the calculator, e.g.
+ * the parsing of operands or one of the operations. The times are kept in a histogram with one
+ * bucket for each power of two nanoseconds, so recording a time is a count of leading zeros and
+ * an increment, and the percentiles are known to within a factor of two, which is enough to tell
+ * a 50 ns operation from a 5 us one.</p>
+ *
+ * <p> Every counter is a LongAdder, which spreads its increments over cells of its own when
+ * threads contend for it, so threads doing the same work do not have to wait on one cache line.
+ * The counters are only summed when they are read. A reading taken while work is being recorded
+ * may be slightly out of step between attributes (e.g. the count and the histogram), which does
+ * not matter for monitoring.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 Codes that are not standard counted as OTHER
+ * @version 1.00	2026-10-17 Initial latency metrics
+ *
+ */
+
+public final class LatencyMetrics implements LatencyMetricsMXBean {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// One bucket for zero and one for each bit of a positive long
+	static final int BUCKETS = 64;
+
+	private final String name;
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder[] errors = new LongAdder[ErrorCode.STANDARD_CODES];	// By standard code
+	private volatile long resetTime = System.nanoTime();
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor creates the metrics of one kind of work, with every counter at zero.
+	 *
+	 * @param name	The name of the work, e.g. "ADD"
+	 */
+	public LatencyMetrics(String name) {
+		this.name = name;
+		for (int ndx = 0; ndx < BUCKETS; ndx++)
+			buckets[ndx] = new LongAdder();
+		for (int ndx = 0; ndx < errors.length; ndx++)
+			errors[ndx] = new LongAdder();
+	}
+
+
+	/**********************************************************************************************
+
+	Recording
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method records one piece of work.
+	 *
+	 * @param nanos		The time it took, in nanoseconds
+	 * @param errorCode	The error code it ended with, which is ErrorCode.NONE if it worked
+	 */
+	public void record(long nanos, int errorCode) {
+		if (nanos < 0)											// The clock is monotonic, but be
+			nanos = 0;											// safe
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+		buckets[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment();
+		if (errorCode != ErrorCode.NONE)
+			errors[ErrorCode.standard(errorCode)].increment();
+	}
+
+	/**********
+	 * This method sets every counter back to zero. Work being recorded at the same time may be
+	 * counted in some counters and not in others.
+	 */
+	public void reset() {
+		count.reset();
+		totalNanos.reset();
+		maxNanos.reset();
+		for (LongAdder b : buckets)
+			b.reset();
+		for (LongAdder e : errors)
+			e.reset();
+		resetTime = System.nanoTime();
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the name of the work.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getErrorCount() {
+		long sum = 0;
+		for (LongAdder e : errors)
+			sum += e.sum();
+		return sum;
+	}
+
+	/**********
+	 * This getter fetches the number of times the work ended with one kind of error.
+	 *
+	 * @param errorCode	The error code; the codes that are not standard are counted as OTHER
+	 * @return the number of times
+	 */
+	public long getErrorCount(int errorCode) {
+		if (errorCode == ErrorCode.NONE)
+			return getCount() - getErrorCount();
+		return errors[ErrorCode.standard(errorCode)].sum();
+	}
+
+	public Map<String, Long> getErrorCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (int code = 1; code < errors.length; code++) {
+			long n = errors[code].sum();
+			if (n != 0)
+				counts.put(ErrorCode.name(code), n);
+		}
+		return counts;
+	}
+
+	public double getThroughput() {
+		long elapsed = System.nanoTime() - resetTime;
+		return elapsed <= 0 ? 0 : getCount() * 1e9 / elapsed;
+	}
+
+	public double getMeanNanos() {
+		long n = count.sum();
+		return n == 0 ? 0 : (double) totalNanos.sum() / n;
+	}
+
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	public long getPercentile50Nanos() {
+		return getPercentileNanos(0.5);
+	}
+
+	public long getPercentile90Nanos() {
+		return getPercentileNanos(0.9);
+	}
+
+	public long getPercentile99Nanos() {
+		return getPercentileNanos(0.99);
+	}
+
+	public long getPercentile999Nanos() {
+		return getPercentileNanos(0.999);
+	}
+
+	/**********
+	 * This getter fetches the time within which the given fraction of the work was done. It is
+	 * the upper end of the bucket the time falls in, so it is at most twice the true time, but
+	 * never more than the longest time recorded.
+	 *
+	 * @param fraction	The fraction of the work, from 0 to 1
+	 * @return the time, in nanoseconds, or zero if no work has been recorded
+	 */
+	public long getPercentileNanos(double fraction) {
+		long[] histogram = getHistogram();
+		long total = 0;
+		for (long n : histogram)
+			total += n;
+		if (total == 0)
+			return 0;
+		long wanted = Math.max(1, (long) Math.ceil(fraction * total));
+		long seen = 0;
+		int bucket = 0;
+		while (bucket < BUCKETS - 1 && (seen += histogram[bucket]) < wanted)
+			bucket++;
+		long upper = bucket == 0 ? 0 : bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+		return Math.min(upper, getMaxNanos());
+	}
+
+	public long[] getHistogram() {
+		long[] histogram = new long[BUCKETS];
+		for (int ndx = 0; ndx < BUCKETS; ndx++)
+			histogram[ndx] = buckets[ndx].sum();
+		return histogram;
+	}
+
+	/**********
+	 * This is the default toString method.
+	 */
+	public String toString() {
+		return name + ": count = " + getCount() + ", errors = " + getErrorCounts() + ", mean = "
+				+ String.format("%.1f", getMeanNanos()) + " ns, p50 = " + getPercentile50Nanos()
+				+ " ns, p99 = " + getPercentile99Nanos() + " ns, max = " + getMaxNanos() + " ns";
+	}
+}
@@ -0,0 +1,82 @@
+package calculator;
+
+import java.util.Map;
+
+/**
+ * <p> Title: LatencyMetricsMXBean Interface. </p>
+ *
+ * <p> Description: The management interface of the LatencyMetrics of one kind of work, as it is
+ * seen through JMX (e.g. in JConsole or VisualVM). Every attribute is read only and is computed
+ * from the counters when it is read.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial latency metrics
+ *
+ */
+
+public interface LatencyMetricsMXBean {
+
+	/**********
+	 * @return the number of times the work was done since the last reset
+	 */
+	long getCount();
+
+	/**********
+	 * @return the number of those times that ended with an error
+	 */
+	long getErrorCount();
+
+	/**********
+	 * @return the number of times that ended with each kind of error, by the name of its code
+	 */
+	Map<String, Long> getErrorCounts();
+
+	/**********
+	 * @return the number of times the work was done per second since the last reset
+	 */
+	double getThroughput();
+
+	/**********
+	 * @return the mean time the work took, in nanoseconds
+	 */
+	double getMeanNanos();
+
+	/**********
+	 * @return the longest time the work took, in nanoseconds
+	 */
+	long getMaxNanos();
+
+	/**********
+	 * @return the time half of the work was done within, in nanoseconds
+	 */
+	long getPercentile50Nanos();
+
+	/**********
+	 * @return the time 90% of the work was done within, in nanoseconds
+	 */
+	long getPercentile90Nanos();
+
+	/**********
+	 * @return the time 99% of the work was done within, in nanoseconds
+	 */
+	long getPercentile99Nanos();
+
+	/**********
+	 * @return the time 99.9% of the work was done within, in nanoseconds
+	 */
+	long getPercentile999Nanos();
+
+	/**********
+	 * @return the histogram of the times, where element n counts the times of at least 2^(n-1)
+	 * and less than 2^n nanoseconds, and element 0 counts the times of zero
+	 */
+	long[] getHistogram();
+
+	/**********
+	 * This operation sets every counter back to zero.
+	 */
+	void reset();
+}
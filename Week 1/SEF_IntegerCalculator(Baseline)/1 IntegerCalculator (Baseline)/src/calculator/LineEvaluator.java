@@ -0,0 +1,185 @@
+package calculator;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p> Title: LineEvaluator Class. </p>
+ *
+ * <p> Description: The evaluation of one line of text of the form "operand operator operand",
+ * shared by the headless front ends of the calculator (the batch calculator and the calculator
+ * server), so they give the same answers and the same error messages for the same input. The
+ * fields are found in place and the operands are parsed straight out of the line, and the output
+ * is placed straight into the caller's output buffer, or formatted into a StringBuilder that is
+ * reused from one line to the next, so evaluating a line creates no Strings unless the result is
+ * too large for a long.</p>
+ *
+ * <p> An instance keeps a BusinessLogic and the output buffer, so it may only be used by one
+ * thread at a time.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 Output placed straight into a ByteBuffer
+ * @version 1.00	2026-10-17 Line evaluation taken out of the batch calculator
+ *
+ */
+
+final class LineEvaluator {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The outcomes of evaluating a line
+	static final int BLANK = 0;									// Nothing but white space
+	static final int RESULT = 1;								// The output is the result
+	static final int ERROR = 2;									// The output is an error message
+
+	// This is the message written for a line that does not have exactly three fields
+	static final String ERROR_FORMAT = "***Error*** Expected: operand operator operand";
+
+	// This is the message written for a line with an operator the calculator does not know
+	static final String ERROR_OPERATOR = "***Error*** Unknown operator";
+
+	private final BusinessLogic perform = new BusinessLogic();	// The link to the business logic
+	private final StringBuilder output = new StringBuilder(32);	// The output for the last line
+	private boolean resultPending = false;						// The output is the result, which
+																// is not yet in the StringBuilder
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor selects whether the operations are overflow checked and whether the
+	 * calculator is in big integer mode.
+	 *
+	 * @param checked	true for overflow checked operations
+	 * @param big		true for big integer mode
+	 */
+	LineEvaluator(boolean checked, boolean big) {
+		perform.setOverflowChecked(checked);
+		perform.setBigIntegerMode(big);
+	}
+
+
+	/**********************************************************************************************
+
+	Evaluation
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method evaluates a line, leaving the text to be written for it, without a line
+	 * terminator, in the output buffer. A blank line gives an empty output.
+	 *
+	 * @param line	The line, without its line terminator
+	 * @return BLANK, RESULT, or ERROR
+	 */
+	int evaluate(CharSequence line) {
+		int length = line.length();
+		output.setLength(0);
+		resultPending = false;
+
+		// Find the three fields, each of which is separated from the next by white space
+		int start1 = skipSpace(line, 0, length);
+		int end1 = skipField(line, start1, length);
+		int startOp = skipSpace(line, end1, length);
+		int endOp = skipField(line, startOp, length);
+		int start2 = skipSpace(line, endOp, length);
+		int end2 = skipField(line, start2, length);
+		if (start1 == length)									// A blank line gives a blank line
+			return BLANK;
+		if (start2 == length || skipSpace(line, end2, length) != length)
+			return error(ERROR_FORMAT);							// There must be exactly three fields
+
+		// Set the operands and stop if either of them has an error
+		if (!perform.setOperand1(line, start1, end1 - start1))
+			return error(perform.getOperand1ErrorMessage());
+		if (!perform.setOperand2(line, start2, end2 - start2))
+			return error(perform.getOperand2ErrorMessage());
+
+		// Perform the operation the operator calls for
+		Operation op = endOp - startOp == 1 ? Operation.fromSymbol(line.charAt(startOp)) : null;
+		if (op == null)
+			return error(ERROR_OPERATOR);
+		perform.compute(op);									// The business logic does the work
+		if (perform.getResultErrorCode() != ErrorCode.NONE)		// If there is no result, the
+			return error(perform.getResultErrorMessage());		// result error message says why
+		resultPending = true;									// Only formatted when it is placed
+		return RESULT;
+	}
+
+	/**********
+	 * This getter fetches the output for the last line evaluated. The buffer is reused, so its
+	 * contents are only good until the next line is evaluated.
+	 *
+	 * @return the output
+	 */
+	CharSequence getOutput() {
+		if (resultPending) {
+			perform.appendTo(output);
+			resultPending = false;
+		}
+		return output;
+	}
+
+	/**********
+	 * This method places the output for the last line evaluated, followed by a new line, into a
+	 * buffer as one ASCII byte for each character, if there is room for all of it. A result is
+	 * formatted straight into the buffer. When there is not enough room, nothing is placed, and
+	 * the caller can make room and try again, or place the output from getOutput in pieces.
+	 *
+	 * @param out	The buffer the output is placed in, from its position
+	 * @return true if the output was placed, false if there is not enough room for it
+	 */
+	boolean putOutput(ByteBuffer out) {
+		if (resultPending) {
+			if (out.remaining() <= perform.getResultLength())	// The length of a big result is
+				return false;									// only an upper bound
+			perform.appendTo(out).put((byte) '\n');
+			return true;
+		}
+		int length = output.length();
+		if (out.remaining() <= length)
+			return false;
+		for (int ndx = 0; ndx < length; ndx++)
+			out.put((byte) output.charAt(ndx));
+		out.put((byte) '\n');
+		return true;
+	}
+
+	/**********
+	 * Private local method that leaves an error message as the output.
+	 */
+	private int error(String message) {
+		output.append(message);
+		return ERROR;
+	}
+
+	/**********
+	 * Private local method that returns the position of the first character at or after ndx that
+	 * is not white space.
+	 */
+	private static int skipSpace(CharSequence line, int ndx, int length) {
+		while (ndx < length && Character.isWhitespace(line.charAt(ndx)))
+			ndx++;
+		return ndx;
+	}
+
+	/**********
+	 * Private local method that returns the position of the first character at or after ndx that
+	 * is white space.
+	 */
+	private static int skipField(CharSequence line, int ndx, int length) {
+		while (ndx < length && !Character.isWhitespace(line.charAt(ndx)))
+			ndx++;
+		return ndx;
+	}
+}
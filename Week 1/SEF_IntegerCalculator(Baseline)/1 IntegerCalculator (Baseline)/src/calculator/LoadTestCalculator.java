@@ -0,0 +1,194 @@
+package calculator;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * <p> Title: LoadTestCalculator </p>
+ *
+ * <p> Description: A component of the Calculator application that puts a CalculatorServer under
+ * load. It opens the given number of connections and holds all of them open at once, then has
+ * every connection send its lines and checks every answer, and finally reports the number of
+ * connections the server held at its peak and the rate at which the lines were answered.</p>
+ *
+ * <p> The clients use a selector of their own, so the test needs no more threads than the
+ * server does. When no port is given, a server is started in the same process, in which case
+ * each connection uses two file descriptors, one at each end, and the limit on open files
+ * (ulimit -n) must be more than twice the number of connections.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17	Initial load test of the calculator server
+ *
+ */
+
+public class LoadTestCalculator {
+
+	/**********
+	 * The state of one client connection: the lines it still has to send and the answers it has
+	 * received so far.
+	 */
+	private static final class Client {
+		final int id;
+		final ByteBuffer request;
+		long received = 0;									// The answers checked so far
+		long checksum = 0;									// The sum of the answers
+		long partial = 0;									// The answer being read
+		boolean negative = false;
+
+		Client(int id, ByteBuffer request) {
+			this.id = id;
+			this.request = request;
+		}
+	}
+
+	/*********************************************************************************************/
+
+	/**********
+	 * This main method roots the execution of the load test.
+	 *
+	 * @param args	[connections [lines per connection [port]]]
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		int connections = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		int lines = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+		// Start a server in this process unless one is given
+		CalculatorServer server = null;
+		Thread serverThread = null;
+		int port;
+		if (args.length > 2)
+			port = Integer.parseInt(args[2]);
+		else {
+			server = new CalculatorServer(0, connections, false, false);
+			port = server.getPort();
+			serverThread = new Thread(server, "CalculatorServer");
+			serverThread.start();
+		}
+		System.out.println("Load Test Calculator Server\n");
+		System.out.println(connections + " connections of " + lines + " lines each on port " + port
+				+ "\n");
+		InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+
+		// Open all of the connections and wait until every one of them is established
+		Selector selector = Selector.open();
+		Client[] clients = new Client[connections];
+		long startTime = System.nanoTime();
+		long expected = 0;
+		for (int ndx = 0; ndx < connections; ndx++) {
+			StringBuilder request = new StringBuilder(lines * 16);
+			for (int line = 0; line < lines; line++) {		// Each line has a different answer
+				long a = ndx * 1000L + line;
+				request.append(a).append(" * ").append(line % 7 - 3).append('\n');
+				expected += a * (line % 7 - 3);
+			}
+			clients[ndx] = new Client(ndx, ByteBuffer.wrap(
+					request.toString().getBytes(StandardCharsets.ISO_8859_1)));
+			SocketChannel channel = SocketChannel.open();
+			channel.configureBlocking(false);
+			if (channel.connect(address))
+				channel.register(selector, 0, clients[ndx]);
+			else
+				channel.register(selector, SelectionKey.OP_CONNECT, clients[ndx]);
+		}
+		int pending = connections;
+		for (SelectionKey key : selector.keys())
+			if (key.interestOps() == 0)
+				pending--;
+		while (pending > 0) {
+			selector.select();
+			Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+			while (keys.hasNext()) {
+				SelectionKey key = keys.next();
+				keys.remove();
+				if (((SocketChannel) key.channel()).finishConnect()) {
+					key.interestOps(0);
+					pending--;
+				}
+			}
+		}
+		long connectTime = System.nanoTime() - startTime;
+		while (server != null && server.getConnections() < connections)
+			Thread.sleep(1);									// Let the server catch up
+		int held = server != null ? server.getConnections() : connections;
+
+		// Now send every request and read every answer
+		startTime = System.nanoTime();
+		for (SelectionKey key : selector.keys())
+			key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+		ByteBuffer in = ByteBuffer.allocateDirect(64 * 1024);
+		int unfinished = connections;
+		long checksum = 0;
+		long failures = 0;
+		while (unfinished > 0) {
+			selector.select();
+			Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+			while (keys.hasNext()) {
+				SelectionKey key = keys.next();
+				keys.remove();
+				SocketChannel channel = (SocketChannel) key.channel();
+				Client c = (Client) key.attachment();
+				if (key.isWritable()) {
+					channel.write(c.request);
+					if (!c.request.hasRemaining())
+						key.interestOps(SelectionKey.OP_READ);
+				}
+				if (!key.isReadable())
+					continue;
+				in.clear();
+				if (channel.read(in) < 0) {						// The server hung up early
+					failures++;
+					unfinished--;
+					key.cancel();
+					channel.close();
+					continue;
+				}
+				in.flip();
+				while (in.hasRemaining()) {						// Total up the answers
+					byte b = in.get();
+					if (b == '-')
+						c.negative = true;
+					else if (b >= '0' && b <= '9')
+						c.partial = c.partial * 10 + (b - '0');
+					else if (b == '\n') {
+						c.checksum += c.negative ? -c.partial : c.partial;
+						c.received++;
+						c.partial = 0;
+						c.negative = false;
+					}
+				}
+				if (c.received == lines) {						// This client is done
+					checksum += c.checksum;
+					unfinished--;
+					key.cancel();
+					channel.close();
+				}
+			}
+		}
+		long requestTime = Math.max(1, System.nanoTime() - startTime);
+		selector.close();
+
+		long total = (long) connections * lines;
+		System.out.println("Connections open at once:   " + held);
+		System.out.println("Time to open them:          " + connectTime / 1000000 + " ms");
+		System.out.println("Lines answered:             " + total + " in " + requestTime / 1000000
+				+ " ms, " + total * 1000000000L / requestTime + " lines per second");
+		System.out.println("Connections that failed:    " + failures);
+		System.out.println("Answers " + (checksum == expected ? "match" : "DO NOT MATCH")
+				+ " the expected checksum " + expected);
+		if (server != null) {
+			System.out.println("Server peak connections:    " + server.getPeakConnections());
+			server.close();
+			serverThread.join();
+		}
+	}
+}
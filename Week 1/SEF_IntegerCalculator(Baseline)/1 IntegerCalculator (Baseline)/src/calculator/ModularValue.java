@@ -0,0 +1,357 @@
+package calculator;
+
+import java.math.BigInteger;
+
+/**
+ * <p> Title: ModularValue Class. </p>
+ *
+ * <p> Description: An integer modulo a modulus, for the modular mode of the calculator. The
+ * value is the residue, from 0 to m - 1, kept in the measuredValue inherited from
+ * CalculatorValue, so it is parsed and formatted as an integer in any radix, and every result is
+ * reduced to a residue again. An operand of any size is reduced when it is parsed, so operands
+ * too large for a long are accepted without the big integer mode.</p>
+ *
+ * <p> The operations are those of the Modulus the value was created with, which multiplies by
+ * Montgomery multiplication rather than by dividing a 128 bit product. Division multiplies by the
+ * inverse of the divisor; a divisor that has no inverse, which modulo a prime is only zero, sets
+ * the DIVIDE_BY_ZERO error code. There are two operations of the modular mode alone: pow raises
+ * the value to a power, and inverse replaces it by its inverse.</p>
+ *
+ * <p> An exponent is an integer, not a residue: 3^10 modulo 7 is not 3^3. So a value that was
+ * parsed or set from an integer other than its residue remembers that integer, and pow uses it
+ * when the value is the exponent. The result of an operation is its own integer.</p>
+ *
+ * <p> Nothing can overflow, so the checked and the unchecked computation methods are the same.
+ * </p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 The integer an exponent was given as
+ * @version 1.00	2026-10-17 Initial modular values
+ *
+ */
+
+public class ModularValue extends CalculatorValue {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The modulus of a value created without one: the Mersenne prime 2^61 - 1, so every value
+	// but zero has an inverse
+	public static final long DEFAULT_MODULUS = (1L << 61) - 1;
+	private static final Modulus DEFAULT = new Modulus(DEFAULT_MODULUS);
+
+	// The modulus, which is fixed when the value is created
+	final Modulus modulus;
+
+	// The integer the value was parsed or set from, or null when that is the residue itself. It
+	// is never changed, so copies may share it.
+	private CalculatorValue integer = null;
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This is the default constructor, for the value zero modulo the default modulus.
+	 */
+	public ModularValue() {
+		this(DEFAULT);
+	}
+
+	/**********
+	 * This constructor creates the value zero modulo a modulus.
+	 *
+	 * @param modulus	The modulus
+	 */
+	public ModularValue(Modulus modulus) {
+		this.modulus = modulus;
+	}
+
+	/**********
+	 * This constructor creates the residue of v modulo a modulus.
+	 *
+	 * @param v			The value
+	 * @param modulus	The modulus
+	 */
+	public ModularValue(long v, Modulus modulus) {
+		this.modulus = modulus;
+		setValue(v);
+	}
+
+	/**********
+	 * This constructor creates a value from a String in any radix from 2 to 36, leaving an error
+	 * code in it when the String is not a valid integer.
+	 *
+	 * @param s			The String
+	 * @param radix		The radix of the digits
+	 * @param modulus	The modulus
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public ModularValue(String s, int radix, Modulus modulus) {
+		this.modulus = modulus;
+		parseUnbounded(s, 0, s.length(), radix);
+	}
+
+	/**********
+	 * This copy constructor creates a duplicate of a modular value, with its modulus.
+	 *
+	 * @param v	The value copied
+	 */
+	public ModularValue(ModularValue v) {
+		super(v);
+		modulus = v.modulus;
+		integer = v.integer;
+	}
+
+
+	/**********************************************************************************************
+
+	The parser
+
+	**********************************************************************************************/
+
+	/**********
+	 * The parsing methods of CalculatorValue all accept an integer of any size, which is reduced
+	 * to its residue.
+	 */
+	@Override
+	public boolean parse(CharSequence s, int start, int length) {
+		return parseUnbounded(s, start, length, 10);
+	}
+
+	@Override
+	public boolean parse(CharSequence s, int start, int length, int radix) {
+		return parseUnbounded(s, start, length, radix);
+	}
+
+	@Override
+	public boolean parseUnbounded(CharSequence s, int start, int length) {
+		return parseUnbounded(s, start, length, 10);
+	}
+
+	@Override
+	public boolean parseUnbounded(CharSequence s, int start, int length, int radix) {
+		integer = null;
+		boolean converted = super.parseUnbounded(s, start, length, radix);
+		if (!isResidue(this)) {						// A big value has been reduced already, by
+			integer = new CalculatorValue(this);	// setValue(BigInteger)
+			measuredValue = residue(this);
+			bigValue = null;
+		}
+		return converted;
+	}
+
+
+	/**********************************************************************************************
+
+	Getters and Setters
+
+	**********************************************************************************************/
+
+	/**********
+	 * The setters of CalculatorValue set the value to the residue of an integer.
+	 */
+	@Override
+	public void setValue(long v) {
+		integer = Long.compareUnsigned(v, modulus.getModulus()) < 0 ? null : new CalculatorValue(v);
+		measuredValue = modulus.reduce(v);
+		bigValue = null;
+	}
+
+	@Override
+	public void setValue(BigInteger v) {
+		integer = new CalculatorValue();
+		integer.setValue(v);
+		measuredValue = v.mod(BigInteger.valueOf(modulus.getModulus())).longValue();
+		bigValue = null;
+	}
+
+	@Override
+	public void setValue(CalculatorValue v) {
+		if (v instanceof ModularValue)
+			integer = ((ModularValue) v).integer;
+		else
+			integer = isResidue(v) ? null : new CalculatorValue(v);
+		measuredValue = residue(v);
+		bigValue = null;
+		errorCode = v.errorCode;
+		errorMessage = v.errorMessage;
+	}
+
+	/**********
+	 * This getter fetches the modulus.
+	 *
+	 * @return the modulus
+	 */
+	public Modulus getModulus() {
+		return modulus;
+	}
+
+	/**********
+	 * This getter fetches the integer the value was parsed or set from, which is the value itself
+	 * when it is a residue or the result of an operation.
+	 *
+	 * @return the integer
+	 */
+	public CalculatorValue getInteger() {
+		return integer != null ? new CalculatorValue(integer) : new CalculatorValue(measuredValue);
+	}
+
+	/**********
+	 * The operation keys of the result caches have no modulus, so a modular value is never
+	 * cached.
+	 */
+	@Override
+	boolean cacheable() {
+		return false;
+	}
+
+	@Override
+	ModularValue copy() {
+		return new ModularValue(this);
+	}
+
+
+	/**********************************************************************************************
+
+	The computation methods
+
+	**********************************************************************************************/
+
+	/**********
+	 * The computation methods of CalculatorValue work modulo the modulus. The operand v may be a
+	 * modular value of any modulus or an integer, of which the residue is used.
+	 */
+	@Override
+	public void add(CalculatorValue v) {
+		integer = null;
+		measuredValue = modulus.add(measuredValue, residue(v));
+		errorCode = ErrorCode.NONE;
+	}
+
+	@Override
+	public void sub(CalculatorValue v) {
+		integer = null;
+		measuredValue = modulus.subtract(measuredValue, residue(v));
+		errorCode = ErrorCode.NONE;
+	}
+
+	@Override
+	public void mpy(CalculatorValue v) {
+		integer = null;
+		measuredValue = modulus.multiply(measuredValue, residue(v));
+		errorCode = ErrorCode.NONE;
+	}
+
+	@Override
+	public void div(CalculatorValue v) {
+		long inverse = modulus.inverse(residue(v));
+		if (inverse == 0) {
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			return;
+		}
+		integer = null;
+		measuredValue = modulus.multiply(measuredValue, inverse);
+		errorCode = ErrorCode.NONE;
+	}
+
+	@Override
+	public void checkedAdd(CalculatorValue v) {
+		add(v);
+	}
+
+	@Override
+	public void checkedSub(CalculatorValue v) {
+		sub(v);
+	}
+
+	@Override
+	public void checkedMpy(CalculatorValue v) {
+		mpy(v);
+	}
+
+	@Override
+	public void checkedDiv(CalculatorValue v) {
+		div(v);
+	}
+
+	/**********
+	 * This method raises the value to the power of an integer, modulo the modulus. A negative
+	 * exponent raises the inverse of the value, and when there is none, the value is left alone
+	 * with the DIVIDE_BY_ZERO error code. An exponent too large for a long is used as it is,
+	 * without being reduced. When the exponent is a modular value, the integer it was given as
+	 * is used rather than its residue.
+	 *
+	 * @param exponent	The exponent
+	 */
+	public void pow(CalculatorValue exponent) {
+		if (exponent instanceof ModularValue && ((ModularValue) exponent).integer != null)
+			exponent = ((ModularValue) exponent).integer;
+		if (exponent.bigValue != null) {
+			BigInteger m = BigInteger.valueOf(modulus.getModulus());
+			try {
+				measuredValue = BigInteger.valueOf(measuredValue).modPow(exponent.bigValue, m)
+						.longValue();
+				integer = null;
+				errorCode = ErrorCode.NONE;
+			} catch (ArithmeticException e) {						// There is no inverse
+				errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			}
+			return;
+		}
+		long power = modulus.pow(measuredValue, exponent.measuredValue);
+		if (power == 0 && exponent.measuredValue < 0) {
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			return;
+		}
+		integer = null;
+		measuredValue = power;
+		errorCode = ErrorCode.NONE;
+	}
+
+	/**********
+	 * This method replaces the value by its inverse, modulo the modulus. When there is none, the
+	 * value is left alone with the DIVIDE_BY_ZERO error code.
+	 */
+	public void inverse() {
+		long inverse = modulus.inverse(measuredValue);
+		if (inverse == 0) {
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			return;
+		}
+		integer = null;
+		measuredValue = inverse;
+		errorCode = ErrorCode.NONE;
+	}
+
+	/**********
+	 * Private local method that fetches the residue of v modulo the modulus of this value. A value
+	 * that is already a residue, as those of this modulus are, is used as it is, and the residue
+	 * of a modular value of another modulus is that of the integer it was given as.
+	 */
+	private long residue(CalculatorValue v) {
+		if (v instanceof ModularValue && ((ModularValue) v).modulus != modulus
+				&& ((ModularValue) v).integer != null)
+			v = ((ModularValue) v).integer;
+		if (v.bigValue != null)
+			return v.bigValue.mod(BigInteger.valueOf(modulus.getModulus())).longValue();
+		long a = v.measuredValue;
+		return Long.compareUnsigned(a, modulus.getModulus()) < 0 ? a : modulus.reduce(a);
+	}
+
+	/**********
+	 * Private local method that determines whether v is already a residue of this modulus.
+	 */
+	private boolean isResidue(CalculatorValue v) {
+		return v.bigValue == null && Long.compareUnsigned(v.measuredValue, modulus.getModulus()) < 0;
+	}
+}
@@ -0,0 +1,302 @@
+package calculator;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * <p> Title: Modulus Class. </p>
+ *
+ * <p> Description: A modulus prepared for computing with many values modulo it. The product of
+ * two residues modulo a large modulus has 128 bits, and the obvious (a * b) % m both overflows
+ * and, done right, needs a 128 bit division for every product, which is slower still. Instead
+ * the modulus works out once the constants of Montgomery multiplication, which reduces a 128 bit
+ * product with two multiplications, an addition, and a subtraction, and no division at all.
+ * Exponentiation keeps its value in Montgomery form from the first square to the last multiply,
+ * so the conversions in and out are only paid once.</p>
+ *
+ * <p> Montgomery multiplication needs an odd modulus. An even modulus m is split into 2^k q,
+ * with q odd: the residue modulo q is found by Montgomery multiplication, the residue modulo 2^k
+ * is the low k bits of the product, which a long multiplication gives for free, and the two are
+ * put back together by the Chinese remainder theorem, again with only a multiplication. An odd
+ * modulus is the case k = 0, for which putting them together does nothing.</p>
+ *
+ * <p> The modulus may be any long from 2 up. The residues are from 0 to m - 1; the methods that
+ * take residues expect them to be in that range, and reduce takes any long into it. A value that
+ * has no inverse modulo m has the inverse zero, which no value that has one can have.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial Montgomery modulus
+ *
+ */
+
+public final class Modulus {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	private final long modulus;
+	private final long odd;					// The odd part q of the modulus, m = 2^k q
+	private final long mask;				// 2^k - 1, which is 0 for an odd modulus
+	private final long negInverse;			// -1 / q modulo 2^64
+	private final long oddInverse;			// 1 / q modulo 2^k, for putting the residues together
+	private final long one;					// 2^64 modulo q, which is 1 in Montgomery form
+	private final long r2;					// 2^128 modulo q, for converting into Montgomery form
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor prepares a modulus.
+	 *
+	 * @param modulus	The modulus, at least 2
+	 * @throws IllegalArgumentException if the modulus is less than 2
+	 */
+	public Modulus(long modulus) {
+		if (modulus < 2)
+			throw new IllegalArgumentException("The modulus must be at least 2, not " + modulus);
+		this.modulus = modulus;
+		int twos = Long.numberOfTrailingZeros(modulus);
+		odd = modulus >> twos;
+		mask = (1L << twos) - 1;
+
+		// Newton's iteration doubles the number of correct low bits of the inverse each time, and
+		// an odd number is its own inverse modulo 8, so five iterations give all 64 bits
+		long inverse = odd;
+		for (int iteration = 0; iteration < 5; iteration++)
+			inverse *= 2 - odd * inverse;
+		negInverse = -inverse;
+		oddInverse = inverse & mask;
+
+		BigInteger q = BigInteger.valueOf(odd);
+		one = BigInteger.ONE.shiftLeft(64).mod(q).longValue();
+		r2 = BigInteger.ONE.shiftLeft(128).mod(q).longValue();
+	}
+
+
+	/**********************************************************************************************
+
+	Arithmetic
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method reduces any long to its residue, from 0 to m - 1. A negative value has the
+	 * residue of its floor modulo the modulus, as with Math.floorMod.
+	 *
+	 * @param a	The value
+	 * @return the residue
+	 */
+	public long reduce(long a) {
+		if (a < 0)
+			return Math.floorMod(a, modulus);
+		return combine(redc(0, toMontgomery(a)), a & mask);
+	}
+
+	/**********
+	 * This method adds two residues. Neither the sum nor the difference taken to keep it in range
+	 * can overflow, however close the modulus is to the largest long.
+	 *
+	 * @param a	The left residue
+	 * @param b	The right residue
+	 * @return the residue of the sum
+	 */
+	public long add(long a, long b) {
+		long s = a - (modulus - b);
+		return s < 0 ? s + modulus : s;
+	}
+
+	/**********
+	 * This method subtracts one residue from another.
+	 *
+	 * @param a	The left residue
+	 * @param b	The right residue
+	 * @return the residue of the difference
+	 */
+	public long subtract(long a, long b) {
+		long d = a - b;
+		return d < 0 ? d + modulus : d;
+	}
+
+	/**********
+	 * This method multiplies two residues. One of them is converted into Montgomery form, so its
+	 * Montgomery product with the other is the residue of the product itself.
+	 *
+	 * @param a	The left residue
+	 * @param b	The right residue
+	 * @return the residue of the product
+	 */
+	public long multiply(long a, long b) {
+		return combine(montgomery(toMontgomery(a), b), (a * b) & mask);
+	}
+
+	/**********
+	 * This method raises a residue to a power by squaring and multiplying, from the highest bit of
+	 * the exponent down. A negative exponent raises the inverse of the residue.
+	 *
+	 * @param a			The residue
+	 * @param exponent	The exponent
+	 * @return the residue of the power, or zero if the exponent is negative and the residue has no
+	 * 			inverse
+	 */
+	public long pow(long a, long exponent) {
+		if (exponent < 0) {
+			a = inverse(a);
+			if (a == 0)
+				return 0;
+			exponent = -exponent;						// The most negative long is 2^63 here,
+		}												// which the loop takes as unsigned
+		if (exponent == 0)
+			return combine(redc(0, one), 1 & mask);
+		long x = toMontgomery(a);
+		long low = a;
+		long power = x;
+		long powerLow = low;
+		for (int bit = 62 - Long.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+			power = montgomery(power, power);
+			powerLow *= powerLow;
+			if ((exponent >>> bit & 1) != 0) {
+				power = montgomery(power, x);
+				powerLow *= low;
+			}
+		}
+		return combine(redc(0, power), powerLow & mask);
+	}
+
+	/**********
+	 * This method finds the inverse of a residue by the extended Euclidean algorithm. It divides
+	 * once per step, but it is only done once for each division or negative power.
+	 *
+	 * @param a	The residue
+	 * @return the inverse, or zero if the residue and the modulus have a common factor
+	 */
+	public long inverse(long a) {
+		long r0 = modulus;
+		long r1 = a;
+		long t0 = 0;
+		long t1 = 1;
+		while (r1 != 0) {
+			long q = r0 / r1;
+			long r = r0 - q * r1;
+			r0 = r1;
+			r1 = r;
+			long t = t0 - q * t1;
+			t0 = t1;
+			t1 = t;
+		}
+		if (r0 != 1)
+			return 0;
+		return t0 < 0 ? t0 + modulus : t0;
+	}
+
+	/**********
+	 * This method raises each element of an array to the power of the same element of another,
+	 * modulo the modulus. The bases may be any longs, which are reduced first. Where an exponent
+	 * is negative and the base has no inverse, the result is the base and the error code is
+	 * DIVIDE_BY_ZERO, as a division by a residue with no inverse is.
+	 *
+	 * @param bases		The bases
+	 * @param exponents	The exponents
+	 * @param result	Where the powers are placed, which may be either of the other arrays
+	 * @param errors	Where the error code of each element is placed
+	 * @return the number of elements with an error
+	 * @throws IllegalArgumentException if the arrays are not all the same length
+	 */
+	public int pow(long[] bases, long[] exponents, long[] result, byte[] errors) {
+		int length = bases.length;
+		if (exponents.length != length || result.length != length || errors.length != length)
+			throw new IllegalArgumentException("The arrays must all have " + length + " elements");
+		Arrays.fill(errors, (byte) ErrorCode.NONE);
+		int failed = 0;
+		for (int ndx = 0; ndx < length; ndx++) {
+			long base = bases[ndx];
+			long exponent = exponents[ndx];
+			long power = pow(reduce(base), exponent);
+			if (power == 0 && exponent < 0) {
+				power = base;
+				errors[ndx] = (byte) ErrorCode.DIVIDE_BY_ZERO;
+				failed++;
+			}
+			result[ndx] = power;
+		}
+		return failed;
+	}
+
+
+	/**********************************************************************************************
+
+	Montgomery form
+
+	**********************************************************************************************/
+
+	/**********
+	 * Package local method that converts any long from 0 up into Montgomery form modulo the odd
+	 * part of the modulus: a 2^64 modulo q.
+	 */
+	long toMontgomery(long a) {
+		return montgomery(a, r2);
+	}
+
+	/**********
+	 * Package local method that finds the Montgomery product x y / 2^64 modulo q. One of x and y
+	 * must be less than q and the other less than 2^63, so both are positive and the high half of
+	 * their product is less than q.
+	 */
+	long montgomery(long x, long y) {
+		return redc(Math.multiplyHigh(x, y), x * y);
+	}
+
+	/**********
+	 * Private local method that reduces the 128 bit value high:low, with high less than q, to
+	 * high:low / 2^64 modulo q. The multiple u q of q that is added makes the low half zero, so
+	 * the low halves only carry out when low is not zero, and what is left fits in 64 bits, as it
+	 * is less than 2 q. The high half of u q is an unsigned product, which is the signed one
+	 * corrected for the top bit of u; q is positive.
+	 */
+	private long redc(long high, long low) {
+		long u = low * negInverse;
+		long t = high + Math.multiplyHigh(u, odd) + ((u >> 63) & odd) + ((low | -low) >>> 63);
+		return Long.compareUnsigned(t, odd) >= 0 ? t - odd : t;
+	}
+
+	/**********
+	 * Private local method that puts the residue modulo q and the residue modulo 2^k back together
+	 * into the residue modulo m = 2^k q, by adding the multiple of q that corrects the low k bits.
+	 */
+	private long combine(long oddResidue, long lowResidue) {
+		return oddResidue + odd * (((lowResidue - oddResidue) * oddInverse) & mask);
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the modulus.
+	 *
+	 * @return the modulus
+	 */
+	public long getModulus() {
+		return modulus;
+	}
+
+	/**********
+	 * A modulus is shown as its value.
+	 */
+	@Override
+	public String toString() {
+		return Long.toString(modulus);
+	}
+}
@@ -0,0 +1,44 @@
+package calculator;
+
+/**
+ * <p> Title: NumberMode Enumeration. </p>
+ *
+ * <p> Description: The kinds of numbers the BusinessLogic can compute with. Each mode has its
+ * own class of calculator value, which the BusinessLogic creates for its operands and results,
+ * so the operations themselves do not change from one mode to another.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.02	2026-10-17 Modular mode
+ * @version 1.01	2026-10-17 Fixed point mode
+ * @version 1.00	2026-10-17 Initial integer and rational modes
+ *
+ */
+
+public enum NumberMode {
+	INTEGER,						// Integers, as CalculatorValues
+	RATIONAL,						// Exact fractions, as RationalValues
+	FIXED_POINT,					// Decimals on scaled longs, as FixedPointValues
+	MODULAR;						// Integers modulo a modulus, as ModularValues
+
+	/**********
+	 * This method creates a calculator value of this mode, with the value zero. A fixed point
+	 * value has the default scale and rounding mode, and a modular value the default modulus.
+	 *
+	 * @return the new value
+	 */
+	public CalculatorValue newValue() {
+		switch (this) {
+		case RATIONAL:
+			return new RationalValue();
+		case FIXED_POINT:
+			return new FixedPointValue();
+		case MODULAR:
+			return new ModularValue();
+		default:
+			return new CalculatorValue();
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package calculator;
+
+/**
+ * <p> Title: Operation Enumeration. </p>
+ * 
+ * <p> Description: The binary operations the calculator can perform. Each operation knows the
+ * symbol used to enter it, so the different front ends of the calculator can share one
+ * definition of them.</p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.00	2026-10-17 Initial enumeration of the binary operations
+ * 
+ */
+
+public enum Operation {
+	ADD('+'),
+	SUB('-'),
+	MPY('*'),
+	DIV('/');
+
+	// The symbol used to enter the operation
+	private final char symbol;
+
+	Operation(char symbol) {
+		this.symbol = symbol;
+	}
+
+	/**********
+	 * This getter fetches the symbol used to enter the operation.
+	 * 
+	 * @return the symbol of the operation
+	 */
+	public char getSymbol() {
+		return symbol;
+	}
+
+	/**********
+	 * This method finds the operation entered with a symbol. Both "x" and "X" are accepted as
+	 * well as "*" for multiplication.
+	 * 
+	 * @param c	The symbol
+	 * @return the operation, or null if the symbol is not that of an operation
+	 */
+	public static Operation fromSymbol(char c) {
+		switch (c) {
+		case '+':
+			return ADD;
+		case '-':
+			return SUB;
+		case '*':
+		case 'x':
+		case 'X':
+			return MPY;
+		case '/':
+			return DIV;
+		default:
+			return null;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package calculator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p> Title: OperationEvent Class. </p>
+ *
+ * <p> Description: The Flight Recorder event for one operation performed by the BusinessLogic,
+ * with the sizes of its operands and result, so a slow operation can be told apart from one that
+ * was simply given large operands. It is disabled by default.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial Flight Recorder events
+ *
+ */
+
+@Name("calculator.Operation")
+@Label("Operation")
+@Category("Calculator")
+@Description("One operation performed by the business logic")
+@Enabled(false)
+@StackTrace(false)
+final class OperationEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Operand 1 Bits")
+	@Description("The number of bits in the first operand, not counting the sign")
+	int operand1Bits;
+
+	@Label("Operand 2 Bits")
+	@Description("The number of bits in the second operand, not counting the sign")
+	int operand2Bits;
+
+	@Label("Result Bits")
+	@Description("The number of bits in the result, not counting the sign")
+	int resultBits;
+
+	@Label("Checked")
+	@Description("Whether the operation was overflow checked")
+	boolean checked;
+
+	@Label("Cached")
+	@Description("Whether the operation went through a result cache")
+	boolean cached;
+
+	@Label("Error Code")
+	@Description("The error code of the result, zero if there is none")
+	int errorCode;
+}
@@ -0,0 +1,87 @@
+package calculator;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * <p> Title: OperationKey Class. </p>
+ *
+ * <p> Description: The key under which the result of an operation is cached in a ResultCache: the
+ * operation, the values of its two operands, and whether it is overflow checked (since that can
+ * change the result). The key holds copies of the values rather than the CalculatorValues
+ * themselves, so it is immutable even though calculator values are not.</p>
+ *
+ * <p> The hash code only uses the low 64 bits of each operand, which every value has, so hashing
+ * a key never has to look at all of the digits of a big integer.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial operation cache key
+ *
+ */
+
+public final class OperationKey {
+
+	private final Operation op;
+	private final boolean overflowChecked;
+	private final long operand1;							// The low 64 bits of each operand and,
+	private final long operand2;							// if it does not fit in a long, the
+	private final BigInteger bigOperand1;					// whole of it
+	private final BigInteger bigOperand2;
+	private final int hash;
+
+	/**********
+	 * This constructor creates the key of an operation on two operands.
+	 *
+	 * @param op				The operation
+	 * @param operand1			The first operand
+	 * @param operand2			The second operand
+	 * @param overflowChecked	true if the operation is overflow checked
+	 */
+	public OperationKey(Operation op, CalculatorValue operand1, CalculatorValue operand2,
+			boolean overflowChecked) {
+		this.op = op;
+		this.overflowChecked = overflowChecked;
+		this.operand1 = operand1.measuredValue;
+		this.operand2 = operand2.measuredValue;
+		this.bigOperand1 = operand1.bigValue;
+		this.bigOperand2 = operand2.bigValue;
+		long h = this.operand1 * 0x9E3779B97F4A7C15L + this.operand2;
+		h = h * 0x9E3779B97F4A7C15L + op.ordinal() * 2 + (overflowChecked ? 1 : 0);
+		this.hash = (int) (h ^ h >>> 32);
+	}
+
+	/**********
+	 * This is the default hashCode method.
+	 */
+	public int hashCode() {
+		return hash;
+	}
+
+	/**********
+	 * This is the default equals method.
+	 */
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof OperationKey))
+			return false;
+		OperationKey k = (OperationKey) o;
+		return hash == k.hash && op == k.op && overflowChecked == k.overflowChecked
+				&& operand1 == k.operand1 && operand2 == k.operand2
+				&& Objects.equals(bigOperand1, k.bigOperand1)
+				&& Objects.equals(bigOperand2, k.bigOperand2);
+	}
+
+	/**********
+	 * This is the default toString method.
+	 */
+	public String toString() {
+		return (bigOperand1 != null ? bigOperand1.toString() : Long.toString(operand1)) + " "
+				+ op.getSymbol() + " "
+				+ (bigOperand2 != null ? bigOperand2.toString() : Long.toString(operand2))
+				+ (overflowChecked ? " (checked)" : "");
+	}
+}
@@ -0,0 +1,55 @@
+package calculator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p> Title: ParseEvent Class. </p>
+ *
+ * <p> Description: The Flight Recorder event for the conversion of the characters of an operand
+ * into a CalculatorValue. It is disabled by default. It is enabled with a recording setting, e.g.
+ * "calculator.Parse#enabled=true" in a .jfc file, usually along with a threshold, so only the
+ * slow conversions are recorded.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.01	2026-10-17 The radix of the digits
+ * @version 1.00	2026-10-17 Initial Flight Recorder events
+ *
+ */
+
+@Name("calculator.Parse")
+@Label("Parse Operand")
+@Category("Calculator")
+@Description("The conversion of the characters of an operand into a value")
+@Enabled(false)
+@StackTrace(false)
+final class ParseEvent extends Event {
+
+	@Label("Characters")
+	@Description("The number of characters converted")
+	int length;
+
+	@Label("Radix")
+	@Description("The radix of the digits")
+	int radix;
+
+	@Label("Unbounded")
+	@Description("Whether a value too large for a long was accepted, as in big integer mode")
+	boolean unbounded;
+
+	@Label("Bits")
+	@Description("The number of bits in the value, not counting the sign")
+	int bits;
+
+	@Label("Error Code")
+	@Description("The error code of the conversion, zero if it worked")
+	int errorCode;
+}
@@ -0,0 +1,671 @@
+package calculator;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * <p> Title: RationalValue Class. </p>
+ *
+ * <p> Description: An exact fraction, for the rational mode of the calculator. The numerator is
+ * the value inherited from CalculatorValue and the denominator is a calculator value of its own,
+ * so both are parsed, promoted, and formatted the same way an integer is. A fraction is always
+ * kept in lowest terms with a positive denominator, so two equal fractions look the same, and
+ * an integer is simply a fraction whose denominator is one. A fraction is entered and shown as
+ * the numerator and the denominator separated by a slash, e.g. "-22/7", with the denominator
+ * left out when it is one.</p>
+ *
+ * <p> The arithmetic is exact: every operation, checked or not, gives the exact result. While
+ * the numerators and denominators fit in a long, the work is done with long arithmetic. The
+ * greatest common divisors that keep the fractions in lowest terms are found with the binary
+ * algorithm of Stein, which needs only shifts and subtractions, and as the common divisor always
+ * divides evenly, the division by it is a multiplication by its inverse modulo 2^64. The sums
+ * follow Knuth (TAOCP volume 2, 4.5.1) and the products cancel crosswise before multiplying, so
+ * the intermediate values stay as small as they can. Only when a product or a sum still does
+ * not fit in a long is the operation done again with BigInteger, and a result that fits in a
+ * long again is demoted back to one.</p>
+ *
+ * <p> getBigValue and the measuredValue seen by the classes that only know about integers are
+ * those of the numerator, which is the value itself for an integer.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial exact rational values
+ *
+ */
+
+public class RationalValue extends CalculatorValue {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	// The denominator of a value that is not a fraction, e.g. a plain CalculatorValue operand.
+	// It is never changed.
+	private static final CalculatorValue ONE = new CalculatorValue(1);
+
+	// The denominator, which is always positive and has no factor in common with the numerator
+	final CalculatorValue denominator = new CalculatorValue(1);
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This is the default constructor, for the value zero.
+	 */
+	public RationalValue() {
+	}
+
+	/**********
+	 * This constructor creates the integer value v.
+	 *
+	 * @param v	The value
+	 */
+	public RationalValue(long v) {
+		super(v);
+	}
+
+	/**********
+	 * This constructor creates the fraction numerator / denominator, in lowest terms. A
+	 * denominator of zero leaves the value zero with the DIVIDE_BY_ZERO error code.
+	 *
+	 * @param numerator		The numerator
+	 * @param denominator	The denominator
+	 */
+	public RationalValue(long numerator, long denominator) {
+		setValue(numerator, denominator);
+	}
+
+	/**********
+	 * This copy constructor creates a duplicate of a calculator value, which is an integer unless
+	 * it is a fraction itself.
+	 *
+	 * @param v	The value copied
+	 */
+	public RationalValue(CalculatorValue v) {
+		setValue(v);
+	}
+
+	/**********
+	 * This constructor creates a value from a decimal String, which may be a fraction, leaving an
+	 * error code in it when the String is not a valid value.
+	 *
+	 * @param s	The String
+	 */
+	public RationalValue(String s) {
+		parseFraction(s, 0, s.length(), 10);
+	}
+
+	/**********
+	 * This constructor creates a value from a String in any radix from 2 to 36, in the same way.
+	 *
+	 * @param s		The String
+	 * @param radix	The radix of the digits of both the numerator and the denominator
+	 * @throws IllegalArgumentException if the radix is not from 2 to 36
+	 */
+	public RationalValue(String s, int radix) {
+		parseFraction(s, 0, s.length(), radix);
+	}
+
+
+	/**********************************************************************************************
+
+	The parser
+
+	**********************************************************************************************/
+
+	/**********
+	 * The parsing methods of CalculatorValue all accept a fraction: an integer, or two integers
+	 * separated by a slash. Either integer may have any number of digits, as the value is exact,
+	 * and may have white space around it. A missing numerator or denominator is INVALID_VALUE,
+	 * and a denominator of zero is DIVIDE_BY_ZERO.
+	 */
+	@Override
+	public boolean parse(CharSequence s, int start, int length) {
+		return parseFraction(s, start, length, 10);
+	}
+
+	@Override
+	public boolean parse(CharSequence s, int start, int length, int radix) {
+		return parseFraction(s, start, length, radix);
+	}
+
+	@Override
+	public boolean parseUnbounded(CharSequence s, int start, int length) {
+		return parseFraction(s, start, length, 10);
+	}
+
+	@Override
+	public boolean parseUnbounded(CharSequence s, int start, int length, int radix) {
+		return parseFraction(s, start, length, radix);
+	}
+
+	/**********
+	 * Private local method that parses a fraction, the numerator by the parser of CalculatorValue
+	 * and the denominator by that of its own value.
+	 */
+	private boolean parseFraction(CharSequence s, int start, int length, int radix) {
+		int end = start + length;
+		int slash = start;
+		while (slash < end && s.charAt(slash) != '/')
+			slash++;
+		denominator.setValue(1);
+		if (slash == end)
+			return super.parseUnbounded(s, start, length, radix);
+		if (!super.parseUnbounded(s, start, slash - start, radix)
+				|| !denominator.parseUnbounded(s, slash + 1, end - slash - 1, radix)) {
+			if (errorCode == ErrorCode.NONE)
+				errorCode = denominator.errorCode;
+			if (errorCode == ErrorCode.INPUT_EMPTY)					// One side of the slash is
+				errorCode = ErrorCode.INVALID_VALUE;				// missing
+			denominator.setValue(1);
+			return false;
+		}
+		if (denominator.isZero()) {
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			denominator.setValue(1);
+			return false;
+		}
+		if (bigValue == null && denominator.bigValue == null)
+			setFraction(measuredValue, denominator.measuredValue);
+		else
+			setFraction(getBigValue(), denominator.getBigValue());
+		return true;
+	}
+
+
+	/**********************************************************************************************
+
+	Getters and Setters
+
+	**********************************************************************************************/
+
+	/**********
+	 * The setters of CalculatorValue set an integer value, unless they copy a fraction.
+	 */
+	@Override
+	public void setValue(long v) {
+		super.setValue(v);
+		denominator.setValue(1);
+	}
+
+	@Override
+	public void setValue(BigInteger v) {
+		super.setValue(v);
+		denominator.setValue(1);
+	}
+
+	@Override
+	public void setValue(CalculatorValue v) {
+		super.setValue(v);
+		denominator.setValue(denominatorOf(v));
+	}
+
+	/**********
+	 * This setter sets the value to the fraction numerator / denominator, in lowest terms. A
+	 * denominator of zero leaves the value alone and sets the DIVIDE_BY_ZERO error code.
+	 *
+	 * @param numerator		The numerator
+	 * @param denominator	The denominator
+	 */
+	public void setValue(long numerator, long denominator) {
+		if (denominator == 0) {
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			return;
+		}
+		errorCode = ErrorCode.NONE;
+		setFraction(numerator, denominator);
+	}
+
+	/**********
+	 * This getter fetches the numerator, which carries the sign of the value.
+	 *
+	 * @return the numerator
+	 */
+	public BigInteger getNumerator() {
+		return getBigValue();
+	}
+
+	/**********
+	 * This getter fetches the denominator, which is always positive.
+	 *
+	 * @return the denominator
+	 */
+	public BigInteger getDenominator() {
+		return denominator.getBigValue();
+	}
+
+	/**********
+	 * This getter fetches whether the value is an integer, i.e. its denominator is one.
+	 *
+	 * @return true if the value is an integer
+	 */
+	public boolean isInteger() {
+		return denominator.bigValue == null && denominator.measuredValue == 1;
+	}
+
+	/**********
+	 * A fraction is only a long when it is an integer that fits in one.
+	 */
+	@Override
+	public boolean isLong() {
+		return bigValue == null && isInteger();
+	}
+
+	/**********
+	 * The operation keys of the result caches hold integers, so a fraction is never cached.
+	 */
+	@Override
+	boolean cacheable() {
+		return false;
+	}
+
+	@Override
+	RationalValue copy() {
+		return new RationalValue(this);
+	}
+
+
+	/**********************************************************************************************
+
+	Formatting
+
+	**********************************************************************************************/
+
+	/**********
+	 * The formatting methods of CalculatorValue format the numerator and, for a value that is
+	 * not an integer, a slash and the denominator, all in the same radix.
+	 */
+	@Override
+	public String toString() {
+		if (isInteger())
+			return super.toString();
+		return appendTo(new StringBuilder()).toString();
+	}
+
+	@Override
+	public String toString(int radix) {
+		if (isInteger())
+			return super.toString(radix);
+		return appendTo(new StringBuilder(), radix).toString();
+	}
+
+	@Override
+	public int format(char[] buffer, int offset, int radix) {
+		int length = super.format(buffer, offset, radix);
+		if (isInteger())
+			return length;
+		buffer[offset + length] = '/';
+		return length + 1 + denominator.format(buffer, offset + length + 1, radix);
+	}
+
+	@Override
+	public void appendTo(Appendable out, int radix) throws IOException {
+		if (out instanceof StringBuilder) {
+			appendTo((StringBuilder) out, radix);
+			return;
+		}
+		super.appendTo(out, radix);
+		if (!isInteger()) {
+			out.append('/');
+			denominator.appendTo(out, radix);
+		}
+	}
+
+	@Override
+	public StringBuilder appendTo(StringBuilder out) {
+		super.appendTo(out);
+		if (!isInteger())
+			denominator.appendTo(out.append('/'));
+		return out;
+	}
+
+	@Override
+	public StringBuilder appendTo(StringBuilder out, int radix) {
+		super.appendTo(out, radix);
+		if (!isInteger())
+			denominator.appendTo(out.append('/'), radix);
+		return out;
+	}
+
+	/**********
+	 * When the fraction does not fit into a buffer, the position of the buffer is put back where
+	 * it was, so as with an integer, nothing is placed.
+	 */
+	@Override
+	public CharBuffer appendTo(CharBuffer out, int radix) {
+		int start = out.position();
+		try {
+			super.appendTo(out, radix);
+			if (!isInteger())
+				denominator.appendTo(out.put('/'), radix);
+		} catch (BufferOverflowException e) {
+			out.position(start);
+			throw e;
+		}
+		return out;
+	}
+
+	@Override
+	public ByteBuffer appendTo(ByteBuffer out, int radix) {
+		int start = out.position();
+		try {
+			super.appendTo(out, radix);
+			if (!isInteger())
+				denominator.appendTo(out.put((byte) '/'), radix);
+		} catch (BufferOverflowException e) {
+			out.position(start);
+			throw e;
+		}
+		return out;
+	}
+
+	@Override
+	public int formattedLength(int radix) {
+		int length = super.formattedLength(radix);
+		return isInteger() ? length : length + 1 + denominator.formattedLength(radix);
+	}
+
+
+	/**********************************************************************************************
+
+	The computation methods
+
+	**********************************************************************************************/
+
+	/**********
+	 * The computation methods of CalculatorValue are exact for fractions, so the checked and the
+	 * unchecked methods are the same. The operand v may be a fraction or an integer. Each method
+	 * first tries long arithmetic, which returns false rather than overflowing, and only then
+	 * turns to BigInteger.
+	 */
+	@Override
+	public void add(CalculatorValue v) {
+		errorCode = ErrorCode.NONE;
+		CalculatorValue d = denominatorOf(v);
+		if (bigValue == null && denominator.bigValue == null && v.bigValue == null && d.bigValue == null
+				&& add(measuredValue, denominator.measuredValue, v.measuredValue, d.measuredValue))
+			return;
+		BigInteger b = denominator.getBigValue();
+		BigInteger bd = d.getBigValue();
+		setFraction(getBigValue().multiply(bd).add(v.getBigValue().multiply(b)), b.multiply(bd));
+	}
+
+	@Override
+	public void sub(CalculatorValue v) {
+		errorCode = ErrorCode.NONE;
+		CalculatorValue d = denominatorOf(v);
+		if (bigValue == null && denominator.bigValue == null && v.bigValue == null && d.bigValue == null
+				&& v.measuredValue != Long.MIN_VALUE
+				&& add(measuredValue, denominator.measuredValue, -v.measuredValue, d.measuredValue))
+			return;
+		BigInteger b = denominator.getBigValue();
+		BigInteger bd = d.getBigValue();
+		setFraction(getBigValue().multiply(bd).subtract(v.getBigValue().multiply(b)), b.multiply(bd));
+	}
+
+	@Override
+	public void mpy(CalculatorValue v) {
+		errorCode = ErrorCode.NONE;
+		CalculatorValue d = denominatorOf(v);
+		if (bigValue == null && denominator.bigValue == null && v.bigValue == null && d.bigValue == null
+				&& mpy(measuredValue, denominator.measuredValue, v.measuredValue, d.measuredValue))
+			return;
+		setFraction(getBigValue().multiply(v.getBigValue()),
+				denominator.getBigValue().multiply(d.getBigValue()));
+	}
+
+	/**********
+	 * The division multiplies by the reciprocal of v, whose sign is moved to its numerator. As
+	 * with the integers, a divisor of zero leaves the value alone and sets the error code.
+	 */
+	@Override
+	public void div(CalculatorValue v) {
+		if (v.isZero()) {
+			errorCode = ErrorCode.DIVIDE_BY_ZERO;
+			return;
+		}
+		errorCode = ErrorCode.NONE;
+		CalculatorValue d = denominatorOf(v);
+		if (bigValue == null && denominator.bigValue == null && v.bigValue == null && d.bigValue == null
+				&& v.measuredValue != Long.MIN_VALUE) {
+			long c = v.measuredValue;
+			if (c < 0 ? mpy(measuredValue, denominator.measuredValue, -d.measuredValue, -c)
+					: mpy(measuredValue, denominator.measuredValue, d.measuredValue, c))
+				return;
+		}
+		setFraction(getBigValue().multiply(d.getBigValue()),
+				denominator.getBigValue().multiply(v.getBigValue()));
+	}
+
+	@Override
+	public void checkedAdd(CalculatorValue v) {
+		add(v);
+	}
+
+	@Override
+	public void checkedSub(CalculatorValue v) {
+		sub(v);
+	}
+
+	@Override
+	public void checkedMpy(CalculatorValue v) {
+		mpy(v);
+	}
+
+	@Override
+	public void checkedDiv(CalculatorValue v) {
+		div(v);
+	}
+
+	/**********
+	 * Private local method that sets the value to a/b + c/d, for b and d positive and each
+	 * fraction in lowest terms, or returns false if the result does not fit in longs. When the
+	 * denominators have no common factor, neither does the sum with its denominator. Otherwise,
+	 * with g the common factor, the sum is (a(d/g) + c(b/g)) / (b(d/g)), and only a factor of g
+	 * can be common to that numerator and denominator.
+	 */
+	private boolean add(long a, long b, long c, long d) {
+		long g = gcd(b, d);
+		if (g == 1) {
+			long ad = a * d;
+			long cb = c * b;
+			long n = ad + cb;
+			long bd = b * d;
+			if (Math.multiplyHigh(a, d) != (ad >> 63) || Math.multiplyHigh(c, b) != (cb >> 63)
+					|| ((ad ^ n) & (cb ^ n)) < 0 || Math.multiplyHigh(b, d) != (bd >> 63))
+				return false;
+			store(n, bd);
+			return true;
+		}
+		long inverse = inverse(g);
+		int shift = Long.numberOfTrailingZeros(g);
+		long s = divideExact(d, shift, inverse);
+		long t = divideExact(b, shift, inverse);
+		long as = a * s;
+		long ct = c * t;
+		long n = as + ct;
+		if (Math.multiplyHigh(a, s) != (as >> 63) || Math.multiplyHigh(c, t) != (ct >> 63)
+				|| ((as ^ n) & (ct ^ n)) < 0)
+			return false;
+		if (n == 0) {
+			store(0, 1);
+			return true;
+		}
+		long g2 = gcd(n, g);
+		if (g2 != 1) {
+			inverse = inverse(g2);
+			shift = Long.numberOfTrailingZeros(g2);
+			n = divideExact(n, shift, inverse);
+			d = divideExact(d, shift, inverse);
+		}
+		long bd = t * d;
+		if (Math.multiplyHigh(t, d) != (bd >> 63))
+			return false;
+		store(n, bd);
+		return true;
+	}
+
+	/**********
+	 * Private local method that sets the value to (a/b)(c/d), for b and d positive and each
+	 * fraction in lowest terms, or returns false if the result does not fit in longs. Any factor
+	 * common to the result comes from a and d or from c and b, so those are cancelled first.
+	 */
+	private boolean mpy(long a, long b, long c, long d) {
+		if (a == 0 || c == 0) {
+			store(0, 1);
+			return true;
+		}
+		long g1 = gcd(a, d);
+		if (g1 != 1) {
+			long inverse = inverse(g1);
+			int shift = Long.numberOfTrailingZeros(g1);
+			a = divideExact(a, shift, inverse);
+			d = divideExact(d, shift, inverse);
+		}
+		long g2 = gcd(c, b);
+		if (g2 != 1) {
+			long inverse = inverse(g2);
+			int shift = Long.numberOfTrailingZeros(g2);
+			c = divideExact(c, shift, inverse);
+			b = divideExact(b, shift, inverse);
+		}
+		long n = a * c;
+		long bd = b * d;
+		if (Math.multiplyHigh(a, c) != (n >> 63) || Math.multiplyHigh(b, d) != (bd >> 63))
+			return false;
+		store(n, bd);
+		return true;
+	}
+
+
+	/**********************************************************************************************
+
+	Normalization
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method finds the greatest common divisor of the magnitudes of two longs with the binary
+	 * algorithm of Stein: the factors of two common to both are counted and put aside, and then
+	 * the smaller odd value is subtracted from the larger one and the difference shifted until it
+	 * is odd, until the two are the same. It needs no division at all, and the loop has no
+	 * branch but its end, as the smaller value and the difference are taken with min and abs. The
+	 * magnitude of the most negative long is 2^63, which is only divisible by powers of two, and
+	 * the divisor is only negative when it is 2^63 itself.
+	 *
+	 * @param a	The first value
+	 * @param b	The second value
+	 * @return the greatest common divisor, which is zero only when both values are zero
+	 */
+	public static long gcd(long a, long b) {
+		long u = a < 0 ? -a : a;
+		long v = b < 0 ? -b : b;
+		if (u == 0)
+			return v;
+		if (v == 0)
+			return u;
+		int shift = Long.numberOfTrailingZeros(u | v);
+		if (u == Long.MIN_VALUE || v == Long.MIN_VALUE)
+			return 1L << shift;
+		u >>>= Long.numberOfTrailingZeros(u);
+		do {
+			v >>>= Long.numberOfTrailingZeros(v);
+			long difference = v - u;
+			u = Math.min(u, v);
+			v = Math.abs(difference);
+		} while (v != 0);
+		return u << shift;
+	}
+
+	/**********
+	 * Private local method that finds the inverse modulo 2^64 of the odd part of a positive long
+	 * by Newton's iteration, each step of which doubles the number of correct low bits. The
+	 * starting guess is correct in the low 5 bits.
+	 */
+	private static long inverse(long d) {
+		long odd = d >>> Long.numberOfTrailingZeros(d);
+		long x = (odd * 3) ^ 2;
+		x *= 2 - odd * x;										// 10 bits
+		x *= 2 - odd * x;										// 20 bits
+		x *= 2 - odd * x;										// 40 bits
+		return x * (2 - odd * x);								// 80 bits
+	}
+
+	/**********
+	 * Private local method that divides n by a divisor that is known to divide it evenly, given
+	 * the number of factors of two in the divisor and the inverse of its odd part: the factors of
+	 * two are shifted out, which is exact, and the odd part is undone by the multiplication.
+	 */
+	private static long divideExact(long n, int shift, long inverse) {
+		return (n >> shift) * inverse;
+	}
+
+	/**********
+	 * Private local method that sets the value to the fraction n/d, for any d but zero, in lowest
+	 * terms.
+	 */
+	private void setFraction(long n, long d) {
+		if (d < 0) {
+			if (n == Long.MIN_VALUE || d == Long.MIN_VALUE) {		// The signs cannot be
+				setFraction(BigInteger.valueOf(n), BigInteger.valueOf(d));	// swapped in a long
+				return;
+			}
+			n = -n;
+			d = -d;
+		}
+		long g = gcd(n, d);
+		if (g != 1) {
+			long inverse = inverse(g);
+			int shift = Long.numberOfTrailingZeros(g);
+			n = divideExact(n, shift, inverse);
+			d = divideExact(d, shift, inverse);
+		}
+		store(n, d);
+	}
+
+	/**********
+	 * Private local method that sets the value to the fraction n/d, for any d but zero, in lowest
+	 * terms, demoting the numerator and the denominator to longs when they fit.
+	 */
+	private void setFraction(BigInteger n, BigInteger d) {
+		if (d.signum() < 0) {
+			n = n.negate();
+			d = d.negate();
+		}
+		BigInteger g = n.gcd(d);
+		if (!g.equals(BigInteger.ONE)) {
+			n = n.divide(g);
+			d = d.divide(g);
+		}
+		super.setValue(n);
+		denominator.setValue(d);
+	}
+
+	/**********
+	 * Private local method that stores a fraction that is already in lowest terms.
+	 */
+	private void store(long n, long d) {
+		measuredValue = n;
+		bigValue = null;
+		denominator.measuredValue = d;
+		denominator.bigValue = null;
+	}
+
+	/**********
+	 * Private local method that fetches the denominator of any calculator value.
+	 */
+	private static CalculatorValue denominatorOf(CalculatorValue v) {
+		return v instanceof RationalValue ? ((RationalValue) v).denominator : ONE;
+	}
+}
@@ -0,0 +1,282 @@
+package calculator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * <p> Title: ResultCache Class. </p>
+ *
+ * <p> Description: A bounded, thread-safe memoization cache. The entries are spread over a number
+ * of segments by the hash of their keys, and each segment is a least recently used map with a
+ * lock of its own, so threads that look up different keys seldom wait for one another. When a
+ * segment is full, the entry it has gone the longest without using is evicted.</p>
+ *
+ * <p> A value is computed outside of the lock of its segment, so a long computation, e.g. the
+ * product of two big integers, never holds up the lookups of other keys. The price is that two
+ * threads that miss on the same key at the same time both compute the value; the values are
+ * expected to be the same, so it does not matter which one is kept. The values are shared by
+ * everyone who looks the key up, so they must be immutable, or never changed once cached.</p>
+ *
+ * <p> The hits, misses, and evictions are counted with LongAdders, so counting does not become a
+ * point of contention itself.</p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17 Initial striped least recently used cache
+ *
+ * @param <K>	The type of the keys
+ * @param <V>	The type of the values
+ */
+
+public final class ResultCache<K, V> {
+
+	/**********************************************************************************************
+
+	Attributes
+
+	**********************************************************************************************/
+
+	private final Segment<K, V>[] segments;				// The number of segments is a power of
+	private final int mask;								// two, so a segment is picked with a mask
+	private final int capacity;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+
+	/**********************************************************************************************
+
+	Constructors
+
+	**********************************************************************************************/
+
+	/**********
+	 * This constructor creates an empty cache with four segments for each processor.
+	 *
+	 * @param capacity	The most entries to be kept at once
+	 */
+	public ResultCache(int capacity) {
+		this(capacity, 4 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**********
+	 * This constructor creates an empty cache. The number of segments is rounded up to a power of
+	 * two, and reduced if need be so that every segment can hold at least one entry. The capacity
+	 * is shared evenly by the segments, so the total may be rounded up slightly.
+	 *
+	 * @param capacity	The most entries to be kept at once
+	 * @param stripes	The number of segments
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public ResultCache(int capacity, int stripes) {
+		if (capacity < 1 || stripes < 1)
+			throw new IllegalArgumentException("The capacity and stripes must be at least one");
+		int count = 1;
+		while (count < stripes && count < capacity)
+			count <<= 1;
+		int perSegment = (capacity + count - 1) / count;
+		segments = new Segment[count];
+		for (int ndx = 0; ndx < count; ndx++)
+			segments[ndx] = new Segment<>(perSegment, evictions);
+		mask = count - 1;
+		this.capacity = perSegment * count;
+	}
+
+
+	/**********************************************************************************************
+
+	Lookups
+
+	**********************************************************************************************/
+
+	/**********
+	 * This method fetches the value for a key, computing and caching it if it is not in the cache.
+	 * A null value is returned to the caller but is not cached.
+	 *
+	 * @param key		The key
+	 * @param compute	The function that computes the value of a key
+	 * @return the value of the key
+	 */
+	public V get(K key, Function<? super K, ? extends V> compute) {
+		Segment<K, V> s = segmentFor(key);
+		V value;
+		synchronized (s) {
+			value = s.get(key);
+		}
+		if (value != null) {
+			hits.increment();
+			return value;
+		}
+		misses.increment();
+		value = compute.apply(key);								// Outside of the lock
+		if (value != null)
+			synchronized (s) {
+				s.put(key, value);
+			}
+		return value;
+	}
+
+	/**********
+	 * This method fetches the value for a key if it is in the cache. It counts as a hit or a miss.
+	 *
+	 * @param key	The key
+	 * @return the value of the key, or null if it is not in the cache
+	 */
+	public V getIfPresent(K key) {
+		Segment<K, V> s = segmentFor(key);
+		V value;
+		synchronized (s) {
+			value = s.get(key);
+		}
+		if (value != null)
+			hits.increment();
+		else
+			misses.increment();
+		return value;
+	}
+
+	/**********
+	 * This method places a value in the cache, replacing any value the key already has.
+	 *
+	 * @param key	The key
+	 * @param value	The value, which may not be null
+	 */
+	public void put(K key, V value) {
+		if (value == null)
+			throw new NullPointerException("A cached value may not be null");
+		Segment<K, V> s = segmentFor(key);
+		synchronized (s) {
+			s.put(key, value);
+		}
+	}
+
+	/**********
+	 * This method removes every entry from the cache. The counters are not reset.
+	 */
+	public void clear() {
+		for (Segment<K, V> s : segments)
+			synchronized (s) {
+				s.clear();
+			}
+	}
+
+	/**********
+	 * Private local method that picks the segment of a key. The high bits of the hash are mixed
+	 * into the low ones, since the mask only looks at the low ones.
+	 */
+	private Segment<K, V> segmentFor(K key) {
+		int h = key.hashCode();
+		h ^= h >>> 16;
+		return segments[(h ^ h >>> 7) & mask];
+	}
+
+
+	/**********************************************************************************************
+
+	Getters
+
+	**********************************************************************************************/
+
+	/**********
+	 * This getter fetches the number of entries in the cache. As the segments are counted one at a
+	 * time, the number may be out of date by the time it is returned.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> s : segments)
+			synchronized (s) {
+				size += s.size();
+			}
+		return size;
+	}
+
+	/**********
+	 * This getter fetches the most entries the cache keeps at once.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**********
+	 * This getter fetches the number of segments.
+	 *
+	 * @return the number of segments
+	 */
+	public int getStripes() {
+		return segments.length;
+	}
+
+	/**********
+	 * This getter fetches the number of lookups that found their key in the cache.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**********
+	 * This getter fetches the number of lookups that did not find their key in the cache.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**********
+	 * This getter fetches the number of entries that have been evicted to make room for others.
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**********
+	 * This is the default toString method.
+	 */
+	public String toString() {
+		return "size = " + size() + ", capacity = " + capacity + ", hits = " + getHits()
+				+ ", misses = " + getMisses() + ", evictions = " + getEvictions();
+	}
+
+
+	/**********************************************************************************************
+
+	The segments
+
+	**********************************************************************************************/
+
+	/**********
+	 * One segment of the cache: a map in order of use that evicts its least recently used entry
+	 * when it grows past its share of the capacity. A segment is always used while holding its
+	 * own lock.
+	 */
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+		private final int capacity;
+		private final transient LongAdder evictions;
+
+		Segment(int capacity, LongAdder evictions) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+			this.evictions = evictions;
+		}
+
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() <= capacity)
+				return false;
+			evictions.increment();
+			return true;
+		}
+	}
+}
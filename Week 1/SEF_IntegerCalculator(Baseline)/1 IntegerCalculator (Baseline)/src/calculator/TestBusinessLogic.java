@@ -519,6 +519,544 @@ public class TestBusinessLogic {
 
 
 		
+		// 15. Perform compute multiplication test
+		test = new BusinessLogic();											// Set up for the test
+		
+		test.setOperand1("12345678");
+		test.setOperand2("87654321");
+		long value = test.compute(Operation.MPY);								// Perform the test
+		
+		System.out.println("15. Perform compute multiplication test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("value = 1082152022374638, resultErrorCode = 0, result = 1082152022374638", "value = " + value + ", resultErrorCode = " + test.getResultErrorCode() + ", result = " + test.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 16. Perform compute division by zero test
+		test = new BusinessLogic();											// Set up for the test
+		
+		test.setOperand1("12345678");
+		test.setOperand2("0");
+		value = test.compute(Operation.DIV);									// Perform the test
+		
+		System.out.println("16. Perform compute division by zero test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("value = 0, resultErrorCode = 4, resultErrorMessage = Invalid Input", "value = " + value + ", resultErrorCode = " + test.getResultErrorCode() + ", resultErrorMessage = " + test.getResultErrorMessage())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 17. Perform big integer mode multiplication test
+		test = new BusinessLogic();											// Set up for the test
+		test.setBigIntegerMode(true);
+		
+		test.setOperand1("123456789012345678901234567890");
+		test.setOperand2("-987654321098765432109876543210");
+		answer = test.multiplication();										// Perform the test
+		
+		System.out.println("17. Perform big integer mode multiplication test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("-121932631137021795226185032733622923332237463801111263526900", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 18. Perform a shared result cache test
+		ResultCache<OperationKey, CalculatorValue> cache = new ResultCache<>(100);	// Set up for the test
+		test = new BusinessLogic();
+		test.setResultCache(cache);
+		BusinessLogic other = new BusinessLogic();
+		other.setResultCache(cache);
+		
+		test.setOperand1("12345678");
+		test.setOperand2("87654321");
+		other.setOperand1("12345678");
+		other.setOperand2("87654321");
+		answer = test.multiplication() + " " + other.multiplication() + " " + other.compute(Operation.MPY)
+				+ " " + other.compute(Operation.ADD) + " " + cache.getHits() + " " + cache.getMisses();	// Perform the test
+		
+		System.out.println("18. Perform a shared result cache test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("1082152022374638 1082152022374638 1082152022374638 99999999 2 2", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 19. Perform a result cache eviction test
+		cache = new ResultCache<>(2, 1);										// Set up for the test
+		test = new BusinessLogic();
+		test.setResultCache(cache);
+		test.setOperand1("6");
+		test.setOperand2("3");
+		
+		answer = test.addition() + " " + test.subtraction() + " " + test.addition() + " "
+				+ test.multiplication() + " " + test.subtraction() + " " + test.division();	// Perform the test
+		
+		System.out.println("19. Perform a result cache eviction test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("9 3 9 18 3 2 size = 2, capacity = 2, hits = 1, misses = 5, evictions = 3", answer + " " + cache)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 20. Perform an operand conversion and install test
+		test = new BusinessLogic();											// Set up for the test
+		CalculatorValue converted1 = test.convertOperand("12345678");			// Converted apart from
+		CalculatorValue converted2 = test.convertOperand("87x");				// being set
+		
+		answer = test.setOperand1(converted1) + " " + test.setOperand2(converted2) + " "
+				+ test.getOperand2ErrorMessage() + " " + test.setOperand2(test.convertOperand("")) + " "
+				+ test.getOperand2Defined() + " " + test.setOperand2(test.convertOperand("2")) + " "
+				+ test.multiplication();											// Perform the test
+		
+		System.out.println("20. Perform an operand conversion and install test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("true false ***Error*** Invalid value true false true 24691356", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 21. Perform a history log record, reopen, and replay test
+		try {																		// Set up for the test
+			java.nio.file.Path file = java.nio.file.Files.createTempFile("history", ".log");
+			HistoryLog log = HistoryLog.open(file);
+			test = new BusinessLogic();
+			test.setHistoryLog(log);
+			test.setOverflowChecked(true);
+			test.setOperand1("9223372036854775807");
+			test.setOperand2("2");
+			test.addition();
+			test.setOperand2("0");
+			test.division();
+			for (int ndx = 0; ndx < 5000; ndx++) {							// Enough to grow the file
+				test.setOperand1(Integer.toString(ndx));
+				test.compute(Operation.SUB);
+			}
+			log.close();
+			
+			log = HistoryLog.open(file);											// Perform the test
+			long[] total = new long[1];
+			log.replay(2, (index, time, op, mode, scale, operand1, denominator1, operand2, denominator2,
+					result, resultDenominator, errorCode, flags) -> {
+				total[0] += result;
+			});
+			answer = log.size() + " | " + log.get(0) + " | " + log.get(1) + " | " + log.get(4001)
+					+ " | " + total[0];
+			log.close();
+			java.nio.file.Files.delete(file);
+		} catch (java.io.IOException e) {
+			answer = e.toString();
+		}
+		
+		System.out.println("21. Perform a history log record, reopen, and replay test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("5002 | 9223372036854775807 + 2 = -9223372036854775807... | 9223372036854775807 / 0 = Invalid Input | 3999 - 0 = 3999 | 12497500", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 22. Perform a metrics recording and JMX export test
+		CalculatorMetrics.enable(true);												// Set up for the test
+		CalculatorMetrics.resetAll();
+		test = new BusinessLogic();
+		test.setOperand1("12");
+		test.setOperand2("abc");
+		test.setOperand2("0");
+		test.addition();
+		test.division();
+		CalculatorMetrics.enable(false);
+		test.addition();																// Not recorded
+		
+		LatencyMetrics parse = CalculatorMetrics.PARSE;								// Perform the test
+		LatencyMetrics div = CalculatorMetrics.of(Operation.DIV);
+		long histogramTotal = 0;
+		for (long n : div.getHistogram())
+			histogramTotal += n;
+		answer = parse.getCount() + " " + parse.getErrorCounts() + " "
+				+ CalculatorMetrics.of(Operation.ADD).getCount() + " " + div.getErrorCounts() + " "
+				+ histogramTotal + " " + (div.getPercentile50Nanos() <= div.getMaxNanos());
+		try {
+			CalculatorMetrics.register();
+			answer += " " + java.lang.management.ManagementFactory.getPlatformMBeanServer()
+					.getAttribute(CalculatorMetrics.nameOf(div), "ErrorCount");
+			CalculatorMetrics.unregister();
+		} catch (javax.management.JMException e) {
+			answer += " " + e;
+		}
+		
+		System.out.println("22. Perform a metrics recording and JMX export test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("3 {INVALID_VALUE=1} 1 {DIVIDE_BY_ZERO=1} 1 true 1", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 23. Perform operations on operands and results in other radixes test
+		test = new BusinessLogic();											// Set up for the test
+		test.setRadix(16);
+		answer = test.setOperand1("7fffffffffffffff") + " " + test.setOperand2("FF") + " "
+				+ test.addition() + " " + test.subtraction() + " ";
+		test.setBigIntegerMode(true);
+		test.setOperand1("ffffffffffffffffffff");
+		answer += test.multiplication() + " ";
+		test.setRadix(2);
+		answer += test.setOperand1("102") + " " + test.getOperand1ErrorMessage() + " ";
+		test.setOperand1("-1010");
+		test.setOperand2("11");
+		answer += test.division() + " " + test.compute(Operation.MPY) + " " + test + " " + test.getRadix();
+		try {
+			test.setRadix(37);
+		} catch (IllegalArgumentException e) {
+			answer += " " + e.getMessage();
+		}																		// Perform the test
+		
+		System.out.println("23. Perform operations on operands and results in other radixes test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("true true -7fffffffffffff02 7fffffffffffff00 feffffffffffffffffff01 false ***Error*** Invalid value -11 -30 -11110 2 The radix must be from 2 to 36, not 37", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 24. Perform a formatting into caller-supplied buffers test
+		test = new BusinessLogic();											// Set up for the test
+		test.setOperand1("-123");
+		StringBuilder debug = new StringBuilder();
+		java.nio.ByteBuffer bytesOut = java.nio.ByteBuffer.allocate(32);
+		test.setOperand2("-1000");
+		test.setRadix(8);
+		test.compute(Operation.ADD);
+		answer = test.debugTo(debug).toString().equals(test.debugToString()) + " "
+				+ test.appendTo(new StringBuilder("=")) + " " + test.getResultLength() + " ";
+		test.appendTo(bytesOut).flip();
+		while (bytesOut.hasRemaining())
+			answer += (char) bytesOut.get();												// Perform the test
+		
+		System.out.println("24. Perform a formatting into caller-supplied buffers test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("true =-2143 5 -2143", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 25. Perform a test of the error codes of messages that are not standard
+		test = new BusinessLogic();											// Set up for the test
+		int kept = 0;
+		for (int ndx = 0; ndx < 1000; ndx++) {
+			test.setResultErrorMessage("Test message " + ndx);
+			if (test.getResultErrorMessage().equals("Test message " + ndx))
+				kept++;
+		}
+		try {
+			java.nio.file.Path file = java.nio.file.Files.createTempFile("history", ".log");
+			HistoryLog log = HistoryLog.open(file);
+			CalculatorValue failed = new CalculatorValue(7);
+			failed.setErrorMessage("Test message for the history log");
+			log.append(Operation.ADD, new CalculatorValue(3), new CalculatorValue(4), failed);
+			log.close();
+			
+			log = HistoryLog.open(file);											// Perform the test
+			answer = kept + " " + ErrorCode.name(test.getResultErrorCode()) + " "
+					+ new CalculatorValue(failed).getErrorMessage() + " | "
+					+ ErrorCode.code(ErrorCode.message(ErrorCode.DIVIDE_BY_ZERO)) + " | "
+					+ ErrorCode.name(log.get(0).getErrorCode()) + " " + log.get(0);
+			log.close();
+			java.nio.file.Files.delete(file);
+		} catch (java.io.IOException e) {
+			answer = e.toString();
+		}
+		
+		System.out.println("25. Perform a test of the error codes of messages that are not standard");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("1000 OTHER Test message for the history log | 4 | OTHER 3 + 4 = ***Error*** Other error", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 26. Perform a history log test of fixed point operations
+		try {																		// Set up for the test
+			java.nio.file.Path file = java.nio.file.Files.createTempFile("history", ".log");
+			HistoryLog log = HistoryLog.open(file);
+			test = new BusinessLogic();
+			test.setMode(NumberMode.FIXED_POINT);
+			test.setHistoryLog(log);
+			test.setOperand1("12.34");
+			test.setOperand2("1.5");
+			test.addition();
+			test.setOperand1("-0.05");
+			test.multiplication();
+			log.close();
+			
+			log = HistoryLog.open(file);											// Perform the test
+			StringBuilder replayed = new StringBuilder();
+			log.replay(0, (index, time, op, mode, scale, operand1, denominator1, operand2, denominator2,
+					result, resultDenominator, errorCode, flags) -> {
+				replayed.append(mode).append(' ').append(scale).append(' ').append(result)
+						.append(' ').append(flags).append(" | ");
+			});
+			answer = replayed + log.get(0).toString() + " | " + log.get(1);
+			log.close();
+			java.nio.file.Files.delete(file);
+		} catch (java.io.IOException e) {
+			answer = e.toString();
+		}
+		
+		System.out.println("26. Perform a history log test of fixed point operations");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("FIXED_POINT 2 1384 0 | FIXED_POINT 2 -8 0 | 12.34 + 1.50 = 13.84 | -0.05 * 1.50 = -0.08", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 27. Perform a history log test of rational and modular operations
+		try {																		// Set up for the test
+			java.nio.file.Path file = java.nio.file.Files.createTempFile("history", ".log");
+			HistoryLog log = HistoryLog.open(file);
+			test = new BusinessLogic();
+			test.setMode(NumberMode.RATIONAL);
+			test.setHistoryLog(log);
+			test.setOperand1("1/3");
+			test.setOperand2("1/6");
+			test.addition();
+			test.setOperand1("1/" + "9".repeat(20));
+			test.multiplication();
+			test.setMode(NumberMode.MODULAR);
+			test.setModulus(7);
+			test.setOperand1("5");
+			test.setOperand2("4");
+			test.addition();
+			log.close();
+			
+			log = HistoryLog.open(file);											// Perform the test
+			StringBuilder replayed = new StringBuilder();
+			log.replay(0, (index, time, op, mode, scale, operand1, denominator1, operand2, denominator2,
+					result, resultDenominator, errorCode, flags) -> {
+				replayed.append(mode).append(' ').append(operand1).append('/').append(denominator1)
+						.append(' ').append(operand2).append('/').append(denominator2).append(' ')
+						.append(result).append('/').append(resultDenominator).append(" | ");
+			});
+			answer = replayed + log.get(0).toString() + " | " + log.get(1) + " | " + log.get(2);
+			log.close();
+			java.nio.file.Files.delete(file);
+		} catch (java.io.IOException e) {
+			answer = e.toString();
+		}
+		
+		System.out.println("27. Perform a history log test of rational and modular operations");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("RATIONAL 1/3 1/6 1/2 | RATIONAL 1/7766279631452241919 1/6 1/-8742554432415203334 | MODULAR 5/7 4/7 2/7 | "
+				+ "1/3 + 1/6 = 1/2 | 1/7766279631452241919... * 1/6 = 1/-8742554432415203334... | 5 + 4 = 2 (mod 7)", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 28. Perform a division after a division by zero test
+		test = new BusinessLogic();											// Set up for the test
+		test.setOperand1("5");
+		test.setOperand2("0");
+		answer = test.division() + " " + ErrorCode.name(test.getResultErrorCode()) + " | ";
+		test.setOperand2("1");
+		answer += test.division() + " " + ErrorCode.name(test.getResultErrorCode()) + " "	// Perform the test
+				+ test.getResultErrorMessage().isEmpty();
+		
+		System.out.println("28. Perform a division after a division by zero test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(" DIVIDE_BY_ZERO | 5 NONE true", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 29. Perform operations on unsigned hex IDs test
+		test = new BusinessLogic();											// Set up for the test
+		test.setRadix(16);
+		test.setUnsigned(true);
+		test.setOperand1("ffffffffffffffff");
+		test.setOperand2("1");
+		answer = test.subtraction() + " " + test.getResultLength() + " "			// Perform the test
+				+ test.appendTo(new StringBuilder("[")).append(']') + " " + test.addition() + " | ";
+		test.setOperand1("8000000000000000");
+		test.setOperand2("2");
+		answer += test.multiplication() + " " + test.getOperand1ErrorCode() + " | ";
+		test.setUnsigned(false);
+		answer += test.setOperand1("ffffffffffffffff") + " " + ErrorCode.name(test.getOperand1ErrorCode());
+		
+		System.out.println("29. Perform operations on unsigned hex IDs test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("fffffffffffffffe 16 [fffffffffffffffe] 0 | 0 0 | false INVALID_VALUE", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 30. Evaluate blank, malformed, and over-long lines in a batch test
+		StringBuilder longLine = new StringBuilder();									// Set up for the test
+		for (int ndx = 0; ndx < CalculatorServer.MAX_LINE + 1000; ndx++)
+			longLine.append('7');
+		String batchInput = "\n1 + 2\r\n1 +\n3 ? 4\n" + longLine + " + 1\n5 * 6\n" + longLine;
+		java.io.ByteArrayOutputStream batchOutput = new java.io.ByteArrayOutputStream();
+		BatchCalculator batch = new BatchCalculator(
+				java.nio.channels.Channels.newChannel(new java.io.ByteArrayInputStream(
+						batchInput.getBytes(java.nio.charset.StandardCharsets.ISO_8859_1))),
+				java.nio.channels.Channels.newChannel(batchOutput));
+		try {
+			batch.run();																// Perform the test
+			answer = batchOutput.toString("ISO-8859-1").replace('\n', '|') + " "
+					+ batch.getLineCount() + " " + batch.getErrorCount();
+		} catch (java.io.IOException e) {
+			answer = e.toString();
+		}
+		
+		System.out.println("30. Evaluate blank, malformed, and over-long lines in a batch test");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("|3|" + LineEvaluator.ERROR_FORMAT + "|" + LineEvaluator.ERROR_OPERATOR + "|"
+				+ CalculatorServer.ERROR_LENGTH + "|30|" + CalculatorServer.ERROR_LENGTH + "| 6 4", answer)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
 		System.out.println("Number of tests passed: " + numPassed);
 		System.out.println("Number of tests failed: " + numFailed);
 
@@ -0,0 +1,273 @@
+package calculator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p> Title: TestCalculatorServer </p>
+ *
+ * <p> Description: A component of the Calculator application </p>
+ *
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ *
+ * @author Swapnika Vakacharla
+ *
+ * @version 1.00	2026-10-17	Initial loopback tests of the calculator server
+ *
+ */
+
+public class TestCalculatorServer {
+
+	/**********
+	 * This class roots the execution of the test of the CalculatorServer class.  The application
+	 * starts a server on any free loopback port, connects to it as a client would, and checks the
+	 * answers to see if they are proper.
+	 *
+	 */
+
+	/*********************************************************************************************/
+
+	// The most connections the server under test serves at once
+	private static final int LIMIT = 2;
+
+	// The number of lines sent by the client that does not read its answers
+	private static final int HELD_LINES = 100000;
+
+	// How long a client waits for an answer before the test fails, in milliseconds
+	private static final int TIMEOUT = 10000;
+
+	/*********************************************************************************************/
+
+	/**********
+	 * The check method compares an Expected String to an Actual String and returns true if the
+	 * Strings match and false otherwise.  In addition, the Strings are displayed to the console
+	 * and a message is display stating whether or not there is a difference.  If there is a
+	 * difference, the character at the point of the difference in the actual String is replaced
+	 * with a "?" and both are displayed making it clear what character is the start of the
+	 * difference
+	 *
+	 * @param Expected	The String object of the expected value
+	 * @param Actual		The String object of the actual value
+	 */
+	private static boolean check(String expected, String actual) {
+		// Display the input parameters
+		System.out.println("***Expected String");
+		System.out.println(expected);
+		System.out.println("***Actual String");
+		System.out.println(actual);
+
+		// Check to see if there is a difference
+		int lesserLength = expected.length();
+		if (lesserLength > actual.length()) lesserLength = actual.length();
+		int ndx = 0;
+		while (ndx < lesserLength && expected.charAt(ndx) == actual.charAt(ndx))
+			ndx++;
+
+		// Explain why the loop terminated and if there is a difference make it clear to the user
+		if (ndx < lesserLength || lesserLength < expected.length() || lesserLength < actual.length()) {
+			System.out.println("*** There is a difference!\n" + expected.substring(0, ndx) + "? <-----");
+			return false;
+		}
+		System.out.println("*** There is no difference!\n");
+		return true;
+	}
+
+	/**********
+	 * Private local method that connects a client to the server under test. The receive buffer is
+	 * kept small, so a client that does not read fills it quickly.
+	 */
+	private static Socket connect(int port) throws IOException {
+		Socket client = new Socket();
+		client.setReceiveBufferSize(4096);
+		client.setSoTimeout(TIMEOUT);
+		client.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), TIMEOUT);
+		return client;
+	}
+
+	/**********
+	 * Private local method that sends text to the server as ISO-8859-1 bytes.
+	 */
+	private static void send(Socket client, String text) throws IOException {
+		OutputStream out = client.getOutputStream();
+		out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+		out.flush();
+	}
+
+	/**********
+	 * Private local method that reads the answers to a client from the server.
+	 */
+	private static BufferedReader reader(Socket client) throws IOException {
+		return new BufferedReader(new InputStreamReader(client.getInputStream(),
+				StandardCharsets.ISO_8859_1));
+	}
+
+	/*********************************************************************************************/
+
+	/**********
+	 * This main method roots the execution of this test.  The method ignores the program
+	 * parameters.  After starting the server, it performs a sequence of tests, displaying
+	 * information accordingly and tallying the number of successes and failures.
+	 *
+	 * @param args	Ignored by this application.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		// Display the header message to the console and initialize local variables
+		System.out.println("Test CalculatorServer Class\n");
+		int numPassed = 0;
+		int numFailed = 0;
+		String outcome;
+
+		CalculatorServer server = new CalculatorServer(0, LIMIT, false, false);
+		Thread serving = new Thread(server, "Calculator server");
+		serving.start();
+		int port = server.getPort();
+		Socket first = connect(port);
+		Socket held = connect(port);
+		Socket busy = null;
+		try {
+			BufferedReader firstAnswers = reader(first);
+
+
+			// 1. Answer results, errors, and blank lines
+			send(first, "1 + 2\r\n3 ? 4\n\n1 +\n");											// Perform the test
+			outcome = firstAnswers.readLine() + "|" + firstAnswers.readLine() + "|"
+					+ firstAnswers.readLine() + "|" + firstAnswers.readLine();
+
+			System.out.println("1. Answer results, errors, and blank lines");
+
+			// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+			// message and tally the result
+			if (check("3|" + LineEvaluator.ERROR_OPERATOR + "||" + LineEvaluator.ERROR_FORMAT, outcome)) {
+				numPassed++;
+				System.out.println("\tPass");
+			}
+			// If they do not match, display that there was a failure and tally that result
+			else {
+				numFailed++;
+				System.out.println("\tFail");
+			}
+			System.out.println();
+
+
+			// 2. Reject an over-long line and keep serving the connection
+			StringBuilder longLine = new StringBuilder();
+			for (int ndx = 0; ndx < CalculatorServer.MAX_LINE + 1000; ndx++)
+				longLine.append('7');
+			send(first, longLine + " + 1\n5 * 6\n");											// Perform the test
+			outcome = firstAnswers.readLine() + "|" + firstAnswers.readLine();
+
+			System.out.println("2. Reject an over-long line and keep serving the connection");
+
+			// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+			// message and tally the result
+			if (check(CalculatorServer.ERROR_LENGTH + "|30", outcome)) {
+				numPassed++;
+				System.out.println("\tPass");
+			}
+			// If they do not match, display that there was a failure and tally that result
+			else {
+				numFailed++;
+				System.out.println("\tFail");
+			}
+			System.out.println();
+
+
+			// 3. Hold back a client that does not read, while still serving the others
+			Thread writer = new Thread(() -> {
+				StringBuilder lines = new StringBuilder();
+				for (int ndx = 0; ndx < HELD_LINES; ndx++)
+					lines.append(ndx).append(" * 3\n");
+				try {
+					send(held, lines.toString());
+				} catch (IOException e) {
+					// The answers will be missing, so the test fails
+				}
+			}, "Held client");
+			writer.start();
+			Thread.sleep(500);																	// Perform the test
+			send(first, "6 / 3\n");															// The held client
+			outcome = firstAnswers.readLine() + "|";										// is not read yet
+			BufferedReader heldAnswers = reader(held);
+			int heldMatches = 0;
+			for (int ndx = 0; ndx < HELD_LINES; ndx++)
+				if (String.valueOf(3L * ndx).equals(heldAnswers.readLine()))
+					heldMatches++;
+			writer.join();
+			outcome += heldMatches;
+
+			System.out.println("3. Hold back a client that does not read, while still serving the others");
+
+			// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+			// message and tally the result
+			if (check("2|" + HELD_LINES, outcome)) {
+				numPassed++;
+				System.out.println("\tPass");
+			}
+			// If they do not match, display that there was a failure and tally that result
+			else {
+				numFailed++;
+				System.out.println("\tFail");
+			}
+			System.out.println();
+
+
+			// 4. Turn away a client beyond the connection limit
+			busy = connect(port);
+			BufferedReader busyAnswers = reader(busy);
+			outcome = busyAnswers.readLine() + "|" + busyAnswers.readLine();					// Perform the test
+
+			System.out.println("4. Turn away a client beyond the connection limit");
+
+			// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+			// message and tally the result
+			if (check(CalculatorServer.ERROR_BUSY + "|null", outcome)) {
+				numPassed++;
+				System.out.println("\tPass");
+			}
+			// If they do not match, display that there was a failure and tally that result
+			else {
+				numFailed++;
+				System.out.println("\tFail");
+			}
+			System.out.println();
+		} finally {
+			first.close();
+			held.close();
+			if (busy != null)
+				busy.close();
+			server.close();
+			serving.join();
+		}
+
+
+		// 5. Tally the connections and lines once the server has stopped
+		outcome = server.getAccepted() + " " + server.getRejected() + " " + server.getPeakConnections()
+				+ " " + server.getConnections() + " " + server.getLineCount();				// Perform the test
+
+		System.out.println("5. Tally the connections and lines once the server has stopped");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("2 1 2 0 " + (7 + HELD_LINES), outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+
+		System.out.println("Number of tests passed: " + numPassed);
+		System.out.println("Number of tests failed: " + numFailed);
+
+	}
+}
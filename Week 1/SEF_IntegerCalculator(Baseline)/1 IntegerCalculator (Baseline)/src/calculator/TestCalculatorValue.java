@@ -241,6 +241,494 @@ public class TestCalculatorValue {
 		System.out.println();
 
 		
+		// 9. Parse an empty string
+		test = new CalculatorValue("");										// Perform the test
+		
+		System.out.println("9. Parse an empty string");	
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("measuredValue = 0\nerrorMessage = ***Error*** Input is empty\n", test.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 10. Parse an invalid value
+		test = new CalculatorValue("12a");									// Perform the test
+		
+		System.out.println("10. Parse an invalid value");	
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("measuredValue = 0\nerrorMessage = ***Error*** Invalid value\n", test.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 11. Parse a value followed by excess data
+		test = new CalculatorValue(" 12 34");								// Perform the test
+		
+		System.out.println("11. Parse a value followed by excess data");	
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("measuredValue = 0\nerrorMessage = ***Error*** Excess data\n", test.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 12. Parse a value that is too large
+		test = new CalculatorValue("9223372036854775808");					// Perform the test
+		
+		System.out.println("12. Parse a value that is too large");	
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("measuredValue = 0\nerrorMessage = ***Error*** Invalid value\n", test.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 13. Parse a value from the middle of a longer sequence
+		test = new CalculatorValue();										// Set up the test
+		
+		test.parse("x= -9223372036854775807;", 3, 20);						// Perform the test
+		
+		System.out.println("13. Parse a value from the middle of a longer sequence");	
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("measuredValue = -9223372036854775807\nerrorMessage = \n", test.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 14. Checked addition that overflows a long
+		left = new CalculatorValue("9223372036854775807");					// Set up the test
+		right = new CalculatorValue("1");
+		
+		left.checkedAdd(right);												// Perform the test
+		
+		System.out.println("14. Checked addition that overflows a long");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("measuredValue = 9223372036854775808\nerrorMessage = \n", left.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 15. Checked multiplication that overflows and a division that fits again
+		left = new CalculatorValue("-3037000500");							// Set up the test
+		right = new CalculatorValue("3037000500");
+		
+		left.checkedMpy(right);												// Perform the test
+		String product = left.toString();
+		left.checkedDiv(right);
+		
+		System.out.println("15. Checked multiplication that overflows and a division that fits again");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("-9223372037000250000 -3037000500 true", product + " " + left.toString() + " " + left.isLong())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 16. Parse a value that is too large for a long in big integer mode
+		test = new CalculatorValue();										// Set up the test
+		
+		test.parseUnbounded("-123456789012345678901234567890", 0, 31);		// Perform the test
+		
+		System.out.println("16. Parse a value that is too large for a long in big integer mode");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("measuredValue = -123456789012345678901234567890\nerrorMessage = \n", test.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 17. Parse a value of thousands of digits in big integer mode
+		StringBuilder digits = new StringBuilder("9");						// Set up the test
+		for (int ndx = 1; ndx < 5000; ndx++)
+			digits.append((char) ('0' + ndx * 7 % 10));
+		test = new CalculatorValue();
+		
+		test.parseUnbounded(digits, 0, digits.length());					// Perform the test
+		
+		System.out.println("17. Parse a value of thousands of digits in big integer mode");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(digits.toString(), test.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 18. Sum and product of an array of longs in parallel
+		long[] longs = new long[100000];										// Set up the test
+		java.util.Random random = new java.util.Random(18);
+		java.math.BigInteger exactSum = java.math.BigInteger.ZERO;
+		long wrappedSum = 0;
+		for (int ndx = 0; ndx < longs.length; ndx++) {							// Large enough to
+			longs[ndx] = random.nextLong();										// overflow many times
+			exactSum = exactSum.add(java.math.BigInteger.valueOf(longs[ndx]));
+			wrappedSum += longs[ndx];
+		}
+		long[] factors = new long[70000];
+		java.util.Arrays.fill(factors, 1);
+		factors[12345] = Long.MAX_VALUE;
+		factors[54321] = -3;
+		factors[66666] = Long.MIN_VALUE;
+		
+		String bulk = BulkOperations.sum(longs, true) + " " + BulkOperations.sum(longs, false) + " "
+				+ BulkOperations.product(factors, true) + " " + BulkOperations.product(factors, false);	// Perform the test
+		
+		System.out.println("18. Sum and product of an array of longs in parallel");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(exactSum + " " + wrappedSum + " " + java.math.BigInteger.valueOf(Long.MAX_VALUE).multiply(java.math.BigInteger.valueOf(-3)).multiply(java.math.BigInteger.valueOf(Long.MIN_VALUE)) + " " + (Long.MAX_VALUE * -3 * Long.MIN_VALUE), bulk)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 19. Reductions of calculator values that carry errors and big values
+		CalculatorValue[] mixed = new CalculatorValue[40000];					// Set up the test
+		for (int ndx = 0; ndx < mixed.length; ndx++)
+			mixed[ndx] = new CalculatorValue(ndx % 1000 - 500);
+		mixed[100] = new CalculatorValue("12x");
+		mixed[30000] = new CalculatorValue();
+		mixed[30000].parseUnbounded("-100000000000000000000", 0, 22);
+		
+		bulk = BulkOperations.sum(mixed, true) + " " + BulkOperations.min(mixed) + " "
+				+ BulkOperations.max(mixed) + " " + BulkOperations.countErrors(mixed) + " "
+				+ BulkOperations.min(new long[0]).getErrorMessage() + " "
+				+ BulkOperations.max(new long[] {3, -7, 12});							// Perform the test
+		
+		System.out.println("19. Reductions of calculator values that carry errors and big values");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("-100000000000000019100 -100000000000000000000 499 1 No value found 12", bulk)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 20. Reductions of a parallel stream agree with those of an array
+		bulk = java.util.Arrays.stream(mixed).parallel().collect(BulkOperations.summing(true)) + " "
+				+ java.util.Arrays.stream(mixed).parallel().collect(BulkOperations.minimum()) + " "
+				+ java.util.Arrays.stream(mixed).parallel().collect(BulkOperations.countingErrors()) + " "
+				+ java.util.Arrays.stream(mixed).limit(10).skip(1).collect(BulkOperations.multiplying(false));	// Perform the test
+		
+		System.out.println("20. Reductions of a parallel stream agree with those of an array");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(BulkOperations.sum(mixed, true) + " " + BulkOperations.min(mixed) + " 1 " + (-499L * -498 * -497 * -496 * -495 * -494 * -493 * -492 * -491), bulk)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 21. Element-wise arithmetic over arrays and buffers agrees with the calculator values
+		long[] lanes1 = {7, -7, Long.MAX_VALUE, Long.MIN_VALUE, 12345, 0, -1, 99};	// Set up the test
+		long[] lanes2 = {2, 0, 3, -1, -10, 5, 0, 100};
+		long[] out = new long[lanes1.length];
+		byte[] errors = new byte[lanes1.length];
+		java.nio.ByteBuffer direct = java.nio.ByteBuffer.allocateDirect(3 * 8 * lanes1.length)
+				.order(java.nio.ByteOrder.nativeOrder());
+		java.nio.LongBuffer offHeap = direct.asLongBuffer();
+		offHeap.put(lanes1).put(lanes2);
+		java.nio.ByteBuffer offHeapErrors = java.nio.ByteBuffer.allocateDirect(lanes1.length);
+		StringBuilder batch = new StringBuilder();
+		StringBuilder single = new StringBuilder();
+		for (Operation op : Operation.values()) {
+			int failed = BatchArithmetic.apply(op, lanes1, lanes2, out, errors);			// Perform the test
+			offHeap.position(0).limit(lanes1.length);
+			java.nio.LongBuffer a = offHeap.slice();
+			offHeap.position(lanes1.length).limit(2 * lanes1.length);
+			java.nio.LongBuffer b = offHeap.slice();
+			offHeap.position(2 * lanes1.length).limit(3 * lanes1.length);
+			java.nio.LongBuffer r = offHeap.slice();
+			int offHeapFailed = BatchArithmetic.apply(op, a, b, r, offHeapErrors);
+			batch.append(op).append(' ').append(failed).append(' ').append(offHeapFailed);
+			single.append(op).append(' ').append(op == Operation.DIV ? 2 : 0).append(' ')
+					.append(op == Operation.DIV ? 2 : 0);
+			for (int ndx = 0; ndx < lanes1.length; ndx++) {
+				CalculatorValue v = new CalculatorValue(lanes1[ndx]);
+				v.apply(op, new CalculatorValue(lanes2[ndx]), false);
+				batch.append(' ').append(out[ndx]).append('/').append(errors[ndx]).append('/')
+						.append(r.get(ndx)).append('/').append(offHeapErrors.get(ndx));
+				single.append(' ').append(v.measuredValue).append('/').append(v.getErrorCode())
+						.append('/').append(v.measuredValue).append('/').append(v.getErrorCode());
+			}
+		}
+		
+		System.out.println("21. Element-wise arithmetic over arrays and buffers agrees with the calculator values");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(single.toString(), batch.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 22. Parse values in radixes other than ten
+		String[] radixInputs = {"ff", "-7FFFFFFFFFFFFFFF", "-8000000000000000", "8000000000000000",
+				"+ 777 ", "1012", "zz", "-ZZ", "g", "12 3", ""};							// Set up the test
+		int[] inputRadixes = {16, 16, 16, 16, 8, 2, 36, 36, 16, 16, 16};
+		CalculatorValue parsed = new CalculatorValue();
+		StringBuilder radixes = new StringBuilder();
+		for (int ndx = 0; ndx < radixInputs.length; ndx++) {
+			parsed.parse(radixInputs[ndx], 0, radixInputs[ndx].length(), inputRadixes[ndx]);	// Perform the test
+			radixes.append(parsed.getErrorCode() == ErrorCode.NONE ? parsed.toString()
+					: parsed.getErrorMessage()).append(" | ");
+		}
+		parsed.parseUnbounded("-fffffffffffffffffffffffffffffffe", 0, 33, 16);
+		CalculatorValue hexSum = new CalculatorValue("-7fffffffffffffff", 16);
+		hexSum.add(new CalculatorValue(-1));
+		radixes.append(parsed).append(" | ").append(hexSum);
+		
+		System.out.println("22. Parse values in radixes other than ten");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("255 | -9223372036854775807 | ***Error*** Invalid value | ***Error*** Invalid value | 511 | ***Error*** Invalid value | 1295 | -1295 | ***Error*** Invalid value | ***Error*** Excess data | ***Error*** Input is empty | -340282366920938463463374607431768211454 | -9223372036854775808", radixes.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 23. Format values in every radix into a reused array
+		long[] formatValues = {0, 1, -1, 35, -36, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 62,
+				-(1L << 62) - 1, 1234567890123456789L, -987654321098765432L};				// Set up the test
+		char[] formatted = new char[CalculatorValue.MAX_CHARS];
+		int mismatches = 0;
+		for (long v : formatValues)
+			for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+				int length = new CalculatorValue(v).format(formatted, 0, radix);		// Perform the test
+				if (!new String(formatted, 0, length).equals(Long.toString(v, radix)))
+					mismatches++;
+			}
+		java.io.StringWriter appended = new java.io.StringWriter();
+		try {
+			new CalculatorValue(-255).appendTo(appended.append('['), 16);
+			CalculatorValue doubled = new CalculatorValue(Long.MIN_VALUE);
+			doubled.checkedAdd(new CalculatorValue(Long.MIN_VALUE));
+			doubled.appendTo(appended.append("] ["), 2);
+			appended.append("] ").append(new CalculatorValue(123456789).toString(36));
+		} catch (java.io.IOException e) {
+			appended.append(e.toString());
+		}
+		
+		System.out.println("23. Format values in every radix into a reused array");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("0 [-ff] [-1" + "0".repeat(64) + "] 21i3v9", mismatches + " " + appended)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 24. Format values into StringBuilders, CharBuffers, and ByteBuffers
+		StringBuilder builder = new StringBuilder("[");								// Set up the test
+		java.nio.CharBuffer heapChars = java.nio.CharBuffer.allocate(80);
+		java.nio.CharBuffer directChars = java.nio.ByteBuffer.allocateDirect(160).asCharBuffer();
+		java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocateDirect(80);
+		mismatches = 0;
+		for (long v : formatValues)
+			for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+				CalculatorValue cv = new CalculatorValue(v);
+				String expected = Long.toString(v, radix);
+				builder.setLength(1);
+				heapChars.clear().put('[');
+				directChars.clear().put('[');
+				bytes.clear().put((byte) '[');
+				cv.appendTo(builder, radix);											// Perform the test
+				cv.appendTo(heapChars, radix).flip().get();
+				cv.appendTo(directChars, radix).flip().get();
+				cv.appendTo(bytes, radix).flip().get();
+				byte[] ascii = new byte[bytes.remaining()];
+				bytes.get(ascii);
+				if (!builder.substring(1).equals(expected) || !heapChars.toString().equals(expected)
+						|| !directChars.toString().equals(expected)
+						|| !new String(ascii, java.nio.charset.StandardCharsets.US_ASCII).equals(expected)
+						|| cv.formattedLength(radix) != expected.length())
+					mismatches++;
+			}
+		java.nio.ByteBuffer tooSmall = java.nio.ByteBuffer.allocate(4);
+		String overflow;
+		try {
+			new CalculatorValue(-65536).appendTo(tooSmall, 16);
+			overflow = "no overflow";
+		} catch (java.nio.BufferOverflowException e) {
+			overflow = "overflow at " + tooSmall.position();
+		}
+		CalculatorValue bigFormatted = new CalculatorValue();
+		bigFormatted.parseUnbounded("-123456789012345678901234567890", 0, 31);
+		builder.setLength(0);
+		bigFormatted.debugTo(bigFormatted.appendTo(builder, 16).append(' ').append(bigFormatted.formattedLength(16) >= 26).append(' '));
+		
+		System.out.println("24. Format values into StringBuilders, CharBuffers, and ByteBuffers");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("0 overflow at 0 -18ee90ff6c373e0ee4e3f0ad2 true measuredValue = -123456789012345678901234567890\nerrorMessage = \n", mismatches + " " + overflow + " " + builder)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 25. Parse and format unsigned 64 bit values in every radix
+		mismatches = 0;																// Set up the test
+		CalculatorValue id = new CalculatorValue();
+		for (long v : formatValues)
+			for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+				String unsignedDigits = Long.toUnsignedString(v, radix);
+				boolean converted = id.parseUnsigned(unsignedDigits, 0, unsignedDigits.length(),
+						radix);															// Perform the test
+				int length = id.formatUnsigned(formatted, 0, radix);
+				if (!converted || id.measuredValue != v
+						|| !id.toUnsignedString(radix).equals(unsignedDigits)
+						|| !new String(formatted, 0, length).equals(unsignedDigits)
+						|| id.formattedUnsignedLength(radix) != length)
+					mismatches++;
+			}
+		StringBuilder unsignedResults = new StringBuilder().append(mismatches);
+		for (String s : new String[] {"ffffffffffffffff", " +FFFFFFFFFFFFFFFF ", "10000000000000000",
+				"-1", "", "ff ff"}) {
+			id.parseUnsigned(s, 0, s.length(), 16);
+			unsignedResults.append(' ').append(id.getErrorCode() == ErrorCode.NONE
+					? id.measuredValue + "=" + id.toUnsignedString(16) : ErrorCode.name(id.getErrorCode()));
+		}
+		
+		System.out.println("25. Parse and format unsigned 64 bit values in every radix");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("0 -1=ffffffffffffffff -1=ffffffffffffffff INVALID_VALUE INVALID_VALUE INPUT_EMPTY EXCESS_DATA", unsignedResults.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
 		System.out.println("Number of tests passed: " + numPassed);
 		System.out.println("Number of tests failed: " + numFailed);
 
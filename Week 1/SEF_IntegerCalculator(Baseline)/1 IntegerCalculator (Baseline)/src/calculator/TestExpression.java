@@ -0,0 +1,401 @@
+package calculator;
+
+/**
+ * <p> Title: TestExpression </p>
+ * 
+ * <p> Description: A component of the Calculator application </p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.00	2026-10-17	Initial tests of the expression compiler
+ * 
+ */
+
+public class TestExpression {
+
+	/**********
+	 * This class roots the execution of the test of the Expression class.  The application 
+	 * tests the class by invoking the class methods and checking the result to see if the results 
+	 * are proper.
+	 * 
+	 */
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * The check method compares an Expected String to an Actual String and returns true if the 
+	 * Strings match and false otherwise.  In addition, the Strings are displayed to the console
+	 * and a message is display stating whether or not there is a difference.  If there is a
+	 * difference, the character at the point of the difference in the actual String is replaced
+	 * with a "?" and both are displayed making it clear what character is the start of the
+	 * difference
+	 * 
+	 * @param Expected	The String object of the expected value
+	 * @param Actual		The String object of the actual value
+	 */
+	private static boolean check(String expected, String actual) {
+		// Display the input parameters
+		System.out.println("***Expected String");
+		System.out.println(expected);
+		System.out.println("***Actual String");
+		System.out.println(actual);
+		
+		// Check to see if there is a difference
+		int lesserLength = expected.length();
+		if (lesserLength > actual.length()) lesserLength = actual.length();
+		int ndx = 0;
+		while (ndx < lesserLength && expected.charAt(ndx) == actual.charAt(ndx))
+			ndx++;
+		
+		// Explain why the loop terminated and if there is a difference make it clear to the user
+		if (ndx < lesserLength || lesserLength < expected.length() || lesserLength < actual.length()) {
+			System.out.println("*** There is a difference!\n" + expected.substring(0, ndx) + "? <-----");
+			return false;
+		}
+		System.out.println("*** There is no difference!\n");
+		return true;
+	}
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * This main method roots the execution of this test.  The method ignores the program
+	 * parameters.  After initializing several local variables, it performs a sequence of
+	 * tests, displaying information accordingly and tallying the number of successes and
+	 * failures.
+	 * 
+	 * @param args	Ignored by this application.
+	 */
+	public static void main(String[] args) {
+		// Display the header message to the console and initialize local variables
+		System.out.println("Test Expression Class\n");
+		int numPassed = 0;
+		int numFailed = 0;
+		
+		// 1. Precedence of the operators
+		Expression test = Expression.compile("2 + 3 * 4 - 10 / 5");	// Perform the test
+		String actual = test.evaluate().toString();
+		
+		System.out.println("1. Precedence of the operators");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("12", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 2. Parentheses and unary minus
+		test = Expression.compile("-(2 + 3) * (4 - -6)");	// Perform the test
+		actual = test.evaluate().toString();
+		
+		System.out.println("2. Parentheses and unary minus");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("-50", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 3. Operators of the same precedence group from left to right
+		test = Expression.compile("100 / 10 / 5 - 1 - 1");	// Perform the test
+		actual = test.evaluate().toString();
+		
+		System.out.println("3. Operators of the same precedence group from left to right");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("0", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 4. Constants are folded around the variables
+		test = Expression.compile("(2 * 3 + 1) * a + b / (8 - 4)");	// Perform the test
+		
+		System.out.println("4. Constants are folded around the variables");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("((7 * a) + (b / 4))", test.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 5. Variables are bound at each evaluation
+		test = Expression.compile("(a + 2) * b - a");				// Set up the test
+		actual = test.evaluate(3, 4).toString() + " " + test.evaluate(-2, 9).toString()
+				+ " " + test.getVariableCount() + " " + test.getVariableName(1);	// Perform the test
+		
+		System.out.println("5. Variables are bound at each evaluation");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("17 2 2 b", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 6. Division by zero is reported when evaluated
+		test = Expression.compile("a + 1 / (2 - 2)");			// Perform the test
+		CalculatorValue result = test.evaluate(5);
+		
+		System.out.println("6. Division by zero is reported when evaluated");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("(a + (1 / 0)) Invalid Input", test.toString() + " " + result.getErrorMessage())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 7. Syntax errors give the position of the error
+		actual = Expression.compile("2 * (3 + 4").toString() + "; "
+				+ Expression.compile("2 + * 3").toString() + "; "
+				+ Expression.compile("2 3").toString() + "; "
+				+ Expression.compile("  ").toString();						// Perform the test
+		
+		System.out.println("7. Syntax errors give the position of the error");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("***Error*** Invalid expression at position 4; ***Error*** Invalid expression at position 4; "
+				+ "***Error*** Excess data at position 2; ***Error*** Input is empty at position 2", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 8. Overflow checked expressions promote large results
+		test = Expression.compile("a * a * 100000000000000000000", true);	// Perform the test
+		actual = test.evaluate(9223372036854775807L).toString();
+		
+		System.out.println("8. Overflow checked expressions promote large results");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("8507059173023461584739690778423250124900000000000000000000", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 9. The wrong number of values is an undefined operand
+		test = Expression.compile("x - y");					// Perform the test
+		result = test.evaluate(1);
+		
+		System.out.println("9. The wrong number of values is an undefined operand");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("No value found", result.getErrorMessage())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 10. The lambdas give the results of the tree, errors included
+		CompiledExpression compiled = CompiledExpression.compile("(a + 3) * b - a / (c - 7) - -b / 2", false);
+		StringBuilder mismatches = new StringBuilder();						// Perform the test
+		for (long a = -20; a <= 20; a += 3)
+			for (long b = -9; b <= 9; b += 2)
+				for (long c = 5; c <= 9; c++)
+					if (!compiled.evaluate(a, b, c).debugToString().equals(
+							compiled.getExpression().evaluate(a, b, c).debugToString()))
+						mismatches.append(a).append(',').append(b).append(',').append(c).append(' ');
+		actual = compiled.isTranslated() + " " + compiled.evaluate(1, 2, 7).getErrorMessage()
+				+ " " + mismatches;
+		
+		System.out.println("10. The lambdas give the results of the tree, errors included");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("true Invalid Input ", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 11. An overflow in a checked expression falls back to the promoted result
+		compiled = CompiledExpression.compile("a * 4 + 1", true);				// Perform the test
+		actual = compiled.applyAsLong(5) + " " + compiled.evaluate(4611686018427387904L);
+		
+		System.out.println("11. An overflow in a checked expression falls back to the promoted result");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("21 18446744073709551617", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 12. The cache keeps the most recently used expressions
+		ExpressionCache cache = new ExpressionCache(2, false);					// Set up the test
+		cache.evaluate("a + 1", 1);
+		cache.evaluate("a + 2", 1);
+		cache.evaluate("a + 1", 1);											// A hit, so "a + 2" is now
+		cache.evaluate("a + 3", 1);											// the one dropped
+		actual = cache.evaluate("a + 1", 41) + " " + cache.getHits() + " " + cache.getMisses()
+				+ " " + cache.size();												// Perform the test
+		
+		System.out.println("12. The cache keeps the most recently used expressions");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("42 2 3 2", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 13. A chain of ten thousand additions is evaluated without recursion
+		test = Expression.compile("1" + "+x".repeat(10000));						// Perform the test
+		compiled = new CompiledExpression(test);
+		actual = test.evaluate(new long[1]) + " " + test.evaluate(1) + " " + compiled.isTranslated()
+				+ " " + compiled.evaluate(1) + " " + test.toString().length();
+		
+		System.out.println("13. A chain of ten thousand additions is evaluated without recursion");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("1 10001 false 10001 60001", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 14. Parentheses nested too deeply are a syntax error at the one too many
+		test = Expression.compile("(".repeat(10000) + "1" + ")".repeat(10000));	// Perform the test
+		actual = test.toString() + "; "
+				+ Expression.compile("(".repeat(400) + "x" + ")".repeat(400)).evaluate(1);
+		
+		System.out.println("14. Parentheses nested too deeply are a syntax error at the one too many");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("***Error*** Invalid expression at position 500; 1", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 15. A run of ten thousand signs is read without recursion
+		actual = Expression.compile("-".repeat(10000) + "1").evaluate() + " "		// Perform the test
+				+ Expression.compile("-".repeat(10001) + "x").evaluate(5) + " "
+				+ Expression.compile("-+-".repeat(3000) + "x", true).evaluate(Long.MIN_VALUE);
+		
+		System.out.println("15. A run of ten thousand signs is read without recursion");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("1 -5 -9223372036854775808", actual)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		System.out.println("Number of tests passed: " + numPassed);
+		System.out.println("Number of tests failed: " + numFailed);
+
+	}
+}
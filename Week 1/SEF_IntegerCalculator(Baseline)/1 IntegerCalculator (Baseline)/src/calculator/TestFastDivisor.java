@@ -0,0 +1,275 @@
+package calculator;
+
+/**
+ * <p> Title: TestFastDivisor </p>
+ * 
+ * <p> Description: A component of the Calculator application </p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.00	2026-10-17	Initial tests of the precomputed divisor
+ * 
+ */
+
+public class TestFastDivisor {
+
+	/**********
+	 * This class roots the execution of the test of the FastDivisor class.  The application 
+	 * tests the class by invoking the class methods and checking the result to see if the results 
+	 * are proper.
+	 * 
+	 */
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * The check method compares an Expected String to an Actual String and returns true if the 
+	 * Strings match and false otherwise.  In addition, the Strings are displayed to the console
+	 * and a message is display stating whether or not there is a difference.  If there is a
+	 * difference, the character at the point of the difference in the actual String is replaced
+	 * with a "?" and both are displayed making it clear what character is the start of the
+	 * difference
+	 * 
+	 * @param Expected	The String object of the expected value
+	 * @param Actual		The String object of the actual value
+	 */
+	private static boolean check(String expected, String actual) {
+		// Display the input parameters
+		System.out.println("***Expected String");
+		System.out.println(expected);
+		System.out.println("***Actual String");
+		System.out.println(actual);
+		
+		// Check to see if there is a difference
+		int lesserLength = expected.length();
+		if (lesserLength > actual.length()) lesserLength = actual.length();
+		int ndx = 0;
+		while (ndx < lesserLength && expected.charAt(ndx) == actual.charAt(ndx))
+			ndx++;
+		
+		// Explain why the loop terminated and if there is a difference make it clear to the user
+		if (ndx < lesserLength || lesserLength < expected.length() || lesserLength < actual.length()) {
+			System.out.println("*** There is a difference!\n" + expected.substring(0, ndx) + "? <-----");
+			return false;
+		}
+		System.out.println("*** There is no difference!\n");
+		return true;
+	}
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * This main method roots the execution of this test.  The method ignores the program
+	 * parameters.  After initializing several local variables, it performs a sequence of
+	 * tests, displaying information accordingly and tallying the number of successes and
+	 * failures.
+	 * 
+	 * @param args	Ignored by this application.
+	 */
+	public static void main(String[] args) {
+		// Display the header message to the console and initialize local variables
+		System.out.println("Test FastDivisor Class\n");
+		int numPassed = 0;
+		int numFailed = 0;
+		
+		
+		// 1. Divide edge dividends by every small divisor
+		long[] dividends = {0, 1, -1, 2, -2, 3, 7, -7, 100, -100, 1L << 32, -(1L << 32),
+				Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1,
+				Long.MAX_VALUE / 3, Long.MIN_VALUE / 3, 6148914691236517205L, -6148914691236517206L};
+		long mismatches = 0;
+		long divisions = 0;
+		for (long d = -1000; d <= 1000; d++) {												// Perform the test
+			if (d == 0)
+				continue;
+			FastDivisor divisor = new FastDivisor(d);
+			for (long n : dividends) {
+				divisions++;
+				if (divisor.divide(n) != n / d)
+					mismatches++;
+			}
+		}
+		
+		System.out.println("1. Divide edge dividends by every small divisor");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("40000 divisions, 0 mismatches", divisions + " divisions, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 2. Divide random dividends by large, power of two, and random divisors
+		java.util.Random random = new java.util.Random(20);
+		java.util.List<Long> divisors = new java.util.ArrayList<>();
+		divisors.add(Long.MIN_VALUE);
+		divisors.add(Long.MIN_VALUE + 1);
+		divisors.add(Long.MAX_VALUE);
+		divisors.add(Long.MAX_VALUE - 1);
+		for (int k = 1; k < 63; k++) {
+			divisors.add(1L << k);
+			divisors.add(-(1L << k));
+			divisors.add((1L << k) + 1);
+			divisors.add((1L << k) - 1);
+			divisors.add(-(1L << k) - 1);
+			divisors.add(-(1L << k) + 1);
+		}
+		for (int ndx = 0; ndx < 2000; ndx++) {
+			long d = random.nextLong() >> random.nextInt(64);
+			if (d != 0)
+				divisors.add(d);
+		}
+		mismatches = 0;
+		divisions = 0;
+		for (long d : divisors) {																// Perform the test
+			FastDivisor divisor = new FastDivisor(d);
+			for (int ndx = 0; ndx < 500; ndx++) {
+				long n = ndx < dividends.length ? dividends[ndx] : random.nextLong() >> random.nextInt(64);
+				divisions++;
+				if (divisor.divide(n) != n / d)
+					mismatches++;
+			}
+		}
+		
+		System.out.println("2. Divide random dividends by large, power of two, and random divisors");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check((divisors.size() * 500) + " divisions, 0 mismatches", divisions + " divisions, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 3. Divide by zero as CalculatorValue.div does
+		FastDivisor zero = new FastDivisor(0);
+		CalculatorValue fast = new CalculatorValue(12345);
+		CalculatorValue slow = new CalculatorValue(12345);
+		zero.divide(fast);																		// Perform the test
+		slow.div(new CalculatorValue(0));
+		String outcome;
+		try {
+			outcome = Long.toString(zero.divide(12345));
+		} catch (ArithmeticException e) {
+			outcome = e.getMessage();
+		}
+		long[] column = {5, -6, 7};
+		long[] quotients = new long[3];
+		byte[] errors = new byte[3];
+		outcome = fast.getErrorMessage() + " " + fast + " " + outcome + " "
+				+ zero.divide(column, quotients, errors) + " " + java.util.Arrays.toString(quotients)
+				+ " " + java.util.Arrays.toString(errors);
+		
+		System.out.println("3. Divide by zero as CalculatorValue.div does");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(slow.getErrorMessage() + " " + slow + " / by zero 3 [5, -6, 7] [4, 4, 4]", outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 4. Divide a big value in place as CalculatorValue.div does
+		fast = new CalculatorValue();
+		fast.parseUnbounded("123456789012345678901234567890", 0, 30);
+		slow = new CalculatorValue(fast);
+		new FastDivisor(-977).divide(fast);													// Perform the test
+		slow.div(new CalculatorValue(-977));
+		
+		System.out.println("4. Divide a big value in place as CalculatorValue.div does");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(slow.debugToString(), fast.debugToString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 5. Divide arrays by a prepared divisor as by a column of it
+		long[] column1 = new long[10000];
+		for (int ndx = 0; ndx < column1.length; ndx++)
+			column1[ndx] = random.nextLong() >> random.nextInt(64);
+		column1[0] = Long.MIN_VALUE;
+		outcome = "";
+		for (long d : new long[] {7, -7, 1000000007, 1L << 40, -(1L << 40), 1, -1, Long.MIN_VALUE}) {
+			long[] column2 = new long[column1.length];
+			java.util.Arrays.fill(column2, d);
+			long[] expected = new long[column1.length];
+			byte[] expectedErrors = new byte[column1.length];
+			BatchArithmetic.div(column1, column2, expected, expectedErrors);
+			long[] actual = new long[column1.length];
+			byte[] actualErrors = new byte[column1.length];
+			BatchArithmetic.div(column1, new FastDivisor(d), actual, actualErrors);			// Perform the test
+			outcome += (java.util.Arrays.equals(expected, actual)
+					&& java.util.Arrays.equals(expectedErrors, actualErrors)) + " ";
+		}
+		
+		System.out.println("5. Divide arrays by a prepared divisor as by a column of it");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("true true true true true true true true ", outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 6. Show how the divisions are done
+		outcome = new FastDivisor(7) + " | " + new FastDivisor(-8) + " | " + new FastDivisor(0);	// Perform the test
+		
+		System.out.println("6. Show how the divisions are done");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("/ 7 = mulhi 5270498306774157605 >> 1 | / -8 = ->> 3 | / 0", outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		System.out.println("Number of tests passed: " + numPassed);
+		System.out.println("Number of tests failed: " + numFailed);
+
+	}
+}
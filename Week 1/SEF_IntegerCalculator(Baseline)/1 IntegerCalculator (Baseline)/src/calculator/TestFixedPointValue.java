@@ -0,0 +1,369 @@
+package calculator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * <p> Title: TestFixedPointValue </p>
+ * 
+ * <p> Description: A component of the Calculator application </p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.00	2026-10-17	Initial tests of the fixed point decimal values
+ * 
+ */
+
+public class TestFixedPointValue {
+
+	/**********
+	 * This class roots the execution of the test of the FixedPointValue class.  The application 
+	 * tests the class by invoking the class methods and checking the result to see if the results 
+	 * are proper.
+	 * 
+	 */
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * The check method compares an Expected String to an Actual String and returns true if the 
+	 * Strings match and false otherwise.  In addition, the Strings are displayed to the console
+	 * and a message is display stating whether or not there is a difference.  If there is a
+	 * difference, the character at the point of the difference in the actual String is replaced
+	 * with a "?" and both are displayed making it clear what character is the start of the
+	 * difference
+	 * 
+	 * @param Expected	The String object of the expected value
+	 * @param Actual		The String object of the actual value
+	 */
+	private static boolean check(String expected, String actual) {
+		// Display the input parameters
+		System.out.println("***Expected String");
+		System.out.println(expected);
+		System.out.println("***Actual String");
+		System.out.println(actual);
+		
+		// Check to see if there is a difference
+		int lesserLength = expected.length();
+		if (lesserLength > actual.length()) lesserLength = actual.length();
+		int ndx = 0;
+		while (ndx < lesserLength && expected.charAt(ndx) == actual.charAt(ndx))
+			ndx++;
+		
+		// Explain why the loop terminated and if there is a difference make it clear to the user
+		if (ndx < lesserLength || lesserLength < expected.length() || lesserLength < actual.length()) {
+			System.out.println("*** There is a difference!\n" + expected.substring(0, ndx) + "? <-----");
+			return false;
+		}
+		System.out.println("*** There is no difference!\n");
+		return true;
+	}
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * This main method roots the execution of this test.  The method ignores the program
+	 * parameters.  After initializing several local variables, it performs a sequence of
+	 * tests, displaying information accordingly and tallying the number of successes and
+	 * failures.
+	 * 
+	 * @param args	Ignored by this application.
+	 */
+	public static void main(String[] args) {
+		// Display the header message to the console and initialize local variables
+		System.out.println("Test FixedPointValue Class\n");
+		int numPassed = 0;
+		int numFailed = 0;
+		
+		
+		// 1. Parse decimals and round the places past the scale
+		String[] inputs = {"1.005", "-1.015", "2.675", "0.125", "1.0051", "12", ".5", "- 3.14159 ", "-0.001",
+				"92233720368547758.07", "-92233720368547758.08", "92233720368547758.08", "1.2.3", "abc", "", "1.5 x", "."};
+		StringBuilder parsed = new StringBuilder();
+		for (int ndx = 0; ndx < inputs.length; ndx++) {											// Perform the test
+			FixedPointValue v = new FixedPointValue(inputs[ndx], 2, RoundingMode.HALF_EVEN);
+			parsed.append(v.getErrorCode() == ErrorCode.NONE ? v.toString() : ErrorCode.name(v.getErrorCode()))
+					.append(' ');
+		}
+		
+		System.out.println("1. Parse decimals and round the places past the scale");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("1.00 -1.02 2.68 0.12 1.01 12.00 0.50 -3.14 0.00 92233720368547758.07 -92233720368547758.08 INVALID_VALUE INVALID_VALUE INVALID_VALUE INPUT_EMPTY EXCESS_DATA INVALID_VALUE ", parsed.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 2. Compare random parsing in every rounding mode with BigDecimal
+		RoundingMode[] modes = {RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+				RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN};
+		java.util.Random random = new java.util.Random(24);
+		long mismatches = 0;
+		long values = 0;
+		for (int ndx = 0; ndx < 100000; ndx++) {													// Perform the test
+			int scale = random.nextInt(FixedPointValue.MAX_SCALE + 1);
+			RoundingMode mode = modes[ndx % modes.length];
+			StringBuilder text = new StringBuilder(random.nextBoolean() ? "-" : "");
+			int whole = random.nextInt(19 - scale);
+			for (int digit = 0; digit <= whole; digit++)
+				text.append((char) ('0' + random.nextInt(10)));
+			text.append('.');
+			int places = random.nextInt(scale + 4);
+			for (int digit = 0; digit < places; digit++)
+				text.append(random.nextInt(4) == 0 ? '5' : (char) ('0' + random.nextInt(10)));
+			BigDecimal expected = new BigDecimal(text.toString()).setScale(scale, mode);
+			FixedPointValue v = new FixedPointValue(text.toString(), scale, mode);
+			values++;
+			if (expected.unscaledValue().bitLength() < 64 ? v.getErrorCode() != ErrorCode.NONE
+					|| !v.toString().equals(expected.toPlainString()) : v.getErrorCode() != ErrorCode.INVALID_VALUE)
+				mismatches++;
+		}
+		
+		System.out.println("2. Compare random parsing in every rounding mode with BigDecimal");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("100000 values, 0 mismatches", values + " values, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 3. Format decimals into Strings and buffers
+		FixedPointValue small = new FixedPointValue("-0.05", 2, RoundingMode.HALF_EVEN);
+		FixedPointValue tiny = new FixedPointValue(18, RoundingMode.HALF_EVEN);
+		tiny.setUnscaledValue(1);
+		FixedPointValue least = new FixedPointValue(18, RoundingMode.HALF_EVEN);
+		least.setUnscaledValue(Long.MIN_VALUE);
+		FixedPointValue whole = new FixedPointValue("-42", 0, RoundingMode.HALF_EVEN);
+		char[] chars = new char[24];
+		java.nio.CharBuffer charBuffer = java.nio.CharBuffer.allocate(24);
+		java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(6);
+		bytes.put((byte) '=');
+		String overflowed;
+		try {																						// Perform the test
+			small.appendTo(bytes, 10);
+			least.appendTo(bytes, 10);
+			overflowed = "no overflow";
+		} catch (java.nio.BufferOverflowException e) {
+			overflowed = "overflow at " + bytes.position();
+		}
+		least.appendTo(charBuffer, 16);
+		String outcome = small.toString(16) + " " + tiny.appendTo(new StringBuilder()) + " "
+				+ new String(chars, 0, least.format(chars, 0, 2)) + " " + least.formattedLength(10) + " "
+				+ small.appendTo(new StringBuilder(), 36) + " " + whole + " " + whole.isLong() + " "
+				+ charBuffer.flip() + " " + new String(bytes.array(), 0, bytes.position()) + " " + overflowed;
+		
+		System.out.println("3. Format decimals into Strings and buffers");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("-0.05 0.000000000000000001 -9.223372036854775808 21 -0.05 -42 true -9.223372036854775808 =-0.05 overflow at 6", outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 4. Add, subtract, multiply, and divide decimals
+		FixedPointValue d = new FixedPointValue("12.34", 2, RoundingMode.HALF_EVEN);
+		StringBuilder results = new StringBuilder();
+		d.add(new FixedPointValue("0.66", 2, RoundingMode.HALF_EVEN));								// Perform the test
+		results.append(d).append(' ');
+		d.sub(new FixedPointValue("13.75", 2, RoundingMode.HALF_EVEN));
+		results.append(d).append(' ');
+		d.mpy(new FixedPointValue("-1.25", 2, RoundingMode.HALF_EVEN));
+		results.append(d).append(' ');
+		d.mpy(new FixedPointValue("-0.5", 2, RoundingMode.HALF_EVEN));
+		results.append(d).append(' ');
+		d.div(new CalculatorValue(3));
+		results.append(d).append(' ');
+		d.add(new FixedPointValue("0.0051", 4, RoundingMode.HALF_EVEN));
+		results.append(d).append(' ');
+		d.div(new FixedPointValue(2, RoundingMode.HALF_EVEN));
+		results.append(ErrorCode.name(d.getErrorCode())).append(' ').append(d).append(' ');
+		d.apply(Operation.MPY, new CalculatorValue(-2), true);
+		results.append(d).append(' ').append(d.copy()).append(' ').append(d.getUnscaledValue());
+		
+		System.out.println("4. Add, subtract, multiply, and divide decimals");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("13.00 -0.75 0.94 -0.47 -0.16 -0.15 DIVIDE_BY_ZERO -0.15 0.30 0.30 30", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 5. Keep products and quotients past a long and report true overflow
+		results = new StringBuilder();
+		d = new FixedPointValue("3", 9, RoundingMode.HALF_EVEN);
+		d.mpy(new FixedPointValue("4.0000000006", 9, RoundingMode.HALF_EVEN));						// Perform the test
+		results.append(d).append(' ');
+		d.div(new FixedPointValue("7", 9, RoundingMode.HALF_EVEN));
+		results.append(d).append(' ');
+		d = new FixedPointValue("1.5", 18, RoundingMode.HALF_EVEN);
+		d.mpy(new FixedPointValue("2.5", 18, RoundingMode.HALF_EVEN));
+		results.append(d).append(' ');
+		d.div(new FixedPointValue("-0.000000000000000001", 18, RoundingMode.HALF_EVEN));
+		results.append(ErrorCode.name(d.getErrorCode())).append(' ').append(d).append(' ');
+		d = new FixedPointValue("92233720368547758.07", 2, RoundingMode.HALF_EVEN);
+		d.add(new FixedPointValue("0.01", 2, RoundingMode.HALF_EVEN));
+		results.append(ErrorCode.name(d.getErrorCode())).append(' ').append(d).append(' ');
+		d.mpy(new CalculatorValue(2));
+		results.append(ErrorCode.name(d.getErrorCode())).append(' ');
+		d.setValue(new BigInteger("100000000000000000000"));
+		results.append(ErrorCode.name(d.getErrorCode())).append(' ').append(d);
+		
+		System.out.println("5. Keep products and quotients past a long and report true overflow");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("12.000000003 1.714285715 3.750000000000000000 OVERFLOW 3.750000000000000000 OVERFLOW 92233720368547758.07 OVERFLOW OVERFLOW 92233720368547758.07", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 6. Compare random operations in every rounding mode with BigDecimal
+		mismatches = 0;
+		long operations = 0;
+		for (int ndx = 0; ndx < 400000; ndx++) {													// Perform the test
+			int scale = random.nextInt(FixedPointValue.MAX_SCALE + 1);
+			RoundingMode mode = modes[ndx % modes.length];
+			Operation op = Operation.values()[(ndx / modes.length) % 4];
+			long a = random.nextLong() >> random.nextInt(64);
+			long b = random.nextLong() >> random.nextInt(64);
+			if (ndx % 97 == 0)
+				b = ndx % 2 == 0 ? -1 : Long.MIN_VALUE;
+			if (op == Operation.DIV && b == 0)
+				continue;
+			FixedPointValue left = new FixedPointValue(scale, mode);
+			left.setUnscaledValue(a);
+			FixedPointValue right = new FixedPointValue(scale, mode);
+			right.setUnscaledValue(b);
+			BigDecimal x = BigDecimal.valueOf(a, scale);
+			BigDecimal y = BigDecimal.valueOf(b, scale);
+			BigDecimal expected;
+			switch (op) {
+			case ADD:
+				expected = x.add(y);
+				break;
+			case SUB:
+				expected = x.subtract(y);
+				break;
+			case MPY:
+				expected = x.multiply(y).setScale(scale, mode);
+				break;
+			default:
+				expected = x.divide(y, scale, mode);
+			}
+			left.apply(op, right, false);
+			operations++;
+			BigInteger unscaled = expected.unscaledValue();
+			if (unscaled.bitLength() < 64 ? left.getErrorCode() != ErrorCode.NONE
+					|| left.getUnscaledValue() != unscaled.longValue()
+					: left.getErrorCode() != ErrorCode.OVERFLOW || left.getUnscaledValue() != a)
+				mismatches++;
+		}
+		
+		System.out.println("6. Compare random operations in every rounding mode with BigDecimal");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(operations + " operations, 0 mismatches", operations + " operations, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 7. Compute with decimals in the fixed point mode of the BusinessLogic
+		BusinessLogic logic = new BusinessLogic();
+		logic.setResultCache(new ResultCache<>(16));
+		logic.setMode(NumberMode.FIXED_POINT);														// Perform the test
+		logic.setRadix(16);
+		logic.setOperand1("10");
+		logic.setOperand2("3");
+		results = new StringBuilder(logic.division()).append(' ').append(logic.getResultFitsInLong()).append(' ');
+		logic.setRoundingMode(RoundingMode.UP);
+		logic.setOperand1("10");
+		results.append(logic.division()).append(' ');
+		logic.setScale(4);
+		results.append(logic.division()).append(' ').append(logic.compute(Operation.MPY)).append(' ');
+		logic.setOperand1("19.99");
+		logic.setOperand2("0.075");
+		results.append(logic.multiplication()).append(' ');
+		logic.setOperand1("99999999999999");
+		logic.setOperand2("99999999999999");
+		results.append(logic.multiplication().isEmpty()).append(' ').append(logic.getResultErrorMessage().isEmpty())
+				.append(' ').append(logic.compute(Operation.ADD));
+		String rejected;
+		try {
+			logic.setScale(19);
+			rejected = "accepted";
+		} catch (IllegalArgumentException e) {
+			rejected = "rejected";
+		}
+		results.append(' ').append(rejected).append(' ').append(logic.getScale());
+		
+		System.out.println("7. Compute with decimals in the fixed point mode of the BusinessLogic");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("3.33 false 3.34 3.3334 300000 1.4993 true false 1999999999999980000 rejected 4", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		System.out.println("Number of tests passed: " + numPassed);
+		System.out.println("Number of tests failed: " + numFailed);
+
+	}
+}
@@ -0,0 +1,330 @@
+package calculator;
+
+import java.math.BigInteger;
+
+/**
+ * <p> Title: TestModularValue </p>
+ * 
+ * <p> Description: A component of the Calculator application </p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.00	2026-10-17	Initial tests of the modular values and the Montgomery modulus
+ * 
+ */
+
+public class TestModularValue {
+
+	/**********
+	 * This class roots the execution of the test of the ModularValue and Modulus classes.  The application 
+	 * tests the class by invoking the class methods and checking the result to see if the results 
+	 * are proper.
+	 * 
+	 */
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * The check method compares an Expected String to an Actual String and returns true if the 
+	 * Strings match and false otherwise.  In addition, the Strings are displayed to the console
+	 * and a message is display stating whether or not there is a difference.  If there is a
+	 * difference, the character at the point of the difference in the actual String is replaced
+	 * with a "?" and both are displayed making it clear what character is the start of the
+	 * difference
+	 * 
+	 * @param Expected	The String object of the expected value
+	 * @param Actual		The String object of the actual value
+	 */
+	private static boolean check(String expected, String actual) {
+		// Display the input parameters
+		System.out.println("***Expected String");
+		System.out.println(expected);
+		System.out.println("***Actual String");
+		System.out.println(actual);
+		
+		// Check to see if there is a difference
+		int lesserLength = expected.length();
+		if (lesserLength > actual.length()) lesserLength = actual.length();
+		int ndx = 0;
+		while (ndx < lesserLength && expected.charAt(ndx) == actual.charAt(ndx))
+			ndx++;
+		
+		// Explain why the loop terminated and if there is a difference make it clear to the user
+		if (ndx < lesserLength || lesserLength < expected.length() || lesserLength < actual.length()) {
+			System.out.println("*** There is a difference!\n" + expected.substring(0, ndx) + "? <-----");
+			return false;
+		}
+		System.out.println("*** There is no difference!\n");
+		return true;
+	}
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * This main method roots the execution of this test.  The method ignores the program
+	 * parameters.  After initializing several local variables, it performs a sequence of
+	 * tests, displaying information accordingly and tallying the number of successes and
+	 * failures.
+	 * 
+	 * @param args	Ignored by this application.
+	 */
+	public static void main(String[] args) {
+		// Display the header message to the console and initialize local variables
+		System.out.println("Test ModularValue Class\n");
+		int numPassed = 0;
+		int numFailed = 0;
+		
+		
+		// 1. Compare random Montgomery products with BigInteger arithmetic
+		long[] moduli = {2, 3, 4, 6, 10, 97, 1L << 40, 3L << 40, 1000000007L, 4294967296L * 3 + 1,
+				(1L << 61) - 1, Long.MAX_VALUE, Long.MAX_VALUE - 1, 1L << 62, 6L << 59, Long.MAX_VALUE - 24};
+		java.util.Random random = new java.util.Random(25);
+		long mismatches = 0;
+		long products = 0;
+		for (int ndx = 0; ndx < 160000; ndx++) {													// Perform the test
+			long m = ndx < 80000 ? moduli[ndx % moduli.length] : (random.nextLong() >>> (1 + random.nextInt(62))) | 2;
+			Modulus modulus = new Modulus(m);
+			BigInteger bm = BigInteger.valueOf(m);
+			long a = ndx % 7 == 0 ? m - 1 : Math.floorMod(random.nextLong(), m);
+			long b = ndx % 5 == 0 ? m - 1 : Math.floorMod(random.nextLong(), m);
+			products++;
+			if (modulus.multiply(a, b) != BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(bm).longValue()
+					|| modulus.add(a, b) != BigInteger.valueOf(a).add(BigInteger.valueOf(b)).mod(bm).longValue()
+					|| modulus.subtract(a, b) != Math.floorMod(a - b, m))
+				mismatches++;
+		}
+		
+		System.out.println("1. Compare random Montgomery products with BigInteger arithmetic");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("160000 products, 0 mismatches", products + " products, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 2. Compare random powers and inverses with BigInteger.modPow
+		mismatches = 0;
+		long powers = 0;
+		for (int ndx = 0; ndx < 40000; ndx++) {														// Perform the test
+			long m = ndx < 16000 ? moduli[ndx % moduli.length] : (random.nextLong() >>> (1 + random.nextInt(62))) | 2;
+			Modulus modulus = new Modulus(m);
+			BigInteger bm = BigInteger.valueOf(m);
+			long a = Math.floorMod(random.nextLong(), m);
+			long e = ndx % 9 == 0 ? Long.MIN_VALUE + ndx % 2 : random.nextLong() >> random.nextInt(64);
+			BigInteger ba = BigInteger.valueOf(a);
+			long expected;
+			try {
+				expected = ba.modPow(BigInteger.valueOf(e), bm).longValue();
+			} catch (ArithmeticException x) {
+				expected = 0;																		// No inverse
+			}
+			long inverse;
+			try {
+				inverse = ba.modInverse(bm).longValue();
+			} catch (ArithmeticException x) {
+				inverse = 0;
+			}
+			powers++;
+			if (modulus.pow(a, e) != expected || modulus.inverse(a) != inverse
+					|| modulus.reduce(e) != BigInteger.valueOf(e).mod(bm).longValue())
+				mismatches++;
+		}
+		
+		System.out.println("2. Compare random powers and inverses with BigInteger.modPow");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("40000 powers, 0 mismatches", powers + " powers, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 3. Parse, reduce, and compute with modular values
+		Modulus seven = new Modulus(7);
+		ModularValue v = new ModularValue("-100000000000000000000000000000", 10, seven);
+		StringBuilder results = new StringBuilder();
+		results.append(v).append(' ');																// Perform the test
+		v.parse("ff", 0, 2, 16);
+		results.append(v).append(' ');
+		v.add(new CalculatorValue(Long.MIN_VALUE));
+		results.append(v).append(' ');
+		v.sub(new ModularValue(5, seven));
+		results.append(v).append(' ');
+		v.mpy(new CalculatorValue(-3));
+		results.append(v).append(' ');
+		v.div(new CalculatorValue(3));
+		results.append(v).append(' ');
+		v.div(new CalculatorValue(14));
+		results.append(ErrorCode.name(v.getErrorCode())).append(' ').append(v).append(' ');
+		v.pow(new CalculatorValue(-1));
+		results.append(v).append(' ');
+		CalculatorValue huge = new CalculatorValue();
+		huge.setValue(new BigInteger("-1000000000000000000000000000000"));
+		v.pow(huge);
+		results.append(v).append(' ');
+		v.inverse();
+		results.append(v).append(' ');
+		ModularValue zero = new ModularValue(0, seven);
+		zero.inverse();
+		results.append(ErrorCode.name(zero.getErrorCode())).append(' ');
+		zero.pow(new CalculatorValue(-2));
+		results.append(ErrorCode.name(zero.getErrorCode())).append(' ');
+		ModularValue c = v.copy();
+		c.apply(Operation.ADD, new CalculatorValue(1), true);
+		results.append(c).append(' ').append(v).append(' ').append(c.getModulus()).append(' ').append(c.isLong());
+		
+		System.out.println("3. Parse, reduce, and compute with modular values");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("2 3 2 4 2 3 DIVIDE_BY_ZERO 3 5 4 2 DIVIDE_BY_ZERO DIVIDE_BY_ZERO 3 2 7 true", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 4. Raise arrays of bases to arrays of powers in a batch
+		long[] bases = new long[20000];
+		long[] exponents = new long[bases.length];
+		for (int ndx = 0; ndx < bases.length; ndx++) {
+			bases[ndx] = random.nextLong();
+			exponents[ndx] = random.nextInt(8) == 0 ? -random.nextInt(100) : random.nextLong() >>> 1;
+		}
+		bases[3] = 12;
+		exponents[3] = -5;
+		long[] results4 = new long[bases.length];
+		byte[] errors = new byte[bases.length];
+		Modulus big = new Modulus(12L * 1000000007L);
+		int failed = BatchArithmetic.pow(bases, exponents, big, results4, errors);					// Perform the test
+		mismatches = 0;
+		int expectedFailed = 0;
+		for (int ndx = 0; ndx < bases.length; ndx++) {
+			BigInteger bm = BigInteger.valueOf(big.getModulus());
+			BigInteger b = BigInteger.valueOf(bases[ndx]).mod(bm);
+			long expected;
+			byte error = ErrorCode.NONE;
+			try {
+				expected = b.modPow(BigInteger.valueOf(exponents[ndx]), bm).longValue();
+			} catch (ArithmeticException x) {
+				expected = bases[ndx];
+				error = ErrorCode.DIVIDE_BY_ZERO;
+				expectedFailed++;
+			}
+			if (results4[ndx] != expected || errors[ndx] != error)
+				mismatches++;
+		}
+		String outcome = (failed == expectedFailed) + " " + mismatches + " " + results4[3] + " "
+				+ ErrorCode.name(errors[3]);
+		
+		System.out.println("4. Raise arrays of bases to arrays of powers in a batch");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("true 0 12 DIVIDE_BY_ZERO", outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 5. Compute modulo a modulus in the modular mode of the BusinessLogic
+		BusinessLogic logic = new BusinessLogic();
+		logic.setResultCache(new ResultCache<>(16));
+		logic.setOperand1("3");
+		logic.setOperand2("4");
+		results = new StringBuilder(logic.power().isEmpty() + " ").append(ErrorCode.name(logic.getResultErrorCode()))
+				.append(' ');
+		logic.setMode(NumberMode.MODULAR);															// Perform the test
+		logic.setModulus(1000000007);
+		logic.setOperand1("2");
+		logic.setOperand2("1000000005");
+		results.append(logic.power()).append(' ').append(logic.inverse()).append(' ');
+		logic.setOperand1("123456789123456789123456789");
+		logic.setOperand2("-1");
+		results.append(logic.addition()).append(' ').append(logic.multiplication()).append(' ')
+				.append(logic.division()).append(' ').append(logic.compute(Operation.SUB)).append(' ');
+		logic.setModulus(10);
+		logic.setRadix(16);
+		logic.setOperand1("4");
+		logic.setOperand2("f");
+		results.append(logic.addition()).append(' ').append(logic.inverse().isEmpty()).append(' ')
+				.append(ErrorCode.name(logic.getResultErrorCode())).append(' ').append(logic.getModulus());
+		String rejected;
+		try {
+			logic.setModulus(1);
+			rejected = "accepted";
+		} catch (IllegalArgumentException e) {
+			rejected = "rejected";
+		}
+		results.append(' ').append(rejected).append(' ');
+		logic.setRadix(10);
+		logic.setModulus(7);
+		logic.setOperand1("3");
+		logic.setOperand2("10");																	// Exponents of
+		results.append(logic.power()).append(' ');													// the modulus
+		logic.setOperand2("-1");																	// and more are
+		results.append(logic.power()).append(' ');													// not reduced
+		logic.setOperand2("x17", 1, 2);
+		results.append(logic.power()).append(' ');
+		logic.setOperand2(logic.convertOperand("100"));
+		results.append(logic.power()).append(' ');
+		logic.setModulus(6);
+		logic.setOperand1("2");
+		logic.setOperand2("-1");
+		results.append(logic.power().isEmpty()).append(' ').append(ErrorCode.name(logic.getResultErrorCode()))
+				.append(' ');
+		logic.setModulus(1000000007);
+		logic.setOperand1("123456789123456789123456789");
+		logic.setOperand2("0");
+		logic.setModulus(1000);
+		results.append(logic.addition());
+		
+		System.out.println("5. Compute modulo a modulus in the modular mode of the BusinessLogic");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("true INVALID_VALUE 500000004 500000004 308641891 691358115 691358115 308641893 9 true DIVIDE_BY_ZERO 10 rejected 4 5 5 4 true DIVIDE_BY_ZERO 789", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		System.out.println("Number of tests passed: " + numPassed);
+		System.out.println("Number of tests failed: " + numFailed);
+
+	}
+}
@@ -0,0 +1,362 @@
+package calculator;
+
+import java.math.BigInteger;
+
+/**
+ * <p> Title: TestRationalValue </p>
+ * 
+ * <p> Description: A component of the Calculator application </p>
+ * 
+ * <p> Copyright: Lynn Robert Carter © 2019 </p>
+ * 
+ * @author Swapnika Vakacharla
+ * 
+ * @version 1.00	2026-10-17	Initial tests of the exact rational values
+ * 
+ */
+
+public class TestRationalValue {
+
+	/**********
+	 * This class roots the execution of the test of the RationalValue class.  The application 
+	 * tests the class by invoking the class methods and checking the result to see if the results 
+	 * are proper.
+	 * 
+	 */
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * The check method compares an Expected String to an Actual String and returns true if the 
+	 * Strings match and false otherwise.  In addition, the Strings are displayed to the console
+	 * and a message is display stating whether or not there is a difference.  If there is a
+	 * difference, the character at the point of the difference in the actual String is replaced
+	 * with a "?" and both are displayed making it clear what character is the start of the
+	 * difference
+	 * 
+	 * @param Expected	The String object of the expected value
+	 * @param Actual		The String object of the actual value
+	 */
+	private static boolean check(String expected, String actual) {
+		// Display the input parameters
+		System.out.println("***Expected String");
+		System.out.println(expected);
+		System.out.println("***Actual String");
+		System.out.println(actual);
+		
+		// Check to see if there is a difference
+		int lesserLength = expected.length();
+		if (lesserLength > actual.length()) lesserLength = actual.length();
+		int ndx = 0;
+		while (ndx < lesserLength && expected.charAt(ndx) == actual.charAt(ndx))
+			ndx++;
+		
+		// Explain why the loop terminated and if there is a difference make it clear to the user
+		if (ndx < lesserLength || lesserLength < expected.length() || lesserLength < actual.length()) {
+			System.out.println("*** There is a difference!\n" + expected.substring(0, ndx) + "? <-----");
+			return false;
+		}
+		System.out.println("*** There is no difference!\n");
+		return true;
+	}
+	
+	/*********************************************************************************************/
+	
+	/**********
+	 * This main method roots the execution of this test.  The method ignores the program
+	 * parameters.  After initializing several local variables, it performs a sequence of
+	 * tests, displaying information accordingly and tallying the number of successes and
+	 * failures.
+	 * 
+	 * @param args	Ignored by this application.
+	 */
+	public static void main(String[] args) {
+		// Display the header message to the console and initialize local variables
+		System.out.println("Test RationalValue Class\n");
+		int numPassed = 0;
+		int numFailed = 0;
+		
+		
+		// 1. Find greatest common divisors with the binary algorithm
+		long[] edges = {0, 1, -1, 2, -2, 6, -9, 12, 1L << 40, -(1L << 40), 3L << 61, 1000000007L,
+				Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+		java.util.Random random = new java.util.Random(23);
+		long mismatches = 0;
+		long pairs = 0;
+		for (int ndx = 0; ndx < 100000; ndx++) {													// Perform the test
+			long a = ndx < 256 ? edges[ndx % 16] : random.nextLong() >> random.nextInt(64);
+			long b = ndx < 256 ? edges[ndx / 16] : (random.nextLong() >> random.nextInt(64)) << random.nextInt(8);
+			pairs++;
+			BigInteger expected = BigInteger.valueOf(a).gcd(BigInteger.valueOf(b));
+			if (!new BigInteger(Long.toUnsignedString(RationalValue.gcd(a, b))).equals(expected))
+				mismatches++;
+		}
+		
+		System.out.println("1. Find greatest common divisors with the binary algorithm");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("100000 pairs, 0 mismatches", pairs + " pairs, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 2. Parse fractions into lowest terms
+		String[] inputs = {" 6/-8 ", "-22/7", "10/5", "0/-5", "+ 4 / 6", "ff/1E", "/3", "3/", "1/0",
+				"1/2/3", "1/2 x", "123456789012345678901234567890/10"};
+		StringBuilder parsed = new StringBuilder();
+		for (int ndx = 0; ndx < inputs.length; ndx++) {										// Perform the test
+			RationalValue v = new RationalValue(inputs[ndx], ndx == 5 ? 16 : 10);
+			parsed.append(v.getErrorCode() == ErrorCode.NONE ? v.toString() : ErrorCode.name(v.getErrorCode()))
+					.append(' ');
+		}
+		
+		System.out.println("2. Parse fractions into lowest terms");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("-3/4 -22/7 2 0 2/3 17/2 INVALID_VALUE INVALID_VALUE DIVIDE_BY_ZERO INVALID_VALUE EXCESS_DATA 12345678901234567890123456789 ", parsed.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 3. Add, subtract, multiply, and divide fractions
+		RationalValue q = new RationalValue(1, 2);
+		StringBuilder results = new StringBuilder();
+		q.add(new RationalValue(1, 3));																// Perform the test
+		results.append(q).append(' ');
+		q.sub(new RationalValue(1, 3));
+		results.append(q).append(' ');
+		q.mpy(new RationalValue(-4, 6));
+		results.append(q).append(' ');
+		q.div(new RationalValue(-1, 9));
+		results.append(q).append(' ');
+		q.add(new CalculatorValue(-3));
+		results.append(q).append(' ');
+		q.div(new RationalValue(0, 5));
+		results.append(ErrorCode.name(q.getErrorCode())).append(' ').append(q).append(' ');
+		q.apply(Operation.MPY, new RationalValue(3), true);
+		results.append(q).append(' ').append(q.isInteger()).append(' ').append(q.isLong());
+		
+		System.out.println("3. Add, subtract, multiply, and divide fractions");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("5/6 1/2 -1/3 3 0 DIVIDE_BY_ZERO 0 0 true true", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 4. Compare random operations with BigInteger arithmetic
+		mismatches = 0;
+		long operations = 0;
+		for (int ndx = 0; ndx < 200000; ndx++) {													// Perform the test
+			int shift = random.nextInt(4) == 0 ? 1 : 40;
+			long a = random.nextLong() >> (random.nextInt(64 - shift) + shift);
+			long b = (random.nextLong() >>> (random.nextInt(64 - shift) + shift)) + 1;
+			long c = random.nextLong() >> (random.nextInt(64 - shift) + shift);
+			long d = (random.nextLong() >>> (random.nextInt(64 - shift) + shift)) + 1;
+			if (ndx % 50 == 0)
+				c = Long.MIN_VALUE;
+			RationalValue left = new RationalValue(a, b);
+			RationalValue right = new RationalValue(c, d);
+			Operation op = Operation.values()[ndx % 4];
+			if (op == Operation.DIV && right.isZero())
+				continue;
+			BigInteger n = left.getNumerator();
+			BigInteger m = left.getDenominator();
+			BigInteger p = right.getNumerator();
+			BigInteger r = right.getDenominator();
+			BigInteger[] expected;
+			switch (op) {
+			case ADD:
+				expected = new BigInteger[] {n.multiply(r).add(p.multiply(m)), m.multiply(r)};
+				break;
+			case SUB:
+				expected = new BigInteger[] {n.multiply(r).subtract(p.multiply(m)), m.multiply(r)};
+				break;
+			case MPY:
+				expected = new BigInteger[] {n.multiply(p), m.multiply(r)};
+				break;
+			default:
+				expected = new BigInteger[] {n.multiply(r).multiply(BigInteger.valueOf(p.signum())),
+						m.multiply(p.abs())};
+			}
+			BigInteger g = expected[0].gcd(expected[1]);
+			left.apply(op, right, false);
+			operations++;
+			if (!left.getNumerator().equals(expected[0].divide(g))
+					|| !left.getDenominator().equals(expected[1].divide(g))
+					|| left.isLong() != (left.isInteger() && left.getNumerator().bitLength() < 64))
+				mismatches++;
+		}
+		
+		System.out.println("4. Compare random operations with BigInteger arithmetic");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check(operations + " operations, 0 mismatches", operations + " operations, " + mismatches + " mismatches")) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 5. Promote past a long and demote back
+		q = new RationalValue(Long.MAX_VALUE, 3);
+		results = new StringBuilder();
+		q.mpy(new RationalValue(Long.MAX_VALUE, 5));												// Perform the test
+		results.append(q).append(' ').append(q.denominator.isLong()).append(' ');
+		q.div(new RationalValue(Long.MAX_VALUE, 5));
+		results.append(q).append(' ').append(q.bigValue == null).append(' ');
+		q = new RationalValue(1, Long.MAX_VALUE);
+		q.add(new RationalValue(1, Long.MAX_VALUE - 1));
+		results.append(q.getDenominator().bitLength()).append(' ');
+		q.sub(new RationalValue(1, Long.MAX_VALUE - 1));
+		results.append(q.isLong()).append(' ').append(q.denominator.isLong()).append(' ');
+		q = new RationalValue(Long.MIN_VALUE, -1);
+		results.append(q).append(' ').append(q.isLong());
+		
+		System.out.println("5. Promote past a long and demote back");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("85070591730234615847396907784232501249/15 true 9223372036854775807/3 true 126 false true 9223372036854775808 false", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 6. Format fractions into buffers in other radixes
+		q = new RationalValue(-255, 16);
+		char[] chars = new char[20];
+		java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(5);
+		bytes.put((byte) '=');
+		String overflowed;
+		try {																						// Perform the test
+			q.appendTo(bytes, 16);
+			overflowed = "no overflow";
+		} catch (java.nio.BufferOverflowException e) {
+			overflowed = "overflow at " + bytes.position();
+		}
+		String outcome = q.toString(16) + " " + new String(chars, 0, q.format(chars, 0, 2)) + " "
+				+ q.formattedLength(2) + " " + q.appendTo(new StringBuilder(), 36) + " " + overflowed;
+		
+		System.out.println("6. Format fractions into buffers in other radixes");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("-ff/10 -11111111/10000 15 -73/g overflow at 1", outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 7. Compute exactly in the rational mode of the BusinessLogic
+		BusinessLogic logic = new BusinessLogic();
+		logic.setResultCache(new ResultCache<>(16));
+		logic.setOperand1("7");
+		logic.setOperand2("2");
+		results = new StringBuilder(logic.division()).append(' ');
+		logic.setMode(NumberMode.RATIONAL);															// Perform the test
+		results.append(logic.getOperand1Defined()).append(' ');
+		logic.setOperand1("7");
+		logic.setOperand2("2");
+		results.append(logic.division()).append(' ').append(logic.getResultFitsInLong()).append(' ');
+		logic.setOperand1(logic.convertOperand("1/3"));
+		logic.setOperand2("1/6");
+		results.append(logic.addition()).append(' ');
+		logic.setRadix(16);
+		logic.setOperand1("a/3");
+		logic.setOperand2("-b");
+		results.append(logic.multiplication()).append(' ').append(logic.compute(Operation.MPY)).append(' ');
+		logic.setOperand2("0/7");
+		results.append(logic.division().isEmpty()).append(' ').append(logic.getResultErrorMessage().isEmpty());
+		
+		System.out.println("7. Compute exactly in the rational mode of the BusinessLogic");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("3 false 7/2 false 1/2 -6e/3 -110 true false", results.toString())) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		// 8. Sum and multiply arrays of fractions in parallel
+		RationalValue[] terms = new RationalValue[200000];
+		RationalValue[] factors = new RationalValue[200000];
+		for (int k = 1; k <= terms.length; k++) {
+			terms[k - 1] = new RationalValue(1, (long) k * (k + 1));
+			factors[k - 1] = new RationalValue(k + 1, k);
+		}
+		terms[7] = new RationalValue("1/0");
+		Evaluation sum = new Evaluator(true, new ResultCache<>(16)).evaluate(Operation.ADD,		// Perform the test
+				BulkOperations.sum(terms), new RationalValue(1, 72));
+		outcome = sum.getResult() + " " + BulkOperations.product(factors) + " " + sum.fitsInLong();
+		
+		System.out.println("8. Sum and multiply arrays of fractions in parallel");
+
+		// Check the actual output against the expected.  If they match, the test has been passed and display the proper
+		// message and tally the result
+		if (check("200000/200001 200001 false", outcome)) {
+			numPassed++;
+			System.out.println("\tPass");
+		}
+		// If they do not match, display that there was a failure and tally that result
+		else {
+			numFailed++;
+			System.out.println("\tFail");
+		}
+		System.out.println();
+
+		
+		System.out.println("Number of tests passed: " + numPassed);
+		System.out.println("Number of tests failed: " + numFailed);
+
+	}
+}
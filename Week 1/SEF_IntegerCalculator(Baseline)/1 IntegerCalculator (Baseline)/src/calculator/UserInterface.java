@@ -1,8 +1,16 @@
 
 package calculator;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Pane;
@@ -20,7 +28,15 @@ import calculator.BusinessLogic;
  * <p> Copyright: Lynn Robert Carter © 2019 </p>
  * 
  * @author Lynn Robert Carter
+ * @author Swapnika Vakacharla
  * 
+ * @version 4.08	2026-10-17 Big integer check box, and stale previews are not formatted
+ * @version 4.07	2026-10-17 Fixed point decimal mode, with two places
+ * @version 4.06	2026-10-17 Number mode selector for exact fractions
+ * @version 4.05	2026-10-17 Radix selector for the operands and the result
+ * @version 4.04	2026-10-17 Flight Recorder event for the result display
+ * @version 4.03	2026-10-17 Live preview of the result
+ * @version 4.02	2026-10-17 Operands validated in the background as the user types
  * @version 4.01	2019-02-08 Minor documentation update.
  * @version 4.00	2017-10-17 The JavaFX-based GUI for the implementation of a calculator
  * 
@@ -68,12 +84,73 @@ public class UserInterface {
 	private Label label_errOperand2 = new Label("");
 	private Label label_errResult = new Label("");
 
+	// When this is checked, the result of the last operation is recomputed as the operands change
+	private CheckBox check_LivePreview = new CheckBox("Live preview");
+
+	// When this is checked, operands of any size are accepted and the results are exact
+	private CheckBox check_BigIntegers = new CheckBox("Big integers");
+
+	// This selects the radix the operands are entered in and the result is shown in
+	private static final String[] RADIX_NAMES = {"Decimal", "Hexadecimal", "Octal", "Binary", "Base 36"};
+	private static final int[] RADIXES = {10, 16, 8, 2, 36};
+	private ChoiceBox<String> choice_Radix = new ChoiceBox<String>();
+
+	// This selects the kind of numbers computed with, e.g. exact fractions such as "22/7" or
+	// decimals such as "12.34", which are always decimal whatever the radix
+	private static final String[] MODE_NAMES = {"Integer", "Rational", "Fixed point"};
+	private static final NumberMode[] MODES = {NumberMode.INTEGER, NumberMode.RATIONAL,
+			NumberMode.FIXED_POINT};
+	private ChoiceBox<String> choice_Mode = new ChoiceBox<String>();
 	
 	private double buttonSpace;		// This is the white space between the operator buttons.
 	
 	/* This is the link to the business logic */
 	public BusinessLogic perform = new BusinessLogic();
 
+	/* The operands are converted and validated on a background thread, so typing a very long
+	   operand does not hold up the user interface.  Each keystroke restarts a short delay, and only
+	   the text present when a field has been left alone for that long is converted.  The business
+	   logic and the labels are still only used on the JavaFX application thread. */
+	
+	// The time a field must be left alone before its text is converted, in milliseconds
+	private static final long VALIDATION_DELAY = 150;
+
+	// The thread the operands are converted on.  It is a daemon, so it never keeps the
+	// application from exiting.
+	private final ScheduledExecutorService validator =
+			Executors.newSingleThreadScheduledExecutor((r) -> {
+				Thread t = new Thread(r, "Operand validation");
+				t.setDaemon(true);
+				return t;
+			});
+	
+	// Each edit of an operand field is numbered.  A conversion is only installed if no edit has
+	// been made since it was scheduled, so a late result never replaces a newer one.  The counts
+	// are only changed on the JavaFX application thread, and read by the validator to skip work
+	// that is already stale.
+	private volatile long operand1Edits = 0;
+	private volatile long operand2Edits = 0;
+	private long operand1Installed = 0;			// The edit whose value is in the business logic
+	private long operand2Installed = 0;
+	private ScheduledFuture<?> operand1Validation = null;	// The conversion waiting to be done
+	private ScheduledFuture<?> operand2Validation = null;
+	private CalculatorValue operand1Value = null;		// The operands in the business logic, as
+	private CalculatorValue operand2Value = null;		// they were converted (null when empty)
+
+	/* In live preview mode, the last operation performed is computed again in the background each
+	   time an operand is installed.  The computation has a thread of its own, as a big integer
+	   operation may take far longer than a conversion.  As with the conversions, each request is
+	   numbered and only the result of the latest one is shown. */
+	private final ScheduledExecutorService previewer =
+			Executors.newSingleThreadScheduledExecutor((r) -> {
+				Thread t = new Thread(r, "Live preview");
+				t.setDaemon(true);
+				return t;
+			});
+	private volatile long previewRequests = 0;
+	private ScheduledFuture<?> previewComputation = null;
+	private Operation previewOperation = null;			// The last operation performed, if any
+
 	
 	/**********************************************************************************************
 
@@ -151,10 +228,43 @@ public class UserInterface {
 		setupButtonUI(button_Div, "Symbol", 32, BUTTON_WIDTH, Pos.BASELINE_LEFT, 4 * buttonSpace-BUTTON_OFFSET, 300);
 		button_Div.setOnAction((event) -> { divOperands(); });
 		
+		// Establish the live preview check box below the buttons.  Turning it on previews the last
+		// operation right away.
+		check_LivePreview.setFont(Font.font("Arial", 14));
+		check_LivePreview.setLayoutX(10);
+		check_LivePreview.setLayoutY(365);
+		check_LivePreview.setOnAction((event) -> { schedulePreview(); });
+		
+		// Establish the big integer check box next to it.  Changing it converts the text of both
+		// operands again, as an operand too large for a long is only valid in big integer mode.
+		check_BigIntegers.setFont(Font.font("Arial", 14));
+		check_BigIntegers.setLayoutX(140);
+		check_BigIntegers.setLayoutY(365);
+		check_BigIntegers.setOnAction((event) -> { setBigIntegers(); });
+		
+		// Establish the radix selector next to it.  Changing the radix converts the text of both
+		// operands again, in the new radix.
+		choice_Radix.getItems().addAll(RADIX_NAMES);
+		choice_Radix.getSelectionModel().select(0);
+		choice_Radix.setLayoutX(Calculator.WINDOW_WIDTH - 170);
+		choice_Radix.setLayoutY(360);
+		choice_Radix.setMinWidth(160);
+		choice_Radix.setOnAction((event) -> { setRadix(); });
+		
+		// Establish the number mode selector to the left of it.  Changing the mode converts the
+		// text of both operands again, into values of the new mode.
+		choice_Mode.getItems().addAll(MODE_NAMES);
+		choice_Mode.getSelectionModel().select(0);
+		choice_Mode.setLayoutX(Calculator.WINDOW_WIDTH - 340);
+		choice_Mode.setLayoutY(360);
+		choice_Mode.setMinWidth(160);
+		choice_Mode.setOnAction((event) -> { setMode(); });
+		
 		// Place all of the just-initialized GUI elements into the pane
 		theRoot.getChildren().addAll(label_IntegerCalculator, label_Operand1, text_Operand1, label_errOperand1, 
 				label_Operand2, text_Operand2, label_errOperand2, label_Result, text_Result, label_errResult, 
-				button_Add, button_Sub, button_Mpy, button_Div);
+				button_Add, button_Sub, button_Mpy, button_Div, check_LivePreview, check_BigIntegers,
+				choice_Radix, choice_Mode);
 
 	}
 	
@@ -228,16 +338,59 @@ public class UserInterface {
 	/**********
 	 * Private local method used to set the value of the first operand given a text value. The 
 	 * method uses the business logic class to perform the work of checking the string to see it is
-	 * a valid value and if so, saving that value internally for future computations. If there is 
-	 * an error when trying to convert the string into a value, the called business logic method 
-	 * returns false and actions are taken to display the error message appropriately.
+	 * a valid value and if so, saving that value internally for future computations. The check is
+	 * done in the background once the user stops typing, and installOperand1 then takes the
+	 * actions needed to display the error message appropriately.
 	 */
 	private void setOperand1() {
-		text_Result.setText("");							// Any change of an operand probably
-		label_Result.setText("Result");						// invalidates the result, so we clear
-		label_Result.setTextFill(Color.BLACK);				// the old result and the error 
-		label_errResult.setText("");						// message
-		if (perform.setOperand1(text_Operand1.getText())) {	// Set the operand and see if there was
+		clearResult();										// Any change of an operand probably
+		cancelPreview();									// invalidates the result and any
+															// preview of it
+		long edit = ++operand1Edits;						// Number this edit and cancel the
+		String text = text_Operand1.getText();				// conversion of the previous one,
+		if (operand1Validation != null)						// if it has not started yet
+			operand1Validation.cancel(false);
+		operand1Validation = validator.schedule(() -> {
+			if (edit != operand1Edits)						// Skip it if it is already stale
+				return;
+			CalculatorValue value = perform.convertOperand(text);
+			Platform.runLater(() -> installOperand1(edit, value));
+		}, VALIDATION_DELAY, TimeUnit.MILLISECONDS);
+	}
+	
+	
+	/**********
+	 * Private local method to set the value of the second operand given a text value. The logic is
+	 * exactly the same as used for the first operand, above.
+	 */
+	private void setOperand2() {
+		clearResult();										// See setOperand1's comments. The logic
+		cancelPreview();									// is the same!
+		long edit = ++operand2Edits;
+		String text = text_Operand2.getText();
+		if (operand2Validation != null)
+			operand2Validation.cancel(false);
+		operand2Validation = validator.schedule(() -> {
+			if (edit != operand2Edits)
+				return;
+			CalculatorValue value = perform.convertOperand(text);
+			Platform.runLater(() -> installOperand2(edit, value));
+		}, VALIDATION_DELAY, TimeUnit.MILLISECONDS);
+	}
+	
+	
+	/**********
+	 * Private local method, run on the JavaFX application thread, that places a converted first
+	 * operand into the business logic and displays its error message, if it has one. A value from
+	 * an edit that has since been superseded is ignored.
+	 */
+	private void installOperand1(long edit, CalculatorValue value) {
+		if (edit != operand1Edits)							// The user has typed more since
+			return;
+		operand1Installed = edit;
+		operand1Value = value;
+		schedulePreview();
+		if (perform.setOperand1(value)) {					// Set the operand and see if there was
 			label_errOperand1.setText("");					// an error. If no error, clear this 
 			if (text_Operand2.getText().length() == 0)		// operands error. If the other operand 
 				label_errOperand2.setText("");				// is empty, clear its error as well.
@@ -248,15 +401,16 @@ public class UserInterface {
 	
 	
 	/**********
-	 * Private local method to set the value of the second operand given a text value. The logic is
-	 * exactly the same as used for the first operand, above.
+	 * Private local method that installs a converted second operand. The logic is exactly the same
+	 * as used for the first operand, above.
 	 */
-	private void setOperand2() {
-		text_Result.setText("");							// See setOperand1's comments. The logic
-		label_Result.setText("Result");						// is the same!
-		label_Result.setTextFill(Color.BLACK);
-		label_errResult.setText("");
-		if (perform.setOperand2(text_Operand2.getText())) {
+	private void installOperand2(long edit, CalculatorValue value) {
+		if (edit != operand2Edits)
+			return;
+		operand2Installed = edit;
+		operand2Value = value;
+		schedulePreview();
+		if (perform.setOperand2(value)) {
 			label_errOperand2.setText("");
 			if (text_Operand1.getText().length() == 0)
 				label_errOperand1.setText("");
@@ -266,6 +420,179 @@ public class UserInterface {
 	}
 	
 	
+	/**********
+	 * Private local method that switches the business logic to the radix selected and converts
+	 * both operands again, as the same text has a different value (or none) in another radix.
+	 */
+	private void setRadix() {
+		int ndx = choice_Radix.getSelectionModel().getSelectedIndex();
+		int radix = ndx < 0 ? 10 : RADIXES[ndx];
+		if (radix == perform.getRadix())
+			return;
+		perform.setRadix(radix);
+		setOperand1();
+		setOperand2();
+	}
+	
+	
+	/**********
+	 * Private local method that turns big integer mode on or off as the check box says and
+	 * converts both operands again, as the same text may be too large for a long.
+	 */
+	private void setBigIntegers() {
+		boolean on = check_BigIntegers.isSelected();
+		if (on == perform.getBigIntegerMode())
+			return;
+		perform.setBigIntegerMode(on);
+		setOperand1();
+		setOperand2();
+	}
+	
+	
+	/**********
+	 * Private local method that switches the business logic to the number mode selected and
+	 * converts both operands again, as the business logic clears them when its mode changes.
+	 */
+	private void setMode() {
+		int ndx = choice_Mode.getSelectionModel().getSelectedIndex();
+		NumberMode mode = ndx < 0 ? NumberMode.INTEGER : MODES[ndx];
+		if (mode == perform.getMode())
+			return;
+		perform.setMode(mode);
+		setOperand1();
+		setOperand2();
+	}
+	
+	
+	/**********
+	 * Private local method that makes sure the business logic has the operands that are on the
+	 * screen before an operation is performed. If the user presses a button before a conversion
+	 * has been installed, the conversion is done right here instead.
+	 */
+	private void commitOperands() {
+		if (operand1Installed != operand1Edits) {
+			operand1Validation.cancel(false);
+			installOperand1(operand1Edits, perform.convertOperand(text_Operand1.getText()));
+		}
+		if (operand2Installed != operand2Edits) {
+			operand2Validation.cancel(false);
+			installOperand2(operand2Edits, perform.convertOperand(text_Operand2.getText()));
+		}
+	}
+	
+	
+	/**********
+	 * Private local method that starts a preview of the last operation on the current operands,
+	 * superseding any preview that is waiting or running.  Nothing is started unless live preview
+	 * is on, an operation has been performed, and both operands are installed and valid, so this
+	 * is also how a change of an operand cancels the preview of the old operands.
+	 */
+	private void schedulePreview() {
+		long request = cancelPreview();
+		if (!check_LivePreview.isSelected() || previewOperation == null
+				|| operand1Installed != operand1Edits || operand2Installed != operand2Edits
+				|| operand1Value == null || operand2Value == null
+				|| operand1Value.getErrorCode() != ErrorCode.NONE
+				|| operand2Value.getErrorCode() != ErrorCode.NONE)
+			return;
+		Operation op = previewOperation;
+		CalculatorValue left = operand1Value;				// These are never changed once they
+		CalculatorValue right = operand2Value;				// have been converted
+		Evaluator evaluator = new Evaluator(perform.getOverflowChecked() || perform.getBigIntegerMode());
+		int radix = perform.getRadix();
+		previewComputation = previewer.schedule(() -> {
+			if (request != previewRequests)					// Skip it if it is already stale
+				return;
+			Evaluation e = evaluator.evaluate(op, left, right);
+			if (request != previewRequests)					// or if it has gone stale while it
+				return;										// was computed, so it is not formatted
+			String result = e.getResult(radix);				// Formatted here, as a big result
+			Platform.runLater(() -> showPreview(request, e, result));	// can take a while
+		}, 0, TimeUnit.MILLISECONDS);
+	}
+	
+	
+	/**********
+	 * Private local method that keeps the result of any preview that is waiting or running from
+	 * being shown, and returns the number of the next request.
+	 */
+	private long cancelPreview() {
+		if (previewComputation != null)
+			previewComputation.cancel(false);				// Only stops it if it has not started;
+															// one that has checks the count
+		return ++previewRequests;
+	}
+	
+	
+	/**********
+	 * Private local method, run on the JavaFX application thread, that shows the result of a
+	 * preview unless a newer one has been requested since.
+	 */
+	private void showPreview(long request, Evaluation e, String result) {
+		if (request != previewRequests)
+			return;
+		showResult(e.getOperation(), result, e.getResultErrorCode(), true);
+	}
+	
+	
+	/**********
+	 * Private local method that displays the result of an operation with the title of its field,
+	 * or, when there is no result, the message of its error code. The update is recorded in a
+	 * DisplayEvent when Flight Recorder is recording them.
+	 */
+	private void showResult(Operation op, String theAnswer, int errorCode, boolean preview) {
+		DisplayEvent event = new DisplayEvent();
+		event.begin();
+		label_errResult.setText("");							// Reset the result error messages
+		if (theAnswer.length() > 0) {							// See if a result was returned
+			text_Result.setText(theAnswer);						// If so, display it and change the
+			label_Result.setText(resultTitle(op));				// title of the field to suit it
+		}
+		else {													// There is no result.
+			text_Result.setText("");							// Do not display a result.
+			label_Result.setText("Result");						// Reset the result label.
+			label_errResult.setText(ErrorCode.message(errorCode));	// Display error message.
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			event.operation = op.name();
+			event.preview = preview;
+			event.length = theAnswer.length();
+			event.errorCode = errorCode;
+			event.commit();
+		}
+	}
+	
+	
+	/**********
+	 * Private local method that returns the title of the result field for an operation, the same
+	 * title each of the operation buttons uses.
+	 */
+	private static String resultTitle(Operation op) {
+		switch (op) {
+		case ADD:
+			return "Sum";
+		case SUB:
+			return "Difference";
+		case MPY:
+			return "Multiply";
+		default:
+			return "Division";
+		}
+	}
+	
+	
+	/**********
+	 * Private local method that clears the old result and its error message.
+	 */
+	private void clearResult() {
+		text_Result.setText("");
+		label_Result.setText("Result");
+		label_Result.setTextFill(Color.BLACK);
+		label_errResult.setText("");
+	}
+	
+	
 	/**********
 	 * This method is called when an binary operation button has been pressed. It assesses if there 
 	 * are issues with either of the binary operands or they are not defined. If not return false 
@@ -276,34 +603,35 @@ public class UserInterface {
 	private boolean binaryOperandIssues() {
 		label_Result.setText("Result");
 		label_Result.setTextFill(Color.BLACK);					// Assume no errors
-		String errorMessage1 = perform.getOperand1ErrorMessage();	// Fetch the error messages, if
-		String errorMessage2 = perform.getOperand2ErrorMessage();   // any, from the two operands
-		if (errorMessage1.length() > 0) {						// Check the first.  If not empty
-			label_errOperand1.setText(errorMessage1);			// there's an error, so display it.
-			if (errorMessage2.length() > 0) {					// Do the same with the 2nd operand
-				label_errOperand2.setText(errorMessage2);
+		int errorCode1 = perform.getOperand1ErrorCode();		// Fetch the error codes, if any,
+		int errorCode2 = perform.getOperand2ErrorCode();		// from the two operands
+		if (errorCode1 != ErrorCode.NONE) {						// Check the first.  If there is a
+			label_errOperand1.setText(ErrorCode.message(errorCode1));	// code, display its message.
+			if (errorCode2 != ErrorCode.NONE) {					// Do the same with the 2nd operand
+				label_errOperand2.setText(ErrorCode.message(errorCode2));
 				return true;									// Return true if both have errors
 			}
 			else {
 				return true;									// Return true if only the first
 			}													// has an error
 		}
-		else if (errorMessage2.length() > 0) {					// No error with the first, so check
-			label_errOperand2.setText(errorMessage2);			// the second operand the same way
+		else if (errorCode2 != ErrorCode.NONE) {				// No error with the first, so check
+			label_errOperand2.setText(ErrorCode.message(errorCode2));	// the second operand the same way
 			return true;										// Return true if only the 2nd has
 		}														// an error.
 		
 		// If the code reaches here, neither the first nor the second has an error condition. The
 		// following code check to see if the operands are defined.
+		String noValue = ErrorCode.message(ErrorCode.UNDEFINED_OPERAND);	// "No value found"
 		if (!perform.getOperand1Defined()) {					// Is first operand defined? If not,
-			label_errOperand1.setText("No value found");		// it is an issue for this operator
+			label_errOperand1.setText(noValue);					// it is an issue for this operator
 			if (!perform.getOperand2Defined()) {				// Check the second operand. If it
-				label_errOperand2.setText("No value found");	// is not defined, two messages 
+				label_errOperand2.setText(noValue);				// is not defined, two messages 
 				return true;									// should be displayed. Signal there
 			}													// are issues by returning true.
 			return true;
 		} else if (!perform.getOperand2Defined()) {				// If the first is defined, check the
-			label_errOperand2.setText("No value found");		// second. Both operands must be
+			label_errOperand2.setText(noValue);					// second. Both operands must be
 			return true;										// defined. Signal there are issues
 		}
 		
@@ -324,6 +652,9 @@ public class UserInterface {
 	 */
 	private void addOperands(){
 		// Check to see if both operands are defined and valid
+		commitOperands();
+		previewOperation = Operation.ADD;						// Preview this from now on
+		cancelPreview();										// and not any older preview
 		if (binaryOperandIssues()) 								// If there are issues, return 
 			return;												// without doing anything
 		
@@ -331,16 +662,7 @@ public class UserInterface {
 		// addition and return the result as a String. If there is a problem with the actual 
 		// computation, an empty string is returned. 
 		String theAnswer = perform.addition();					// The business logic does the add
-		label_errResult.setText("");							// Reset the result error messages
-		if (theAnswer.length() > 0) {							// See if a result was returned
-			text_Result.setText(theAnswer);						// If so, display it and change the
-			label_Result.setText("Sum");						// title of the field to "Sum"
-		}
-		else {													// There is no result.
-			text_Result.setText("");							// Do not display a result.				
-			label_Result.setText("Result");						// Reset the result label.
-			label_errResult.setText(perform.getResultErrorMessage());	// Display error message.
-		}
+		showResult(Operation.ADD, theAnswer, perform.getResultErrorCode(), false);
 	}
 
 	/**********
@@ -351,17 +673,11 @@ public class UserInterface {
 //		label_Result.setText("Subtraction not yet implemented!");// Replace this line with the code
 //		label_Result.setTextFill(Color.RED);					 // required to do subtraction.
 //		text_Result.setText("");
+		commitOperands();
+		previewOperation = Operation.SUB;						// Preview this from now on
+		cancelPreview();										// and not any older preview
 		String theAnswer = perform.subtraction();					// The business logic does the add
-		label_errResult.setText("");							// Reset the result error messages
-		if (theAnswer.length() > 0) {							// See if a result was returned
-			text_Result.setText(theAnswer);						// If so, display it and change the
-			label_Result.setText("Difference");						// title of the field to "Sum"
-		}
-		else {													// There is no result.
-			text_Result.setText("");							// Do not display a result.				
-			label_Result.setText("Result");						// Reset the result label.
-			label_errResult.setText(perform.getResultErrorMessage());	// Display error message.
-		}
+		showResult(Operation.SUB, theAnswer, perform.getResultErrorCode(), false);
 	}
 
 	/**********
@@ -372,17 +688,11 @@ public class UserInterface {
 //		label_Result.setText("Multiplication not yet implemented!");// Replace this line with the code
 //		label_Result.setTextFill(Color.RED);						// required to do multiplication.
 //		text_Result.setText("");
+		commitOperands();
+		previewOperation = Operation.MPY;						// Preview this from now on
+		cancelPreview();										// and not any older preview
 		String theAnswer = perform.multiplication();					// The business logic does the add
-		label_errResult.setText("");							// Reset the result error messages
-		if (theAnswer.length() > 0) {							// See if a result was returned
-			text_Result.setText(theAnswer);						// If so, display it and change the
-			label_Result.setText("Multiply");						// title of the field to "Sum"
-		}
-		else {													// There is no result.
-			text_Result.setText("");							// Do not display a result.				
-			label_Result.setText("Result");						// Reset the result label.
-			label_errResult.setText(perform.getResultErrorMessage());	// Display error message.
-		}
+		showResult(Operation.MPY, theAnswer, perform.getResultErrorCode(), false);
 	}
 
 	/**********
@@ -393,16 +703,10 @@ public class UserInterface {
 //		label_Result.setText("Division not yet implemented!");		// Replace this line with the code
 //		label_Result.setTextFill(Color.RED);						// required to do division.
 //		text_Result.setText("");
+		commitOperands();
+		previewOperation = Operation.DIV;						// Preview this from now on
+		cancelPreview();										// and not any older preview
 		String theAnswer = perform.division();					// The business logic does the add
-		label_errResult.setText("");							// Reset the result error messages
-		if (theAnswer.length() > 0) {							// See if a result was returned
-			text_Result.setText(theAnswer);						// If so, display it and change the
-			label_Result.setText("Division");						// title of the field to "Sum"
-		}
-		else {													// There is no result.
-			text_Result.setText("");							// Do not display a result.				
-			label_Result.setText("Result");						// Reset the result label.
-			label_errResult.setText(perform.getResultErrorMessage());	// Display error message.
-		}
+		showResult(Operation.DIV, theAnswer, perform.getResultErrorCode(), false);
 	}
 }